@@ -8,26 +8,29 @@ package com.yahoo.elide.async.export.formatter;
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.async.models.TableExport;
 import com.yahoo.elide.core.PersistentResource;
-
+import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.request.EntityProjection;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.opendevl.JFlat;
 
 import org.apache.commons.lang3.StringUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * JSON output format implementation.
+ * CSV output format implementation.
+ * <p>
+ * Each record is written as one line with a column per attribute of the projection.  Numbers and booleans are
+ * written as is.  Every other value is written the way it is serialized to JSON and quoted, with embedded quotes
+ * doubled.  Objects and arrays are written as quoted JSON.
  */
 @Slf4j
 public class CSVExportFormatter implements TableExportFormatter {
-    private static final String COMMA = ",";
-    private static final String DOUBLE_QUOTES = "\"";
+    private static final char COMMA = ',';
+    private static final char DOUBLE_QUOTES = '"';
 
     private boolean skipCSVHeader = false;
     private ObjectMapper mapper;
@@ -43,33 +46,19 @@ public class CSVExportFormatter implements TableExportFormatter {
             return null;
         }
 
-        StringBuilder str = new StringBuilder();
-
-        List<Object[]> json2Csv;
+        if (resource.getObject() == null) {
+            return null;
+        }
 
+        StringBuilder str = new StringBuilder();
         try {
-            String jsonStr = JSONExportFormatter.resourceToJSON(mapper, resource);
-
-            JFlat flat = new JFlat(jsonStr);
-
-            json2Csv = flat.json2Sheet().headerSeparator("_").getJsonAsSheet();
-
-            int index = 0;
-
-            for (Object[] obj : json2Csv) {
-                // convertToCSV is called once for each PersistentResource in the observable.
-                // json2Csv will always have 2 entries.
-                // 0th index is the header so we need to skip the header.
-                if (index++ == 0) {
-                    continue;
-                }
-
-                String objString = Arrays.toString(obj);
-                if (objString != null) {
-                    //The arrays.toString returns o/p with [ and ] at the beginning and end. So need to exclude them.
-                    objString = objString.substring(1, objString.length() - 1);
+            boolean first = true;
+            for (Attribute attribute : resource.getRequestScope().getEntityProjection().getAttributes()) {
+                if (!first) {
+                    str.append(COMMA);
                 }
-                str.append(objString);
+                first = false;
+                appendValue(str, resource.getAttribute(attribute));
             }
         } catch (Exception e) {
             log.error("Exception while converting to CSV: {}", e.getMessage());
@@ -78,6 +67,42 @@ public class CSVExportFormatter implements TableExportFormatter {
         return str.toString();
     }
 
+    private void appendValue(StringBuilder str, Object value) throws JsonProcessingException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            str.append(value);
+            return;
+        }
+        if (value instanceof String) {
+            appendQuoted(str, (String) value);
+            return;
+        }
+
+        // Let the mapper apply the registered serdes (for example to dates)
+        Object serialized = mapper.convertValue(value, Object.class);
+        if (serialized == null || serialized instanceof Number || serialized instanceof Boolean) {
+            str.append(serialized == null ? "" : serialized);
+        } else if (serialized instanceof String) {
+            appendQuoted(str, (String) serialized);
+        } else {
+            appendQuoted(str, mapper.writeValueAsString(serialized));
+        }
+    }
+
+    private static void appendQuoted(StringBuilder str, String value) {
+        str.append(DOUBLE_QUOTES);
+        for (int idx = 0; idx < value.length(); idx++) {
+            char character = value.charAt(idx);
+            if (character == DOUBLE_QUOTES) {
+                str.append(DOUBLE_QUOTES);
+            }
+            str.append(character);
+        }
+        str.append(DOUBLE_QUOTES);
+    }
+
     /**
      * Generate CSV Header when Observable is Empty.
      * @param projection EntityProjection object.
@@ -92,17 +117,10 @@ public class CSVExportFormatter implements TableExportFormatter {
         .map(attr -> {
             StringBuilder column = new StringBuilder();
             String alias = attr.getAlias();
-            column.append(StringUtils.isNotEmpty(alias) ? alias : attr.getName());
+            appendQuoted(column, StringUtils.isNotEmpty(alias) ? alias : attr.getName());
             return column;
         })
-        .map(quotable -> {
-            // Quotes at the beginning
-            quotable.insert(0, DOUBLE_QUOTES);
-            // Quotes at the end
-            quotable.append(DOUBLE_QUOTES);
-            return quotable;
-        })
-        .collect(Collectors.joining(COMMA));
+        .collect(Collectors.joining(String.valueOf(COMMA)));
     }
 
     @Override
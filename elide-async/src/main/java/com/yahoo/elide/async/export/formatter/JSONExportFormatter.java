@@ -10,19 +10,16 @@ import com.yahoo.elide.async.models.TableExport;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.request.EntityProjection;
-import com.yahoo.elide.jsonapi.models.Resource;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.apache.commons.lang3.StringUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.Set;
+import java.io.IOException;
+import java.io.StringWriter;
 
 /**
  * JSON output format implementation.
@@ -57,34 +54,23 @@ public class JSONExportFormatter implements TableExportFormatter {
             return null;
         }
 
-        StringBuilder str = new StringBuilder();
-        try {
-            Resource jsonResource = resource.toResource(getRelationships(resource), getAttributes(resource));
-
-            str.append(mapper.writeValueAsString(jsonResource.getAttributes()));
-        } catch (JsonProcessingException e) {
+        // Write the attributes straight to the generator rather than building a JSON API resource first
+        StringWriter str = new StringWriter();
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(str)) {
+            generator.writeStartObject();
+            for (Attribute field : resource.getRequestScope().getEntityProjection().getAttributes()) {
+                String alias = field.getAlias();
+                generator.writeFieldName(StringUtils.isNotEmpty(alias) ? alias : field.getName());
+                generator.writeObject(resource.getAttribute(field));
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
             log.error("Exception when converting to JSON {}", e.getMessage());
             throw new IllegalStateException(e);
         }
         return str.toString();
     }
 
-    private static Map<String, Object> getAttributes(PersistentResource resource) {
-        final Map<String, Object> attributes = new LinkedHashMap<>();
-        final Set<Attribute> attrFields = resource.getRequestScope().getEntityProjection().getAttributes();
-
-        for (Attribute field : attrFields) {
-            String alias = field.getAlias();
-            String fieldName = StringUtils.isNotEmpty(alias) ? alias : field.getName();
-            attributes.put(fieldName, resource.getAttribute(field));
-        }
-        return attributes;
-    }
-
-    private static Map<String, Object> getRelationships(PersistentResource resource) {
-        return Collections.emptyMap();
-    }
-
     @Override
     public String preFormat(EntityProjection projection, TableExport query) {
         return "[";
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.hooks;
+
+import com.yahoo.elide.annotation.LifeCycleHookBinding.Operation;
+import com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase;
+import com.yahoo.elide.async.models.AsyncAPI;
+import com.yahoo.elide.async.models.QueryStatus;
+import com.yahoo.elide.async.service.cancellation.AsyncAPICancellationBus;
+import com.yahoo.elide.core.lifecycle.LifeCycleHook;
+import com.yahoo.elide.core.security.ChangeSpec;
+import com.yahoo.elide.core.security.RequestScope;
+import lombok.AllArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * LifeCycle Hook which publishes the cancellation of an AsyncAPI request once the status update is committed.
+ * Bind it to updates of the status field in the POSTCOMMIT phase.
+ */
+@AllArgsConstructor
+public class AsyncAPICancelHook implements LifeCycleHook<AsyncAPI> {
+    private final AsyncAPICancellationBus cancellationBus;
+
+    @Override
+    public void execute(Operation operation, TransactionPhase phase, AsyncAPI query, RequestScope requestScope,
+            Optional<ChangeSpec> changes) {
+        if (query.getStatus() == QueryStatus.CANCELLED) {
+            cancellationBus.publish(query);
+        }
+    }
+}
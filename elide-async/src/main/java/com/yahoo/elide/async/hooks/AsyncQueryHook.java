@@ -14,6 +14,7 @@ import com.yahoo.elide.async.models.QueryType;
 import com.yahoo.elide.async.operation.GraphQLAsyncQueryOperation;
 import com.yahoo.elide.async.operation.JSONAPIAsyncQueryOperation;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.exceptions.InvalidOperationException;
 import com.yahoo.elide.core.security.ChangeSpec;
 import com.yahoo.elide.core.security.RequestScope;
@@ -26,9 +27,26 @@ import java.util.concurrent.Callable;
  * LifeCycle Hook for execution of AsyncQuery.
  */
 public class AsyncQueryHook extends AsyncAPIHook<AsyncQuery> {
+    private final ResultStorageEngine engine;
+    private final int storageThreshold;
 
     public AsyncQueryHook (AsyncExecutorService asyncExecutorService, Integer maxAsyncAfterSeconds) {
+        this(asyncExecutorService, maxAsyncAfterSeconds, null, 0);
+    }
+
+    /**
+     * Constructor.
+     * @param asyncExecutorService AsyncExecutorService instance.
+     * @param maxAsyncAfterSeconds Maximum asyncAfterSeconds a query can request.
+     * @param engine ResultStorageEngine which holds response bodies longer than the threshold.
+     * @param storageThreshold Response bodies longer than this are stored by the engine instead of the database,
+     * 0 keeps all of them in the database.
+     */
+    public AsyncQueryHook (AsyncExecutorService asyncExecutorService, Integer maxAsyncAfterSeconds,
+            ResultStorageEngine engine, int storageThreshold) {
         super(asyncExecutorService, maxAsyncAfterSeconds);
+        this.engine = engine;
+        this.storageThreshold = storageThreshold;
     }
 
     @Override
@@ -55,10 +73,10 @@ public class AsyncQueryHook extends AsyncAPIHook<AsyncQuery> {
         Callable<AsyncAPIResult> operation = null;
         if (query.getQueryType().equals(QueryType.JSONAPI_V1_0)) {
             operation = new JSONAPIAsyncQueryOperation(getAsyncExecutorService(), query,
-                    (com.yahoo.elide.core.RequestScope) requestScope);
+                    (com.yahoo.elide.core.RequestScope) requestScope, engine, storageThreshold);
         } else {
             operation = new GraphQLAsyncQueryOperation(getAsyncExecutorService(), query,
-                    (com.yahoo.elide.core.RequestScope) requestScope);
+                    (com.yahoo.elide.core.RequestScope) requestScope, engine, storageThreshold);
         }
         return operation;
     }
@@ -8,6 +8,8 @@ package com.yahoo.elide.async.models;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
+import java.net.URL;
+
 import javax.persistence.Embeddable;
 import javax.persistence.Lob;
 
@@ -22,4 +24,6 @@ public class AsyncQueryResult extends AsyncAPIResult {
 
     @Lob
     private String responseBody;  //URL or Response body
+
+    private URL url;  //Download URL of a response body held by the ResultStorageEngine
 }
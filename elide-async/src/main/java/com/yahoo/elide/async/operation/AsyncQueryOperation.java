@@ -11,12 +11,16 @@ import com.yahoo.elide.async.models.AsyncAPIResult;
 import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.models.AsyncQueryResult;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.RequestScope;
 
+import io.reactivex.Observable;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.net.MalformedURLException;
 import java.net.URISyntaxException;
+import java.net.URL;
 import java.util.Date;
 import java.util.concurrent.Callable;
 
@@ -28,11 +32,28 @@ public abstract class AsyncQueryOperation implements Callable<AsyncAPIResult> {
     @Getter private AsyncExecutorService service;
     private AsyncQuery queryObj;
     private RequestScope scope;
+    private ResultStorageEngine engine;
+    private int storageThreshold;
 
     public AsyncQueryOperation(AsyncExecutorService service, AsyncAPI queryObj, RequestScope scope) {
+        this(service, queryObj, scope, null, 0);
+    }
+
+    /**
+     * Constructor.
+     * @param service AsyncExecutorService instance.
+     * @param queryObj AsyncAPI type object.
+     * @param scope RequestScope.
+     * @param engine ResultStorageEngine which holds response bodies longer than the threshold.
+     * @param storageThreshold Response bodies longer than this are stored by the engine, 0 never stores them.
+     */
+    public AsyncQueryOperation(AsyncExecutorService service, AsyncAPI queryObj, RequestScope scope,
+            ResultStorageEngine engine, int storageThreshold) {
         this.service = service;
         this.queryObj = (AsyncQuery) queryObj;
         this.scope = scope;
+        this.engine = engine;
+        this.storageThreshold = storageThreshold;
     }
 
     @Override
@@ -45,14 +66,60 @@ public abstract class AsyncQueryOperation implements Callable<AsyncAPIResult> {
         AsyncQueryResult queryResult = new AsyncQueryResult();
         queryResult.setHttpStatus(response.getResponseCode());
         queryResult.setCompletedOn(new Date());
-        queryResult.setResponseBody(response.getBody());
         queryResult.setContentLength(response.getBody().length());
         if (response.getResponseCode() == 200) {
             queryResult.setRecordCount(calculateRecordCount(queryObj, response));
         }
+
+        URL url = isStored(response) ? storeResponseBody(response) : null;
+        if (url != null) {
+            queryResult.setUrl(url);
+        } else {
+            queryResult.setResponseBody(response.getBody());
+        }
         return queryResult;
     }
 
+    private boolean isStored(ElideResponse response) {
+        return engine != null && storageThreshold > 0 && response.getBody().length() > storageThreshold;
+    }
+
+    /**
+     * Stores the response body with the ResultStorageEngine.
+     * @param response ElideResponse object.
+     * @return The download URL, or null if the body could not be stored and is kept in the result instead.
+     */
+    private URL storeResponseBody(ElideResponse response) {
+        URL url = generateDownloadURL(queryObj, scope);
+        if (url == null) {
+            return null;
+        }
+        try {
+            engine.storeResults(queryObj, Observable.just(response.getBody()));
+            return url;
+        } catch (RuntimeException e) {
+            log.debug("Response body storage failure, keeping the response body: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Generate Download URL of a stored response body.
+     * @param queryObj AsyncQuery type object.
+     * @param scope RequestScope.
+     * @return URL generated, or null if it is malformed.
+     */
+    public URL generateDownloadURL(AsyncQuery queryObj, RequestScope scope) {
+        String downloadPath =  scope.getElideSettings().getExportApiPath();
+        String baseURL = scope.getBaseUrlEndPoint();
+        try {
+            return new URL(baseURL + downloadPath + "/" + queryObj.getId());
+        } catch (MalformedURLException e) {
+            log.debug("Download url generation failure, keeping the response body: {}", e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Calculate Record Count in the response.
      * @param queryObj AsyncAPI type object.
@@ -9,6 +9,7 @@ import com.yahoo.elide.ElideResponse;
 import com.yahoo.elide.async.models.AsyncAPI;
 import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.InvalidOperationException;
 import com.yahoo.elide.core.security.User;
@@ -34,6 +35,11 @@ public class GraphQLAsyncQueryOperation extends AsyncQueryOperation {
         super(service, queryObj, scope);
     }
 
+    public GraphQLAsyncQueryOperation(AsyncExecutorService service, AsyncAPI queryObj, RequestScope scope,
+            ResultStorageEngine engine, int storageThreshold) {
+        super(service, queryObj, scope, engine, storageThreshold);
+    }
+
     @Override
     public ElideResponse execute(AsyncAPI queryObj, RequestScope scope) throws URISyntaxException {
         User user = scope.getUser();
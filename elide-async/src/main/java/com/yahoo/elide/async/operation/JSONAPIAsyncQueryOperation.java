@@ -10,6 +10,7 @@ import com.yahoo.elide.ElideResponse;
 import com.yahoo.elide.async.models.AsyncAPI;
 import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.security.User;
 
@@ -36,6 +37,11 @@ public class JSONAPIAsyncQueryOperation extends AsyncQueryOperation {
         super(service, queryObj, scope);
     }
 
+    public JSONAPIAsyncQueryOperation(AsyncExecutorService service, AsyncAPI queryObj, RequestScope scope,
+            ResultStorageEngine engine, int storageThreshold) {
+        super(service, queryObj, scope, engine, storageThreshold);
+    }
+
     @Override
     public ElideResponse execute(AsyncAPI queryObj, RequestScope scope)
             throws URISyntaxException {
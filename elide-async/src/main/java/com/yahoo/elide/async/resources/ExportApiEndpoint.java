@@ -8,7 +8,6 @@ package com.yahoo.elide.async.resources;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.exceptions.HttpStatus;
 
-import io.reactivex.Observable;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
@@ -73,45 +72,35 @@ public class ExportApiEndpoint {
         });
 
         exportApiProperties.getExecutor().submit(() -> {
-            Observable<String> observableResults = resultStorageEngine.getResultsByID(asyncQueryId);
-
             StreamingOutput streamingOutput = outputStream -> {
-                observableResults
-                .subscribe(
-                        resultString -> {
-                            outputStream.write(resultString.concat(System.lineSeparator()).getBytes());
-                        },
-                        error -> {
-                            String message = error.getMessage();
-                            try {
-                                log.debug(message);
-                                if (message != null && message.equals(ResultStorageEngine.RETRIEVE_ERROR)) {
-                                    httpServletResponse.sendError(HttpStatus.SC_NOT_FOUND, asyncQueryId + " Not Found");
-                                } else {
-                                    httpServletResponse.sendError(HttpStatus.SC_INTERNAL_SERVER_ERROR);
-                                }
-                            } catch (IllegalStateException e) {
-                                // If stream was flushed, Attachment download has already started.
-                                // response.sendError causes java.lang.IllegalStateException:
-                                // Cannot call sendError() after the response has been committed.
-                                // This will return 200 status.
-                                // Add error message in the attachment as a way to signal errors.
-                                outputStream.write(
-                                        "Error Occured...."
-                                        .concat(System.lineSeparator())
-                                        .getBytes()
-                                        );
-                                log.debug(e.getMessage());
-                            } finally {
-                                outputStream.flush();
-                                outputStream.close();
-                            }
-                        },
-                        () -> {
-                            outputStream.flush();
-                            outputStream.close();
+                try {
+                    resultStorageEngine.writeResultsByID(asyncQueryId, outputStream);
+                } catch (RuntimeException error) {
+                    String message = error.getMessage();
+                    try {
+                        log.debug(message);
+                        if (message != null && message.equals(ResultStorageEngine.RETRIEVE_ERROR)) {
+                            httpServletResponse.sendError(HttpStatus.SC_NOT_FOUND, asyncQueryId + " Not Found");
+                        } else {
+                            httpServletResponse.sendError(HttpStatus.SC_INTERNAL_SERVER_ERROR);
                         }
-                );
+                    } catch (IllegalStateException e) {
+                        // If stream was flushed, Attachment download has already started.
+                        // response.sendError causes java.lang.IllegalStateException:
+                        // Cannot call sendError() after the response has been committed.
+                        // This will return 200 status.
+                        // Add error message in the attachment as a way to signal errors.
+                        outputStream.write(
+                                "Error Occured...."
+                                .concat(System.lineSeparator())
+                                .getBytes()
+                                );
+                        log.debug(e.getMessage());
+                    }
+                } finally {
+                    outputStream.flush();
+                    outputStream.close();
+                }
             };
 
             asyncResponse.resume(Response.ok(streamingOutput, MediaType.APPLICATION_OCTET_STREAM)
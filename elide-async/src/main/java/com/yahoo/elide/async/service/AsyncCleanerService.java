@@ -31,7 +31,7 @@ public class AsyncCleanerService {
 
     @Inject
     private AsyncCleanerService(Elide elide, Integer maxRunTimeSeconds, Integer queryCleanupDays,
-            Integer cancelDelaySeconds, AsyncAPIDAO asyncQueryDao) {
+            Integer cancelDelaySeconds, AsyncAPIDAO asyncQueryDao, AsyncExecutorService asyncExecutorService) {
 
         //If query is still running for twice than maxRunTime, then interrupt did not work due to host/app crash.
         int queryRunTimeThresholdMinutes = Math.round((maxRunTimeSeconds * 2) / 60);
@@ -58,7 +58,7 @@ public class AsyncCleanerService {
         ScheduledExecutorService cancellation = Executors.newSingleThreadScheduledExecutor();
 
         AsyncAPICancelRunnable cancelTask = new AsyncAPICancelRunnable(maxRunTimeSeconds,
-                elide, asyncQueryDao);
+                elide, asyncQueryDao, asyncExecutorService);
 
         cancellation.scheduleWithFixedDelay(cancelTask, 0, cancelDelaySeconds, TimeUnit.SECONDS);
     }
@@ -71,12 +71,13 @@ public class AsyncCleanerService {
      * @param queryCleanupDays Async Query Clean up days
      * @param cancelDelaySeconds Async Query Transaction cancel delay
      * @param asyncQueryDao DAO Object
+     * @param asyncExecutorService Service which tracks the async requests running on this host
      */
     public static void init(Elide elide, Integer maxRunTimeSeconds, Integer queryCleanupDays,
-            Integer cancelDelaySeconds, AsyncAPIDAO asyncQueryDao) {
+            Integer cancelDelaySeconds, AsyncAPIDAO asyncQueryDao, AsyncExecutorService asyncExecutorService) {
         if (asyncCleanerService == null) {
             asyncCleanerService = new AsyncCleanerService(elide, maxRunTimeSeconds, queryCleanupDays,
-                    cancelDelaySeconds, asyncQueryDao);
+                    cancelDelaySeconds, asyncQueryDao, asyncExecutorService);
         } else {
             log.debug("asyncCleanerService is already initialized.");
         }
@@ -15,15 +15,20 @@ import com.yahoo.elide.core.security.User;
 import com.yahoo.elide.graphql.QueryRunner;
 import lombok.Data;
 import lombok.Getter;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import javax.inject.Inject;
@@ -33,6 +38,12 @@ import javax.inject.Inject;
  * It will schedule task to track long running queries and kills them.
  * It will also schedule task to update orphan query statuses after
  * host/app crash or restart.
+ * <p>
+ * Queries which do not complete within their asyncAfterSeconds are tracked through completion callbacks, so the
+ * updater pool only runs the result updates and no thread waits on a running query.
+ * <p>
+ * The service tracks the requests which are running on this host along with their start times, so long running
+ * requests can be cancelled without loading them from the database.
  */
 @Getter
 @Slf4j
@@ -46,13 +57,25 @@ public class AsyncExecutorService {
     private ExecutorService updater;
     private AsyncAPIDAO asyncAPIDao;
     private ThreadLocal<AsyncAPIResultFuture> asyncResultFutureThreadLocal = new ThreadLocal<>();
+    private final Map<String, RunningAsyncAPI> runningAsyncAPIs = new ConcurrentHashMap<>();
+
+    /**
+     * An AsyncAPI request which is running on this host.
+     */
+    @Value
+    public static class RunningAsyncAPI {
+        private String id;
+        private String requestId;
+        private Class<? extends AsyncAPI> type;
+        private long startedOn;
+    }
 
     /**
      * A Future with Synchronous Execution Complete Flag.
      */
     @Data
     private class AsyncAPIResultFuture {
-        private Future<AsyncAPIResult> asyncFuture;
+        private CompletableFuture<AsyncAPIResult> asyncFuture;
         private boolean synchronousTimeout = false;
     }
 
@@ -79,7 +102,25 @@ public class AsyncExecutorService {
     public void executeQuery(AsyncAPI queryObj, Callable<AsyncAPIResult> callable) {
         AsyncAPIResultFuture resultFuture = new AsyncAPIResultFuture();
         try {
-            Future<AsyncAPIResult> asyncExecuteFuture = executor.submit(callable);
+            String id = queryObj.getId();
+            String requestId = queryObj.getRequestId();
+            Class<? extends AsyncAPI> type = queryObj.getClass();
+            CompletableFuture<AsyncAPIResult> asyncExecuteFuture = CompletableFuture.supplyAsync(() -> {
+                // Requests are tracked by the request ID their transactions are registered under
+                if (requestId != null) {
+                    runningAsyncAPIs.put(requestId,
+                            new RunningAsyncAPI(id, requestId, type, System.currentTimeMillis()));
+                }
+                try {
+                    return callable.call();
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                } finally {
+                    if (requestId != null) {
+                        runningAsyncAPIs.remove(requestId);
+                    }
+                }
+            }, executor);
             resultFuture.setAsyncFuture(asyncExecuteFuture);
             queryObj.setStatus(QueryStatus.PROCESSING);
             AsyncAPIResult queryResultObj = asyncExecuteFuture.get(queryObj.getAsyncAfterSeconds(), TimeUnit.SECONDS);
@@ -104,6 +145,14 @@ public class AsyncExecutorService {
         }
 
     }
+    /**
+     * Returns the AsyncAPI requests which are running on this host.
+     * @return The running requests.
+     */
+    public Collection<RunningAsyncAPI> getRunningAsyncAPIs() {
+        return Collections.unmodifiableCollection(runningAsyncAPIs.values());
+    }
+
     /**
      * Complete Query asynchronously.
      * @param query AsyncQuery
@@ -114,8 +163,12 @@ public class AsyncExecutorService {
         AsyncAPIResultFuture asyncAPIResultFuture = asyncResultFutureThreadLocal.get();
         if (asyncAPIResultFuture.isSynchronousTimeout()) {
             log.debug("Task has not completed");
-            updater.execute(new AsyncAPIUpdateOperation(elide, asyncAPIResultFuture.getAsyncFuture(), query,
-                    asyncAPIDao));
+            CompletableFuture<AsyncAPIResult> asyncFuture = asyncAPIResultFuture.getAsyncFuture();
+            AsyncAPIUpdateOperation updateOperation = new AsyncAPIUpdateOperation(elide, asyncFuture, query,
+                    asyncAPIDao);
+
+            // The update runs once the task is done, so it reads the result without waiting
+            asyncFuture.whenCompleteAsync((result, throwable) -> updateOperation.run(), updater);
             asyncResultFutureThreadLocal.remove();
         } else {
             log.debug("Task has completed");
@@ -0,0 +1,25 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service.cancellation;
+
+import com.yahoo.elide.async.models.AsyncAPI;
+import lombok.Value;
+
+/**
+ * Event published when the cancellation of an AsyncAPI request has been committed.
+ */
+@Value
+public class AsyncAPICancellation {
+    private String id;
+
+    private String requestId;
+
+    private Class<? extends AsyncAPI> type;
+
+    public static AsyncAPICancellation of(AsyncAPI asyncAPI) {
+        return new AsyncAPICancellation(asyncAPI.getId(), asyncAPI.getRequestId(), asyncAPI.getClass());
+    }
+}
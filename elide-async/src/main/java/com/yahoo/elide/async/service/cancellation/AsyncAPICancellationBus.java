@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service.cancellation;
+
+import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.async.models.AsyncAPI;
+import com.yahoo.elide.async.models.QueryStatus;
+import com.yahoo.elide.async.service.dao.AsyncAPIDAO;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.jsonapi.models.JsonApiDocument;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+
+/**
+ * Cancels the running transaction of an AsyncAPI request as soon as its cancellation is committed.
+ * <p>
+ * The host which commits the cancellation cancels the transaction if it runs the request.  When a transport
+ * is configured, the cancellation is also sent to the other hosts, and each of them cancels the transaction
+ * if it runs the request.
+ */
+@Slf4j
+@Getter
+public class AsyncAPICancellationBus {
+    private final Elide elide;
+    private final AsyncAPIDAO asyncAPIDao;
+    private final AsyncAPICancellationTransport transport;
+
+    public AsyncAPICancellationBus(Elide elide, AsyncAPIDAO asyncAPIDao) {
+        this(elide, asyncAPIDao, null);
+    }
+
+    /**
+     * Constructor.
+     * @param elide Elide instance.
+     * @param asyncAPIDao DAO used to mark cancelled requests complete.
+     * @param transport Transport to the other hosts, or null to only cancel requests running on this host.
+     */
+    public AsyncAPICancellationBus(Elide elide, AsyncAPIDAO asyncAPIDao, AsyncAPICancellationTransport transport) {
+        this.elide = elide;
+        this.asyncAPIDao = asyncAPIDao;
+        this.transport = transport;
+
+        if (transport != null) {
+            transport.subscribe(this::cancel);
+        }
+    }
+
+    /**
+     * Publishes the cancellation of an AsyncAPI request.
+     * @param asyncAPI The cancelled AsyncAPI request.
+     */
+    public void publish(AsyncAPI asyncAPI) {
+        AsyncAPICancellation cancellation = AsyncAPICancellation.of(asyncAPI);
+        if (!cancel(cancellation) && transport != null) {
+            transport.publish(cancellation);
+        }
+    }
+
+    /**
+     * Cancels the transactions of a request if it runs on this host.
+     * @param cancellation The cancellation.
+     * @return true if the request was running on this host.
+     */
+    public boolean cancel(AsyncAPICancellation cancellation) {
+        UUID requestId = UUID.fromString(cancellation.getRequestId());
+        Set<DataStoreTransaction> runningTransactions =
+                elide.getTransactionRegistry().getRunningTransactions(requestId);
+        if (runningTransactions.isEmpty()) {
+            return false;
+        }
+
+        log.debug("Cancelling {} {}", cancellation.getType().getSimpleName(), cancellation.getId());
+        runningTransactions.forEach(runningTransaction -> {
+            RequestScope scope = new RequestScope("", "query", NO_VERSION, new JsonApiDocument(), runningTransaction,
+                    null, new MultivaluedHashMap<>(), Collections.emptyMap(), requestId, elide.getElideSettings());
+            runningTransaction.cancel(scope);
+        });
+        asyncAPIDao.updateStatus(cancellation.getId(), QueryStatus.CANCEL_COMPLETE, cancellation.getType());
+        return true;
+    }
+}
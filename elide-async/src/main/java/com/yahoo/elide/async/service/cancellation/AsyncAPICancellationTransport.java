@@ -0,0 +1,26 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service.cancellation;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries cancellations between the hosts of a cluster, for example over a message broker.
+ */
+public interface AsyncAPICancellationTransport {
+
+    /**
+     * Sends a cancellation to the other hosts.
+     * @param cancellation The cancellation committed on this host.
+     */
+    public void publish(AsyncAPICancellation cancellation);
+
+    /**
+     * Registers the listener for the cancellations sent by the other hosts.
+     * @param listener The listener to call for each cancellation received.
+     */
+    public void subscribe(Consumer<AsyncAPICancellation> listener);
+}
@@ -6,6 +6,7 @@
 
 package com.yahoo.elide.async.service.storageengine;
 
+import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.models.TableExport;
 import io.reactivex.Observable;
 import lombok.Getter;
@@ -16,21 +17,58 @@ import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Iterator;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import javax.inject.Singleton;
 
 /**
  * Default implementation of ResultStorageEngine that stores results on local filesystem.
  * It supports Async Module to store results with async query.
+ * <p>
+ * Results are written through a buffer which is flushed when it fills up, or every {@code flushInterval} records
+ * if set.  Results can optionally be stored gzip compressed; compressed files are recognized when reading
+ * regardless of the current setting.
  */
 @Singleton
 @Slf4j
 @Getter
 public class FileResultStorageEngine implements ResultStorageEngine {
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final int GZIP_MAGIC_LENGTH = 2;
+
     @Setter private String basePath;
 
+    /**
+     * Size in bytes of the write buffer.
+     */
+    @Setter private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    /**
+     * Number of records written between flushes. 0 flushes only when the buffer is full and after the last record.
+     */
+    @Setter private int flushInterval = 0;
+
+    /**
+     * Whether to gzip compress stored results.
+     */
+    @Setter private boolean compressionEnabled = false;
+
     /**
      * Constructor.
      * @param basePath basePath for storing the files. Can be absolute or relative.
@@ -39,28 +77,51 @@ public class FileResultStorageEngine implements ResultStorageEngine {
         this.basePath = basePath;
     }
 
+    /**
+     * Constructor.
+     * @param basePath basePath for storing the files. Can be absolute or relative.
+     * @param bufferSize Size in bytes of the write buffer.
+     * @param flushInterval Number of records written between flushes, 0 to flush only when the buffer is full.
+     * @param compressionEnabled Whether to gzip compress stored results.
+     */
+    public FileResultStorageEngine(String basePath, int bufferSize, int flushInterval, boolean compressionEnabled) {
+        this.basePath = basePath;
+        this.bufferSize = bufferSize;
+        this.flushInterval = flushInterval;
+        this.compressionEnabled = compressionEnabled;
+    }
+
     @Override
     public TableExport storeResults(TableExport tableExport, Observable<String> result) {
         log.debug("store AsyncResults for Download");
 
-        try (BufferedWriter writer = getWriter(tableExport.getId())) {
-            result
-                .map(record -> record.concat(System.lineSeparator()))
-                .subscribe(
-                        recordCharArray -> {
-                            writer.write(recordCharArray);
-                            writer.flush();
-                        },
-                        throwable -> {
-                            throw new IllegalStateException(STORE_ERROR, throwable);
-                        },
-                        writer::flush
-                );
-        } catch (IOException e) {
+        storeResults(tableExport.getId(), result);
+        return tableExport;
+    }
+
+    @Override
+    public AsyncQuery storeResults(AsyncQuery asyncQuery, Observable<String> result) {
+        log.debug("store AsyncQuery response for Download");
+
+        storeResults(asyncQuery.getId(), result);
+        return asyncQuery;
+    }
+
+    private void storeResults(String asyncQueryID, Observable<String> result) {
+        try (Writer writer = getWriter(asyncQueryID)) {
+            int[] unflushed = new int[] { 0 };
+            result.blockingForEach(record -> {
+                writer.write(record);
+                writer.write(System.lineSeparator());
+                if (flushInterval > 0 && ++unflushed[0] >= flushInterval) {
+                    writer.flush();
+                    unflushed[0] = 0;
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            log.debug(e.getMessage());
             throw new IllegalStateException(STORE_ERROR, e);
         }
-
-        return tableExport;
     }
 
     @Override
@@ -93,21 +154,90 @@ public class FileResultStorageEngine implements ResultStorageEngine {
                 BufferedReader::close);
     }
 
+    /**
+     * Copies the stored file to the stream as is.  Uncompressed files are transferred through the file channel
+     * without decoding them into records.
+     */
+    @Override
+    public void writeResultsByID(String asyncQueryID, OutputStream outputStream) throws IOException {
+        log.debug("writeAsyncResultsByID");
+
+        try (FileChannel channel = getChannel(asyncQueryID)) {
+            if (isCompressed(channel)) {
+                try (InputStream input = new GZIPInputStream(Channels.newInputStream(channel), bufferSize)) {
+                    byte[] buffer = new byte[bufferSize];
+                    int read;
+                    while ((read = input.read(buffer)) != -1) {
+                        outputStream.write(buffer, 0, read);
+                    }
+                }
+            } else {
+                WritableByteChannel target = Channels.newChannel(outputStream);
+                long position = 0;
+                long size = channel.size();
+                while (position < size) {
+                    position += channel.transferTo(position, size - position, target);
+                }
+            }
+        }
+    }
+
     private BufferedReader getReader(String asyncQueryID) {
+        FileChannel channel = getChannel(asyncQueryID);
         try {
-            return Files.newBufferedReader(Paths.get(basePath + File.separator + asyncQueryID));
+            InputStream input = Channels.newInputStream(channel);
+            if (isCompressed(channel)) {
+                input = new GZIPInputStream(input, bufferSize);
+            }
+            return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), bufferSize);
         } catch (IOException e) {
             log.debug(e.getMessage());
+            closeQuietly(channel);
             throw new IllegalStateException(RETRIEVE_ERROR, e);
         }
     }
 
-    private BufferedWriter getWriter(String asyncQueryID) {
+    private Writer getWriter(String asyncQueryID) throws IOException {
+        OutputStream output = Files.newOutputStream(getPath(asyncQueryID));
+        if (compressionEnabled) {
+            output = new GZIPOutputStream(output, bufferSize);
+        }
+        return new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), bufferSize);
+    }
+
+    private FileChannel getChannel(String asyncQueryID) {
         try {
-            return Files.newBufferedWriter(Paths.get(basePath + File.separator + asyncQueryID));
+            return FileChannel.open(getPath(asyncQueryID), StandardOpenOption.READ);
+        } catch (IOException e) {
+            log.debug(e.getMessage());
+            throw new IllegalStateException(RETRIEVE_ERROR, e);
+        }
+    }
+
+    private Path getPath(String asyncQueryID) {
+        return Paths.get(basePath + File.separator + asyncQueryID);
+    }
+
+    /**
+     * Checks the file for the gzip header, leaving the channel at the start of the file.
+     */
+    private static boolean isCompressed(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(GZIP_MAGIC_LENGTH);
+        int read = 0;
+        while (header.hasRemaining() && read != -1) {
+            read = channel.read(header);
+        }
+        channel.position(0);
+        return header.position() == GZIP_MAGIC_LENGTH
+                && (header.get(0) & 0xff) == (GZIPInputStream.GZIP_MAGIC & 0xff)
+                && (header.get(1) & 0xff) == (GZIPInputStream.GZIP_MAGIC >> 8);
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
         } catch (IOException e) {
             log.debug(e.getMessage());
-            throw new IllegalStateException(STORE_ERROR, e);
         }
     }
 }
@@ -6,9 +6,17 @@
 
 package com.yahoo.elide.async.service.storageengine;
 
+import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.models.TableExport;
 import io.reactivex.Observable;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Utility interface used for storing the results of AsyncQuery for downloads.
  */
@@ -24,10 +32,37 @@ public interface ResultStorageEngine {
      */
     public TableExport storeResults(TableExport tableExport, Observable<String> result);
 
+    /**
+     * Stores the response body of an AsyncQuery so it can be downloaded by the query ID.
+     * Engines which do not override this keep the response bodies of AsyncQuery in the database.
+     * @param asyncQuery AsyncQuery object
+     * @param result is the observable response body obtained by running the query
+     * @return AsyncQuery object
+     */
+    public default AsyncQuery storeResults(AsyncQuery asyncQuery, Observable<String> result) {
+        throw new UnsupportedOperationException(STORE_ERROR);
+    }
+
     /**
      * Searches for the async query results by ID and returns the record.
      * @param asyncQueryID is the query ID of the AsyncQuery
      * @return returns the result associated with the AsyncQueryID
      */
     public Observable<String> getResultsByID(String asyncQueryID);
+
+    /**
+     * Writes the async query results to a stream, one record per line.
+     * Implementations can override this to copy the stored results without reading them record by record.
+     * @param asyncQueryID is the query ID of the AsyncQuery
+     * @param outputStream the stream to write the results to
+     * @throws IOException if the results cannot be written to the stream
+     */
+    public default void writeResultsByID(String asyncQueryID, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        for (String record : getResultsByID(asyncQueryID).blockingIterable()) {
+            writer.write(record);
+            writer.write(System.lineSeparator());
+        }
+        writer.flush();
+    }
 }
@@ -8,23 +8,25 @@ package com.yahoo.elide.async.service.thread;
 import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.async.models.AsyncAPI;
-import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.models.QueryStatus;
+import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.AsyncExecutorService.RunningAsyncAPI;
 import com.yahoo.elide.async.service.dao.AsyncAPIDAO;
 import com.yahoo.elide.core.Path.PathElement;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.TransactionRegistry;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.predicates.InPredicate;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
-import com.google.common.collect.Sets;
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -33,93 +35,131 @@ import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import javax.ws.rs.core.MultivaluedHashMap;
-import javax.ws.rs.core.MultivaluedMap;
 
 /**
  * Runnable for cancelling AsyncAPI transactions
  * beyond the max run time or if it has status CANCELLED.
+ * <p>
+ * The run time of a request is taken from the start time tracked by the AsyncExecutorService, so only the
+ * requests running on this host are considered and nothing is loaded when none are running.  Cancellations are
+ * normally delivered by the AsyncAPICancelHook once they are committed.  Every {@link #RECONCILIATION_INTERVAL}
+ * runs, the running requests are also looked up by status CANCELLED to catch cancellations which were missed.
  */
 @Slf4j
-@Data
-@AllArgsConstructor
+@Getter
 public class AsyncAPICancelRunnable implements Runnable {
+    public static final int RECONCILIATION_INTERVAL = 10;
 
     private int maxRunTimeSeconds;
     private Elide elide;
     private AsyncAPIDAO asyncAPIDao;
+    private AsyncExecutorService asyncExecutorService;
+    private int runs = 0;
+
+    /**
+     * Constructor.
+     * @param maxRunTimeSeconds Requests running longer than this are cancelled.
+     * @param elide Elide instance.
+     * @param asyncAPIDao DAO used to look up cancelled requests and mark them complete.
+     * @param asyncExecutorService Service which tracks the requests running on this host.
+     */
+    public AsyncAPICancelRunnable(int maxRunTimeSeconds, Elide elide, AsyncAPIDAO asyncAPIDao,
+            AsyncExecutorService asyncExecutorService) {
+        this.maxRunTimeSeconds = maxRunTimeSeconds;
+        this.elide = elide;
+        this.asyncAPIDao = asyncAPIDao;
+        this.asyncExecutorService = asyncExecutorService;
+    }
 
     @Override
     public void run() {
-        cancelAsyncAPI(AsyncQuery.class);
+        cancelAsyncAPIs();
     }
 
     /**
-     * This method cancels queries based on threshold.
-     * @param type AsyncAPI Type Implementation.
+     * This method cancels the running requests beyond the max run time or with status CANCELLED.
      */
-    protected <T extends AsyncAPI> void cancelAsyncAPI(Class<T> type) {
-
+    protected void cancelAsyncAPIs() {
         try {
-            TransactionRegistry transactionRegistry = elide.getTransactionRegistry();
-
-            Map<UUID, DataStoreTransaction> runningTransactionMap = transactionRegistry.getRunningTransactions();
-
-            //Running transaction UUIDs
-            Set<UUID> runningTransactionUUIDs = runningTransactionMap.keySet();
-
-            //Construct filter expression
-            PathElement statusPathElement = new PathElement(type, QueryStatus.class, "status");
-            FilterExpression fltStatusExpression =
-                    new InPredicate(statusPathElement, QueryStatus.CANCELLED, QueryStatus.PROCESSING,
-                            QueryStatus.QUEUED);
-
-            Iterable<T> asyncAPIIterable =
-                    asyncAPIDao.loadAsyncAPIByFilter(fltStatusExpression, type);
-
-            //Active AsyncAPI UUIDs
-            Set<UUID> asyncTransactionUUIDs = StreamSupport.stream(asyncAPIIterable.spliterator(), false)
-                    .filter(query -> query.getStatus() == QueryStatus.CANCELLED
-                    || TimeUnit.SECONDS.convert(Math.abs(new Date(System.currentTimeMillis()).getTime()
-                            - query.getCreatedOn().getTime()), TimeUnit.MILLISECONDS) > maxRunTimeSeconds)
-                    .map(query -> UUID.fromString(query.getRequestId()))
-            .collect(Collectors.toSet());
-
-            //AsyncAPI UUIDs that have active transactions
-            Set<UUID> queryUUIDsToCancel = Sets.intersection(runningTransactionUUIDs, asyncTransactionUUIDs);
-
-            //AsyncAPI IDs that need to be cancelled
-            Set<String> queryIDsToCancel = queryUUIDsToCancel.stream()
-            .map(uuid -> StreamSupport
-                .stream(asyncAPIIterable.spliterator(), false)
-                .filter(query -> query.getRequestId().equals(uuid.toString()))
-                .map(T::getId)
-                .findFirst().orElseThrow(IllegalStateException::new))
-            .collect(Collectors.toSet());
-
-            //Cancel Transactions
-            queryUUIDsToCancel.stream()
-               .forEach((uuid) -> {
-                   DataStoreTransaction runningTransaction = transactionRegistry.getRunningTransaction(uuid);
-                   if (runningTransaction != null) {
-                       JsonApiDocument jsonApiDoc = new JsonApiDocument();
-                       MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
-                       RequestScope scope = new RequestScope("", "query", NO_VERSION, jsonApiDoc,
-                               runningTransaction, null, queryParams, Collections.emptyMap(),
-                               uuid, elide.getElideSettings());
-                       runningTransaction.cancel(scope);
-                   }
-               });
-
-            //Change queryStatus for cancelled queries
-            if (!queryIDsToCancel.isEmpty()) {
-                PathElement idPathElement = new PathElement(type, String.class, "id");
-                FilterExpression fltIdExpression =
-                        new InPredicate(idPathElement, queryIDsToCancel);
-                asyncAPIDao.updateStatusAsyncAPIByFilter(fltIdExpression, QueryStatus.CANCEL_COMPLETE,
-                        type);
+            Collection<RunningAsyncAPI> running = asyncExecutorService.getRunningAsyncAPIs();
+
+            //Nothing to cancel on this host
+            if (running.isEmpty()) {
+                return;
+            }
+
+            long maxRunTimeMillis = TimeUnit.SECONDS.toMillis(maxRunTimeSeconds);
+            long now = System.currentTimeMillis();
+            Set<RunningAsyncAPI> asyncAPIsToCancel = running.stream()
+                    .filter(asyncAPI -> now - asyncAPI.getStartedOn() > maxRunTimeMillis)
+                    .collect(Collectors.toCollection(HashSet::new));
+
+            if (++runs % RECONCILIATION_INTERVAL == 0) {
+                asyncAPIsToCancel.addAll(loadCancelled(running));
             }
+
+            asyncAPIsToCancel.stream()
+                    .collect(Collectors.groupingBy(RunningAsyncAPI::getType))
+                    .forEach(this::cancel);
         } catch (Exception e) {
             log.error("Exception in scheduled cancellation: {}", e.toString());
         }
     }
+
+    /**
+     * Loads the running requests whose status is CANCELLED.
+     * @param running The requests running on this host.
+     * @return The cancelled requests.
+     */
+    private Set<RunningAsyncAPI> loadCancelled(Collection<RunningAsyncAPI> running) {
+        Set<RunningAsyncAPI> cancelled = new HashSet<>();
+        running.stream()
+                .collect(Collectors.groupingBy(RunningAsyncAPI::getType))
+                .forEach((type, asyncAPIs) -> {
+                    Map<String, RunningAsyncAPI> asyncAPIsById = asyncAPIs.stream()
+                            .collect(Collectors.toMap(RunningAsyncAPI::getId, asyncAPI -> asyncAPI));
+
+                    FilterExpression filter = new AndFilterExpression(
+                            new InPredicate(new PathElement(type, QueryStatus.class, "status"),
+                                    QueryStatus.CANCELLED),
+                            new InPredicate(new PathElement(type, String.class, "id"), asyncAPIsById.keySet()));
+
+                    StreamSupport.stream(asyncAPIDao.loadAsyncAPIByFilter(filter, type).spliterator(), false)
+                            .map(asyncAPI -> asyncAPIsById.get(asyncAPI.getId()))
+                            .forEach(cancelled::add);
+                });
+        return cancelled;
+    }
+
+    /**
+     * Cancels the transactions of requests and marks them CANCEL_COMPLETE.
+     * @param type AsyncAPI Type Implementation.
+     * @param asyncAPIs The requests to cancel.
+     */
+    private void cancel(Class<? extends AsyncAPI> type, List<RunningAsyncAPI> asyncAPIs) {
+        TransactionRegistry transactionRegistry = elide.getTransactionRegistry();
+
+        //AsyncAPI IDs that have active transactions
+        Set<String> cancelledIds = new HashSet<>();
+        asyncAPIs.forEach(asyncAPI -> {
+            UUID requestId = UUID.fromString(asyncAPI.getRequestId());
+            Set<DataStoreTransaction> runningTransactions = transactionRegistry.getRunningTransactions(requestId);
+            runningTransactions.forEach(runningTransaction -> {
+                RequestScope scope = new RequestScope("", "query", NO_VERSION, new JsonApiDocument(),
+                        runningTransaction, null, new MultivaluedHashMap<>(), Collections.emptyMap(),
+                        requestId, elide.getElideSettings());
+                runningTransaction.cancel(scope);
+            });
+            if (!runningTransactions.isEmpty()) {
+                cancelledIds.add(asyncAPI.getId());
+            }
+        });
+
+        //Change queryStatus for cancelled queries
+        if (!cancelledIds.isEmpty()) {
+            PathElement idPathElement = new PathElement(type, String.class, "id");
+            FilterExpression fltIdExpression = new InPredicate(idPathElement, cancelledIds);
+            asyncAPIDao.updateStatusAsyncAPIByFilter(fltIdExpression, QueryStatus.CANCEL_COMPLETE, type);
+        }
+    }
 }
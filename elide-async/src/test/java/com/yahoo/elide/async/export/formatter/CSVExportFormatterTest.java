@@ -24,7 +24,6 @@ import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.security.checks.Check;
-import com.yahoo.elide.jsonapi.models.Resource;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -70,8 +69,8 @@ public class CSVExportFormatterTest {
         queryObj.setQueryType(QueryType.GRAPHQL_V1_0);
         queryObj.setResultType(ResultType.CSV);
 
-        String row = "\"{ tableExport { edges { node { query queryType createdOn} } } }\", \"GRAPHQL_V1_0\""
-                + ", \"" + FORMATTER.format(queryObj.getCreatedOn());
+        String row = "\"{ tableExport { edges { node { query queryType createdOn} } } }\",\"GRAPHQL_V1_0\""
+                + ",\"" + FORMATTER.format(queryObj.getCreatedOn()) + "\"";
 
         // Prepare EntityProjection
         Set<Attribute> attributes = new LinkedHashSet<>();
@@ -85,18 +84,47 @@ public class CSVExportFormatterTest {
         resourceAttributes.put("queryType", queryObj.getQueryType());
         resourceAttributes.put("createdOn", queryObj.getCreatedOn());
 
-        Resource resource = new Resource("tableExport", "0", resourceAttributes, null, null, null);
 
         PersistentResource persistentResource = mock(PersistentResource.class);
         when(persistentResource.getObject()).thenReturn(queryObj);
         when(persistentResource.getRequestScope()).thenReturn(scope);
-        when(persistentResource.toResource(any(), any())).thenReturn(resource);
+        when(persistentResource.getAttribute(any(Attribute.class)))
+                .thenAnswer(invocation -> resourceAttributes.get(((Attribute) invocation.getArgument(0)).getName()));
         when(scope.getEntityProjection()).thenReturn(projection);
 
         String output = formatter.format(persistentResource, 1);
         assertTrue(output.contains(row));
     }
 
+    @Test
+    public void testQuoting() {
+        CSVExportFormatter formatter = new CSVExportFormatter(elide, false);
+
+        // Prepare EntityProjection
+        Set<Attribute> attributes = new LinkedHashSet<>();
+        attributes.add(Attribute.builder().type(TableExport.class).name("query").build());
+        attributes.add(Attribute.builder().type(TableExport.class).name("message").build());
+        attributes.add(Attribute.builder().type(TableExport.class).name("recordCount").build());
+        attributes.add(Attribute.builder().type(TableExport.class).name("queryType").build());
+        EntityProjection projection = EntityProjection.builder().type(TableExport.class).attributes(attributes).build();
+
+        Map<String, Object> resourceAttributes = new LinkedHashMap<>();
+        resourceAttributes.put("query", "{ book(filter: \"title==\\\"A, B\\\"\") { edges { node { title } } } }");
+        resourceAttributes.put("message", null);
+        resourceAttributes.put("recordCount", 42);
+        resourceAttributes.put("queryType", QueryType.GRAPHQL_V1_0);
+
+        PersistentResource persistentResource = mock(PersistentResource.class);
+        when(persistentResource.getObject()).thenReturn(new TableExport());
+        when(persistentResource.getRequestScope()).thenReturn(scope);
+        when(persistentResource.getAttribute(any(Attribute.class)))
+                .thenAnswer(invocation -> resourceAttributes.get(((Attribute) invocation.getArgument(0)).getName()));
+        when(scope.getEntityProjection()).thenReturn(projection);
+
+        assertEquals("\"{ book(filter: \"\"title==\\\"\"A, B\\\"\"\"\") { edges { node { title } } } }\",,42,\"GRAPHQL_V1_0\"",
+                formatter.format(persistentResource, 1));
+    }
+
     @Test
     public void testNullResourceToCSV() {
         CSVExportFormatter formatter = new CSVExportFormatter(elide, false);
@@ -23,7 +23,6 @@ import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.security.checks.Check;
-import com.yahoo.elide.jsonapi.models.Resource;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -84,11 +83,11 @@ public class JSONExportFormatterTest {
         resourceAttributes.put("queryType", queryObj.getQueryType());
         resourceAttributes.put("createdOn", queryObj.getCreatedOn());
 
-        Resource resource = new Resource("tableExport", "0", resourceAttributes, null, null, null);
         PersistentResource persistentResource = mock(PersistentResource.class);
         when(persistentResource.getObject()).thenReturn(queryObj);
         when(persistentResource.getRequestScope()).thenReturn(scope);
-        when(persistentResource.toResource(any(), any())).thenReturn(resource);
+        when(persistentResource.getAttribute(any(Attribute.class)))
+                .thenAnswer(invocation -> resourceAttributes.get(((Attribute) invocation.getArgument(0)).getName()));
         when(scope.getEntityProjection()).thenReturn(projection);
 
         String output = formatter.format(persistentResource, 1);
@@ -115,11 +114,11 @@ public class JSONExportFormatterTest {
         resourceAttributes.put("query", "{ tableExport { edges { node { query queryType} } } }");
         resourceAttributes.put("queryType", QueryType.GRAPHQL_V1_0);
 
-        Resource resource = new Resource("tableExport", "0", resourceAttributes, null, null, null);
         PersistentResource persistentResource = mock(PersistentResource.class);
         when(persistentResource.getObject()).thenReturn(queryObj);
         when(persistentResource.getRequestScope()).thenReturn(scope);
-        when(persistentResource.toResource(any(), any())).thenReturn(resource);
+        when(persistentResource.getAttribute(any(Attribute.class)))
+                .thenAnswer(invocation -> resourceAttributes.get(((Attribute) invocation.getArgument(0)).getName()));
         when(scope.getEntityProjection()).thenReturn(projection);
 
         String output = formatter.resourceToJSON(elide.getMapper().getObjectMapper(), persistentResource);
@@ -8,20 +8,28 @@ package com.yahoo.elide.async.operation;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.models.AsyncQueryResult;
 import com.yahoo.elide.async.models.QueryType;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.storageengine.FileResultStorageEngine;
+import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.security.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
 
 public class JSONAPIAsyncQueryOperationTest {
 
@@ -79,4 +87,80 @@ public class JSONAPIAsyncQueryOperationTest {
         assertEquals(201, queryResultObj.getHttpStatus());
         assertNull(queryResultObj.getRecordCount());
     }
+
+    @Test
+    public void testProcessQueryStoredResponse(@TempDir Path tempDir) throws URISyntaxException, IOException {
+        AsyncQuery queryObj = new AsyncQuery();
+        String responseBody = "{\"data\":"
+                + "[{\"type\":\"book\",\"id\":\"3\",\"attributes\":{\"title\":\"For Whom the Bell Tolls\"}}]}";
+        ElideResponse response = new ElideResponse(200, responseBody);
+        String query = "/group?sort=commonName&fields%5Bgroup%5D=commonName,description";
+        String id = "edc4a871-dff2-4054-804e-d80075cf827d";
+        queryObj.setId(id);
+        queryObj.setQuery(query);
+        queryObj.setQueryType(QueryType.JSONAPI_V1_0);
+
+        ElideSettings elideSettings = mock(ElideSettings.class);
+        when(elideSettings.getExportApiPath()).thenReturn("/export");
+        when(requestScope.getElideSettings()).thenReturn(elideSettings);
+        when(requestScope.getBaseUrlEndPoint()).thenReturn("https://elide.io");
+        FileResultStorageEngine engine = new FileResultStorageEngine(tempDir.toString());
+
+        when(elide.get(any(), any(), any(), any(), any(), any(), any())).thenReturn(response);
+        JSONAPIAsyncQueryOperation jsonOperation = new JSONAPIAsyncQueryOperation(asyncExecutorService, queryObj,
+                requestScope, engine, 10);
+        AsyncQueryResult queryResultObj = (AsyncQueryResult) jsonOperation.call();
+        assertNull(queryResultObj.getResponseBody());
+        assertEquals("https://elide.io/export/" + id, queryResultObj.getUrl().toString());
+        assertEquals(responseBody.length(), queryResultObj.getContentLength());
+        assertEquals(200, queryResultObj.getHttpStatus());
+        assertEquals(1, queryResultObj.getRecordCount());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        engine.writeResultsByID(id, output);
+        assertEquals(responseBody + System.lineSeparator(), output.toString("UTF-8"));
+
+        // Response bodies within the threshold are kept in the result
+        jsonOperation = new JSONAPIAsyncQueryOperation(asyncExecutorService, queryObj, requestScope, engine,
+                responseBody.length());
+        queryResultObj = (AsyncQueryResult) jsonOperation.call();
+        assertEquals(responseBody, queryResultObj.getResponseBody());
+        assertNull(queryResultObj.getUrl());
+    }
+
+    @Test
+    public void testProcessQueryStorageFailureKeepsResponse() throws URISyntaxException {
+        AsyncQuery queryObj = new AsyncQuery();
+        String responseBody = "{\"data\":"
+                + "[{\"type\":\"book\",\"id\":\"3\",\"attributes\":{\"title\":\"For Whom the Bell Tolls\"}}]}";
+        ElideResponse response = new ElideResponse(200, responseBody);
+        String query = "/group?sort=commonName&fields%5Bgroup%5D=commonName,description";
+        String id = "edc4a871-dff2-4054-804e-d80075cf827d";
+        queryObj.setId(id);
+        queryObj.setQuery(query);
+        queryObj.setQueryType(QueryType.JSONAPI_V1_0);
+
+        ElideSettings elideSettings = mock(ElideSettings.class);
+        when(elideSettings.getExportApiPath()).thenReturn("/export");
+        when(requestScope.getElideSettings()).thenReturn(elideSettings);
+        when(requestScope.getBaseUrlEndPoint()).thenReturn("https://elide.io");
+        ResultStorageEngine engine = mock(ResultStorageEngine.class);
+        when(engine.storeResults(any(AsyncQuery.class), any())).thenThrow(new IllegalStateException("Store failed"));
+
+        when(elide.get(any(), any(), any(), any(), any(), any(), any())).thenReturn(response);
+        JSONAPIAsyncQueryOperation jsonOperation = new JSONAPIAsyncQueryOperation(asyncExecutorService, queryObj,
+                requestScope, engine, 10);
+        AsyncQueryResult queryResultObj = (AsyncQueryResult) jsonOperation.call();
+        assertEquals(responseBody, queryResultObj.getResponseBody());
+        assertNull(queryResultObj.getUrl());
+        assertEquals(200, queryResultObj.getHttpStatus());
+        assertEquals(1, queryResultObj.getRecordCount());
+
+        // Engines which do not store AsyncQuery results keep the response body as well
+        engine = mock(ResultStorageEngine.class, CALLS_REAL_METHODS);
+        jsonOperation = new JSONAPIAsyncQueryOperation(asyncExecutorService, queryObj, requestScope, engine, 10);
+        queryResultObj = (AsyncQueryResult) jsonOperation.call();
+        assertEquals(responseBody, queryResultObj.getResponseBody());
+        assertNull(queryResultObj.getUrl());
+    }
 }
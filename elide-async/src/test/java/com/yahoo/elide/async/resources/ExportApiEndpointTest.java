@@ -6,10 +6,14 @@
 package com.yahoo.elide.async.resources;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.async.resources.ExportApiEndpoint.ExportApiProperties;
 import com.yahoo.elide.async.service.storageengine.FileResultStorageEngine;
@@ -20,14 +24,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.mockito.ArgumentCaptor;
 
-import io.reactivex.Observable;
-
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.concurrent.Executors;
 
 import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 /**
  * ExportAPiEndpoint Test.
@@ -54,7 +59,10 @@ public class ExportApiEndpointTest {
         String queryId = "1";
         int maxDownloadTimeSeconds = 1;
         int maxDownloadTimeMilliSeconds = maxDownloadTimeSeconds * 1000;
-        when(engine.getResultsByID(queryId)).thenReturn(Observable.just("result"));
+        doAnswer(invocation -> {
+            ((OutputStream) invocation.getArgument(1)).write("result".getBytes());
+            return null;
+        }).when(engine).writeResultsByID(eq(queryId), any());
 
         exportApiProperties = new ExportApiProperties(Executors.newFixedThreadPool(1), maxDownloadTimeSeconds);
         endpoint = new ExportApiEndpoint(engine, exportApiProperties);
@@ -62,10 +70,33 @@ public class ExportApiEndpointTest {
 
         // Timeout(int) succeeds as soon as the function to be verified is called.
         // It waits maximum upto value of "int" for function to be called.
-        verify(engine, timeout(maxDownloadTimeMilliSeconds)).getResultsByID(queryId);
         verify(asyncResponse, timeout(maxDownloadTimeMilliSeconds)).resume(responseCaptor.capture());
         final Response res = responseCaptor.getValue();
 
         assertEquals(res.getStatus(), 200);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ((StreamingOutput) res.getEntity()).write(output);
+        verify(engine).writeResultsByID(eq(queryId), any());
+        assertEquals("result", output.toString());
+    }
+
+    @Test
+    public void testGetNotFound() throws InterruptedException, IOException {
+        String queryId = "1";
+        int maxDownloadTimeSeconds = 1;
+        int maxDownloadTimeMilliSeconds = maxDownloadTimeSeconds * 1000;
+        doThrow(new IllegalStateException(ResultStorageEngine.RETRIEVE_ERROR))
+                .when(engine).writeResultsByID(eq(queryId), any());
+
+        exportApiProperties = new ExportApiProperties(Executors.newFixedThreadPool(1), maxDownloadTimeSeconds);
+        endpoint = new ExportApiEndpoint(engine, exportApiProperties);
+        endpoint.get(queryId, response, asyncResponse);
+
+        verify(asyncResponse, timeout(maxDownloadTimeMilliSeconds)).resume(responseCaptor.capture());
+        final Response res = responseCaptor.getValue();
+
+        ((StreamingOutput) res.getEntity()).write(new ByteArrayOutputStream());
+        verify(response).sendError(eq(404), anyString());
     }
 }
@@ -23,7 +23,7 @@ public class AsyncCleanerServiceTest {
     public void setupMocks() {
         Elide elide = mock(Elide.class);
         AsyncAPIDAO dao = mock(DefaultAsyncAPIDAO.class);
-        AsyncCleanerService.init(elide, 5, 60, 300, dao);
+        AsyncCleanerService.init(elide, 5, 60, 300, dao, mock(AsyncExecutorService.class));
         service = AsyncCleanerService.getInstance();
     }
 
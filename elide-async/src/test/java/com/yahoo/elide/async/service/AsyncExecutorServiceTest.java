@@ -8,7 +8,10 @@ package com.yahoo.elide.async.service;
 import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -16,6 +19,7 @@ import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.async.models.AsyncAPIResult;
 import com.yahoo.elide.async.models.AsyncQuery;
+import com.yahoo.elide.async.models.AsyncQueryResult;
 import com.yahoo.elide.async.models.QueryStatus;
 import com.yahoo.elide.async.models.QueryType;
 import com.yahoo.elide.async.operation.JSONAPIAsyncQueryOperation;
@@ -36,6 +40,7 @@ import org.junit.jupiter.api.TestInstance;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -108,4 +113,64 @@ public class AsyncExecutorServiceTest {
         verify(queryObj, times(1)).setStatus(QueryStatus.PROCESSING);
         verify(queryObj, times(1)).setStatus(QueryStatus.COMPLETE);
     }
+
+    //Test for completion of a query which outlives asyncAfterSeconds
+    @Test
+    public void testCompleteQueryAfterTimeout() throws Exception {
+        AsyncQuery queryObj = mock(AsyncQuery.class);
+        String id = "edc4a871-dff2-4054-804e-d80075cf828d";
+        when(queryObj.getId()).thenReturn(id);
+        when(queryObj.getAsyncAfterSeconds()).thenReturn(0);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        AsyncQueryResult queryResultObj = new AsyncQueryResult();
+        Callable<AsyncAPIResult> callable = () -> {
+            latch.await();
+            return queryResultObj;
+        };
+
+        service.executeQuery(queryObj, callable);
+        service.completeQuery(queryObj, testUser, NO_VERSION);
+        verify(queryObj, times(1)).setStatus(QueryStatus.PROCESSING);
+        verify(queryObj, never()).setStatus(QueryStatus.COMPLETE);
+        verify(asyncAPIDao, never()).updateAsyncAPIResult(queryResultObj, id, queryObj.getClass());
+
+        latch.countDown();
+        verify(asyncAPIDao, timeout(1000)).updateAsyncAPIResult(queryResultObj, id, queryObj.getClass());
+    }
+
+    //Test for tracking of the requests running on this host
+    @Test
+    public void testRunningAsyncAPIs() throws Exception {
+        AsyncQuery queryObj = new AsyncQuery();
+        String id = "edc4a871-dff2-4054-804e-d80075cf829d";
+        queryObj.setId(id);
+        queryObj.setAsyncAfterSeconds(0);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        AsyncQueryResult queryResultObj = new AsyncQueryResult();
+        Callable<AsyncAPIResult> callable = () -> {
+            started.countDown();
+            latch.await();
+            return queryResultObj;
+        };
+
+        long before = System.currentTimeMillis();
+        service.executeQuery(queryObj, callable);
+        service.completeQuery(queryObj, testUser, NO_VERSION);
+        started.await();
+
+        AsyncExecutorService.RunningAsyncAPI running = service.getRunningAsyncAPIs().stream()
+                .filter(asyncAPI -> asyncAPI.getId().equals(id))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        assertEquals(queryObj.getRequestId(), running.getRequestId());
+        assertEquals(AsyncQuery.class, running.getType());
+        assertTrue(running.getStartedOn() >= before);
+
+        latch.countDown();
+        verify(asyncAPIDao, timeout(1000)).updateAsyncAPIResult(queryResultObj, id, AsyncQuery.class);
+        assertTrue(service.getRunningAsyncAPIs().stream().noneMatch(asyncAPI -> asyncAPI.getId().equals(id)));
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service.cancellation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.async.models.AsyncQuery;
+import com.yahoo.elide.async.models.QueryStatus;
+import com.yahoo.elide.async.service.dao.AsyncAPIDAO;
+import com.yahoo.elide.async.service.dao.DefaultAsyncAPIDAO;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.security.checks.Check;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public class AsyncAPICancellationBusTest {
+    private static final String ID = "edc4a871-dff2-4054-804e-d80075cf828d";
+    private static final String REQUEST_ID = "edc4a871-dff2-4054-804e-d80075cf827d";
+
+    private Elide elide;
+    private AsyncAPIDAO asyncAPIDao;
+    private AsyncAPICancellationTransport transport;
+    private DataStoreTransaction runningTransaction;
+    private AsyncQuery asyncQuery;
+
+    @BeforeEach
+    public void setupMocks() {
+        HashMapDataStore inMemoryStore = new HashMapDataStore(AsyncQuery.class.getPackage());
+        Map<String, Class<? extends Check>> checkMappings = new HashMap<>();
+
+        elide = new Elide(
+                new ElideSettingsBuilder(inMemoryStore)
+                        .withEntityDictionary(new EntityDictionary(checkMappings))
+                        .build());
+
+        asyncAPIDao = mock(DefaultAsyncAPIDAO.class);
+        transport = mock(AsyncAPICancellationTransport.class);
+        runningTransaction = mock(DataStoreTransaction.class);
+
+        asyncQuery = new AsyncQuery();
+        asyncQuery.setId(ID);
+        asyncQuery.setRequestId(REQUEST_ID);
+        asyncQuery.setStatus(QueryStatus.CANCELLED);
+    }
+
+    @Test
+    public void testCancelRunningTransaction() {
+        elide.getTransactionRegistry().addRunningTransaction(UUID.fromString(REQUEST_ID), runningTransaction);
+        AsyncAPICancellationBus bus = new AsyncAPICancellationBus(elide, asyncAPIDao, transport);
+
+        bus.publish(asyncQuery);
+
+        verify(runningTransaction, times(1)).cancel(any());
+        verify(asyncAPIDao, times(1)).updateStatus(ID, QueryStatus.CANCEL_COMPLETE, AsyncQuery.class);
+        verify(transport, never()).publish(any());
+    }
+
+    @Test
+    public void testCancelConcurrentTransactions() {
+        DataStoreTransaction otherTransaction = mock(DataStoreTransaction.class);
+        elide.getTransactionRegistry().addRunningTransaction(UUID.fromString(REQUEST_ID), runningTransaction);
+        elide.getTransactionRegistry().addRunningTransaction(UUID.fromString(REQUEST_ID), otherTransaction);
+        AsyncAPICancellationBus bus = new AsyncAPICancellationBus(elide, asyncAPIDao, transport);
+
+        bus.publish(asyncQuery);
+
+        verify(runningTransaction, times(1)).cancel(any());
+        verify(otherTransaction, times(1)).cancel(any());
+        verify(asyncAPIDao, times(1)).updateStatus(ID, QueryStatus.CANCEL_COMPLETE, AsyncQuery.class);
+    }
+
+    @Test
+    public void testPublishToOtherHosts() {
+        AsyncAPICancellationBus bus = new AsyncAPICancellationBus(elide, asyncAPIDao, transport);
+
+        bus.publish(asyncQuery);
+
+        verify(transport, times(1)).publish(new AsyncAPICancellation(ID, REQUEST_ID, AsyncQuery.class));
+        verify(asyncAPIDao, never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    public void testCancelFromOtherHost() {
+        AsyncAPICancellationBus bus = new AsyncAPICancellationBus(elide, asyncAPIDao, transport);
+        ArgumentCaptor<Consumer<AsyncAPICancellation>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+        verify(transport).subscribe(listenerCaptor.capture());
+
+        elide.getTransactionRegistry().addRunningTransaction(UUID.fromString(REQUEST_ID), runningTransaction);
+        listenerCaptor.getValue().accept(AsyncAPICancellation.of(asyncQuery));
+
+        verify(runningTransaction, times(1)).cancel(any());
+        verify(asyncAPIDao, times(1)).updateStatus(ID, QueryStatus.CANCEL_COMPLETE, AsyncQuery.class);
+        assertEquals(transport, bus.getTransport());
+    }
+
+    @Test
+    public void testNoTransport() {
+        AsyncAPICancellationBus bus = new AsyncAPICancellationBus(elide, asyncAPIDao);
+
+        assertFalse(bus.cancel(AsyncAPICancellation.of(asyncQuery)));
+        bus.publish(asyncQuery);
+
+        verify(asyncAPIDao, never()).updateStatus(any(), any(), any());
+    }
+}
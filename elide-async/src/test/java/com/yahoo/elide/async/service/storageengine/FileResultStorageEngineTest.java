@@ -13,8 +13,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import io.reactivex.Observable;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Test cases for FileResultStorageEngine.
@@ -57,6 +62,56 @@ public class FileResultStorageEngineTest {
         assertEquals(finalResult, validOutput);
     }
 
+    @Test
+    public void testStoreResultsWithFlushInterval(@TempDir Path tempDir) {
+        String queryId = "store_results_flush_interval";
+        String validOutput = "hi\nhello\nhey";
+
+        FileResultStorageEngine engine = new FileResultStorageEngine(tempDir.toString(), 4, 2, false);
+        storeResultsFile(engine, queryId, Observable.fromArray(validOutput.split("\n")));
+
+        assertEquals(validOutput, readResultsFile(engine, queryId));
+    }
+
+    @Test
+    public void testStoreCompressedResults(@TempDir Path tempDir) throws IOException {
+        String queryId = "store_results_compressed";
+        String validOutput = "hi\nhello";
+
+        FileResultStorageEngine engine = new FileResultStorageEngine(tempDir.toString());
+        engine.setCompressionEnabled(true);
+        storeResultsFile(engine, queryId, Observable.fromArray(validOutput.split("\n")));
+
+        // verify the stored file is gzip compressed
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(tempDir.resolve(queryId)))) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+            assertEquals("hi" + System.lineSeparator() + "hello" + System.lineSeparator(), output.toString("UTF-8"));
+        }
+
+        // compressed results are read back regardless of the compression setting
+        assertEquals(validOutput, readResultsFile(tempDir.toString(), queryId));
+        assertEquals("hi" + System.lineSeparator() + "hello" + System.lineSeparator(),
+                writeResultsFile(tempDir.toString(), queryId));
+    }
+
+    @Test
+    public void testWriteResults() throws IOException {
+        assertEquals("test\n", writeResultsFile(BASE_PATH, "non_empty_results"));
+        assertEquals("", writeResultsFile(BASE_PATH, "empty_results"));
+    }
+
+    @Test
+    public void testWriteNonExistentFile() {
+        assertThrows(IllegalStateException.class, () ->
+                writeResultsFile(BASE_PATH, "nonexisting_results")
+        );
+    }
+
     // O/P Directory does not exist.
     @Test
     public void testStoreResultsFail(@TempDir File tempDir) {
@@ -67,8 +122,10 @@ public class FileResultStorageEngineTest {
     }
 
     private String readResultsFile(String path, String queryId) {
-        FileResultStorageEngine engine = new FileResultStorageEngine(path);
+        return readResultsFile(new FileResultStorageEngine(path), queryId);
+    }
 
+    private String readResultsFile(FileResultStorageEngine engine, String queryId) {
         return engine.getResultsByID(queryId).collect(() -> new StringBuilder(),
                 (resultBuilder, tempResult) -> {
                     if (resultBuilder.length() > 0) {
@@ -79,8 +136,18 @@ public class FileResultStorageEngineTest {
             ).map(StringBuilder::toString).blockingGet();
     }
 
-    private void storeResultsFile(String path, String queryId, Observable<String> storable) {
+    private String writeResultsFile(String path, String queryId) throws IOException {
         FileResultStorageEngine engine = new FileResultStorageEngine(path);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        engine.writeResultsByID(queryId, output);
+        return output.toString("UTF-8");
+    }
+
+    private void storeResultsFile(String path, String queryId, Observable<String> storable) {
+        storeResultsFile(new FileResultStorageEngine(path), queryId, storable);
+    }
+
+    private void storeResultsFile(FileResultStorageEngine engine, String queryId, Observable<String> storable) {
         TableExport query = new TableExport();
         query.setId(queryId);
 
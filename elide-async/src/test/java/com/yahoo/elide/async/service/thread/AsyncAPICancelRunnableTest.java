@@ -8,6 +8,7 @@ package com.yahoo.elide.async.service.thread;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -16,13 +17,14 @@ import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.async.models.AsyncAPI;
 import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.models.QueryStatus;
+import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.AsyncExecutorService.RunningAsyncAPI;
 import com.yahoo.elide.async.service.dao.AsyncAPIDAO;
 import com.yahoo.elide.async.service.dao.DefaultAsyncAPIDAO;
 import com.yahoo.elide.core.TransactionRegistry;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
-import com.yahoo.elide.core.filter.dialect.ParseException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.security.checks.Check;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,7 +32,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -42,6 +46,7 @@ public class AsyncAPICancelRunnableTest {
     private AsyncAPICancelRunnable cancelThread;
     private Elide elide;
     private AsyncAPIDAO asyncAPIDao;
+    private AsyncExecutorService asyncExecutorService;
     private TransactionRegistry transactionRegistry;
 
     @BeforeEach
@@ -56,7 +61,8 @@ public class AsyncAPICancelRunnableTest {
                         .build());
 
         asyncAPIDao = mock(DefaultAsyncAPIDAO.class);
-        cancelThread = new AsyncAPICancelRunnable(7, elide, asyncAPIDao);
+        asyncExecutorService = mock(AsyncExecutorService.class);
+        cancelThread = new AsyncAPICancelRunnable(7, elide, asyncAPIDao, asyncExecutorService);
         transactionRegistry = elide.getTransactionRegistry();
 
     }
@@ -65,78 +71,82 @@ public class AsyncAPICancelRunnableTest {
     public void testAsyncQueryCancelThreadSet() {
         assertEquals(elide, cancelThread.getElide());
         assertEquals(asyncAPIDao, cancelThread.getAsyncAPIDao());
+        assertEquals(asyncExecutorService, cancelThread.getAsyncExecutorService());
         assertEquals(7, cancelThread.getMaxRunTimeSeconds());
     }
 
     @Test
-    public void testActiveTransactionCancellation() {
+    public void testTimeBasedCancellation() {
         DataStoreTransaction dtx = elide.getDataStore().beginTransaction();
         transactionRegistry.addRunningTransaction(UUID.fromString("edc4a871-dff2-4054-804e-d80075cf828d"), dtx);
-        AsyncQuery asyncQuery1 = createAsyncQueryTestObject("edc4a871-dff2-4054-804e-d80075cf828d",
-                1577883600000L, QueryStatus.QUEUED);
-        AsyncQuery asyncQuery2 = createAsyncQueryTestObject("edc4a871-dff2-4054-804e-d80075cf827d",
-                1577883600000L, QueryStatus.QUEUED);
-        Collection<AsyncAPI> asyncCollection = new ArrayList<>();
-        asyncCollection.add(asyncQuery1);
-        asyncCollection.add(asyncQuery2);
-        when(cancelThread.getAsyncAPIDao().loadAsyncAPIByFilter(any(), any())).thenReturn(asyncCollection);
-        cancelThread.cancelAsyncAPI(AsyncQuery.class);
+        transactionRegistry.addRunningTransaction(UUID.fromString("edc4a871-dff2-4054-804e-d80075cf827d"), dtx);
+        when(asyncExecutorService.getRunningAsyncAPIs()).thenReturn(Arrays.asList(
+                createRunningAsyncQuery("edc4a871-dff2-4054-804e-d80075cf828d", System.currentTimeMillis()),
+                createRunningAsyncQuery("edc4a871-dff2-4054-804e-d80075cf827d", 1577883600000L),
+                createRunningAsyncQuery("edc4a871-dff2-4054-804e-d80075cf826d", 1577883600000L)));
+
+        cancelThread.cancelAsyncAPIs();
         ArgumentCaptor<FilterExpression> filterCaptor = ArgumentCaptor.forClass(FilterExpression.class);
         ArgumentCaptor<QueryStatus> statusCaptor = ArgumentCaptor.forClass(QueryStatus.class);
-        verify(asyncAPIDao, times(1)).loadAsyncAPIByFilter(any(), any());
+        verify(asyncAPIDao, never()).loadAsyncAPIByFilter(any(), any());
         verify(asyncAPIDao, times(1)).updateStatusAsyncAPIByFilter(filterCaptor.capture(), statusCaptor.capture(), any());
-        assertEquals("asyncQuery.id IN [[edc4a871-dff2-4054-804e-d80075cf828d]]", filterCaptor.getValue().toString());
+        assertEquals("asyncQuery.id IN [[edc4a871-dff2-4054-804e-d80075cf827d]]", filterCaptor.getValue().toString());
         assertEquals("CANCEL_COMPLETE", statusCaptor.getValue().toString());
     }
 
     @Test
-    public void testStatusBasedFilter() throws ParseException {
+    public void testStatusBasedReconciliation() {
         DataStoreTransaction dtx = elide.getDataStore().beginTransaction();
         transactionRegistry.addRunningTransaction(UUID.fromString("edc4a871-dff2-4054-804e-d80075cf828d"), dtx);
         transactionRegistry.addRunningTransaction(UUID.fromString("edc4a871-dff2-4054-804e-d80075cf827d"), dtx);
-        transactionRegistry.addRunningTransaction(UUID.fromString("edc4a871-dff2-4054-804e-d80075cf826d"), dtx);
-        AsyncQuery asyncQuery1 = createAsyncQueryTestObject("edc4a871-dff2-4054-804e-d80075cf828d",
-                1577883600000L, QueryStatus.CANCEL_COMPLETE);
-        AsyncQuery asyncQuery2 = createAsyncQueryTestObject("edc4a871-dff2-4054-804e-d80075cf827d",
-                1577883600000L, QueryStatus.CANCELLED);
-        AsyncQuery asyncQuery3 = createAsyncQueryTestObject("edc4a871-dff2-4054-804e-d80075cf826d",
-                1577883600000L, QueryStatus.PROCESSING);
+        when(asyncExecutorService.getRunningAsyncAPIs()).thenReturn(Arrays.asList(
+                createRunningAsyncQuery("edc4a871-dff2-4054-804e-d80075cf828d", System.currentTimeMillis())));
         Collection<AsyncAPI> asyncCollection = new ArrayList<>();
-        asyncCollection.add(asyncQuery1);
-        asyncCollection.add(asyncQuery2);
-        asyncCollection.add(asyncQuery3);
-        when(cancelThread.getAsyncAPIDao().loadAsyncAPIByFilter(any(), any())).thenReturn(asyncCollection);
-        cancelThread.cancelAsyncAPI(AsyncQuery.class);
+        asyncCollection.add(createAsyncQueryTestObject("edc4a871-dff2-4054-804e-d80075cf828d",
+                System.currentTimeMillis(), QueryStatus.CANCELLED));
+        when(asyncAPIDao.loadAsyncAPIByFilter(any(), any())).thenReturn(asyncCollection);
+
+        for (int run = 1; run < AsyncAPICancelRunnable.RECONCILIATION_INTERVAL; run++) {
+            cancelThread.cancelAsyncAPIs();
+        }
+        verify(asyncAPIDao, never()).loadAsyncAPIByFilter(any(), any());
+        verify(asyncAPIDao, never()).updateStatusAsyncAPIByFilter(any(), any(), any());
+
+        cancelThread.cancelAsyncAPIs();
         ArgumentCaptor<FilterExpression> fltStatusCaptor = ArgumentCaptor.forClass(FilterExpression.class);
+        ArgumentCaptor<FilterExpression> filterCaptor = ArgumentCaptor.forClass(FilterExpression.class);
         verify(asyncAPIDao, times(1)).loadAsyncAPIByFilter(fltStatusCaptor.capture(), any());
-        assertEquals("asyncQuery.status IN [CANCELLED, PROCESSING, QUEUED]", fltStatusCaptor.getValue().toString());
-        verify(asyncAPIDao, times(1)).updateStatusAsyncAPIByFilter(any(), any(), any());
+        assertEquals("(asyncQuery.status IN [CANCELLED] AND asyncQuery.id IN [[edc4a871-dff2-4054-804e-d80075cf828d]])",
+                fltStatusCaptor.getValue().toString());
+        verify(asyncAPIDao, times(1)).updateStatusAsyncAPIByFilter(filterCaptor.capture(), any(), any());
+        assertEquals("asyncQuery.id IN [[edc4a871-dff2-4054-804e-d80075cf828d]]", filterCaptor.getValue().toString());
+    }
 
+    @Test
+    public void testFinishedTransactionNotCancelled() {
+        when(asyncExecutorService.getRunningAsyncAPIs()).thenReturn(Arrays.asList(
+                createRunningAsyncQuery("edc4a871-dff2-4054-804e-d80075cf827d", 1577883600000L)));
+
+        cancelThread.cancelAsyncAPIs();
+        verify(asyncAPIDao, never()).updateStatusAsyncAPIByFilter(any(), any(), any());
     }
 
     @Test
-    public void testTimeBasedCancellation() {
+    public void testNoRunningAsyncAPIs() {
+        // Transactions of other requests do not trigger any work
         DataStoreTransaction dtx = elide.getDataStore().beginTransaction();
         transactionRegistry.addRunningTransaction(UUID.fromString("edc4a871-dff2-4054-804e-d80075cf828d"), dtx);
-        transactionRegistry.addRunningTransaction(UUID.fromString("edc4a871-dff2-4054-804e-d80075cf827d"), dtx);
-        AsyncQuery asyncQuery1 = createAsyncQueryTestObject("edc4a871-dff2-4054-804e-d80075cf828d",
-                System.currentTimeMillis(), QueryStatus.QUEUED);
-        AsyncQuery asyncQuery2 = createAsyncQueryTestObject("edc4a871-dff2-4054-804e-d80075cf827d",
-                1577883600000L, QueryStatus.QUEUED);
-        AsyncQuery asyncQuery3 = createAsyncQueryTestObject("edc4a871-dff2-4054-804e-d80075cf826d",
-                1577883600000L, QueryStatus.QUEUED);
-        Collection<AsyncAPI> asyncCollection = new ArrayList<>();
-        asyncCollection.add(asyncQuery1);
-        asyncCollection.add(asyncQuery2);
-        asyncCollection.add(asyncQuery3);
-        when(cancelThread.getAsyncAPIDao().loadAsyncAPIByFilter(any(), any())).thenReturn(asyncCollection);
-        cancelThread.cancelAsyncAPI(AsyncQuery.class);
-        ArgumentCaptor<FilterExpression> filterCaptor = ArgumentCaptor.forClass(FilterExpression.class);
-        ArgumentCaptor<QueryStatus> statusCaptor = ArgumentCaptor.forClass(QueryStatus.class);
-        verify(asyncAPIDao, times(1)).updateStatusAsyncAPIByFilter(filterCaptor.capture(), statusCaptor.capture(), any());
-        assertEquals("asyncQuery.id IN [[edc4a871-dff2-4054-804e-d80075cf827d]]", filterCaptor.getValue().toString());
-        assertEquals("CANCEL_COMPLETE", statusCaptor.getValue().toString());
+        when(asyncExecutorService.getRunningAsyncAPIs()).thenReturn(Collections.emptyList());
+
+        for (int run = 0; run < AsyncAPICancelRunnable.RECONCILIATION_INTERVAL; run++) {
+            cancelThread.cancelAsyncAPIs();
+        }
+        verify(asyncAPIDao, never()).loadAsyncAPIByFilter(any(), any());
+        verify(asyncAPIDao, never()).updateStatusAsyncAPIByFilter(any(), any(), any());
+    }
 
+    public RunningAsyncAPI createRunningAsyncQuery(String id, long startedOn) {
+        return new RunningAsyncAPI(id, id, AsyncQuery.class, startedOn);
     }
 
     public AsyncQuery createAsyncQueryTestObject(String id, Long createdOn, QueryStatus status) {
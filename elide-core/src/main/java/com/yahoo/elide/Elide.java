@@ -39,6 +39,7 @@ import com.yahoo.elide.jsonapi.parser.GetVisitor;
 import com.yahoo.elide.jsonapi.parser.JsonApiParser;
 import com.yahoo.elide.jsonapi.parser.PatchVisitor;
 import com.yahoo.elide.jsonapi.parser.PostVisitor;
+import com.yahoo.elide.jsonapi.parser.StreamingGetVisitor;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -52,13 +53,16 @@ import org.apache.commons.lang3.tuple.Pair;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import java.util.stream.Collectors;
@@ -213,6 +217,47 @@ public class Elide {
         });
     }
 
+    /**
+     * Handle GET, streaming the response body when the request reads a collection.
+     * <p>
+     * A streamed response carries a {@link ElideResponse.BodyWriter} instead of a body.  Its records are read
+     * and serialized while the body is written, and the transaction stays open until then.  The caller must
+     * invoke the writer exactly once.  Errors found before the body is written, such as invalid paths, filters
+     * or permissions on the collection, are returned as regular error responses.  Errors raised while the body
+     * is written can only truncate it and are thrown by the writer.
+     *
+     * @param baseUrlEndPoint base URL with prefix endpoint
+     * @param path the path
+     * @param queryParams the query params
+     * @param requestHeaders the request headers
+     * @param opaqueUser the opaque user
+     * @param apiVersion the API version
+     * @param requestId the request ID
+     * @return Elide response object
+     */
+    public ElideResponse getStreaming(String baseUrlEndPoint, String path, MultivaluedMap<String, String> queryParams,
+                                      Map<String, List<String>> requestHeaders, User opaqueUser, String apiVersion,
+                                      UUID requestId) {
+        if (elideSettings.isStrictQueryParams()) {
+            try {
+                verifyQueryParams(queryParams);
+            } catch (BadRequestException e) {
+                return buildErrorResponse(e, false);
+            }
+        }
+        return handleRequest(true, opaqueUser, dataStore::beginReadTransaction, requestId, (tx, user) -> {
+            JsonApiDocument jsonApiDoc = new JsonApiDocument();
+            RequestScope requestScope = new RequestScope(baseUrlEndPoint, path, apiVersion, jsonApiDoc,
+                    tx, user, queryParams, requestHeaders, requestId, elideSettings);
+            requestScope.setEntityProjection(new EntityProjectionMaker(elideSettings.getDictionary(),
+                    requestScope).parsePath(path));
+            StreamingGetVisitor visitor = new StreamingGetVisitor(requestScope);
+            HandlerResult result = visit(path, requestScope, visitor);
+            result.bodyWriter = visitor.getBodyWriter().orElse(null);
+            return result;
+        });
+    }
+
     /**
      * Handle POST.
      *
@@ -451,7 +496,9 @@ public class Elide {
                                           Supplier<DataStoreTransaction> transaction, UUID requestId,
                                           Handler<DataStoreTransaction, User, HandlerResult> handler) {
         boolean isVerbose = false;
-        try (DataStoreTransaction tx = transaction.get()) {
+        boolean isStreamed = false;
+        try (TransactionHolder holder = new TransactionHolder(transaction.get())) {
+            DataStoreTransaction tx = holder.getTransaction();
             transactionRegistry.addRunningTransaction(requestId, tx);
             HandlerResult result = handler.handle(tx, user);
             RequestScope requestScope = result.getRequestScope();
@@ -467,6 +514,14 @@ public class Elide {
 
             requestScope.runQueuedPreCommitTriggers();
 
+            if (result.getBodyWriter() != null) {
+                // The body writer takes over the transaction and completes the request once the body is written
+                isStreamed = true;
+                auditLogger.commit();
+                return buildStreamedResponse(responder.get().getLeft(), result.getBodyWriter(), holder.release(),
+                        requestScope, requestId);
+            }
+
             ElideResponse response = buildResponse(responder.get());
 
             auditLogger.commit();
@@ -524,11 +579,19 @@ public class Elide {
             log.error("Error or exception uncaught by Elide", e);
             throw e;
         } finally {
-            transactionRegistry.removeRunningTransaction(requestId);
+            if (!isStreamed) {
+                transactionRegistry.removeRunningTransaction(requestId);
+            }
             auditLogger.clear();
         }
     }
 
+    private ElideResponse buildStreamedResponse(int responseCode, ElideResponse.BodyWriter bodyWriter,
+                                                DataStoreTransaction tx, RequestScope requestScope,
+                                                UUID requestId) {
+        return new ElideResponse(responseCode, null, new StreamedBody(bodyWriter, tx, requestScope, requestId));
+    }
+
     protected ElideResponse buildErrorResponse(HttpStatusException error, boolean isVerbose) {
         if (error instanceof InternalServerErrorException) {
             log.error("Internal Server Error", error);
@@ -588,6 +651,7 @@ public class Elide {
         protected RequestScope requestScope;
         protected Supplier<Pair<Integer, JsonNode>> result;
         protected RuntimeException cause;
+        protected ElideResponse.BodyWriter bodyWriter;
 
         protected HandlerResult(RequestScope requestScope, Supplier<Pair<Integer, JsonNode>> result) {
             this.requestScope = requestScope;
@@ -609,5 +673,86 @@ public class Elide {
         public RequestScope getRequestScope() {
             return requestScope;
         }
+
+        public ElideResponse.BodyWriter getBodyWriter() {
+            return bodyWriter;
+        }
+    }
+
+    /**
+     * The body of a streamed response.  It owns the transaction of the request, which is committed once the body
+     * is written, or closed without committing if the body is never written.
+     */
+    private class StreamedBody implements ElideResponse.BodyWriter {
+        private final ElideResponse.BodyWriter bodyWriter;
+        private final DataStoreTransaction tx;
+        private final RequestScope requestScope;
+        private final UUID requestId;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private StreamedBody(ElideResponse.BodyWriter bodyWriter, DataStoreTransaction tx,
+                             RequestScope requestScope, UUID requestId) {
+            this.bodyWriter = bodyWriter;
+            this.tx = tx;
+            this.requestScope = requestScope;
+            this.requestId = requestId;
+        }
+
+        @Override
+        public void writeTo(OutputStream outputStream) throws IOException {
+            if (!released.compareAndSet(false, true)) {
+                throw new IllegalStateException("The response body has already been written or closed.");
+            }
+
+            try (DataStoreTransaction streamedTx = tx) {
+                bodyWriter.writeTo(outputStream);
+                requestScope.getPermissionExecutor().executeCommitChecks();
+                streamedTx.commit(requestScope);
+                requestScope.runQueuedPostCommitTriggers();
+            } finally {
+                transactionRegistry.removeRunningTransaction(requestId);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                tx.close();
+            } finally {
+                transactionRegistry.removeRunningTransaction(requestId);
+            }
+        }
+    }
+
+    /**
+     * Closes the transaction of a request unless it was released to a streamed response.
+     */
+    private static class TransactionHolder implements Closeable {
+        private DataStoreTransaction transaction;
+
+        private TransactionHolder(DataStoreTransaction transaction) {
+            this.transaction = transaction;
+        }
+
+        private DataStoreTransaction getTransaction() {
+            return transaction;
+        }
+
+        private DataStoreTransaction release() {
+            DataStoreTransaction released = transaction;
+            transaction = null;
+            return released;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (transaction != null) {
+                transaction.close();
+            }
+        }
     }
 }
@@ -8,6 +8,10 @@ package com.yahoo.elide;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * Elide response object.
  */
@@ -15,6 +19,7 @@ import lombok.Getter;
 public class ElideResponse {
     @Getter private final int responseCode;
     @Getter private final String body;
+    @Getter private final BodyWriter bodyWriter;
 
     /**
      * Constructor.
@@ -23,7 +28,54 @@ public class ElideResponse {
      * @param body returned body string
      */
     public ElideResponse(int responseCode, String body) {
+        this(responseCode, body, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param responseCode HTTP response code
+     * @param body returned body string
+     * @param bodyWriter writes the body of a streamed response
+     */
+    public ElideResponse(int responseCode, String body, BodyWriter bodyWriter) {
         this.responseCode = responseCode;
         this.body = body;
+        this.bodyWriter = bodyWriter;
+    }
+
+    /**
+     * Whether the body is written by the {@link BodyWriter} rather than held as a string.
+     *
+     * @return true if the response is streamed
+     */
+    public boolean isStreamed() {
+        return bodyWriter != null;
+    }
+
+    /**
+     * Writes the body of a streamed response as it is produced.  A writer may hold request resources, such as
+     * an open transaction, until it runs.  Callers that do not write the body must close the writer instead.
+     */
+    @FunctionalInterface
+    public interface BodyWriter extends Closeable {
+
+        /**
+         * Writes the body.
+         *
+         * @param outputStream the stream the body is written to
+         * @throws IOException if the body cannot be written
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
+
+        /**
+         * Releases the resources held for a body that will not be written.  Has no effect once the body has
+         * been written.
+         *
+         * @throws IOException if the resources cannot be released
+         */
+        @Override
+        default void close() throws IOException {
+        }
     }
 }
@@ -13,6 +13,7 @@ import com.yahoo.elide.core.filter.dialect.graphql.FilterDialect;
 import com.yahoo.elide.core.filter.dialect.jsonapi.JoinFilterDialect;
 import com.yahoo.elide.core.filter.dialect.jsonapi.SubqueryFilterDialect;
 import com.yahoo.elide.core.security.PermissionExecutor;
+import com.yahoo.elide.core.security.permissions.UserPermissionCache;
 import com.yahoo.elide.core.utils.coerce.converters.Serde;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
 import com.yahoo.elide.jsonapi.links.JSONApiLinks;
@@ -21,6 +22,7 @@ import lombok.Getter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 
 /**
@@ -43,6 +45,10 @@ public class ElideSettings {
     @Getter private final Map<Class, Serde> serdes;
     @Getter private final boolean enableJsonLinks;
     @Getter private final boolean strictQueryParams;
+    @Getter private final boolean jsonApiStreaming;
+    @Getter private final int graphQLDocumentCacheSize;
+    @Getter private final ExecutorService graphQLBatchExecutor;
+    @Getter private final UserPermissionCache userPermissionCache;
     @Getter private final String baseUrl;
     @Getter private final String jsonApiPath;
     @Getter private final String graphQLApiPath;
@@ -20,6 +20,7 @@ import com.yahoo.elide.core.pagination.PaginationImpl;
 import com.yahoo.elide.core.security.PermissionExecutor;
 import com.yahoo.elide.core.security.executors.ActivePermissionExecutor;
 import com.yahoo.elide.core.security.executors.VerbosePermissionExecutor;
+import com.yahoo.elide.core.security.permissions.UserPermissionCache;
 import com.yahoo.elide.core.utils.coerce.converters.EpochToDateConverter;
 import com.yahoo.elide.core.utils.coerce.converters.ISO8601DateSerde;
 import com.yahoo.elide.core.utils.coerce.converters.Serde;
@@ -32,6 +33,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 
 /**
@@ -53,6 +55,10 @@ public class ElideSettingsBuilder {
     private int updateStatusCode;
     private boolean enableJsonLinks;
     private boolean strictQueryParams = true;
+    private boolean jsonApiStreaming;
+    private int graphQLDocumentCacheSize = 1024;
+    private ExecutorService graphQLBatchExecutor;
+    private UserPermissionCache userPermissionCache;
     private String baseUrl = "";
     private String jsonApiPath;
     private String graphQLApiPath;
@@ -109,6 +115,10 @@ public class ElideSettingsBuilder {
                 serdes,
                 enableJsonLinks,
                 strictQueryParams,
+                jsonApiStreaming,
+                graphQLDocumentCacheSize,
+                graphQLBatchExecutor,
+                userPermissionCache,
                 baseUrl,
                 jsonApiPath,
                 graphQLApiPath,
@@ -221,4 +231,46 @@ public class ElideSettingsBuilder {
         this.strictQueryParams = enabled;
         return this;
     }
+
+    /**
+     * Streams JSON API collection responses to the client as their records are read, rather than building
+     * the whole response body in memory first.
+     * @param enabled whether collection responses are streamed
+     * @return the settings builder.
+     */
+    public ElideSettingsBuilder withJsonApiStreaming(boolean enabled) {
+        this.jsonApiStreaming = enabled;
+        return this;
+    }
+
+    /**
+     * Sets how many parsed GraphQL query documents, and how many persisted queries, are kept for reuse.
+     * @param maximumSize the maximum number of cached documents, or zero to disable the cache
+     * @return the settings builder.
+     */
+    public ElideSettingsBuilder withGraphQLDocumentCacheSize(int maximumSize) {
+        this.graphQLDocumentCacheSize = maximumSize;
+        return this;
+    }
+
+    /**
+     * Runs the documents of a batched GraphQL request concurrently, each in its own transaction, when none of
+     * them is a mutation.  Batches are run one document after another by default.
+     * @param executor the bounded executor which runs the documents of a batch
+     * @return the settings builder.
+     */
+    public ElideSettingsBuilder withGraphQLBatchExecutor(ExecutorService executor) {
+        this.graphQLBatchExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Shares the results of cacheable user checks across the requests of each user.
+     * @param userPermissionCache the cache of user check results
+     * @return the settings builder.
+     */
+    public ElideSettingsBuilder withUserPermissionCache(UserPermissionCache userPermissionCache) {
+        this.userPermissionCache = userPermissionCache;
+        return this;
+    }
 }
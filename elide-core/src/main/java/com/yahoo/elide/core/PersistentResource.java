@@ -1106,16 +1106,18 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
     }
 
     /**
-     * Retrieve an unchecked set of relations.
+     * Merges the read permission filter of the relationship's type into the relationship's projection.
+     *
+     * @param relationship the relationship to fetch
+     * @return the relationship to fetch from the data store
      */
-    private Observable<PersistentResource> getRelationUnchecked(
+    com.yahoo.elide.core.request.Relationship withPermissionFilter(
             com.yahoo.elide.core.request.Relationship relationship) {
         String relationName = relationship.getName();
         FilterExpression filterExpression = relationship.getProjection().getFilterExpression();
         Pagination pagination = relationship.getProjection().getPagination();
         Sorting sorting = relationship.getProjection().getSorting();
 
-        RelationshipType type = getRelationshipType(relationName);
         final Type<?> relationClass = dictionary.getParameterizedType(obj, relationName);
         if (relationClass == null) {
             throw new InvalidAttributeException(relationName, this.getTypeName());
@@ -1133,15 +1135,24 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
             computedFilters = permissionFilter;
         }
 
-        com.yahoo.elide.core.request.Relationship modifiedRelationship = relationship.copyOf()
+        return relationship.copyOf()
                 .projection(relationship.getProjection().copyOf()
                         .filterExpression(computedFilters.orElse(null))
                         .sorting(sorting)
                         .pagination(pagination)
                         .build()
                 ).build();
+    }
 
-        Object val = transaction.getRelation(transaction, obj, modifiedRelationship, requestScope);
+    /**
+     * Retrieve an unchecked set of relations.
+     */
+    private Observable<PersistentResource> getRelationUnchecked(
+            com.yahoo.elide.core.request.Relationship relationship) {
+        String relationName = relationship.getName();
+
+        Object val = requestScope.getRelationshipBatcher().load(this, relationship, () ->
+                transaction.getRelation(transaction, obj, withPermissionFilter(relationship), requestScope));
 
         if (val == null) {
             return Observable.empty();
@@ -1377,18 +1388,52 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
      * @return Relationship mapping
      */
     protected Map<String, Relationship> getRelationships() {
-        return getRelationshipsWithRelationshipFunction((relationName) -> {
+        return getRelationshipsWithRelationshipFunction(
+                (relationName) -> getRelationCheckedFiltered(getDefaultRelationship(relationName)));
+    }
+
+    /**
+     * Get the relationship requested when a relationship is serialized without an explicit projection.
+     *
+     * @param relationName the relationship name
+     * @return the relationship, shared by all resources of this type in the request
+     */
+    private com.yahoo.elide.core.request.Relationship getDefaultRelationship(String relationName) {
+        return requestScope.getRelationshipBatcher().getDefaultRelationship(getResourceType(), relationName, () -> {
             Optional<FilterExpression> filterExpression = requestScope.getExpressionForRelation(getResourceType(),
                     relationName);
 
-            return getRelationCheckedFiltered(com.yahoo.elide.core.request.Relationship.builder()
+            return com.yahoo.elide.core.request.Relationship.builder()
                     .alias(relationName)
                     .name(relationName)
                     .projection(EntityProjection.builder()
                             .type(dictionary.getParameterizedType(getResourceType(), relationName))
                             .filterExpression(filterExpression.orElse(null))
                             .build())
-                    .build());
+                    .build();
+        });
+    }
+
+    /**
+     * Schedules the relationships serialized by {@link #toResource()} to be loaded together for all the resources
+     * rather than once per resource.
+     *
+     * @param resources the resources about to be serialized
+     */
+    public static void scheduleRelationships(Collection<PersistentResource> resources) {
+        Map<Type<?>, List<PersistentResource>> resourcesByType = new LinkedHashMap<>();
+        resources.forEach(resource ->
+                resourcesByType.computeIfAbsent(resource.getResourceType(), key -> new ArrayList<>()).add(resource));
+
+        resourcesByType.values().forEach(owners -> {
+            PersistentResource<?> first = owners.get(0);
+            if (owners.size() < 2 || first.getObject() == null) {
+                return;
+            }
+
+            RelationshipBatcher batcher = first.getRequestScope().getRelationshipBatcher();
+            first.filterFields(first.getDictionary().getRelationships(first.getObject())).forEach(relationName ->
+                    batcher.schedule(owners, first.getDefaultRelationship(relationName)));
         });
     }
 
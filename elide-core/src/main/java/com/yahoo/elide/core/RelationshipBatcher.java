@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.request.Pagination;
+import com.yahoo.elide.core.request.Relationship;
+import com.yahoo.elide.core.type.Type;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Batches the loading of a relationship across the resources of a request.
+ * <p>
+ * Callers which are about to read the same relationship from a set of resources schedule them first.  The
+ * first read of the relationship from any scheduled resource loads it for every resource of the same type
+ * with a single data store call.  The remaining reads are served from that batch.  Reads of resources which
+ * were never scheduled go to the data store one at a time as before.
+ */
+public class RelationshipBatcher {
+    private final Map<Relationship, Map<Object, PersistentResource>> pending = new IdentityHashMap<>();
+    private final Map<Relationship, Map<Object, Object>> loaded = new IdentityHashMap<>();
+    private final Map<Type<?>, Map<String, Relationship>> defaultRelationships = new HashMap<>();
+
+    /**
+     * Returns the relationship a type's field is read with when no projection requests it explicitly.  Resources
+     * of the same type share the instance so that their reads can be batched.
+     * @param type The type which owns the relationship.
+     * @param relationName The relationship name.
+     * @param relationship Creates the relationship the first time it is requested.
+     * @return The relationship.
+     */
+    public synchronized Relationship getDefaultRelationship(Type<?> type, String relationName,
+                                                            Supplier<Relationship> relationship) {
+        return defaultRelationships.computeIfAbsent(type, key -> new HashMap<>())
+                .computeIfAbsent(relationName, key -> relationship.get());
+    }
+
+    /**
+     * Schedules a relationship of some resources to be loaded together.
+     * @param resources The resources which own the relationship.
+     * @param relationship The relationship about to be read from each resource.
+     */
+    public synchronized void schedule(Collection<PersistentResource> resources, Relationship relationship) {
+        Pagination pagination = relationship.getProjection().getPagination();
+
+        // Page totals are reported through the shared pagination and must be read right after each load
+        if (resources.size() < 2 || (pagination != null && pagination.returnPageTotals())) {
+            return;
+        }
+
+        Map<Object, PersistentResource> owners = pending.computeIfAbsent(relationship, key -> new IdentityHashMap<>());
+        resources.stream()
+                .filter(resource -> resource.getObject() != null)
+                .forEach(resource -> owners.put(resource.getObject(), resource));
+    }
+
+    /**
+     * Returns the relation of a resource, loading it together with all the other scheduled resources of the
+     * same type if the resource was scheduled.
+     * @param resource The resource which owns the relationship.
+     * @param relationship The relationship being read.
+     * @param loader Loads the relation of a resource which was not scheduled.
+     * @return The relation.
+     */
+    Object load(PersistentResource<?> resource, Relationship relationship, Supplier<Object> loader) {
+        Object object = resource.getObject();
+
+        synchronized (this) {
+            Map<Object, PersistentResource> owners = pending.get(relationship);
+            if (owners != null && owners.containsKey(object)) {
+                loadBatch(resource, relationship, owners);
+            }
+
+            Map<Object, Object> relations = loaded.get(relationship);
+            if (relations != null && relations.containsKey(object)) {
+                Object relation = relations.remove(object);
+                if (relations.isEmpty()) {
+                    loaded.remove(relationship);
+                }
+                return relation;
+            }
+        }
+        return loader.get();
+    }
+
+    private void loadBatch(PersistentResource<?> resource, Relationship relationship,
+                           Map<Object, PersistentResource> owners) {
+        List<Object> batch = new ArrayList<>();
+        owners.entrySet().removeIf(entry -> {
+            if (!entry.getValue().getResourceType().equals(resource.getResourceType())) {
+                return false;
+            }
+            batch.add(entry.getKey());
+            return true;
+        });
+        if (owners.isEmpty()) {
+            pending.remove(relationship);
+        }
+
+        RequestScope scope = resource.getRequestScope();
+        DataStoreTransaction transaction = scope.getTransaction();
+        Map<Object, Object> relations = transaction.getRelations(transaction, batch,
+                resource.withPermissionFilter(relationship), scope);
+
+        loaded.computeIfAbsent(relationship, key -> new IdentityHashMap<>()).putAll(relations);
+    }
+}
@@ -60,6 +60,7 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
     @Getter private final Map<String, Set<String>> sparseFields;
     @Getter private final PermissionExecutor permissionExecutor;
     @Getter private final ObjectEntityCache objectEntityCache;
+    @Getter private final RelationshipBatcher relationshipBatcher;
     @Getter private final Set<PersistentResource> newPersistentResources;
     @Getter private final LinkedHashSet<PersistentResource> dirtyResources;
     @Getter private final LinkedHashSet<PersistentResource> deletedResources;
@@ -128,6 +129,7 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
         this.globalFilterExpression = null;
         this.expressionsByType = new HashMap<>();
         this.objectEntityCache = new ObjectEntityCache();
+        this.relationshipBatcher = new RelationshipBatcher();
         this.newPersistentResources = new LinkedHashSet<>();
         this.dirtyResources = new LinkedHashSet<>();
         this.deletedResources = new LinkedHashSet<>();
@@ -213,6 +215,7 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
         this.requestHeaders = Collections.emptyMap();
         this.sparseFields = Collections.emptyMap();
         this.objectEntityCache = outerRequestScope.objectEntityCache;
+        this.relationshipBatcher = outerRequestScope.relationshipBatcher;
         this.newPersistentResources = outerRequestScope.newPersistentResources;
         this.permissionExecutor = outerRequestScope.getPermissionExecutor();
         this.dirtyResources = outerRequestScope.dirtyResources;
@@ -8,29 +8,81 @@ package com.yahoo.elide.core;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import lombok.Getter;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 /**
 * Transaction Registry class.
+* <p>
+* A request may run more than one transaction at the same time, such as the documents of a GraphQL batch which
+* are executed concurrently.  All of them are tracked so that cancelling the request cancels every one of them.
 */
 @Getter
 public class TransactionRegistry {
-    private Map<UUID, DataStoreTransaction> transactionMap = new HashMap<>();
+    private Map<UUID, DataStoreTransaction> transactionMap = new ConcurrentHashMap<>();
+    private Map<UUID, Set<DataStoreTransaction>> transactionSets = new ConcurrentHashMap<>();
 
     public Map<UUID, DataStoreTransaction> getRunningTransactions() {
         return transactionMap;
     }
 
+    /**
+     * Returns one of the running transactions of a request.
+     * @param requestId The request ID.
+     * @return A running transaction or null if the request runs none.
+     */
     public DataStoreTransaction getRunningTransaction(UUID requestId) {
         return transactionMap.get(requestId);
     }
 
+    /**
+     * Returns all the running transactions of a request.
+     * @param requestId The request ID.
+     * @return The running transactions.
+     */
+    public Set<DataStoreTransaction> getRunningTransactions(UUID requestId) {
+        Set<DataStoreTransaction> running = transactionSets.get(requestId);
+        return running == null ? Collections.emptySet() : Collections.unmodifiableSet(running);
+    }
+
     public void addRunningTransaction(UUID requestId, DataStoreTransaction tx) {
-        transactionMap.put(requestId, tx);
+        transactionSets.compute(requestId, (id, running) -> {
+            Set<DataStoreTransaction> transactions = running == null
+                    ? ConcurrentHashMap.newKeySet()
+                    : running;
+            transactions.add(tx);
+            transactionMap.put(requestId, tx);
+            return transactions;
+        });
+    }
+
+    /**
+     * Removes a single running transaction of a request, leaving its other transactions registered.
+     * @param requestId The request ID.
+     * @param tx The finished transaction.
+     */
+    public void removeRunningTransaction(UUID requestId, DataStoreTransaction tx) {
+        transactionSets.computeIfPresent(requestId, (id, running) -> {
+            running.remove(tx);
+            if (running.isEmpty()) {
+                transactionMap.remove(requestId);
+                return null;
+            }
+            transactionMap.replace(requestId, tx, running.iterator().next());
+            return running;
+        });
     }
 
+    /**
+     * Removes all the running transactions of a request.
+     * @param requestId The request ID.
+     */
     public void removeRunningTransaction(UUID requestId) {
-        transactionMap.remove(requestId);
+        transactionSets.compute(requestId, (id, running) -> {
+            transactionMap.remove(requestId);
+            return null;
+        });
     }
 }
@@ -20,7 +20,10 @@ import com.yahoo.elide.core.type.Type;
 
 import java.io.Closeable;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 /**
@@ -180,6 +183,31 @@ public interface DataStoreTransaction extends Closeable {
         return (R) PersistentResource.getValue(entity, relationship.getName(), scope);
     }
 
+    /**
+     * Retrieve the same relation from many objects at once.  Stores which can load a relationship for several
+     * owners in a single round trip should override this.  The default fetches each relation individually.
+     *
+     * @param relationTx - The datastore that governs objects of the relationhip's type.
+     * @param entities - The objects which own the relationship.
+     * @param relationship - the relationship to fetch.
+     * @param scope - contains request level metadata.
+     * @param <T> - The model type which owns the relationship.
+     * @param <R> - The model type of the relationship.
+     * @return the relation of every owner keyed by owner identity.
+     */
+    default <T, R> Map<T, R> getRelations(
+            DataStoreTransaction relationTx,
+            Collection<T> entities,
+            Relationship relationship,
+            RequestScope scope) {
+
+        Map<T, R> relations = new IdentityHashMap<>();
+        for (T entity : entities) {
+            relations.put(entity, getRelation(relationTx, entity, relationship, scope));
+        }
+        return relations;
+    }
+
     /**
      * Elide core will update the in memory representation of the objects to the requested state.
      * These functions allow a data store to optionally persist the relationship if needed.
@@ -298,6 +326,22 @@ public interface DataStoreTransaction extends Closeable {
         return true;
     }
 
+    /**
+     * Whether or not the transaction can paginate the provided class by cursor.  Transactions which do apply the
+     * seek predicate and keyset order built by {@link com.yahoo.elide.core.pagination.KeysetCursor} to pages
+     * requested by cursor.  Otherwise the cursor is applied in memory.
+     * @param scope The request scope
+     * @param projection The projection being loaded
+     * @param parent Are we filtering a root collection or a relationship
+     * @param <T> - The model type of the parent model (if a relationship is being paginated).
+     * @return true if pagination by cursor is possible
+     */
+    default <T> boolean supportsCursorPagination(RequestScope scope,
+                                                 Optional<T> parent,
+                                                 EntityProjection projection) {
+        return false;
+    }
+
     /**
      * Cancel running transaction.
      * Implementation must be thread-safe.
@@ -14,6 +14,7 @@ import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterPredicatePushdownExtractor;
 import com.yahoo.elide.core.filter.expression.InMemoryExecutionVerifier;
 import com.yahoo.elide.core.filter.expression.InMemoryFilterExecutor;
+import com.yahoo.elide.core.pagination.KeysetCursor;
 import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Pagination;
@@ -25,9 +26,12 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -99,6 +103,47 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         return fetchData(fetcher, Optional.of(entity), relationship.getProjection(), filterInMemory, scope);
     }
 
+    @Override
+    public <T, R> Map<T, R> getRelations(DataStoreTransaction relationTx,
+                                         Collection<T> entities,
+                                         Relationship relationship,
+                                         RequestScope scope) {
+        boolean filterInMemory = scope.getNewPersistentResources().size() > 0;
+
+        /*
+         * Owners whose relation is fetched without any store side filtering, sorting or pagination are loaded
+         * together.  The rest need a store query of their own.
+         */
+        Map<T, FetchPlan> batchPlans = new IdentityHashMap<>();
+        Map<T, R> relations = new IdentityHashMap<>();
+        Optional<Pagination> batchPagination = Optional.empty();
+        for (T entity : entities) {
+            FetchPlan plan = new FetchPlan(Optional.of(entity), relationship.getProjection(), filterInMemory, scope);
+            if (plan.isUnrestricted()) {
+                batchPlans.put(entity, plan);
+                batchPagination = batchPagination.isPresent() ? batchPagination : plan.dataStorePagination;
+            } else {
+                relations.put(entity, (R) getRelation(relationTx, entity, relationship, scope));
+            }
+        }
+
+        if (batchPlans.isEmpty()) {
+            return relations;
+        }
+
+        Relationship unrestricted = relationship.copyOf()
+                .projection(relationship.getProjection().copyOf()
+                        .filterExpression(null)
+                        .sorting(null)
+                        .pagination(batchPagination.orElse(null))
+                        .build()
+                ).build();
+
+        Map<T, Object> loaded = tx.getRelations(relationTx, batchPlans.keySet(), unrestricted, scope);
+        batchPlans.forEach((entity, plan) -> relations.put(entity, (R) plan.complete(loaded.get(entity), scope)));
+        return relations;
+    }
+
     @Override
     public Object loadObject(EntityProjection projection,
                       Serializable id,
@@ -214,47 +259,93 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
                                boolean filterInMemory,
                                RequestScope scope) {
 
-        Optional<FilterExpression> filterExpression = Optional.ofNullable(projection.getFilterExpression());
+        FetchPlan plan = new FetchPlan(parent, projection, filterInMemory, scope);
 
-        Pair<Optional<FilterExpression>, Optional<FilterExpression>> expressionSplit = splitFilterExpression(
-                scope, parent, projection, filterInMemory);
+        Object result = fetcher.fetch(plan.dataStoreFilter, plan.dataStoreSort, plan.dataStorePagination, scope);
 
-        Optional<FilterExpression> dataStoreFilter = expressionSplit.getLeft();
-        Optional<FilterExpression> inMemoryFilter = expressionSplit.getRight();
+        return plan.complete(result, scope);
+    }
 
-        Pair<Optional<Sorting>, Optional<Sorting>> sortSplit = splitSorting(scope, parent,
-                projection, inMemoryFilter.isPresent());
+    /**
+     * Splits a projection into the work pushed to the data store and the work performed in memory.
+     */
+    private class FetchPlan {
+        private final EntityProjection projection;
+        private final Optional<FilterExpression> filterExpression;
+        private final Optional<FilterExpression> dataStoreFilter;
+        private final Optional<FilterExpression> inMemoryFilter;
+        private final Optional<Sorting> dataStoreSort;
+        private final Optional<Sorting> inMemorySort;
+        private final Optional<Pagination> dataStorePagination;
+        private final Optional<Pagination> inMemoryPagination;
 
-        Optional<Sorting> dataStoreSort = sortSplit.getLeft();
-        Optional<Sorting> inMemorySort = sortSplit.getRight();
+        private FetchPlan(Optional<Object> parent,
+                          EntityProjection projection,
+                          boolean filterInMemory,
+                          RequestScope scope) {
 
-        Pair<Optional<Pagination>, Optional<Pagination>> paginationSplit = splitPagination(scope, parent,
-                 projection, inMemoryFilter.isPresent(), inMemorySort.isPresent());
+            this.projection = projection;
+            filterExpression = Optional.ofNullable(projection.getFilterExpression());
 
-        Optional<Pagination> dataStorePagination = paginationSplit.getLeft();
-        Optional<Pagination> inMemoryPagination = paginationSplit.getRight();
+            Pair<Optional<FilterExpression>, Optional<FilterExpression>> expressionSplit = splitFilterExpression(
+                    scope, parent, projection, filterInMemory);
 
-        Object result = fetcher.fetch(dataStoreFilter, dataStoreSort, dataStorePagination, scope);
+            dataStoreFilter = expressionSplit.getLeft();
+            inMemoryFilter = expressionSplit.getRight();
 
-        if (! (result instanceof Iterable)) {
-            return result;
-        }
+            Pair<Optional<Sorting>, Optional<Sorting>> sortSplit = splitSorting(scope, parent,
+                    projection, inMemoryFilter.isPresent());
+
+            dataStoreSort = sortSplit.getLeft();
+            inMemorySort = sortSplit.getRight();
 
-        Iterable<Object> loadedRecords = (Iterable<Object>) result;
+            Pair<Optional<Pagination>, Optional<Pagination>> paginationSplit = splitPagination(scope, parent,
+                    projection, inMemoryFilter.isPresent(), inMemorySort.isPresent());
 
-        if (inMemoryFilter.isPresent()) {
-            loadedRecords = filterLoadedData(loadedRecords, filterExpression, scope);
+            dataStorePagination = paginationSplit.getLeft();
+            inMemoryPagination = paginationSplit.getRight();
+        }
+
+        /**
+         * @return true if the data store is only asked for the unfiltered, unsorted (default paginated) data.
+         */
+        private boolean isUnrestricted() {
+            return !dataStoreFilter.isPresent()
+                    && !dataStoreSort.isPresent()
+                    && dataStorePagination.map(Pagination::isDefaultInstance).orElse(true);
         }
 
+        private Object complete(Object result, RequestScope scope) {
+            if (! (result instanceof Iterable)) {
+                return result;
+            }
+
+            Iterable<Object> loadedRecords = (Iterable<Object>) result;
+
+            if (inMemoryFilter.isPresent()) {
+                loadedRecords = filterLoadedData(loadedRecords, filterExpression, scope);
+            }
+
+            if (inMemoryPagination.filter(Pagination::isCursorPagination).isPresent()) {
+                return paginateByCursorInMemory(loadedRecords, projection, inMemoryPagination.get(), scope);
+            }
 
-        return sortAndPaginateLoadedData(
+            // Stores return the page before a cursor nearest first
+            if (dataStorePagination.filter(pagination -> pagination.getBefore() != null).isPresent()) {
+                List<Object> results = StreamSupport.stream(loadedRecords.spliterator(), false)
+                        .collect(Collectors.toList());
+                Collections.reverse(results);
+                return results;
+            }
+
+            return sortAndPaginateLoadedData(
                     loadedRecords,
                     inMemorySort,
                     inMemoryPagination,
                     scope);
+        }
     }
 
-
     private Iterable<Object> sortAndPaginateLoadedData(Iterable<Object> loadedRecords,
                                                          Optional<Sorting> sorting,
                                                          Optional<Pagination> pagination,
@@ -287,6 +378,34 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         return results;
     }
 
+    /**
+     * Pages records by cursor: seeks past the cursor in keyset order and keeps the records nearest to it.
+     */
+    private Iterable<Object> paginateByCursorInMemory(Iterable<Object> loadedRecords,
+                                                      EntityProjection projection,
+                                                      Pagination pagination,
+                                                      RequestScope scope) {
+        KeysetCursor cursor = new KeysetCursor(projection.getType(), projection.getSorting(), scope.getDictionary());
+
+        List<Object> results = StreamSupport.stream(loadedRecords.spliterator(), false).collect(Collectors.toList());
+        if (pagination.returnPageTotals()) {
+            pagination.setPageTotals((long) results.size());
+        }
+
+        FilterExpression seek = cursor.getSeekExpression(pagination);
+        if (seek != null) {
+            Predicate predicate = seek.accept(new InMemoryFilterExecutor(scope));
+            results = results.stream().filter(predicate::test).collect(Collectors.toList());
+        }
+        results = sortInMemory(results, cursor.getSorting(pagination).getSortingPaths(), scope);
+
+        List<Object> page = new ArrayList<>(results.subList(0, Math.min(pagination.getLimit(), results.size())));
+        if (pagination.getBefore() != null) {
+            Collections.reverse(page);
+        }
+        return page;
+    }
+
     private List<Object> paginateInMemory(List<Object> records, Pagination pagination) {
         int offset = pagination.getOffset();
         int limit = pagination.getLimit();
@@ -436,8 +555,11 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
     ) {
 
         Optional<Pagination> pagination = Optional.ofNullable(projection.getPagination());
+        boolean cursorInMemory = pagination.isPresent() && pagination.get().isCursorPagination()
+                && !tx.supportsCursorPagination(scope, parent, projection);
 
         if (!tx.supportsPagination(scope, parent, projection)
+                || cursorInMemory
                 || filteredInMemory
                 || sortedInMemory) {
             return Pair.of(Optional.empty(), pagination);
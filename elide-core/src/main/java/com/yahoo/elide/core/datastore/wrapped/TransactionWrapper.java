@@ -16,6 +16,8 @@ import lombok.Data;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -44,6 +46,12 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         return tx.getRelation(relationTx, entity, relationship, scope);
     }
 
+    @Override
+    public <T, R> Map<T, R> getRelations(DataStoreTransaction relationTx, Collection<T> entities,
+                                         Relationship relationship, RequestScope scope) {
+        return tx.getRelations(relationTx, entities, relationship, scope);
+    }
+
     @Override
     public <T, R> void updateToManyRelation(DataStoreTransaction relationTx, T entity, String relationName,
                                      Set<R> newRelationships, Set<R> deletedRelationships,
@@ -83,6 +91,12 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         return tx.supportsPagination(scope, parent, projection);
     }
 
+    @Override
+    public <T> boolean supportsCursorPagination(RequestScope scope, Optional<T> parent,
+                                                EntityProjection projection) {
+        return tx.supportsCursorPagination(scope, parent, projection);
+    }
+
     @Override
     public <T> void save(T o, RequestScope requestScope) {
         tx.save(o, requestScope);
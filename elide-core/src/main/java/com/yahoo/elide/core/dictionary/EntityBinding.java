@@ -83,6 +83,8 @@ public class EntityBinding {
     private String idFieldName;
     @Getter
     private Type<?> idType;
+    @Getter(lazy = true)
+    private final Optional<MemberAccessor> idAccessor = MemberAccessor.getter(idField, false);
     @Getter
     private AccessType accessType;
 
@@ -114,6 +116,8 @@ public class EntityBinding {
     public final ConcurrentHashMap<Method, Boolean> requestScopeableMethods = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<AccessibleObject, Set<ArgumentType>> attributeArguments = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, ArgumentType> entityArguments = new ConcurrentHashMap<>();
+    public final ConcurrentHashMap<String, Optional<MemberAccessor>> fieldGetters = new ConcurrentHashMap<>();
+    public final ConcurrentHashMap<String, Optional<MemberAccessor>> fieldSetters = new ConcurrentHashMap<>();
 
     public final ConcurrentHashMap<Object, Annotation> annotations = new ConcurrentHashMap<>();
 
@@ -42,6 +42,7 @@ import com.yahoo.elide.core.security.checks.UserCheck;
 import com.yahoo.elide.core.security.checks.prefab.Collections.AppendOnly;
 import com.yahoo.elide.core.security.checks.prefab.Collections.RemoveOnly;
 import com.yahoo.elide.core.security.checks.prefab.Role;
+import com.yahoo.elide.core.security.permissions.CompiledPermission;
 import com.yahoo.elide.core.type.AccessibleObject;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.type.Dynamic;
@@ -414,6 +415,36 @@ public class EntityDictionary {
         return binding.entityPermissions.getFieldChecksForPermission(field, annotationClass);
     }
 
+    /**
+     * Gets the compiled permission (if any) at the class level.
+     *
+     * @param resourceClass the entity to check
+     * @param annotationClass the permission to look for
+     * @return the compiled permission, if one exists
+     *         or {@code null} if the permission is not specified at a class level
+     */
+    public CompiledPermission getCompiledPermissionForClass(Type<?> resourceClass,
+                                                            Class<? extends Annotation> annotationClass) {
+        EntityBinding binding = getEntityBinding(resourceClass);
+        return binding.entityPermissions.getCompiledClassPermission(annotationClass);
+    }
+
+    /**
+     * Gets the compiled permission (if any) for a field.
+     *
+     * @param resourceClass the entity to check
+     * @param field the field to inspect
+     * @param annotationClass the permission to look for
+     * @return the compiled permission, if one exists
+     *         or {@code null} if the permission is not specified on that field
+     */
+    public CompiledPermission getCompiledPermissionForField(Type<?> resourceClass,
+                                                            String field,
+                                                            Class<? extends Annotation> annotationClass) {
+        EntityBinding binding = getEntityBinding(resourceClass);
+        return binding.entityPermissions.getCompiledFieldPermission(field, annotationClass);
+    }
+
     /**
      * Returns the check mapped to a particular identifier.
      *
@@ -1180,12 +1211,14 @@ public class EntityDictionary {
         }
         try {
             AccessibleObject idField = null;
+            EntityBinding idBinding = null;
 
             Type<?> valueClass = getType(value);
 
             for (; idField == null && valueClass != null; valueClass = valueClass.getSuperclass()) {
                 try {
-                    idField = getEntityBinding(valueClass).getIdField();
+                    idBinding = getEntityBinding(valueClass);
+                    idField = idBinding.getIdField();
                 } catch (NullPointerException e) {
                     log.warn("Class: {} ID Field: {}", valueClass.getSimpleName(), idField);
                 }
@@ -1193,7 +1226,17 @@ public class EntityDictionary {
 
             Type<?> idClass;
             Object idValue;
-            if (idField instanceof Field) {
+            Optional<MemberAccessor> idAccessor = (idField == null) ? Optional.empty() : idBinding.getIdAccessor();
+            if (idAccessor.isPresent()) {
+                try {
+                    idValue = idAccessor.get().get(value, null);
+                } catch (Throwable e) {
+                    return null;
+                }
+                idClass = (idField instanceof Field)
+                        ? ((Field) idField).getType()
+                        : ((Method) idField).getReturnType();
+            } else if (idField instanceof Field) {
                 idValue = ((Field) idField).get(value);
                 idClass = ((Field) idField).getType();
             } else if (idField instanceof Method) {
@@ -1601,7 +1644,26 @@ public class EntityDictionary {
      * @return the value
      */
     public Object getValue(Object target, String fieldName, RequestScope scope) {
-        AccessibleObject accessor = getAccessibleObject(target, fieldName);
+        EntityBinding binding = getEntityBinding(getType(target));
+        Optional<MemberAccessor> getter = binding.fieldGetters.get(fieldName);
+        if (getter == null) {
+            AccessibleObject accessor = binding.fieldsToValues.get(fieldName);
+            if (accessor == null) {
+                throw new InvalidAttributeException(fieldName, getJsonAliasFor(getType(target)));
+            }
+            getter = binding.fieldGetters.computeIfAbsent(fieldName, key ->
+                    MemberAccessor.getter(accessor, accessor instanceof Method
+                            && binding.requestScopeableMethods.getOrDefault(accessor, false)));
+        }
+        if (getter.isPresent()) {
+            try {
+                return getter.get().get(target, scope);
+            } catch (Throwable e) {
+                throw handleAccessorException(e);
+            }
+        }
+
+        AccessibleObject accessor = binding.fieldsToValues.get(fieldName);
         try {
             if (accessor instanceof Method) {
                 // Pass RequestScope into @Computed fields if requested
@@ -1638,6 +1700,33 @@ public class EntityDictionary {
      */
     public void setValue(Object target, String fieldName, Object value) {
         Type<?> targetClass = getType(target);
+        EntityBinding binding = getEntityBinding(targetClass);
+
+        // Unbound classes share the empty binding so their accessors cannot be cached
+        if (binding != EntityBinding.EMPTY_BINDING) {
+            Optional<MemberAccessor> setter = binding.fieldSetters.get(fieldName);
+            if (setter == null) {
+                setter = binding.fieldSetters.computeIfAbsent(fieldName, key -> findSetter(targetClass, fieldName));
+            }
+            if (setter.isPresent()) {
+                MemberAccessor accessor = setter.get();
+                Object coerced = value;
+                if (!accessor.isAssignable(value)) {
+                    String realName = getNameFromAlias(targetClass, fieldName);
+                    String fieldAlias = (realName != null) ? realName : fieldName;
+                    coerced = coerce(target, value, fieldAlias, accessor.getValueType());
+                }
+                if (accessor.canSet(coerced)) {
+                    try {
+                        accessor.set(target, coerced);
+                    } catch (Throwable e) {
+                        throw handleAccessorException(e);
+                    }
+                    return;
+                }
+            }
+        }
+
         String targetType = getJsonAliasFor(targetClass);
 
         String fieldAlias = fieldName;
@@ -1667,6 +1756,31 @@ public class EntityDictionary {
         }
     }
 
+    /**
+     * Resolves the method handle which writes a field the same way {@link #setValue} does with reflection: through
+     * its setter method if it has one and otherwise through the field itself.
+     *
+     * @param targetClass The class which owns the field.
+     * @param fieldName The field name.
+     * @return The setter or empty if the field must be written with reflection.
+     */
+    private Optional<MemberAccessor> findSetter(Type<?> targetClass, String fieldName) {
+        Type<?> fieldClass = getType(targetClass, fieldName);
+        String realName = getNameFromAlias(targetClass, fieldName);
+        String fieldAlias = (realName != null) ? realName : fieldName;
+        try {
+            Method method = EntityDictionary.findMethod(targetClass, "set" + StringUtils.capitalize(fieldAlias),
+                    fieldClass);
+            return MemberAccessor.setter(method, fieldClass);
+        } catch (IllegalArgumentException | NoSuchMethodException noMethod) {
+            AccessibleObject accessor = getAccessibleObject(targetClass, fieldAlias);
+            if (accessor instanceof Field) {
+                return MemberAccessor.setter(accessor, ((Field) accessor).getType());
+            }
+            return Optional.empty();
+        }
+    }
+
     /**
      * Handle an invocation target exception.
      *
@@ -1682,6 +1796,20 @@ public class EntityDictionary {
         return new InternalServerErrorException("Unexpected exception caught", e);
     }
 
+    /**
+     * Handle an exception thrown by a method handle accessor.
+     *
+     * @param e Exception the exception thrown while reading or writing an object's field
+     * @return Equivalent runtime exception
+     */
+    private static RuntimeException handleAccessorException(Throwable e) {
+        if (e instanceof HttpStatusException || e instanceof WebApplicationException) {
+            return (RuntimeException) e;
+        }
+        log.error("Caught an unexpected exception (rethrowing as internal server error)", e);
+        return new InternalServerErrorException("Unexpected exception caught", e);
+    }
+
     /**
      * Coerce provided value into expected class type.
      *
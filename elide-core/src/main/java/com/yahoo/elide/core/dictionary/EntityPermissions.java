@@ -11,6 +11,8 @@ import com.yahoo.elide.annotation.NonTransferable;
 import com.yahoo.elide.annotation.ReadPermission;
 import com.yahoo.elide.annotation.UpdatePermission;
 import com.yahoo.elide.core.security.CheckInstantiator;
+import com.yahoo.elide.core.security.permissions.CompiledPermission;
+import com.yahoo.elide.core.security.visitors.PermissionExpressionCompiler;
 import com.yahoo.elide.core.type.AccessibleObject;
 import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.generated.parsers.ExpressionLexer;
@@ -49,16 +51,24 @@ public class EntityPermissions implements CheckInstantiator {
 
     public static final EntityPermissions EMPTY_PERMISSIONS = new EntityPermissions();
 
-    private static final AnnotationBinding EMPTY_BINDING = new AnnotationBinding(null, Collections.emptyMap());
+    private static final AnnotationBinding EMPTY_BINDING = new AnnotationBinding(null, Collections.emptyMap(), null);
     private final HashMap<Class<? extends Annotation>, AnnotationBinding> bindings = new HashMap<>();
 
     private static class AnnotationBinding {
         final ParseTree classPermission;
         final Map<String, ParseTree> fieldPermissions;
+        final CompiledPermission compiledClassPermission;
+        final Map<String, CompiledPermission> compiledFieldPermissions;
 
-        public AnnotationBinding(ParseTree classPermission, Map<String, ParseTree> fieldPermissions) {
+        public AnnotationBinding(ParseTree classPermission, Map<String, ParseTree> fieldPermissions,
+                                 PermissionExpressionCompiler compiler) {
             this.classPermission = classPermission;
             this.fieldPermissions = fieldPermissions.isEmpty() ? Collections.emptyMap() : fieldPermissions;
+            this.compiledClassPermission = (classPermission == null) ? null : compiler.visit(classPermission);
+
+            Map<String, CompiledPermission> compiled = new HashMap<>();
+            this.fieldPermissions.forEach((field, permission) -> compiled.put(field, compiler.visit(permission)));
+            this.compiledFieldPermissions = compiled.isEmpty() ? Collections.emptyMap() : compiled;
         }
     }
 
@@ -75,6 +85,7 @@ public class EntityPermissions implements CheckInstantiator {
     public EntityPermissions(EntityDictionary dictionary,
                              Type<?> cls,
                              Collection<AccessibleObject> fieldOrMethodList)  {
+        PermissionExpressionCompiler compiler = new PermissionExpressionCompiler();
         for (Class<? extends Annotation> annotationClass : PERMISSION_ANNOTATIONS) {
             final Map<String, ParseTree> fieldPermissions = new HashMap<>();
             fieldOrMethodList.stream()
@@ -82,7 +93,8 @@ public class EntityPermissions implements CheckInstantiator {
             if (annotationClass != NonTransferable.class) {
                 ParseTree classPermission = bindClassPermissions(cls, annotationClass);
                 if (classPermission != null || !fieldPermissions.isEmpty()) {
-                    bindings.put(annotationClass, new AnnotationBinding(classPermission, fieldPermissions));
+                    bindings.put(annotationClass, new AnnotationBinding(classPermission, fieldPermissions,
+                            compiler));
                 }
             }
         }
@@ -164,4 +176,23 @@ public class EntityPermissions implements CheckInstantiator {
     public ParseTree getFieldChecksForPermission(String field, Class<? extends Annotation> annotationClass) {
         return bindings.getOrDefault(annotationClass, EMPTY_BINDING).fieldPermissions.get(field);
     }
+
+    /**
+     * Get the compiled entity permission.
+     * @param annotationClass permission class
+     * @return compiled entity permission or null if none
+     */
+    public CompiledPermission getCompiledClassPermission(Class<? extends Annotation> annotationClass) {
+        return bindings.getOrDefault(annotationClass, EMPTY_BINDING).compiledClassPermission;
+    }
+
+    /**
+     * Get the compiled field permission for provided name.
+     * @param field provided field name
+     * @param annotationClass permission class
+     * @return compiled field permission or null if none
+     */
+    public CompiledPermission getCompiledFieldPermission(String field, Class<? extends Annotation> annotationClass) {
+        return bindings.getOrDefault(annotationClass, EMPTY_BINDING).compiledFieldPermissions.get(field);
+    }
 }
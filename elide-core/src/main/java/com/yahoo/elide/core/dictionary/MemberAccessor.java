@@ -0,0 +1,162 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.dictionary;
+
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.type.AccessibleObject;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.core.type.FieldType;
+import com.yahoo.elide.core.type.Type;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads or writes an entity field through a method handle which is resolved once per entity binding.
+ * <p>
+ * Method handles are only created for fields and methods of compiled classes.  The members of dynamic types, and
+ * members the handle lookup cannot access, keep using reflection.
+ */
+public final class MemberAccessor {
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SCOPED_GETTER = MethodType.methodType(Object.class, Object.class,
+            com.yahoo.elide.core.security.RequestScope.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandle handle;
+    private final boolean requestScopeable;
+    private final Type<?> valueType;
+    private final Class<?> valueClass;
+
+    private MemberAccessor(MethodHandle handle, boolean requestScopeable, Type<?> valueType) {
+        this.handle = handle;
+        this.requestScopeable = requestScopeable;
+        this.valueType = valueType;
+        this.valueClass = (valueType == null) ? null : ((ClassType<?>) valueType).getCls();
+    }
+
+    /**
+     * Creates an accessor which reads a field.
+     * @param accessor The field or getter method.
+     * @param requestScopeable Whether the getter method accepts the request scope.
+     * @return The accessor or empty if the field must be read with reflection.
+     */
+    static Optional<MemberAccessor> getter(AccessibleObject accessor, boolean requestScopeable) {
+        if (accessor == null || Modifier.isStatic(accessor.getModifiers())) {
+            return Optional.empty();
+        }
+
+        try {
+            if (accessor instanceof FieldType) {
+                MethodHandle handle = ((FieldType) accessor).unreflectGetter().asType(GETTER);
+                return Optional.of(new MemberAccessor(handle, false, null));
+            }
+            if (accessor instanceof com.yahoo.elide.core.type.MethodType) {
+                com.yahoo.elide.core.type.MethodType method = (com.yahoo.elide.core.type.MethodType) accessor;
+                if (method.getParameterCount() != (requestScopeable ? 1 : 0)) {
+                    return Optional.empty();
+                }
+                MethodHandle handle = method.unreflect().asType(requestScopeable ? SCOPED_GETTER : GETTER);
+                return Optional.of(new MemberAccessor(handle, requestScopeable, null));
+            }
+        } catch (IllegalAccessException | UnsupportedOperationException | ClassCastException
+                | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Creates an accessor which writes a field.
+     * @param accessor The field or setter method.
+     * @param valueType The type of the field.
+     * @return The accessor or empty if the field must be written with reflection.
+     */
+    static Optional<MemberAccessor> setter(AccessibleObject accessor, Type<?> valueType) {
+        if (accessor == null || !(valueType instanceof ClassType) || Modifier.isStatic(accessor.getModifiers())) {
+            return Optional.empty();
+        }
+
+        try {
+            if (accessor instanceof FieldType) {
+                MethodHandle handle = ((FieldType) accessor).unreflectSetter().asType(SETTER);
+                return Optional.of(new MemberAccessor(handle, false, valueType));
+            }
+            if (accessor instanceof com.yahoo.elide.core.type.MethodType) {
+                MethodHandle handle = ((com.yahoo.elide.core.type.MethodType) accessor).unreflect();
+                if (handle.type().parameterCount() != 2) {
+                    return Optional.empty();
+                }
+                return Optional.of(new MemberAccessor(handle.asType(SETTER), false, valueType));
+            }
+        } catch (IllegalAccessException | UnsupportedOperationException | ClassCastException
+                | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the field.
+     * @param target The entity.
+     * @param scope The request scope passed to request scopeable getters.
+     * @return The value.
+     * @throws Throwable Whatever the getter throws.
+     */
+    Object get(Object target, RequestScope scope) throws Throwable {
+        if (requestScopeable) {
+            return handle.invokeExact(target, (com.yahoo.elide.core.security.RequestScope) scope);
+        }
+        return handle.invokeExact(target);
+    }
+
+    /**
+     * Writes the field.
+     * @param target The entity.
+     * @param value The value, already coerced to the type of the field.
+     * @throws Throwable Whatever the setter throws.
+     */
+    void set(Object target, Object value) throws Throwable {
+        handle.invokeExact(target, value);
+    }
+
+    /**
+     * @return The type of the field a setter writes.
+     */
+    Type<?> getValueType() {
+        return valueType;
+    }
+
+    /**
+     * Whether a value can be written as is, without being coerced to the type of the field first.
+     * @param value The value.
+     * @return true if the value is already an instance of the type of the field.
+     */
+    boolean isAssignable(Object value) {
+        return value != null
+                && canSet(value)
+                && !(value instanceof Collection)
+                && !(value instanceof Map);
+    }
+
+    /**
+     * Whether the accessor can write a value.  Values it cannot write are left to reflection, which reports
+     * them the way it always has.
+     * @param value The coerced value.
+     * @return true if the value matches the type of the field.
+     */
+    boolean canSet(Object value) {
+        if (value == null) {
+            return !valueClass.isPrimitive();
+        }
+        return ClassUtils.primitiveToWrapper(valueClass).isInstance(value);
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.pagination;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.request.Pagination;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.coerce.CoerceUtil;
+import com.yahoo.elide.core.utils.coerce.converters.Serde;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes and decodes the opaque cursors used for keyset pagination.
+ * <p>
+ * The keys of a collection are its sort rules followed by its id, which breaks ties between records with equal
+ * sort values.  A cursor holds the key values of one record, serialized as a JSON array and Base64 (URL safe)
+ * encoded.  Seeking past a cursor is expressed as a filter expression so data stores can push it down as a seek
+ * predicate: {@code k1 > v1 OR (k1 = v1 AND k2 > v2) OR ...}.
+ * <p>
+ * Only sort rules over attributes of the collection itself can be paged by cursor.  Data stores order null
+ * values differently, so the seek predicate does not try to place them: records with a null sort value never
+ * match it and are left out of pages that follow (or precede) a cursor.  Such records have no cursor of their
+ * own, and cursors holding a null value are rejected.
+ */
+public class KeysetCursor {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    private static final TypeReference<List<Object>> VALUES_TYPE = new TypeReference<List<Object>>() { };
+
+    private final Type<?> type;
+    private final EntityDictionary dictionary;
+    private final Map<Path, Sorting.SortOrder> keys = new LinkedHashMap<>();
+
+    /**
+     * Constructor.
+     * @param type The type of the collection being paged.
+     * @param sorting The requested sorting or null if none was requested.
+     * @param dictionary The entity dictionary.
+     * @throws InvalidValueException if the collection is sorted over a relationship.
+     */
+    public KeysetCursor(Type<?> type, Sorting sorting, EntityDictionary dictionary) {
+        if (!supports(sorting)) {
+            throw new InvalidValueException("Pagination cursors require sorting over attributes of "
+                    + dictionary.getJsonAliasFor(type));
+        }
+
+        this.type = type;
+        this.dictionary = dictionary;
+
+        String idFieldName = dictionary.getIdFieldName(type);
+        if (sorting != null) {
+            keys.putAll(sorting.getSortingPaths());
+        }
+        if (idFieldName != null
+                && keys.keySet().stream().noneMatch(path -> getFieldName(path).equals(idFieldName))) {
+            keys.put(new Path(type, dictionary, idFieldName), Sorting.SortOrder.asc);
+        }
+    }
+
+    /**
+     * Whether a collection with the given sorting can be paged by cursor.
+     * @param sorting The requested sorting or null if none was requested.
+     * @return true if every sort rule is over an attribute of the collection.
+     */
+    public static boolean supports(Sorting sorting) {
+        return sorting == null || sorting.getSortingPaths().keySet().stream()
+                .allMatch(path -> path.getPathElements().size() == 1);
+    }
+
+    /**
+     * Encodes the cursor of a record.
+     * @param resource The record.
+     * @return The opaque cursor or null if the record has a null sort value.
+     */
+    public String encode(PersistentResource<?> resource) {
+        RequestScope scope = resource.getRequestScope();
+        List<Object> values = new ArrayList<>();
+        for (Path path : keys.keySet()) {
+            String fieldName = getFieldName(path);
+            Object value = PersistentResource.getValue(resource.getObject(), fieldName, scope);
+            if (value == null) {
+                return null;
+            }
+            values.add(serialize(value, dictionary.getType(type, fieldName)));
+        }
+
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(values));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Decodes the key values held by a cursor.
+     * @param cursor The opaque cursor.
+     * @return The key values coerced to the types of the keys.
+     * @throws InvalidValueException if the cursor was not issued for this collection and sorting or it holds
+     * a null sort value.
+     */
+    public List<Object> decode(String cursor) {
+        List<Object> values;
+        try {
+            values = MAPPER.readValue(Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.UTF_8)),
+                    VALUES_TYPE);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidValueException("Invalid pagination cursor: " + cursor);
+        }
+
+        if (values == null || values.size() != keys.size()) {
+            throw new InvalidValueException("Invalid pagination cursor: " + cursor);
+        }
+
+        List<Object> coerced = new ArrayList<>();
+        int idx = 0;
+        for (Path path : keys.keySet()) {
+            Type<?> fieldType = dictionary.getType(type, getFieldName(path));
+            Object value = values.get(idx++);
+            if (value == null) {
+                throw new InvalidValueException("Pagination cursors cannot seek past a null "
+                        + getFieldName(path) + ": " + cursor);
+            }
+            coerced.add(fieldType instanceof ClassType ? CoerceUtil.coerce(value, fieldType) : value);
+        }
+        return coerced;
+    }
+
+    /**
+     * Returns the order the records of a page are read in.
+     * @param forward false to read the records that precede a cursor, nearest first.
+     * @return The sort rules followed by the id.
+     */
+    public Sorting getSorting(boolean forward) {
+        Map<Path, Sorting.SortOrder> sortingPaths = new LinkedHashMap<>();
+        keys.forEach((path, order) -> sortingPaths.put(path, forward ? order : reverse(order)));
+        return new KeysetSorting(type, sortingPaths);
+    }
+
+    /**
+     * Returns the order the records of a page are read in.
+     * @param pagination The requested pagination.
+     * @return The sort rules followed by the id.
+     */
+    public Sorting getSorting(Pagination pagination) {
+        return getSorting(pagination.getBefore() == null);
+    }
+
+    /**
+     * Builds the seek predicate for the cursor of a page.
+     * @param pagination The requested pagination.
+     * @return The filter expression matching the records which follow the after cursor (or precede the before
+     * cursor), or null if the cursor is empty and the page starts at the first (or last) record.
+     */
+    public FilterExpression getSeekExpression(Pagination pagination) {
+        boolean forward = pagination.getBefore() == null;
+        String encoded = forward ? pagination.getAfter() : pagination.getBefore();
+        if (encoded.isEmpty()) {
+            return null;
+        }
+        List<Object> values = decode(encoded);
+
+        List<Path> paths = new ArrayList<>(keys.keySet());
+        FilterExpression seek = null;
+        for (int idx = paths.size() - 1; idx >= 0; idx--) {
+            Path path = paths.get(idx);
+            boolean ascending = (keys.get(path) == Sorting.SortOrder.asc) == forward;
+            FilterExpression beyond = new FilterPredicate(path, ascending ? Operator.GT : Operator.LT,
+                    Collections.singletonList(values.get(idx)));
+
+            // k(i) beyond v(i) OR (k(i) = v(i) AND <seek over the remaining keys>)
+            seek = seek == null
+                    ? beyond
+                    : new OrFilterExpression(beyond, new AndFilterExpression(
+                            new FilterPredicate(path, Operator.IN, Collections.singletonList(values.get(idx))),
+                            seek));
+        }
+        return seek;
+    }
+
+    private static Object serialize(Object value, Type<?> fieldType) {
+        if (value == null || value instanceof Number || value instanceof Boolean || value instanceof String) {
+            return value;
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+
+        // Look the serde up by the declared type as stores may return subclasses (such as java.sql.Timestamp)
+        Serde serde = fieldType instanceof ClassType ? CoerceUtil.lookup(((ClassType<?>) fieldType).getCls()) : null;
+        if (serde == null) {
+            serde = CoerceUtil.lookup(value.getClass());
+        }
+        return serde == null ? value.toString() : serde.serialize(value);
+    }
+
+    private static String getFieldName(Path path) {
+        return path.lastElement().get().getFieldName();
+    }
+
+    private static Sorting.SortOrder reverse(Sorting.SortOrder order) {
+        return order == Sorting.SortOrder.asc ? Sorting.SortOrder.desc : Sorting.SortOrder.asc;
+    }
+
+    /**
+     * The keyset order of a collection.
+     */
+    private static class KeysetSorting implements Sorting {
+        private final Type<?> type;
+        private final Map<Path, SortOrder> sortingPaths;
+
+        KeysetSorting(Type<?> type, Map<Path, SortOrder> sortingPaths) {
+            this.type = type;
+            this.sortingPaths = sortingPaths;
+        }
+
+        @Override
+        public Map<Path, SortOrder> getSortingPaths() {
+            return sortingPaths;
+        }
+
+        @Override
+        public Type<?> getType() {
+            return type;
+        }
+
+        @Override
+        public boolean isDefaultInstance() {
+            return false;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import com.yahoo.elide.core.type.Type;
 
 import com.google.common.collect.ImmutableMap;
 
+import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -34,7 +35,7 @@ public class PaginationImpl implements Pagination {
     /**
      * Denotes the internal field names for paging.
      */
-    public enum PaginationKey { offset, number, size, limit, totals }
+    public enum PaginationKey { offset, number, size, limit, totals, after, before }
 
     // For specifying which page of records is to be returned in the response
     public static final String PAGE_NUMBER_KEY = "page[number]";
@@ -51,12 +52,21 @@ public class PaginationImpl implements Pagination {
     // For requesting total pages/records be included in the response page meta data
     public static final String PAGE_TOTALS_KEY = "page[totals]";
 
-    public static final Map<String, PaginationKey> PAGE_KEYS = ImmutableMap.of(
-            PAGE_NUMBER_KEY, PaginationKey.number,
-            PAGE_SIZE_KEY, PaginationKey.size,
-            PAGE_OFFSET_KEY, PaginationKey.offset,
-            PAGE_LIMIT_KEY, PaginationKey.limit,
-            PAGE_TOTALS_KEY, PaginationKey.totals);
+    // For requesting the records which follow a cursor
+    public static final String PAGE_AFTER_KEY = "page[after]";
+
+    // For requesting the records which precede a cursor
+    public static final String PAGE_BEFORE_KEY = "page[before]";
+
+    public static final Map<String, PaginationKey> PAGE_KEYS = ImmutableMap.<String, PaginationKey>builder()
+            .put(PAGE_NUMBER_KEY, PaginationKey.number)
+            .put(PAGE_SIZE_KEY, PaginationKey.size)
+            .put(PAGE_OFFSET_KEY, PaginationKey.offset)
+            .put(PAGE_LIMIT_KEY, PaginationKey.limit)
+            .put(PAGE_TOTALS_KEY, PaginationKey.totals)
+            .put(PAGE_AFTER_KEY, PaginationKey.after)
+            .put(PAGE_BEFORE_KEY, PaginationKey.before)
+            .build();
 
     @Getter
     @Setter
@@ -72,6 +82,12 @@ public class PaginationImpl implements Pagination {
 
     private final boolean generateTotals;
 
+    @Getter
+    private final String after;
+
+    @Getter
+    private final String before;
+
     @Getter
     private final boolean defaultInstance;
 
@@ -116,18 +132,67 @@ public class PaginationImpl implements Pagination {
                            int systemMaxLimit,
                            Boolean generateTotals,
                            Boolean pageByPages) {
+        this(entityClass, clientOffset, clientLimit, systemDefaultLimit, systemMaxLimit, generateTotals,
+                pageByPages, null, null);
+    }
 
+    /**
+     * Constructor for a pagination requested by offset (or page number) or by cursor.
+     * @param entityClass The type of collection we are paginating.
+     * @param clientOffset The client requested offset (or page number) or null if not provided.
+     * @param clientLimit The client requested limit (or page size) or null if not provided.
+     * @param systemDefaultLimit The system default limit (in terms of records) or null for the default.
+     * @param systemMaxLimit The system max limit (in terms of records) or null for the default.
+     * @param generateTotals Whether to return the total number of records or null if not requested.
+     * @param pageByPages Whether to page by pages or records.
+     * @param after The cursor the page starts after or null if not provided.
+     * @param before The cursor the page ends before or null if not provided.
+     */
+    @Builder
+    private PaginationImpl(Type<?> entityClass,
+                           Integer clientOffset,
+                           Integer clientLimit,
+                           Integer systemDefaultLimit,
+                           Integer systemMaxLimit,
+                           Boolean generateTotals,
+                           boolean pageByPages,
+                           String after,
+                           String before) {
         this.entityClass = entityClass;
-        this.defaultInstance = (clientOffset == null && clientLimit == null && generateTotals == null);
+        this.after = after;
+        this.before = before;
+        this.defaultInstance = (clientOffset == null && clientLimit == null
+                && generateTotals == null && after == null && before == null);
+
+        validateCursors(clientOffset, after, before);
 
         Paginate paginate = entityClass != null ? (Paginate) entityClass.getAnnotation(Paginate.class) : null;
 
+        int defaultLimit = systemDefaultLimit != null ? systemDefaultLimit : DEFAULT_PAGE_LIMIT;
+        int maxLimit = systemMaxLimit != null ? systemMaxLimit : MAX_PAGE_LIMIT;
+
         this.limit = clientLimit != null
                 ? clientLimit
-                : (paginate != null ? paginate.defaultLimit() : systemDefaultLimit);
+                : (paginate != null ? paginate.defaultLimit() : defaultLimit);
+        validateLimit(limit, paginate != null ? paginate.maxLimit() : maxLimit, pageByPages);
+
+        this.generateTotals = generateTotals != null && generateTotals
+                && (paginate == null || paginate.countable());
+        this.offset = pageByPages
+                ? getPageOffset(clientOffset, limit)
+                : getRecordOffset(clientOffset);
+    }
 
-        int maxLimit = paginate != null ? paginate.maxLimit() : systemMaxLimit;
+    private static void validateCursors(Integer clientOffset, String after, String before) {
+        if (after != null && before != null) {
+            throw new InvalidValueException("Pagination after and before cursors cannot be combined.");
+        }
+        if (clientOffset != null && (after != null || before != null)) {
+            throw new InvalidValueException("Pagination cursors cannot be combined with an offset or page number.");
+        }
+    }
 
+    private void validateLimit(int limit, int maxLimit, boolean pageByPages) {
         String pageSizeLabel = pageByPages ? "size" : "limit";
 
         if (limit > maxLimit && !defaultInstance) {
@@ -138,22 +203,22 @@ public class PaginationImpl implements Pagination {
             throw new InvalidValueException("Pagination "
                     + pageSizeLabel + " must contain a positive, non-zero value.");
         }
+    }
 
-        this.generateTotals = generateTotals != null && generateTotals && (paginate == null || paginate.countable());
-
-        if (pageByPages) {
-            int pageNumber = clientOffset != null ? clientOffset : 1;
-            if (pageNumber < 1) {
-                throw new InvalidValueException("Pagination number must be a positive, non-zero value.");
-            }
-            this.offset = (pageNumber - 1) * limit;
-        } else {
-            this.offset = clientOffset != null ? clientOffset : 0;
+    private static int getPageOffset(Integer pageNumber, int limit) {
+        int number = pageNumber != null ? pageNumber : 1;
+        if (number < 1) {
+            throw new InvalidValueException("Pagination number must be a positive, non-zero value.");
+        }
+        return (number - 1) * limit;
+    }
 
-            if (offset < 0) {
-                throw new InvalidValueException("Pagination offset must contain a positive value.");
-            }
+    private static int getRecordOffset(Integer clientOffset) {
+        int offset = clientOffset != null ? clientOffset : 0;
+        if (offset < 0) {
+            throw new InvalidValueException("Pagination offset must contain a positive value.");
         }
+        return offset;
     }
 
     /**
@@ -184,12 +249,16 @@ public class PaginationImpl implements Pagination {
         }
 
         final Map<PaginationKey, Integer> pageData = new HashMap<>();
+        final Map<PaginationKey, String> cursors = new HashMap<>();
         queryParams.get().entrySet()
                 .forEach(paramEntry -> {
                     final String queryParamKey = paramEntry.getKey();
                     if (PAGE_KEYS.containsKey(queryParamKey)) {
                         PaginationKey paginationKey = PAGE_KEYS.get(queryParamKey);
-                        if (paginationKey.equals(PaginationKey.totals)) {
+                        if (paginationKey.equals(PaginationKey.after) || paginationKey.equals(PaginationKey.before)) {
+                            // cursors are opaque strings decoded by the data store against the requested sort
+                            cursors.put(paginationKey, paramEntry.getValue().get(0));
+                        } else if (paginationKey.equals(PaginationKey.totals)) {
                             // page[totals] is a valueless parameter, use value of 0 just so that its presence can
                             // be recorded in the map
                             pageData.put(paginationKey, 0);
@@ -207,7 +276,7 @@ public class PaginationImpl implements Pagination {
                                 + PAGE_KEYS_CSV);
                     }
                 });
-        return getPagination(entityClass, pageData, elideSettings);
+        return getPagination(entityClass, pageData, cursors, elideSettings);
     }
 
 
@@ -216,11 +285,12 @@ public class PaginationImpl implements Pagination {
      *
      * @param entityClass The collection type.
      * @param pageData Map containing pagination information
+     * @param cursors Map containing the pagination cursors
      * @param elideSettings Settings containing pagination defaults
      * @return Pagination object
      */
     private static PaginationImpl getPagination(Type<?> entityClass, Map<PaginationKey, Integer> pageData,
-                                                ElideSettings elideSettings) {
+                                                Map<PaginationKey, String> cursors, ElideSettings elideSettings) {
         if (hasInvalidCombination(pageData)) {
             throw new InvalidValueException("Invalid usage of pagination parameters.");
         }
@@ -235,13 +305,17 @@ public class PaginationImpl implements Pagination {
             limit = pageData.getOrDefault(PaginationKey.size, null);
         }
 
-        return new PaginationImpl(entityClass,
-                offset,
-                limit,
-                elideSettings.getDefaultPageSize(),
-                elideSettings.getDefaultMaxPageSize(),
-                pageData.containsKey(PaginationKey.totals) ? true : null,
-                pageByPages);
+        return PaginationImpl.builder()
+                .entityClass(entityClass)
+                .clientOffset(offset)
+                .clientLimit(limit)
+                .systemDefaultLimit(elideSettings.getDefaultPageSize())
+                .systemMaxLimit(elideSettings.getDefaultMaxPageSize())
+                .generateTotals(pageData.containsKey(PaginationKey.totals) ? true : null)
+                .pageByPages(pageByPages)
+                .after(cursors.get(PaginationKey.after))
+                .before(cursors.get(PaginationKey.before))
+                .build();
     }
 
     private static boolean hasInvalidCombination(Map<PaginationKey, Integer> pageData) {
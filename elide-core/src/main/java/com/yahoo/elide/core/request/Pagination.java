@@ -56,6 +56,38 @@ public interface Pagination {
      */
     void setPageTotals(Long pageTotals);
 
+    /**
+     * Get the cursor of the record the page starts after.
+     * <p>
+     * Data stores which page by cursor return the records that follow the cursor in the keyset order built by
+     * {@link com.yahoo.elide.core.pagination.KeysetCursor}.  The offset is ignored.  An empty cursor requests the
+     * first page of the collection.
+     * @return the opaque cursor or null if the page is not requested by cursor.
+     */
+    default String getAfter() {
+        return null;
+    }
+
+    /**
+     * Get the cursor of the record the page ends before.
+     * <p>
+     * Data stores which page by cursor return the records that precede the cursor nearest first, that is in the
+     * reverse of the keyset order.  The in-memory store transaction restores the requested order.  An empty
+     * cursor requests the last page of the collection.
+     * @return the opaque cursor or null if the page is not requested by cursor.
+     */
+    default String getBefore() {
+        return null;
+    }
+
+    /**
+     * Whether the page is requested by cursor rather than by offset.
+     * @return true if either an after or a before cursor is present.
+     */
+    default boolean isCursorPagination() {
+        return getAfter() != null || getBefore() != null;
+    }
+
     /**
      * Is this the default instance (not present).
      * @return true if pagination wasn't requested.  False otherwise.
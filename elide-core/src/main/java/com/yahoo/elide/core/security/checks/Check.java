@@ -18,4 +18,14 @@ public interface Check {
     default boolean runAtCommit() {
         return false;
     }
+
+    /**
+     * Whether the check holds no state, so that a single instance can be shared by every request and thread.
+     * Other checks are instantiated (and injected) each time a permission is evaluated.
+     *
+     * @return true if one instance of the check can be shared
+     */
+    default boolean isStateless() {
+        return false;
+    }
 }
@@ -20,6 +20,17 @@ public abstract class UserCheck implements Check {
      */
     public abstract boolean ok(User user);
 
+    /**
+     * Whether the outcome of the check depends only on the identity of the user.  The results of cacheable
+     * checks may be shared across the requests of a user by a
+     * {@link com.yahoo.elide.core.security.permissions.UserPermissionCache}, which identifies users by name.
+     *
+     * @return True if the check can be cached across requests, false otherwise
+     */
+    public boolean isCacheable() {
+        return false;
+    }
+
     @Override
     public final boolean runAtCommit() {
         return false;
@@ -20,6 +20,16 @@ public class Role {
         public boolean ok(User user) {
             return true;
         }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
+        @Override
+        public boolean isStateless() {
+            return true;
+        }
     }
 
     /**
@@ -30,20 +40,56 @@ public class Role {
         public boolean ok(User user) {
             return false;
         }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
+        @Override
+        public boolean isStateless() {
+            return true;
+        }
     }
 
     /**
      * Check which verifies if the user is a member of a particular role.
+     * <p>
+     * The check is not cacheable by default: a {@link com.yahoo.elide.core.security.permissions.UserPermissionCache}
+     * identifies users by name only, so cached outcomes would outlive changes to the roles of a user.
      */
     public static class RoleMemberCheck extends UserCheck {
         private String role;
+        private boolean cacheable;
 
         public RoleMemberCheck(String role) {
+            this(role, false);
+        }
+
+        /**
+         * Constructor.
+         * @param role The role the user must be a member of.
+         * @param cacheable Whether the outcome may be shared across the requests of a user.  Only opt in when the
+         *                  roles of a user never change for a given user name, or invalidate the cache when they do.
+         */
+        public RoleMemberCheck(String role, boolean cacheable) {
             this.role = role;
+            this.cacheable = cacheable;
         }
+
         @Override
         public boolean ok(User user) {
             return user.isInRole(role);
         }
+
+        @Override
+        public boolean isCacheable() {
+            return cacheable;
+        }
+
+        @Override
+        public boolean isStateless() {
+            return true;
+        }
     }
 }
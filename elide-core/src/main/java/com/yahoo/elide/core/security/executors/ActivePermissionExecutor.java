@@ -22,6 +22,7 @@ import com.yahoo.elide.core.security.PermissionExecutor;
 import com.yahoo.elide.core.security.permissions.ExpressionResult;
 import com.yahoo.elide.core.security.permissions.ExpressionResultCache;
 import com.yahoo.elide.core.security.permissions.PermissionExpressionBuilder;
+import com.yahoo.elide.core.security.permissions.UserPermissionCache;
 import com.yahoo.elide.core.security.permissions.expressions.Expression;
 import com.yahoo.elide.core.type.Type;
 import org.apache.commons.lang3.tuple.Triple;
@@ -49,6 +50,7 @@ public class ActivePermissionExecutor implements PermissionExecutor {
     private final RequestScope requestScope;
     private final PermissionExpressionBuilder expressionBuilder;
     private final Map<Triple<Class<? extends Annotation>, Type, String>, ExpressionResult> userPermissionCheckCache;
+    private final UserPermissionCache sharedUserPermissionCache;
     private final Map<String, Long> checkStats;
     private final boolean verbose;
 
@@ -73,6 +75,9 @@ public class ActivePermissionExecutor implements PermissionExecutor {
         this.requestScope = requestScope;
         this.expressionBuilder = new PermissionExpressionBuilder(cache, requestScope.getDictionary());
         userPermissionCheckCache = new HashMap<>();
+        sharedUserPermissionCache = requestScope.getElideSettings() == null
+                ? null
+                : requestScope.getElideSettings().getUserPermissionCache();
         checkStats = new HashMap<>();
         this.verbose = verbose;
     }
@@ -268,6 +273,15 @@ public class ActivePermissionExecutor implements PermissionExecutor {
         ExpressionResult expressionResult
                 = userPermissionCheckCache.get(Triple.of(annotationClass, resourceClass, field.orElse(null)));
 
+        if (expressionResult == null && sharedUserPermissionCache != null) {
+            expressionResult = sharedUserPermissionCache.get(requestScope.getUser(), annotationClass, resourceClass,
+                    field.orElse(null));
+            if (expressionResult != null) {
+                userPermissionCheckCache.put(
+                        Triple.of(annotationClass, resourceClass, field.orElse(null)), expressionResult);
+            }
+        }
+
         if (expressionResult == PASS) {
             return expressionResult;
         }
@@ -283,6 +297,11 @@ public class ActivePermissionExecutor implements PermissionExecutor {
             userPermissionCheckCache.put(
                     Triple.of(annotationClass, resourceClass, field.orElse(null)), expressionResult);
 
+            if (sharedUserPermissionCache != null && expression.hasCacheableUserChecks()) {
+                sharedUserPermissionCache.put(requestScope.getUser(), annotationClass, resourceClass,
+                        field.orElse(null), expressionResult);
+            }
+
             if (expressionResult == PASS) {
                 return expressionResult;
             }
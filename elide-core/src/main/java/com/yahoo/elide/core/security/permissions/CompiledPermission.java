@@ -0,0 +1,31 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security.permissions;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.security.checks.Check;
+import com.yahoo.elide.core.security.permissions.expressions.Expression;
+
+import java.util.function.Function;
+
+/**
+ * A permission expression compiled once from its parse tree when the entity is bound.
+ * <p>
+ * Expressions hold the results of a single evaluation, so every evaluation instantiates a fresh expression tree
+ * from the compiled permission.  Instantiation only allocates the expression nodes: the parse tree is not
+ * walked again and each check is created once and shared by all instantiations.
+ */
+@FunctionalInterface
+public interface CompiledPermission {
+
+    /**
+     * Instantiates the expression tree for a single evaluation.
+     * @param dictionary The dictionary checks are looked up in.
+     * @param checkFn Builds the leaf expression which evaluates a check.
+     * @return The expression tree.
+     */
+    Expression instantiate(EntityDictionary dictionary, Function<Check, Expression> checkFn);
+}
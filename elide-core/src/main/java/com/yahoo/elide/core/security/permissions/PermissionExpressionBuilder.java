@@ -24,7 +24,6 @@ import com.yahoo.elide.core.security.permissions.expressions.CheckExpression;
 import com.yahoo.elide.core.security.permissions.expressions.Expression;
 import com.yahoo.elide.core.security.permissions.expressions.OrExpression;
 import com.yahoo.elide.core.security.permissions.expressions.SpecificFieldExpression;
-import com.yahoo.elide.core.security.visitors.PermissionExpressionVisitor;
 import com.yahoo.elide.core.security.visitors.PermissionToFilterExpressionVisitor;
 import com.yahoo.elide.core.type.Type;
 import org.antlr.v4.runtime.tree.ParseTree;
@@ -180,12 +179,14 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
         Class<? extends Annotation> annotationClass = condition.getPermission();
         String field = condition.getField().orElse(null);
 
-        ParseTree classPermissions = entityDictionary.getPermissionsForClass(resourceClass, annotationClass);
-        ParseTree fieldPermissions = entityDictionary.getPermissionsForField(resourceClass, field, annotationClass);
+        CompiledPermission classPermissions =
+                entityDictionary.getCompiledPermissionForClass(resourceClass, annotationClass);
+        CompiledPermission fieldPermissions =
+                entityDictionary.getCompiledPermissionForField(resourceClass, field, annotationClass);
 
         return new SpecificFieldExpression(condition,
-                expressionFromParseTree(classPermissions, checkFn),
-                expressionFromParseTree(fieldPermissions, checkFn)
+                instantiate(classPermissions, checkFn),
+                instantiate(fieldPermissions, checkFn)
         );
     }
 
@@ -204,8 +205,9 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
         Type<?> resourceClass = condition.getEntityClass();
         Class<? extends Annotation> annotationClass = condition.getPermission();
 
-        ParseTree classPermissions = entityDictionary.getPermissionsForClass(resourceClass, annotationClass);
-        Expression entityExpression = expressionFromParseTree(classPermissions, checkFn);
+        CompiledPermission classPermissions =
+                entityDictionary.getCompiledPermissionForClass(resourceClass, annotationClass);
+        Expression entityExpression = instantiate(classPermissions, checkFn);
 
         OrExpression allFieldsExpression = new OrExpression(FAILURE, null);
         List<String> fields = entityDictionary.getAllFields(resourceClass);
@@ -217,8 +219,9 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
                 continue;
             }
 
-            ParseTree fieldPermissions = entityDictionary.getPermissionsForField(resourceClass, field, annotationClass);
-            Expression fieldExpression = expressionFromParseTree(fieldPermissions, checkFn);
+            CompiledPermission fieldPermissions =
+                    entityDictionary.getCompiledPermissionForField(resourceClass, field, annotationClass);
+            Expression fieldExpression = instantiate(fieldPermissions, checkFn);
 
             allFieldsExpression = new OrExpression(allFieldsExpression, fieldExpression);
         }
@@ -285,12 +288,12 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
         return allFieldsFilterExpression;
     }
 
-    private Expression expressionFromParseTree(ParseTree permissions, Function<Check, Expression> checkFn) {
+    private Expression instantiate(CompiledPermission permissions, Function<Check, Expression> checkFn) {
         if (permissions == null) {
             return null;
         }
 
-        return new PermissionExpressionVisitor(entityDictionary, checkFn).visit(permissions);
+        return permissions.instantiate(entityDictionary, checkFn);
     }
 
     private FilterExpression filterExpressionFromParseTree(ParseTree permissions, Type type, RequestScope scope) {
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security.permissions;
+
+import com.yahoo.elide.core.security.User;
+import com.yahoo.elide.core.security.checks.UserCheck;
+import com.yahoo.elide.core.type.Type;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shares the results of user checks across requests.
+ * <p>
+ * A permission is first evaluated with its user checks only, which either grants it or defers the decision to the
+ * remaining checks.  When all the user checks of a permission are {@link UserCheck#isCacheable() cacheable}, that
+ * outcome only depends on the user and can be reused by later requests of the same user (identified by name) until
+ * it expires.  Requests of anonymous users are never cached.
+ * <p>
+ * Nothing but the name of the user is part of the key.  Checks which depend on other state of the user, such as
+ * its roles, should only be cacheable when that state is fixed for a given name, or the cache must be
+ * {@link #invalidateAll() invalidated} whenever it changes.
+ */
+public class UserPermissionCache {
+    private final Cache<Key, ExpressionResult> results;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize The maximum number of cached results.
+     * @param timeToLive How long a result is reused after it was evaluated.
+     */
+    public UserPermissionCache(long maximumSize, Duration timeToLive) {
+        this.results = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive.toNanos(), TimeUnit.NANOSECONDS)
+                .build();
+    }
+
+    /**
+     * Returns the cached outcome of the user checks of a permission.
+     *
+     * @param user The user.
+     * @param annotationClass The permission.
+     * @param type The type the permission applies to.
+     * @param field The field the permission applies to or null for any field.
+     * @return The cached result or null if there is none.
+     */
+    public ExpressionResult get(User user, Class<? extends Annotation> annotationClass, Type<?> type, String field) {
+        String userName = user == null ? null : user.getName();
+        if (userName == null) {
+            return null;
+        }
+        return results.getIfPresent(new Key(userName, annotationClass, type, field));
+    }
+
+    /**
+     * Caches the outcome of the user checks of a permission.
+     *
+     * @param user The user.
+     * @param annotationClass The permission.
+     * @param type The type the permission applies to.
+     * @param field The field the permission applies to or null for any field.
+     * @param result The outcome of the user checks.
+     */
+    public void put(User user, Class<? extends Annotation> annotationClass, Type<?> type, String field,
+                    ExpressionResult result) {
+        String userName = user == null ? null : user.getName();
+        if (userName == null) {
+            return;
+        }
+        results.put(new Key(userName, annotationClass, type, field), result);
+    }
+
+    /**
+     * Discards all the cached results, for instance after the roles of users changed.
+     */
+    public void invalidateAll() {
+        results.invalidateAll();
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class Key {
+        private final String userName;
+        private final Class<? extends Annotation> annotationClass;
+        private final Type<?> type;
+        private final String field;
+    }
+}
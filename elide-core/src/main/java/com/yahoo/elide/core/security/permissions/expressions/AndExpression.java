@@ -50,6 +50,11 @@ public class AndExpression implements Expression {
         return DEFERRED;
     }
 
+    @Override
+    public boolean hasCacheableUserChecks() {
+        return left.hasCacheableUserChecks() && (right == null || right.hasCacheableUserChecks());
+    }
+
     @Override
     public String toString() {
         if (right == null) {
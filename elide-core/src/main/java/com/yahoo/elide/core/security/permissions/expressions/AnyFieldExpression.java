@@ -42,6 +42,12 @@ public class AnyFieldExpression implements Expression {
         return entityResult;
     }
 
+    @Override
+    public boolean hasCacheableUserChecks() {
+        return fieldExpression.hasCacheableUserChecks()
+                && (entityExpression == null || entityExpression.hasCacheableUserChecks());
+    }
+
     @Override
     public String toString() {
         return String.format("%s FOR EXPRESSION [(FIELDS(%s)) OR (ENTITY(%s))]",
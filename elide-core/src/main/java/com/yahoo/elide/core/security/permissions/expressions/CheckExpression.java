@@ -124,6 +124,11 @@ public class CheckExpression implements Expression {
         return result;
     }
 
+    @Override
+    public boolean hasCacheableUserChecks() {
+        return !(check instanceof UserCheck) || ((UserCheck) check).isCacheable();
+    }
+
     @Override
     public String toString() {
         EntityDictionary dictionary = ((com.yahoo.elide.core.RequestScope) requestScope).getDictionary();
@@ -31,6 +31,16 @@ public interface Expression {
      */
     ExpressionResult evaluate(EvaluationMode mode);
 
+    /**
+     * Whether the result of evaluating the expression with {@link EvaluationMode#USER_CHECKS_ONLY} depends only
+     * on the identity of the user.
+     *
+     * @return True if every user check of the expression is cacheable.
+     */
+    default boolean hasCacheableUserChecks() {
+        return true;
+    }
+
     /**
      * Static Expressions that return PASS or FAIL.
      */
@@ -41,6 +41,11 @@ public class NotExpression implements Expression {
         return DEFERRED;
     }
 
+    @Override
+    public boolean hasCacheableUserChecks() {
+        return logical.hasCacheableUserChecks();
+    }
+
     @Override
     public String toString() {
         return String.format("NOT (%s)", logical);
@@ -53,6 +53,11 @@ public class OrExpression implements Expression {
         return DEFERRED;
     }
 
+    @Override
+    public boolean hasCacheableUserChecks() {
+        return left.hasCacheableUserChecks() && (right == null || right.hasCacheableUserChecks());
+    }
+
     @Override
     public String toString() {
         if (right == null || right.equals(Results.FAILURE)) {
@@ -42,6 +42,12 @@ public class SpecificFieldExpression implements Expression {
     }
 
 
+    @Override
+    public boolean hasCacheableUserChecks() {
+        return fieldExpression.map(Expression::hasCacheableUserChecks)
+                .orElseGet(() -> entityExpression == null || entityExpression.hasCacheableUserChecks());
+    }
+
     @Override
     public String toString() {
         return fieldExpression
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security.visitors;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.security.CheckInstantiator;
+import com.yahoo.elide.core.security.checks.Check;
+import com.yahoo.elide.core.security.permissions.CompiledPermission;
+import com.yahoo.elide.core.security.permissions.expressions.AndExpression;
+import com.yahoo.elide.core.security.permissions.expressions.Expression;
+import com.yahoo.elide.core.security.permissions.expressions.NotExpression;
+import com.yahoo.elide.core.security.permissions.expressions.OrExpression;
+import com.yahoo.elide.generated.parsers.ExpressionBaseVisitor;
+import com.yahoo.elide.generated.parsers.ExpressionParser;
+import lombok.AllArgsConstructor;
+
+import java.util.function.Function;
+
+/**
+ * Compiles a permission parse tree into a {@link CompiledPermission}.
+ * <p>
+ * Checks are resolved the first time the compiled permission is instantiated rather than at compile time.
+ * Entities can be bound before every check they reference is registered and bindings can be shared between
+ * dictionaries.  Only role checks and checks which declare themselves {@link Check#isStateless() stateless} are
+ * shared between evaluations; other checks are instantiated for every evaluation.
+ */
+public class PermissionExpressionCompiler extends ExpressionBaseVisitor<CompiledPermission> {
+
+    @Override
+    public CompiledPermission visitNOT(ExpressionParser.NOTContext ctx) {
+        CompiledPermission expression = visit(ctx.expression());
+        return (dictionary, checkFn) -> new NotExpression(expression.instantiate(dictionary, checkFn));
+    }
+
+    @Override
+    public CompiledPermission visitOR(ExpressionParser.ORContext ctx) {
+        CompiledPermission left = visit(ctx.left);
+        CompiledPermission right = visit(ctx.right);
+        return (dictionary, checkFn) -> new OrExpression(left.instantiate(dictionary, checkFn),
+                right.instantiate(dictionary, checkFn));
+    }
+
+    @Override
+    public CompiledPermission visitAND(ExpressionParser.ANDContext ctx) {
+        CompiledPermission left = visit(ctx.left);
+        CompiledPermission right = visit(ctx.right);
+        return (dictionary, checkFn) -> new AndExpression(left.instantiate(dictionary, checkFn),
+                right.instantiate(dictionary, checkFn));
+    }
+
+    @Override
+    public CompiledPermission visitPAREN(ExpressionParser.PARENContext ctx) {
+        return visit(ctx.expression());
+    }
+
+    @Override
+    public CompiledPermission visitPermissionClass(ExpressionParser.PermissionClassContext ctx) {
+        return new CheckPermission(ctx.getText());
+    }
+
+    /**
+     * A leaf of the compiled permission which resolves its check on first use.
+     */
+    private static class CheckPermission implements CompiledPermission, CheckInstantiator {
+        private final String checkName;
+        private volatile ResolvedCheck resolved;
+
+        private CheckPermission(String checkName) {
+            this.checkName = checkName;
+        }
+
+        @Override
+        public Expression instantiate(EntityDictionary dictionary, Function<Check, Expression> checkFn) {
+            ResolvedCheck current = resolved;
+            if (current == null || current.dictionary != dictionary) {
+                Check check = getCheck(dictionary, checkName);
+                current = check.isStateless() || dictionary.getRoleCheck(checkName) != null
+                        ? new ResolvedCheck(dictionary, check, null)
+                        : new ResolvedCheck(dictionary, null, dictionary.getCheck(checkName));
+                resolved = current;
+                return checkFn.apply(check);
+            }
+
+            if (current.sharedCheck != null) {
+                return checkFn.apply(current.sharedCheck);
+            }
+            return checkFn.apply(instantiateCheck(current.checkClass, dictionary.getInjector()));
+        }
+    }
+
+    /**
+     * The resolution of a check in a dictionary.
+     */
+    @AllArgsConstructor
+    private static class ResolvedCheck {
+        private final EntityDictionary dictionary;
+
+        /**
+         * The instance shared by every evaluation, or null if the check is instantiated per evaluation.
+         */
+        private final Check sharedCheck;
+
+        /**
+         * The class instantiated for every evaluation when the check is not shared.
+         */
+        private final Class<? extends Check> checkClass;
+    }
+}
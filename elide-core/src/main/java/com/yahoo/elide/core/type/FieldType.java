@@ -11,6 +11,8 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.ParameterizedType;
 import java.util.Optional;
 
@@ -101,4 +103,22 @@ public class FieldType implements Field {
     public void set(Object obj, Object value) throws IllegalArgumentException, IllegalAccessException {
         field.set(obj, value);
     }
+
+    /**
+     * Creates a method handle which reads the wrapped field.
+     * @return The method handle.
+     * @throws IllegalAccessException If the field cannot be accessed.
+     */
+    public MethodHandle unreflectGetter() throws IllegalAccessException {
+        return MethodHandles.lookup().unreflectGetter(field);
+    }
+
+    /**
+     * Creates a method handle which writes the wrapped field.
+     * @return The method handle.
+     * @throws IllegalAccessException If the field cannot be accessed or is final.
+     */
+    public MethodHandle unreflectSetter() throws IllegalAccessException {
+        return MethodHandles.lookup().unreflectSetter(field);
+    }
 }
@@ -11,6 +11,8 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.util.Optional;
@@ -83,6 +85,18 @@ public class MethodType implements Method {
         return ((java.lang.reflect.Method) method).invoke(obj, args);
     }
 
+    /**
+     * Creates a method handle which invokes the wrapped method.
+     * @return The method handle.
+     * @throws IllegalAccessException If the method cannot be accessed.
+     */
+    public MethodHandle unreflect() throws IllegalAccessException {
+        if (! (method instanceof java.lang.reflect.Method)) {
+            throw new UnsupportedOperationException("Constructors cannot be invoked");
+        }
+        return MethodHandles.lookup().unreflect((java.lang.reflect.Method) method);
+    }
+
     @Override
     public Type<?> getReturnType() {
         if (! (method instanceof java.lang.reflect.Method)) {
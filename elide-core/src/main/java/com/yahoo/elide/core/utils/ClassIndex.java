@@ -0,0 +1,144 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.utils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The class indexes written by {@link ClassIndexProcessor}, merged across the class path.
+ * <p>
+ * Each line of an index holds the name of a class followed by the names of its annotations, separated by tabs.
+ */
+@Slf4j
+final class ClassIndex {
+    static final String RESOURCE = "META-INF/elide/class-index";
+
+    private static final String SEPARATOR = "\t";
+    private static final String COMMENT = "#";
+
+    /**
+     * The class path entries which carry an index.
+     */
+    private final Set<String> classpathElements = new HashSet<>();
+
+    /**
+     * The annotations of the indexed classes keyed by class name.
+     */
+    @Getter
+    private final Map<String, Set<String>> annotations = new HashMap<>();
+
+    /**
+     * Loads the indexes visible to a class loader.
+     * @param classLoader The class loader.
+     * @return The merged index, which is empty if no index is visible.
+     */
+    static ClassIndex load(ClassLoader classLoader) {
+        ClassIndex index = new ClassIndex();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                try (Reader reader = new BufferedReader(new InputStreamReader(resource.openStream(),
+                        StandardCharsets.UTF_8))) {
+                    index.annotations.putAll(read(reader));
+                    index.classpathElements.add(getClasspathElement(resource));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Unable to read class index, falling back to scanning the class path", e);
+            return new ClassIndex();
+        }
+        return index;
+    }
+
+    /**
+     * Whether a class path entry carries an index.
+     * @param classpathElement The path of a directory or jar as reported by the class path scanner.
+     * @return true if the classes of the entry are indexed.
+     */
+    boolean covers(String classpathElement) {
+        return classpathElements.contains(normalize(classpathElement));
+    }
+
+    boolean isEmpty() {
+        return classpathElements.isEmpty();
+    }
+
+    static Map<String, Set<String>> read(Reader reader) throws IOException {
+        Map<String, Set<String>> index = new HashMap<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith(COMMENT)) {
+                continue;
+            }
+            String[] names = line.split(SEPARATOR);
+            index.put(names[0], names.length == 1
+                    ? Collections.emptySet()
+                    : new LinkedHashSet<>(Arrays.asList(names).subList(1, names.length)));
+        }
+        return index;
+    }
+
+    static void write(Map<String, Set<String>> index, Writer writer) throws IOException {
+        writer.write(COMMENT + " Generated by " + ClassIndexProcessor.class.getName() + "\n");
+        for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+            writer.write(entry.getKey());
+            for (String annotation : entry.getValue()) {
+                writer.write(SEPARATOR);
+                writer.write(annotation);
+            }
+            writer.write("\n");
+        }
+    }
+
+    /**
+     * Derives the class path entry from the URL of its index, for example {@code /lib/models.jar} from
+     * {@code jar:file:/lib/models.jar!/META-INF/elide/class-index}.
+     */
+    private static String getClasspathElement(URL resource) throws UnsupportedEncodingException {
+        String path = resource.toString();
+        path = path.substring(0, path.length() - RESOURCE.length());
+        if (path.startsWith("jar:")) {
+            path = path.substring("jar:".length());
+        }
+        return normalize(URLDecoder.decode(path.replace("+", "%2B"), StandardCharsets.UTF_8.name()));
+    }
+
+    private static String normalize(String classpathElement) {
+        String path = classpathElement;
+        if (path.startsWith("file:")) {
+            path = path.substring("file:".length());
+        }
+        if (path.endsWith("!/")) {
+            path = path.substring(0, path.length() - 2);
+        }
+        while (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+}
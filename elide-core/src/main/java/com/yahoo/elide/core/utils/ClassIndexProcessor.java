@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor which writes the annotated classes of a module to a class index at build time.
+ * <p>
+ * {@link ClassScanner} answers annotation lookups for the class path entries which carry an index from the index
+ * rather than by scanning their class files.  To index a module, add the processor to its compilation, for example
+ * through the annotationProcessors setting of the maven-compiler-plugin.  Local and anonymous classes are not
+ * indexed.
+ */
+@SupportedAnnotationTypes("*")
+public class ClassIndexProcessor extends AbstractProcessor {
+    private final Map<String, Set<String>> index = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            ElementFilter.typesIn(roundEnv.getRootElements()).forEach(this::addType);
+        }
+
+        // Never claim the annotations so other processors still see them
+        return false;
+    }
+
+    private void addType(TypeElement type) {
+        Elements elements = processingEnv.getElementUtils();
+
+        Set<String> annotationNames = new TreeSet<>();
+        for (AnnotationMirror annotation : elements.getAllAnnotationMirrors(type)) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            Retention retention = annotationType.getAnnotation(Retention.class);
+            if (retention == null || retention.value() != RetentionPolicy.SOURCE) {
+                annotationNames.add(elements.getBinaryName(annotationType).toString());
+            }
+        }
+        if (!annotationNames.isEmpty()) {
+            index.put(elements.getBinaryName(type).toString(), annotationNames);
+        }
+
+        ElementFilter.typesIn(type.getEnclosedElements()).forEach(this::addType);
+    }
+
+    private void writeIndex() {
+        Elements elements = processingEnv.getElementUtils();
+
+        // Incremental builds only compile some of the classes, so keep the entries of the others which still exist
+        try {
+            FileObject previous = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+                    ClassIndex.RESOURCE);
+            try (Reader reader = new BufferedReader(new InputStreamReader(previous.openInputStream(),
+                    StandardCharsets.UTF_8))) {
+                ClassIndex.read(reader).forEach((className, annotationNames) -> {
+                    if (!index.containsKey(className)
+                            && elements.getTypeElement(className.replace('$', '.')) != null) {
+                        index.put(className, annotationNames);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            // There is no previous index
+        }
+
+        if (index.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    ClassIndex.RESOURCE);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                ClassIndex.write(index, writer);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write " + ClassIndex.RESOURCE + ": " + e.getMessage());
+        }
+    }
+}
@@ -11,15 +11,30 @@ import io.github.classgraph.ScanResult;
 
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Scans a package for classes by looking at files in the classpath.
+ * <p>
+ * Annotation lookups share a single scan of the class path per class loader.  Class path entries which carry a
+ * class index written by {@link ClassIndexProcessor} are read from their index instead of being scanned.
  */
 public class ClassScanner {
+
+    /**
+     * The names of the classes with each annotation or meta-annotation, keyed by annotation name.
+     */
+    private static final Map<ClassLoader, Map<String, Set<String>>> ANNOTATED_CLASSES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     /**
      * Scans all classes accessible from the context class loader which belong to the given package and subpackages.
      *
@@ -39,12 +54,9 @@ public class ClassScanner {
      * @return The classes
      */
     static public Set<Class<?>> getAnnotatedClasses(String packageName, Class<? extends Annotation> annotation) {
-        try (ScanResult scanResult = new ClassGraph()
-                .enableClassInfo().enableAnnotationInfo().whitelistPackages(packageName).scan()) {
-            return scanResult.getClassesWithAnnotation(annotation.getCanonicalName()).stream()
-                    .map((ClassInfo::loadClass))
-                    .collect(Collectors.toSet());
-        }
+        String prefix = packageName + ".";
+        return loadClasses(getAnnotatedClassNames(annotation).filter(className -> className.startsWith(prefix)))
+                .collect(Collectors.toSet());
     }
 
     /**
@@ -57,13 +69,10 @@ public class ClassScanner {
     static public Set<Class<?>> getAnnotatedClasses(List<Class<? extends Annotation>> annotations,
             FilterExpression filter) {
         Set<Class<?>> result = new HashSet<>();
-        try (ScanResult scanResult = new ClassGraph().enableClassInfo().enableAnnotationInfo().scan()) {
-            for (Class<? extends Annotation> annotation : annotations) {
-                result.addAll(scanResult.getClassesWithAnnotation(annotation.getCanonicalName()).stream()
-                        .map(ClassInfo::loadClass)
-                        .filter(filter::include)
-                        .collect(Collectors.toSet()));
-            }
+        for (Class<? extends Annotation> annotation : annotations) {
+            result.addAll(loadClasses(getAnnotatedClassNames(annotation))
+                    .filter(filter::include)
+                    .collect(Collectors.toSet()));
         }
         return result;
     }
@@ -97,6 +106,75 @@ public class ClassScanner {
         }
     }
 
+    private static Stream<String> getAnnotatedClassNames(Class<? extends Annotation> annotation) {
+        return ANNOTATED_CLASSES.computeIfAbsent(getClassLoader(), ClassScanner::scan)
+                .getOrDefault(annotation.getName(), Collections.emptySet())
+                .stream();
+    }
+
+    private static Stream<Class<?>> loadClasses(Stream<String> classNames) {
+        ClassLoader classLoader = getClassLoader();
+        return classNames.map(className -> {
+            try {
+                return Class.forName(className, false, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                throw new IllegalArgumentException("Could not load class " + className, e);
+            }
+        });
+    }
+
+    private static ClassLoader getClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader == null ? ClassScanner.class.getClassLoader() : classLoader;
+    }
+
+    private static Map<String, Set<String>> scan(ClassLoader classLoader) {
+        ClassIndex index = ClassIndex.load(classLoader);
+        Map<String, Set<String>> annotatedClasses = new HashMap<>();
+
+        try (ScanResult scanResult = new ClassGraph()
+                .enableClassInfo().enableAnnotationInfo().enableExternalClasses()
+                .filterClasspathElements(classpathElement -> !index.covers(classpathElement))
+                .scan()) {
+            for (ClassInfo annotation : scanResult.getAllAnnotations()) {
+                annotatedClasses.put(annotation.getName(),
+                        new HashSet<>(scanResult.getClassesWithAnnotation(annotation.getName()).getNames()));
+            }
+        }
+
+        Map<String, Set<String>> metaAnnotations = new HashMap<>();
+        index.getAnnotations().forEach((className, annotationNames) -> annotationNames.stream()
+                .flatMap(annotationName -> getMetaAnnotations(annotationName, classLoader, metaAnnotations).stream())
+                .forEach(annotationName -> annotatedClasses
+                        .computeIfAbsent(annotationName, key -> new HashSet<>())
+                        .add(className)));
+
+        return annotatedClasses;
+    }
+
+    /**
+     * Returns an annotation together with its (transitive) runtime meta-annotations.
+     */
+    private static Set<String> getMetaAnnotations(String annotationName, ClassLoader classLoader,
+                                                  Map<String, Set<String>> metaAnnotations) {
+        Set<String> names = metaAnnotations.get(annotationName);
+        if (names != null) {
+            return names;
+        }
+
+        names = new HashSet<>();
+        names.add(annotationName);
+        metaAnnotations.put(annotationName, names);
+        try {
+            for (Annotation meta : Class.forName(annotationName, false, classLoader).getAnnotations()) {
+                names.addAll(getMetaAnnotations(meta.annotationType().getName(), classLoader, metaAnnotations));
+            }
+        } catch (ClassNotFoundException | LinkageError e) {
+            // Annotations missing from the class path cannot be looked up
+        }
+        return names;
+    }
+
     /**
      * Function which will be invoked for deciding to include the class in final results.
      */
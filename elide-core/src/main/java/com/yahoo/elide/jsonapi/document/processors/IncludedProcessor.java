@@ -6,17 +6,23 @@
 package com.yahoo.elide.jsonapi.document.processors;
 
 import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Relationship;
+import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.jsonapi.EntityProjectionMaker;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
 import com.google.common.collect.Lists;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import javax.ws.rs.core.MultivaluedMap;
@@ -37,7 +43,7 @@ public class IncludedProcessor implements DocumentProcessor {
     public void execute(JsonApiDocument jsonApiDocument, PersistentResource resource,
                         Optional<MultivaluedMap<String, String>> queryParams) {
         if (isPresent(queryParams, INCLUDE)) {
-            addIncludedResources(jsonApiDocument, resource, queryParams.get().get(INCLUDE));
+            addIncludedResources(jsonApiDocument, Collections.singleton(resource), queryParams.get().get(INCLUDE));
         }
     }
 
@@ -49,62 +55,73 @@ public class IncludedProcessor implements DocumentProcessor {
     public void execute(JsonApiDocument jsonApiDocument, Set<PersistentResource> resources,
                         Optional<MultivaluedMap<String, String>> queryParams) {
         if (isPresent(queryParams, INCLUDE)) {
-
-            // Process include for each resource
-            resources.forEach(resource ->
-                    addIncludedResources(jsonApiDocument, resource, queryParams.get().get(INCLUDE)));
+            addIncludedResources(jsonApiDocument, resources, queryParams.get().get(INCLUDE));
         }
     }
 
     /**
      * Adds the requested relation resources to the included block of the JsonApiDocument.
      */
-    private void addIncludedResources(JsonApiDocument jsonApiDocument, PersistentResource rec,
+    private void addIncludedResources(JsonApiDocument jsonApiDocument, Collection<PersistentResource> records,
             List<String> requestedRelationPaths) {
 
-        EntityProjectionMaker maker = new EntityProjectionMaker(rec.getDictionary(), rec.getRequestScope());
-        EntityProjection projection = maker.parseInclude(rec.getResourceType());
-        // Process each include relation path
-        requestedRelationPaths.forEach(pathParam -> {
-            List<String> pathList = Arrays.asList(pathParam.split(RELATION_PATH_SEPARATOR));
+        // Resources of the same type share a projection so their relationships can be loaded together
+        Map<Type<?>, List<PersistentResource>> recordsByType = new LinkedHashMap<>();
+        records.forEach(rec -> recordsByType.computeIfAbsent(rec.getResourceType(), key -> new ArrayList<>()).add(rec));
+
+        recordsByType.forEach((type, recs) -> {
+            PersistentResource<?> first = recs.get(0);
+            EntityProjectionMaker maker = new EntityProjectionMaker(first.getDictionary(), first.getRequestScope());
+            EntityProjection projection = maker.parseInclude(type);
+
+            // Process each include relation path
+            requestedRelationPaths.forEach(pathParam -> {
+                List<String> pathList = Arrays.asList(pathParam.split(RELATION_PATH_SEPARATOR));
 
-            pathList.forEach(requestedRelationPath -> {
-                List<String> relationPath = Lists.newArrayList(requestedRelationPath.split(RELATION_PATH_DELIMITER));
-                addResourcesForPath(jsonApiDocument, rec, relationPath, projection);
+                pathList.forEach(requestedRelationPath -> {
+                    List<String> relationPath =
+                            Lists.newArrayList(requestedRelationPath.split(RELATION_PATH_DELIMITER));
+                    addResourcesForPath(jsonApiDocument, recs, relationPath, projection);
+                });
             });
         });
     }
 
     /**
      * Adds all the relation resources for a given relation path to the included block of the
-     * JsonApiDocument.
+     * JsonApiDocument.  The relation is loaded for all the given resources before descending a level deeper.
      */
-    private void addResourcesForPath(JsonApiDocument jsonApiDocument, PersistentResource<?> rec,
+    private void addResourcesForPath(JsonApiDocument jsonApiDocument, Collection<PersistentResource> records,
                                      List<String> relationPath,
                                      EntityProjection projection) {
 
         //Pop off a relation of relation path
         String relation = relationPath.remove(0);
 
-        Set<PersistentResource> collection;
         Relationship relationship = projection.getRelationship(relation).orElseThrow(IllegalStateException::new);
-        try {
-            collection = rec.getRelationCheckedFiltered(relationship).toList(LinkedHashSet::new).blockingGet();
 
-        } catch (ForbiddenAccessException e) {
-            return;
+        RequestScope scope = records.iterator().next().getRequestScope();
+        scope.getRelationshipBatcher().schedule(records, relationship);
+
+        Set<PersistentResource> related = new LinkedHashSet<>();
+        for (PersistentResource<?> rec : records) {
+            Set<PersistentResource> collection;
+            try {
+                collection = rec.getRelationCheckedFiltered(relationship).toList(LinkedHashSet::new).blockingGet();
+            } catch (ForbiddenAccessException e) {
+                continue;
+            }
+
+            related.addAll(collection);
         }
 
-        collection.forEach(resource -> {
-            jsonApiDocument.addIncluded(resource.toResource());
+        PersistentResource.scheduleRelationships(related);
+        related.forEach(resource -> jsonApiDocument.addIncluded(resource.toResource()));
 
-            //If more relations left in the path, process a level deeper
-            if (!relationPath.isEmpty()) {
-                //Use a copy of the relationPath to preserve the path for remaining branches of the relationship tree
-                addResourcesForPath(jsonApiDocument, resource, new ArrayList<>(relationPath),
-                        relationship.getProjection());
-            }
-        });
+        //If more relations left in the path, process a level deeper
+        if (!relationPath.isEmpty() && !related.isEmpty()) {
+            addResourcesForPath(jsonApiDocument, related, relationPath, relationship.getProjection());
+        }
     }
 
     private static boolean isPresent(Optional<MultivaluedMap<String, String>> queryParams, String key) {
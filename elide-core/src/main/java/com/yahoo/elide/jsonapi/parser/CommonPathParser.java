@@ -0,0 +1,153 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.jsonapi.parser;
+
+import com.yahoo.elide.generated.parsers.CoreParser;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+
+/**
+ * Builds the parse tree of the most common request path shapes directly, without running the ANTLR lexer and
+ * parser:
+ * <ul>
+ *     <li>{@code type}</li>
+ *     <li>{@code type/id}</li>
+ *     <li>{@code type/id/relationship}</li>
+ *     <li>{@code type/id/relationships/relationship}</li>
+ *     <li>{@code type/id/relationship/id}</li>
+ * </ul>
+ * The trees are identical to the ones the Core grammar produces so the visitors cannot tell them apart.
+ */
+final class CommonPathParser {
+    private static final String SEPARATOR = "/";
+    private static final String RELATIONSHIPS = "relationships";
+    private static final String MARKS = "-_.!~=%*'()";
+
+    private CommonPathParser() {
+    }
+
+    /**
+     * Parses a normalized request path.
+     * @param path The normalized path.
+     * @return The parse tree or null if the path does not have one of the common shapes.
+     */
+    static ParseTree parse(String path) {
+        String[] segments = path.split(SEPARATOR, -1);
+        for (String segment : segments) {
+            if (!isPathString(segment)) {
+                return null;
+            }
+        }
+
+        // The keyword can only appear where a relationship is expected
+        for (int idx = 0; idx < segments.length && idx < 2; idx++) {
+            if (isRelationships(segments[idx])) {
+                return null;
+            }
+        }
+
+        CoreParser.StartContext start = new CoreParser.StartContext(null, 0);
+        CoreParser.RootCollectionContext rootCollection = new CoreParser.RootCollectionContext(start, 0);
+
+        switch (segments.length) {
+            case 1:
+                addTerm(add(start, new CoreParser.RootCollectionLoadEntitiesContext(rootCollection)), segments[0]);
+                break;
+            case 2:
+                addEntity(add(start, new CoreParser.RootCollectionLoadEntityContext(rootCollection)),
+                        segments[0], segments[1]);
+                break;
+            case 3: {
+                if (isRelationships(segments[2])) {
+                    return null;
+                }
+                ParserRuleContext parent =
+                        add(start, new CoreParser.RootCollectionSubCollectionContext(rootCollection));
+                addEntity(parent, segments[0], segments[1]);
+                addSeparator(parent);
+                addTerm(add(parent, new CoreParser.SubCollectionReadCollectionContext(
+                        new CoreParser.SubCollectionContext(parent, 0))), segments[2]);
+                break;
+            }
+            case 4: {
+                if (isRelationships(segments[3])) {
+                    return null;
+                }
+                if (isRelationships(segments[2])) {
+                    ParserRuleContext parent =
+                            add(start, new CoreParser.RootCollectionRelationshipContext(rootCollection));
+                    addEntity(parent, segments[0], segments[1]);
+                    addSeparator(parent);
+                    CoreParser.RelationshipContext relationship =
+                            add(parent, new CoreParser.RelationshipContext(parent, 0));
+                    relationship.addChild(new TerminalNodeImpl(new CommonToken(CoreParser.RELATIONSHIPS,
+                            RELATIONSHIPS)));
+                    addSeparator(relationship);
+                    addTerm(relationship, segments[3]);
+                } else {
+                    ParserRuleContext parent =
+                            add(start, new CoreParser.RootCollectionSubCollectionContext(rootCollection));
+                    addEntity(parent, segments[0], segments[1]);
+                    addSeparator(parent);
+                    addEntity(add(parent, new CoreParser.SubCollectionReadEntityContext(
+                            new CoreParser.SubCollectionContext(parent, 0))), segments[2], segments[3]);
+                }
+                break;
+            }
+            default:
+                return null;
+        }
+
+        add(start, new CoreParser.QueryContext(start, 0));
+        return start;
+    }
+
+    private static void addEntity(ParserRuleContext parent, String type, String id) {
+        CoreParser.EntityContext entity = add(parent, new CoreParser.EntityContext(parent, 0));
+        addTerm(entity, type);
+        addSeparator(entity);
+        CoreParser.IdContext idContext = add(entity, new CoreParser.IdContext(entity, 0));
+        idContext.addChild(new TerminalNodeImpl(new CommonToken(CoreParser.PATHSTR, id)));
+    }
+
+    private static void addTerm(ParserRuleContext parent, String term) {
+        CoreParser.TermContext termContext = add(parent, new CoreParser.TermContext(parent, 0));
+        termContext.addChild(new TerminalNodeImpl(new CommonToken(CoreParser.PATHSTR, term)));
+    }
+
+    private static void addSeparator(ParserRuleContext parent) {
+        parent.addChild(new TerminalNodeImpl(new CommonToken(CoreParser.T__0, SEPARATOR)));
+    }
+
+    private static <T extends ParserRuleContext> T add(ParserRuleContext parent, T child) {
+        child.setParent(parent);
+        parent.addChild(child);
+        return child;
+    }
+
+    private static boolean isRelationships(String segment) {
+        return RELATIONSHIPS.equals(segment);
+    }
+
+    /**
+     * Whether a segment lexes as a single PATHSTR token.
+     */
+    private static boolean isPathString(String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (int idx = 0; idx < segment.length(); idx++) {
+            char c = segment.charAt(idx);
+            boolean alphanumeric = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+            if (!alphanumeric && MARKS.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -7,6 +7,8 @@ package com.yahoo.elide.jsonapi.parser;
 
 import com.yahoo.elide.generated.parsers.CoreLexer;
 import com.yahoo.elide.generated.parsers.CoreParser;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.CharStream;
@@ -27,6 +29,14 @@ public class JsonApiParser {
 
     private final static Pattern DUPLICATE_SEPARATOR_PATTERN = Pattern.compile("//+");
 
+    /**
+     * Parse trees of the paths {@link CommonPathParser} does not handle.  Parse trees are never modified by the
+     * visitors so they can be shared across requests.
+     */
+    private final static Cache<String, ParseTree> PARSE_CACHE = CacheBuilder.newBuilder()
+            .maximumSize(1024)
+            .build();
+
     /**
      * Normalize request path
      *
@@ -50,6 +60,20 @@ public class JsonApiParser {
     public static ParseTree parse(String path) {
         String normalizedPath = normalizePath(path);
 
+        ParseTree parseTree = CommonPathParser.parse(normalizedPath);
+        if (parseTree != null) {
+            return parseTree;
+        }
+
+        parseTree = PARSE_CACHE.getIfPresent(normalizedPath);
+        if (parseTree == null) {
+            parseTree = parseNormalizedPath(normalizedPath);
+            PARSE_CACHE.put(normalizedPath, parseTree);
+        }
+        return parseTree;
+    }
+
+    private static ParseTree parseNormalizedPath(String normalizedPath) {
         CharStream is = CharStreams.fromString(normalizedPath);
         CoreLexer lexer = new CoreLexer(is);
         lexer.removeErrorListeners();
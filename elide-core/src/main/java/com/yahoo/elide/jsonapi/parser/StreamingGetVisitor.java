@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.jsonapi.parser;
+
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.exceptions.HttpStatus;
+import com.yahoo.elide.generated.parsers.CoreParser.QueryContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * GET handler which streams collection responses.
+ * <p>
+ * When the request reads a collection, the visitor does not build the response body.  Instead it exposes a
+ * {@link ElideResponse.BodyWriter} which serializes the records as they are read.  Any other request is handled
+ * like a regular GET.
+ */
+public class StreamingGetVisitor extends GetVisitor {
+    private ElideResponse.BodyWriter bodyWriter;
+
+    /**
+     * Constructor.
+     *
+     * @param requestScope the request scope
+     */
+    public StreamingGetVisitor(RequestScope requestScope) {
+        super(requestScope);
+    }
+
+    @Override
+    public Supplier<Pair<Integer, JsonNode>> visitQuery(QueryContext ctx) {
+        bodyWriter = state.handleStreamingGet().orElse(null);
+        if (bodyWriter == null) {
+            return super.visitQuery(ctx);
+        }
+        return () -> Pair.of(HttpStatus.SC_OK, null);
+    }
+
+    /**
+     * Returns the writer of the response body if the response is streamed.
+     *
+     * @return the body writer or empty if the response body was built by the visitor
+     */
+    public Optional<ElideResponse.BodyWriter> getBodyWriter() {
+        return Optional.ofNullable(bodyWriter);
+    }
+}
@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.jsonapi.parser.state;
 
+import com.yahoo.elide.ElideResponse;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.HttpStatus;
@@ -127,6 +128,17 @@ public abstract class BaseState {
         throw new UnsupportedOperationException(this.getClass().toString());
     }
 
+    /**
+     * Handles a GET request whose response body is written while its records are read, so the body is never
+     * held in memory.  The returned writer must be invoked before the transaction is closed.
+     * @param state the state
+     * @return the body writer, or empty if the response of this state is not streamed
+     * @throws HttpStatusException the http status exception
+     */
+    public Optional<ElideResponse.BodyWriter> handleStreamingGet(StateContext state) throws HttpStatusException {
+        return Optional.empty();
+    }
+
     /**
      * Handle patch.
      *
@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.jsonapi.parser.state;
 
+import com.yahoo.elide.ElideResponse;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
@@ -16,6 +17,7 @@ import com.yahoo.elide.core.exceptions.InvalidEntityBodyException;
 import com.yahoo.elide.core.exceptions.InvalidObjectIdentifierException;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.exceptions.UnknownEntityException;
+import com.yahoo.elide.core.pagination.KeysetCursor;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.core.type.Type;
@@ -27,14 +29,20 @@ import com.yahoo.elide.jsonapi.models.JsonApiDocument;
 import com.yahoo.elide.jsonapi.models.Meta;
 import com.yahoo.elide.jsonapi.models.Relationship;
 import com.yahoo.elide.jsonapi.models.Resource;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.google.common.base.Preconditions;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import io.reactivex.Observable;
 import lombok.ToString;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -43,6 +51,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.ws.rs.core.MultivaluedMap;
@@ -52,6 +61,8 @@ import javax.ws.rs.core.MultivaluedMap;
  */
 @ToString
 public class CollectionTerminalState extends BaseState {
+    private static final int STREAMING_BATCH_SIZE = 100;
+
     private final Optional<PersistentResource> parent;
     private final Optional<String> relationName;
     private final Type<?> entityClass;
@@ -82,36 +93,144 @@ public class CollectionTerminalState extends BaseState {
         DocumentProcessor includedProcessor = new IncludedProcessor();
         includedProcessor.execute(jsonApiDocument, collection, queryParams);
 
-        Pagination pagination = parentProjection.getPagination();
-        if (parent.isPresent()) {
-            pagination = parentProjection.getRelationship(relationName.get()).get().getProjection().getPagination();
+        // Add pagination meta data
+        jsonApiDocument.setMeta(getPageMeta(requestScope,
+                collection.isEmpty() ? null : IterableUtils.first(collection),
+                collection.isEmpty() ? null : IterableUtils.get(collection, collection.size() - 1)));
+
+        JsonNode responseBody = requestScope.getMapper().toJsonObject(jsonApiDocument);
+
+        return () -> Pair.of(HttpStatus.SC_OK, responseBody);
+    }
+
+    @Override
+    public Optional<ElideResponse.BodyWriter> handleStreamingGet(StateContext state) {
+        RequestScope requestScope = state.getRequestScope();
+
+        // A toOne relationship is rendered as a single resource rather than as a collection
+        if (parent.isPresent() && requestScope.getDictionary()
+                .getRelationshipType(parent.get().getResourceType(), relationName.get()).isToOne()) {
+            return Optional.empty();
         }
 
-        // Add pagination meta data
-        if (!pagination.isDefaultInstance()) {
+        Observable<PersistentResource> collection = getResourceCollection(requestScope);
+        return Optional.of(outputStream -> writeCollection(requestScope, collection, outputStream));
+    }
 
-            Map<String, Number> pageMetaData = new HashMap<>();
-            pageMetaData.put("number", (pagination.getOffset() / pagination.getLimit()) + 1);
-            pageMetaData.put("limit", pagination.getLimit());
-
-            // Get total records if it has been requested and add to the page meta data
-            if (pagination.returnPageTotals()) {
-                Long totalRecords = pagination.getPageTotals();
-                pageMetaData.put("totalPages", totalRecords / pagination.getLimit()
-                        + ((totalRecords % pagination.getLimit()) > 0 ? 1 : 0));
-                pageMetaData.put("totalRecords", totalRecords);
+    /**
+     * Writes the collection as a JSON API document.  Records are serialized as the data store returns them, a
+     * batch at a time so that their relationships can still be loaded together.
+     */
+    private void writeCollection(RequestScope requestScope, Observable<PersistentResource> collection,
+                                 OutputStream outputStream) throws IOException {
+        ObjectMapper objectMapper = requestScope.getMapper().getObjectMapper();
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        Optional<MultivaluedMap<String, String>> queryParams = requestScope.getQueryParams();
+        DocumentProcessor includedProcessor = new IncludedProcessor();
+        JsonApiDocument includes = new JsonApiDocument();
+        PersistentResource[] bounds = new PersistentResource[2];
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // A failure part way through must leave the body truncated rather than closed as a valid document
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("data");
+
+            collection.buffer(STREAMING_BATCH_SIZE).subscribe(batch -> {
+                Set<PersistentResource> resources = new LinkedHashSet<>(batch);
+                PersistentResource.scheduleRelationships(resources);
+                for (PersistentResource resource : resources) {
+                    writer.writeValue(generator, resource.toResource());
+                }
+                includedProcessor.execute(includes, resources, queryParams);
+                generator.flush();
+
+                if (bounds[0] == null) {
+                    bounds[0] = batch.get(0);
+                }
+                bounds[1] = batch.get(batch.size() - 1);
+            }, failure::set);
+
+            Throwable error = failure.get();
+            if (error instanceof IOException) {
+                throw (IOException) error;
+            }
+            if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            }
+            if (error != null) {
+                throw new IllegalStateException(error);
+            }
+
+            generator.writeEndArray();
+
+            Meta meta = getPageMeta(requestScope, bounds[0], bounds[1]);
+            if (meta != null) {
+                generator.writeFieldName("meta");
+                writer.writeValue(generator, meta);
             }
 
-            Map<String, Object> allMetaData = new HashMap<>();
-            allMetaData.put("page", pageMetaData);
+            if (includes.getIncluded() != null) {
+                generator.writeFieldName("included");
+                writer.writeValue(generator, includes.getIncluded());
+            }
 
-            Meta meta = new Meta(allMetaData);
-            jsonApiDocument.setMeta(meta);
+            generator.writeEndObject();
         }
+    }
 
-        JsonNode responseBody = requestScope.getMapper().toJsonObject(jsonApiDocument);
+    /**
+     * Builds the pagination meta data of the collection.
+     * @param requestScope The request scope.
+     * @param first The first record of the page or null if the page is empty.
+     * @param last The last record of the page or null if the page is empty.
+     * @return The meta data or null if the collection is not paginated.
+     */
+    private Meta getPageMeta(RequestScope requestScope, PersistentResource first, PersistentResource last) {
+        EntityProjection projection = parentProjection;
+        if (parent.isPresent()) {
+            projection = parentProjection.getRelationship(relationName.get()).get().getProjection();
+        }
+        Pagination pagination = projection.getPagination();
 
-        return () -> Pair.of(HttpStatus.SC_OK, responseBody);
+        if (pagination.isDefaultInstance()) {
+            return null;
+        }
+
+        Map<String, Object> pageMetaData = new HashMap<>();
+        if (!pagination.isCursorPagination()) {
+            pageMetaData.put("number", (pagination.getOffset() / pagination.getLimit()) + 1);
+        }
+        pageMetaData.put("limit", pagination.getLimit());
+
+        // Pages requested by cursor return the cursors of their first and last records, which let clients
+        // continue with page[after] or page[before]
+        if (first != null && pagination.isCursorPagination() && KeysetCursor.supports(projection.getSorting())) {
+            KeysetCursor cursor = new KeysetCursor(projection.getType(), projection.getSorting(),
+                    requestScope.getDictionary());
+            putIfNotNull(pageMetaData, "startCursor", cursor.encode(first));
+            putIfNotNull(pageMetaData, "endCursor", cursor.encode(last));
+        }
+
+        // Get total records if it has been requested and add to the page meta data
+        if (pagination.returnPageTotals()) {
+            Long totalRecords = pagination.getPageTotals();
+            pageMetaData.put("totalPages", totalRecords / pagination.getLimit()
+                    + ((totalRecords % pagination.getLimit()) > 0 ? 1 : 0));
+            pageMetaData.put("totalRecords", totalRecords);
+        }
+
+        Map<String, Object> allMetaData = new HashMap<>();
+        allMetaData.put("page", pageMetaData);
+
+        return new Meta(allMetaData);
+    }
+
+    private static void putIfNotNull(Map<String, Object> metaData, String key, Object value) {
+        if (value != null) {
+            metaData.put(key, value);
+        }
     }
 
     @Override
@@ -149,6 +268,7 @@ public class CollectionTerminalState extends BaseState {
 
     private Data getData(Set<PersistentResource> collection, EntityDictionary dictionary) {
         Preconditions.checkNotNull(collection);
+        PersistentResource.scheduleRelationships(collection);
         List<Resource> resources = collection.stream().map(PersistentResource::toResource).collect(Collectors.toList());
 
         if (parent.isPresent()) {
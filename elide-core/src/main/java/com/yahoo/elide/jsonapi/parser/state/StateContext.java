@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.jsonapi.parser.state;
 
+import com.yahoo.elide.ElideResponse;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.generated.parsers.CoreParser.RootCollectionLoadEntitiesContext;
 import com.yahoo.elide.generated.parsers.CoreParser.RootCollectionLoadEntityContext;
@@ -19,6 +20,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import org.apache.commons.lang3.tuple.Pair;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Optional;
 import java.util.function.Supplier;
 
 /**
@@ -108,6 +110,10 @@ public class StateContext {
         return currentState.handleGet(this);
     }
 
+    public Optional<ElideResponse.BodyWriter> handleStreamingGet() {
+        return currentState.handleStreamingGet(this);
+    }
+
     public Supplier<Pair<Integer, JsonNode>> handlePatch() {
         return currentState.handlePatch(this);
     }
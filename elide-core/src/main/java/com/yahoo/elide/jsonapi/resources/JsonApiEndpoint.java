@@ -15,7 +15,9 @@ import com.yahoo.elide.utils.HeaderUtils;
 import com.yahoo.elide.utils.ResourceUtils;
 
 import org.apache.commons.lang3.StringUtils;
+import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -30,16 +32,21 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.CompletionCallback;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 
 /**
  * Default endpoint/servlet for using Elide and JSONAPI.
  */
+@Slf4j
 @Singleton
 @Produces(JSONAPI_CONTENT_TYPE)
 @Path("/")
@@ -81,27 +88,42 @@ public class JsonApiEndpoint {
 
     /**
      * Read handler.
+     * <p>
+     * The response is resumed before this method returns.  It is suspended only so that the body writer of a
+     * streamed response, which holds the open transaction of the request, is released once request processing
+     * completes, even if the response is discarded before its body is written (for example by a failing
+     * response filter).
      *
      * @param path request path
      * @param uriInfo URI info
      * @param headers the request headers
      * @param securityContext security context
-     * @return response
+     * @param asyncResponse the response
      */
     @GET
     @Path("{path:.*}")
-    public Response get(
+    public void get(
         @PathParam("path") String path,
         @Context UriInfo uriInfo,
         @Context HttpHeaders headers,
-        @Context SecurityContext securityContext) {
+        @Context SecurityContext securityContext,
+        @Suspended AsyncResponse asyncResponse) {
         MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
         String apiVersion = HeaderUtils.resolveApiVersion(headers.getRequestHeaders());
         Map<String, List<String>> requestHeaders = HeaderUtils.removeAuthHeaders(headers.getRequestHeaders());
         User user = new SecurityContextUser(securityContext);
 
-        return build(elide.get(getBaseUrlEndpoint(uriInfo), path, queryParams,
-                               requestHeaders, user, apiVersion, UUID.randomUUID()));
+        if (elide.getElideSettings().isJsonApiStreaming()) {
+            ElideResponse response = elide.getStreaming(getBaseUrlEndpoint(uriInfo), path, queryParams,
+                                                        requestHeaders, user, apiVersion, UUID.randomUUID());
+            if (response.isStreamed()) {
+                asyncResponse.register((CompletionCallback) throwable -> release(response.getBodyWriter()));
+            }
+            asyncResponse.resume(build(response));
+            return;
+        }
+        asyncResponse.resume(build(elide.get(getBaseUrlEndpoint(uriInfo), path, queryParams,
+                                             requestHeaders, user, apiVersion, UUID.randomUUID())));
     }
 
     /**
@@ -163,9 +185,26 @@ public class JsonApiEndpoint {
     }
 
     private static Response build(ElideResponse response) {
+        if (response.isStreamed()) {
+            // Closing the writer releases the transaction if the body could not be written.
+            StreamingOutput body = outputStream -> {
+                try (ElideResponse.BodyWriter bodyWriter = response.getBodyWriter()) {
+                    bodyWriter.writeTo(outputStream);
+                }
+            };
+            return Response.status(response.getResponseCode()).entity(body).build();
+        }
         return Response.status(response.getResponseCode()).entity(response.getBody()).build();
     }
 
+    private static void release(ElideResponse.BodyWriter bodyWriter) {
+        try {
+            bodyWriter.close();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to release the body of a streamed response", e);
+        }
+    }
+
     protected String getBaseUrlEndpoint(UriInfo uriInfo) {
         String baseUrl = elide.getElideSettings().getBaseUrl();
 
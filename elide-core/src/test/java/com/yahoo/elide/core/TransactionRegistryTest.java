@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+public class TransactionRegistryTest {
+    private static final UUID REQUEST_ID = UUID.randomUUID();
+
+    private final TransactionRegistry registry = new TransactionRegistry();
+    private final DataStoreTransaction first = mock(DataStoreTransaction.class);
+    private final DataStoreTransaction second = mock(DataStoreTransaction.class);
+
+    @Test
+    public void testConcurrentTransactionsOfOneRequest() {
+        registry.addRunningTransaction(REQUEST_ID, first);
+        registry.addRunningTransaction(REQUEST_ID, second);
+
+        assertEquals(ImmutableSet.of(first, second), registry.getRunningTransactions(REQUEST_ID));
+        assertEquals(1, registry.getRunningTransactions().size());
+
+        registry.removeRunningTransaction(REQUEST_ID, second);
+        assertEquals(ImmutableSet.of(first), registry.getRunningTransactions(REQUEST_ID));
+        assertEquals(first, registry.getRunningTransaction(REQUEST_ID));
+
+        registry.removeRunningTransaction(REQUEST_ID, first);
+        assertTrue(registry.getRunningTransactions(REQUEST_ID).isEmpty());
+        assertNull(registry.getRunningTransaction(REQUEST_ID));
+        assertTrue(registry.getRunningTransactions().isEmpty());
+    }
+
+    @Test
+    public void testRemoveAllTransactionsOfRequest() {
+        registry.addRunningTransaction(REQUEST_ID, first);
+        registry.addRunningTransaction(REQUEST_ID, second);
+
+        registry.removeRunningTransaction(REQUEST_ID);
+
+        assertTrue(registry.getRunningTransactions(REQUEST_ID).isEmpty());
+        assertTrue(registry.getRunningTransactions().isEmpty());
+    }
+}
@@ -7,10 +7,12 @@ package com.yahoo.elide.core.datastore.inmemory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -22,6 +24,8 @@ import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.HttpStatus;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.predicates.InPredicate;
@@ -42,11 +46,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -192,6 +199,57 @@ public class InMemoryStoreTransactionTest {
         assertTrue(loaded.contains(book3));
     }
 
+    @Test
+    public void testTransactionRequiresInMemoryFilterDuringGetRelations() {
+        FilterExpression expression =
+                new InPredicate(new Path(Book.class, dictionary, "genre"), "Literary Fiction");
+
+        Relationship relationship = Relationship.builder()
+                .projection(EntityProjection.builder()
+                    .type(Book.class)
+                    .filterExpression(expression)
+                    .build())
+                .name("books")
+                .alias("books")
+                .build();
+
+        Author author2 = new Author();
+        author2.setBooks(Lists.newArrayList(book2, book3));
+
+        Map<Object, Object> relations = new IdentityHashMap<>();
+        relations.put(author, books);
+        relations.put(author2, author2.getBooks());
+
+        ArgumentCaptor<Relationship> relationshipArgument = ArgumentCaptor.forClass(Relationship.class);
+
+        when(scope.getNewPersistentResources()).thenReturn(Sets.newHashSet(mock(PersistentResource.class)));
+        when(wrappedTransaction.supportsFiltering(eq(scope), any(), eq(relationship.getProjection()))).thenReturn(DataStoreTransaction.FeatureSupport.FULL);
+        when(wrappedTransaction.getRelations(eq(inMemoryStoreTransaction), any(), any(), eq(scope))).thenReturn(relations);
+
+        Map<Object, Object> loaded = inMemoryStoreTransaction.getRelations(
+                inMemoryStoreTransaction, Arrays.asList(author, author2), relationship, scope);
+
+        verify(wrappedTransaction, times(1)).getRelations(
+                eq(inMemoryStoreTransaction),
+                any(),
+                relationshipArgument.capture(),
+                eq(scope));
+        verify(wrappedTransaction, never()).getRelation(any(), any(), any(), any());
+
+        assertNull(relationshipArgument.getValue().getProjection().getFilterExpression());
+        assertNull(relationshipArgument.getValue().getProjection().getSorting());
+        assertNull(relationshipArgument.getValue().getProjection().getPagination());
+
+        Collection<Object> authorBooks = (Collection<Object>) loaded.get(author);
+        assertEquals(2, authorBooks.size());
+        assertTrue(authorBooks.contains(book1));
+        assertTrue(authorBooks.contains(book3));
+
+        Collection<Object> author2Books = (Collection<Object>) loaded.get(author2);
+        assertEquals(1, author2Books.size());
+        assertTrue(author2Books.contains(book3));
+    }
+
     @Test
     public void testDataStoreRequiresTotalInMemoryFilter() {
         FilterExpression expression =
@@ -500,6 +558,154 @@ public class InMemoryStoreTransactionTest {
         assertTrue(loaded.contains(book3));
     }
 
+    @Test
+    public void testDataStoreRequiresInMemoryCursorPagination() {
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("title", Sorting.SortOrder.asc);
+
+        Sorting sorting = new SortingImpl(sortOrder, Book.class, dictionary);
+
+        EntityProjection afterProjection = EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(PaginationImpl.builder()
+                        .entityClass(ClassType.of(Book.class))
+                        .clientLimit(1)
+                        .systemDefaultLimit(10)
+                        .systemMaxLimit(10)
+                        .generateTotals(true)
+                        .after(cursor("[\"Book 1\",1]"))
+                        .build())
+                .build();
+
+        when(wrappedTransaction.supportsSorting(eq(scope), any(), any())).thenReturn(true);
+        when(wrappedTransaction.supportsPagination(eq(scope), any(), any())).thenReturn(true);
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(books);
+
+        List<Object> loaded = Lists.newArrayList(inMemoryStoreTransaction.loadObjects(afterProjection, scope));
+
+        ArgumentCaptor<EntityProjection> projectionArgument = ArgumentCaptor.forClass(EntityProjection.class);
+        verify(wrappedTransaction, times(1)).loadObjects(projectionArgument.capture(), eq(scope));
+
+        assertNull(projectionArgument.getValue().getPagination());
+        assertEquals(Arrays.asList(book2), loaded);
+        assertEquals(3L, afterProjection.getPagination().getPageTotals());
+
+        EntityProjection beforeProjection = EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(PaginationImpl.builder()
+                        .entityClass(ClassType.of(Book.class))
+                        .clientLimit(2)
+                        .systemDefaultLimit(10)
+                        .systemMaxLimit(10)
+                        .before(cursor("[\"Book 3\",3]"))
+                        .build())
+                .build();
+
+        loaded = Lists.newArrayList(inMemoryStoreTransaction.loadObjects(beforeProjection, scope));
+
+        assertEquals(Arrays.asList(book1, book2), loaded);
+    }
+
+    @Test
+    public void testEmptyCursorPagesFromEitherEnd() {
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("title", Sorting.SortOrder.asc);
+
+        Sorting sorting = new SortingImpl(sortOrder, Book.class, dictionary);
+
+        EntityProjection firstProjection = EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(PaginationImpl.builder()
+                        .entityClass(ClassType.of(Book.class))
+                        .clientLimit(2)
+                        .systemDefaultLimit(10)
+                        .systemMaxLimit(10)
+                        .after("")
+                        .build())
+                .build();
+
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(books);
+
+        List<Object> loaded = Lists.newArrayList(inMemoryStoreTransaction.loadObjects(firstProjection, scope));
+        assertEquals(Arrays.asList(book1, book2), loaded);
+
+        EntityProjection lastProjection = EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(PaginationImpl.builder()
+                        .entityClass(ClassType.of(Book.class))
+                        .clientLimit(2)
+                        .systemDefaultLimit(10)
+                        .systemMaxLimit(10)
+                        .before("")
+                        .build())
+                .build();
+
+        loaded = Lists.newArrayList(inMemoryStoreTransaction.loadObjects(lastProjection, scope));
+        assertEquals(Arrays.asList(book2, book3), loaded);
+    }
+
+    @Test
+    public void testCursorPaginationPushDown() {
+        PaginationImpl pagination = PaginationImpl.builder()
+                .entityClass(ClassType.of(Book.class))
+                .clientLimit(2)
+                .systemDefaultLimit(10)
+                .systemMaxLimit(10)
+                .before(cursor("[3]"))
+                .build();
+
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .pagination(pagination)
+                .build();
+
+        when(wrappedTransaction.supportsPagination(eq(scope), any(), eq(projection))).thenReturn(true);
+        when(wrappedTransaction.supportsCursorPagination(eq(scope), any(), eq(projection))).thenReturn(true);
+
+        // The store returns the page before a cursor nearest first
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(Arrays.asList(book2, book1));
+
+        List<Object> loaded = Lists.newArrayList(inMemoryStoreTransaction.loadObjects(projection, scope));
+
+        ArgumentCaptor<EntityProjection> projectionArgument = ArgumentCaptor.forClass(EntityProjection.class);
+        verify(wrappedTransaction, times(1)).loadObjects(projectionArgument.capture(), eq(scope));
+
+        assertEquals(pagination, projectionArgument.getValue().getPagination());
+        assertEquals(Arrays.asList(book1, book2), loaded);
+    }
+
+    @Test
+    public void testCursorWithNullSortValueIsRejected() {
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("title", Sorting.SortOrder.asc);
+
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .sorting(new SortingImpl(sortOrder, Book.class, dictionary))
+                .pagination(PaginationImpl.builder()
+                        .entityClass(ClassType.of(Book.class))
+                        .clientLimit(1)
+                        .systemDefaultLimit(10)
+                        .systemMaxLimit(10)
+                        .after(cursor("[null,1]"))
+                        .build())
+                .build();
+
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(books);
+
+        InvalidValueException e = assertThrows(InvalidValueException.class,
+                () -> inMemoryStoreTransaction.loadObjects(projection, scope));
+        assertEquals(HttpStatus.SC_BAD_REQUEST, e.getStatus());
+    }
+
+    private static String cursor(String keys) {
+        return Base64.getUrlEncoder().encodeToString(keys.getBytes(StandardCharsets.UTF_8));
+    }
+
     @Test
     public void testInMemoryDataStore() {
         HashMapDataStore wrapped = new HashMapDataStore(Book.class.getPackage());
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.dictionary;
+
+import com.yahoo.elide.core.type.Method;
+import com.yahoo.elide.core.type.Type;
+import example.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading and writing entity attributes through the method handle accessors of {@link EntityDictionary}
+ * with resolving and invoking the same members reflectively on every call.
+ * <p>
+ * Run with {@code mvn test-compile} followed by the main method of this class on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityDictionaryAccessorBenchmark {
+    private EntityDictionary dictionary;
+    private Book book;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        dictionary = TestDictionary.getTestDictionary();
+        dictionary.bindEntity(Book.class);
+
+        book = new Book();
+        book.setTitle("The Hitchhiker's Guide to the Galaxy");
+    }
+
+    @Benchmark
+    public Object reflectiveGet() throws ReflectiveOperationException {
+        Method getter = (Method) dictionary.getAccessibleObject(book, "title");
+        return getter.invoke(book);
+    }
+
+    @Benchmark
+    public Object dictionaryGet() {
+        return dictionary.getValue(book, "title", null);
+    }
+
+    @Benchmark
+    public void reflectiveSet() throws ReflectiveOperationException {
+        Type<?> type = EntityDictionary.getType(book);
+        Type<?> fieldType = dictionary.getType(type, "title");
+        Method setter = EntityDictionary.findMethod(type, "setTitle", fieldType);
+        setter.invoke(book, dictionary.coerce(book, "Mostly Harmless", "title", fieldType));
+    }
+
+    @Benchmark
+    public void dictionarySet() {
+        dictionary.setValue(book, "title", "Mostly Harmless");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EntityDictionaryAccessorBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
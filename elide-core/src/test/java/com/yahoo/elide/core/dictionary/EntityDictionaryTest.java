@@ -22,7 +22,9 @@ import com.yahoo.elide.annotation.LifeCycleHookBinding;
 import com.yahoo.elide.annotation.ReadPermission;
 import com.yahoo.elide.annotation.SecurityCheck;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.exceptions.InternalServerErrorException;
 import com.yahoo.elide.core.exceptions.InvalidAttributeException;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.lifecycle.LifeCycleHook;
 import com.yahoo.elide.core.security.checks.FilterExpressionCheck;
@@ -1000,6 +1002,41 @@ public class EntityDictionaryTest extends EntityDictionary {
         assertEquals(ImmutableSet.of(3.0, 4.0), bean.set);
     }
 
+    @Test
+    public void testAccessorExceptions() throws Exception {
+        @Entity
+        @Include(rootLevel = false)
+        class AccessorModel {
+            @Id
+            private long id;
+
+            private int count;
+
+            @Transient
+            @ComputedAttribute
+            public String getInvalid() {
+                throw new InvalidValueException("invalid");
+            }
+
+            @Transient
+            @ComputedAttribute
+            public String getBroken() {
+                throw new IllegalStateException();
+            }
+        }
+
+        bindEntity(AccessorModel.class);
+        AccessorModel model = new AccessorModel();
+
+        setValue(model, "count", "3");
+        assertEquals(3, model.count);
+        assertEquals(3, getValue(model, "count", null));
+
+        assertThrows(InvalidValueException.class, () -> getValue(model, "invalid", null));
+        assertThrows(InternalServerErrorException.class, () -> getValue(model, "broken", null));
+        assertThrows(InvalidAttributeException.class, () -> getValue(model, "badfield", null));
+    }
+
     public static class TestCheck extends UserCheck {
 
         @Override
@@ -19,6 +19,7 @@ import com.yahoo.elide.annotation.ReadPermission;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.Path.PathElement;
 import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RelationshipBatcher;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
@@ -64,6 +65,7 @@ public class VerifyFieldAccessFilterExpressionVisitorTest {
         when(scope.getDictionary()).thenReturn(dictionary);
         when(scope.getPermissionExecutor()).thenReturn(permissionExecutor);
         when(scope.getTransaction()).thenReturn(transaction);
+        when(scope.getRelationshipBatcher()).thenReturn(new RelationshipBatcher());
         when(permissionExecutor.evaluateFilterJoinUserChecks(any(), any())).thenCallRealMethod();
         when(permissionExecutor.handleFilterJoinReject(any(), any(), any())).thenCallRealMethod();
     }
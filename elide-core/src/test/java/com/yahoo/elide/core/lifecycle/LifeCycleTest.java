@@ -17,6 +17,7 @@ import static com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase.P
 import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -49,11 +50,17 @@ import com.yahoo.elide.core.security.ChangeSpec;
 import com.yahoo.elide.core.security.TestUser;
 import com.yahoo.elide.core.security.User;
 import com.yahoo.elide.core.type.ClassType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableSet;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import javax.validation.ConstraintViolationException;
@@ -254,6 +261,106 @@ public class LifeCycleTest {
         verify(tx).close();
     }
 
+    @Test
+    public void testElideGetStreaming() throws Exception {
+        DataStore store = mock(DataStore.class);
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        FieldTestModel mockModel = mock(FieldTestModel.class);
+
+        Elide elide = getElide(store, dictionary, MOCK_AUDIT_LOGGER);
+
+        when(store.beginReadTransaction()).thenCallRealMethod();
+        when(store.beginTransaction()).thenReturn(tx);
+        when(tx.loadObjects(isA(EntityProjection.class), isA(RequestScope.class)))
+                .thenReturn(Arrays.asList(mockModel));
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        ElideResponse response = elide.getStreaming(baseUrl, "/testModel", queryParams, Collections.emptyMap(),
+                null, NO_VERSION, UUID.randomUUID());
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        assertTrue(response.isStreamed());
+
+        // The transaction stays open until the body is written
+        verify(tx, never()).commit(any());
+        verify(tx, never()).close();
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBodyWriter().writeTo(body);
+        assertTrue(body.toString().startsWith("{\"data\":[{\"type\":\"testModel\""));
+
+        verify(mockModel, times(1)).classCallback(eq(READ), eq(PRESECURITY));
+        verify(mockModel, times(1)).classCallback(eq(READ), eq(PRECOMMIT));
+        verify(mockModel, times(1)).classCallback(eq(READ), eq(POSTCOMMIT));
+        verify(tx).preCommit(any());
+        verify(tx).commit(any());
+        verify(tx).close();
+    }
+
+    @Test
+    public void testElideGetStreamingFailureTruncatesBody() throws Exception {
+        DataStore store = mock(DataStore.class);
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        FieldTestModel mockModel = mock(FieldTestModel.class);
+
+        Elide elide = getElide(store, dictionary, MOCK_AUDIT_LOGGER);
+
+        // The first batch of records is written before a record of the second batch fails to serialize
+        FieldTestModel failingModel = mock(FieldTestModel.class);
+        doThrow(new IllegalStateException("Unreadable field"))
+                .when(failingModel).attributeCallback(eq(READ), eq(PRESECURITY), any());
+        List<Object> records = new ArrayList<>(Collections.nCopies(100, mockModel));
+        records.add(failingModel);
+
+        when(store.beginReadTransaction()).thenCallRealMethod();
+        when(store.beginTransaction()).thenReturn(tx);
+        when(tx.loadObjects(isA(EntityProjection.class), isA(RequestScope.class))).thenReturn(records);
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        ElideResponse response = elide.getStreaming(baseUrl, "/testModel", queryParams, Collections.emptyMap(),
+                null, NO_VERSION, UUID.randomUUID());
+        assertTrue(response.isStreamed());
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        assertThrows(IllegalStateException.class, () -> response.getBodyWriter().writeTo(body));
+
+        // The body holds the records written so far but is not a complete document
+        String written = body.toString();
+        assertTrue(written.startsWith("{\"data\":[{\"type\":\"testModel\""));
+        assertThrows(JsonProcessingException.class, () -> new ObjectMapper().readTree(written));
+
+        verify(tx, never()).commit(any());
+        verify(tx).close();
+        assertTrue(elide.getTransactionRegistry().getRunningTransactions().isEmpty());
+    }
+
+    @Test
+    public void testElideGetStreamingClosedWithoutWriting() throws Exception {
+        DataStore store = mock(DataStore.class);
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        FieldTestModel mockModel = mock(FieldTestModel.class);
+
+        Elide elide = getElide(store, dictionary, MOCK_AUDIT_LOGGER);
+
+        when(store.beginReadTransaction()).thenCallRealMethod();
+        when(store.beginTransaction()).thenReturn(tx);
+        when(tx.loadObjects(isA(EntityProjection.class), isA(RequestScope.class)))
+                .thenReturn(Arrays.asList(mockModel));
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        ElideResponse response = elide.getStreaming(baseUrl, "/testModel", queryParams, Collections.emptyMap(),
+                null, NO_VERSION, UUID.randomUUID());
+        assertTrue(response.isStreamed());
+        assertEquals(1, elide.getTransactionRegistry().getRunningTransactions().size());
+
+        response.getBodyWriter().close();
+
+        verify(tx, never()).commit(any());
+        verify(tx).close();
+        assertTrue(elide.getTransactionRegistry().getRunningTransactions().isEmpty());
+        assertThrows(IllegalStateException.class,
+                () -> response.getBodyWriter().writeTo(new ByteArrayOutputStream()));
+    }
+
     @Test
     public void testLegacyElideGet() throws Exception {
         DataStore store = mock(DataStore.class);
@@ -219,6 +219,41 @@ public class PaginationImplTest {
         assertEquals(10, pageData.getLimit());
     }
 
+    @Test
+    public void shouldParseQueryParamsForCursorAndPageSize() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[size]", "10");
+        queryParams.add("page[after]", "WzFd");
+
+        PaginationImpl pageData = PaginationImpl.parseQueryParams(ClassType.of(PaginationImplTest.class),
+                Optional.of(queryParams), elideSettings);
+        assertEquals(0, pageData.getOffset());
+        assertEquals(10, pageData.getLimit());
+        assertEquals("WzFd", pageData.getAfter());
+        assertTrue(pageData.isCursorPagination());
+        assertFalse(pageData.isDefaultInstance());
+    }
+
+    @Test
+    public void shouldThrowExceptionForCursorAndPageNumber() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[number]", "2");
+        queryParams.add("page[before]", "WzFd");
+
+        assertThrows(InvalidValueException.class, () -> PaginationImpl.parseQueryParams(ClassType.of(PaginationImplTest.class),
+                Optional.of(queryParams), elideSettings));
+    }
+
+    @Test
+    public void shouldThrowExceptionForAfterAndBeforeCursors() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[after]", "WzFd");
+        queryParams.add("page[before]", "WzJd");
+
+        assertThrows(InvalidValueException.class, () -> PaginationImpl.parseQueryParams(ClassType.of(PaginationImplTest.class),
+                Optional.of(queryParams), elideSettings));
+    }
+
     @Test
     public void testClassLevelOverride() {
         @Paginate(maxLimit = 100000, defaultLimit = 10)
@@ -7,7 +7,9 @@ package com.yahoo.elide.core.security;
 
 import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.annotation.DeletePermission;
@@ -18,16 +20,24 @@ import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
+import com.yahoo.elide.core.security.checks.Check;
 import com.yahoo.elide.core.security.checks.OperationCheck;
 import com.yahoo.elide.core.security.checks.UserCheck;
+import com.yahoo.elide.core.security.checks.prefab.Role;
 import com.yahoo.elide.core.security.permissions.ExpressionResult;
+import com.yahoo.elide.core.security.permissions.UserPermissionCache;
 import com.yahoo.elide.core.type.ClassType;
 import example.TestCheckMappings;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 
@@ -446,6 +456,44 @@ public class PermissionExecutorTest {
         assertEquals(ExpressionResult.PASS, requestScope.getPermissionExecutor().checkPermission(ReadPermission.class, resource, cspec));
     }
 
+    @Test
+    public void testUserPermissionCacheAcrossRequests() {
+        Map<String, Class<? extends Check>> checks = new HashMap<>(TestCheckMappings.MAPPINGS);
+        checks.put("cacheableUserCheck", CacheableUserCheck.class);
+        checks.put("countingUserCheck", CountingUserCheck.class);
+        EntityDictionary dictionary = new EntityDictionary(checks);
+        dictionary.bindEntity(UserPermissionCacheRecord.class);
+        ElideSettings settings = new ElideSettingsBuilder(null)
+                .withEntityDictionary(dictionary)
+                .withUserPermissionCache(new UserPermissionCache(100, Duration.ofMinutes(5)))
+                .build();
+        CacheableUserCheck.CALLS.set(0);
+        CountingUserCheck.CALLS.set(0);
+
+        for (String userName : Arrays.asList("1", "1", "2")) {
+            RequestScope requestScope = new RequestScope(null, null, NO_VERSION, null, null, new TestUser(userName),
+                    null, null, UUID.randomUUID(), settings);
+            UserPermissionCacheRecord record = new UserPermissionCacheRecord();
+            PersistentResource resource = new PersistentResource<>(record, requestScope.getUUIDFor(record),
+                    requestScope);
+
+            assertEquals(ExpressionResult.PASS,
+                    requestScope.getPermissionExecutor().checkPermission(ReadPermission.class, resource));
+            assertEquals(ExpressionResult.PASS,
+                    requestScope.getPermissionExecutor().checkPermission(UpdatePermission.class, resource));
+        }
+
+        // Cacheable checks run once per user, the others once per request
+        assertEquals(2, CacheableUserCheck.CALLS.get());
+        assertEquals(3, CountingUserCheck.CALLS.get());
+    }
+
+    @Test
+    public void testRoleMemberCheckCacheableOnlyWhenRequested() {
+        assertFalse(new Role.RoleMemberCheck("admin").isCacheable());
+        assertTrue(new Role.RoleMemberCheck("admin", true).isCacheable());
+    }
+
     @Test
     public void testUserCheckOnFieldSuccess() {
         PersistentResource resource = newResource(OpenBean.class, false);
@@ -634,4 +682,36 @@ public class PermissionExecutorTest {
     @UpdatePermission(expression = "peUserCheck")
     public static class UserCheckCacheRecord {
     }
+
+    public static class CacheableUserCheck extends UserCheck {
+        private static final AtomicInteger CALLS = new AtomicInteger();
+
+        @Override
+        public boolean ok(User user) {
+            CALLS.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+    }
+
+    public static class CountingUserCheck extends UserCheck {
+        private static final AtomicInteger CALLS = new AtomicInteger();
+
+        @Override
+        public boolean ok(User user) {
+            CALLS.incrementAndGet();
+            return true;
+        }
+    }
+
+    @Entity
+    @Include(rootLevel = false)
+    @ReadPermission(expression = "cacheableUserCheck")
+    @UpdatePermission(expression = "countingUserCheck")
+    public static class UserPermissionCacheRecord {
+    }
 }
@@ -7,6 +7,8 @@ package com.yahoo.elide.core.security.permissions;
 
 import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.annotation.Include;
@@ -23,7 +25,9 @@ import com.yahoo.elide.core.security.permissions.expressions.Expression;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import javax.persistence.Entity;
@@ -127,6 +131,37 @@ public class PermissionExpressionBuilderTest {
 
      }
 
+    @Test
+    public void testCompiledPermissionInstantiatesFreshExpressions() {
+        @Entity
+        @Include(rootLevel = false)
+        @ReadPermission(expression = "user has all access OR user has no access")
+        class Model { }
+        dictionary.bindEntity(Model.class);
+
+        CompiledPermission permission = dictionary.getCompiledPermissionForClass(
+                dictionary.getEntityClass("model", NO_VERSION), ReadPermission.class);
+        assertSame(permission, dictionary.getCompiledPermissionForClass(
+                dictionary.getEntityClass("model", NO_VERSION), ReadPermission.class));
+
+        List<Check> checks = new ArrayList<>();
+        Expression first = permission.instantiate(dictionary, check -> {
+            checks.add(check);
+            return Expression.Results.SUCCESS;
+        });
+        Expression second = permission.instantiate(dictionary, check -> {
+            checks.add(check);
+            return Expression.Results.FAILURE;
+        });
+
+        assertNotSame(first, second);
+        assertEquals(4, checks.size());
+        assertSame(checks.get(0), checks.get(2));
+        assertSame(checks.get(1), checks.get(3));
+        assertEquals(ExpressionResult.PASS, first.evaluate(Expression.EvaluationMode.ALL_CHECKS));
+        assertEquals(ExpressionResult.FAIL, second.evaluate(Expression.EvaluationMode.ALL_CHECKS));
+    }
+
     public <T> PersistentResource newResource(T obj, Class<T> cls) {
         RequestScope requestScope = new RequestScope(null, null, NO_VERSION, null, null, null, null, null, UUID.randomUUID(), elideSettings);
         return new PersistentResource<>(obj, requestScope.getUUIDFor(obj), requestScope);
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import com.yahoo.elide.annotation.Include;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+public class ClassIndexProcessorTest {
+
+    private static final String MODEL = "package indexed;\n"
+            + "\n"
+            + "@com.yahoo.elide.annotation.Include\n"
+            + "@lombok.Getter\n"
+            + "public class IndexedModel {\n"
+            + "    @Deprecated\n"
+            + "    public static class Nested {\n"
+            + "    }\n"
+            + "\n"
+            + "    public static class Plain {\n"
+            + "    }\n"
+            + "}\n";
+
+    @Test
+    public void testIndexAndScan(@TempDir Path output) throws Exception {
+        Path source = output.resolve("IndexedModel.java");
+        Files.write(source, MODEL.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int status = compiler.run(null, null, null,
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", ClassIndexProcessor.class.getName(),
+                "-d", output.toString(),
+                source.toString());
+        assertEquals(0, status);
+
+        Map<String, Set<String>> index;
+        try (Reader reader = Files.newBufferedReader(output.resolve(ClassIndex.RESOURCE))) {
+            index = ClassIndex.read(reader);
+        }
+
+        // Source retention annotations such as lombok's are left out
+        assertEquals(2, index.size(), "Actual: " + index);
+        assertEquals(Arrays.asList(Include.class.getName()),
+                index.get("indexed.IndexedModel").stream().collect(Collectors.toList()));
+        assertEquals(Arrays.asList(Deprecated.class.getName()),
+                index.get("indexed.IndexedModel$Nested").stream().collect(Collectors.toList()));
+
+        // The output directory is read from its index rather than scanned
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { output.toUri().toURL() }, original)) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+
+            assertTrue(ClassIndex.load(classLoader).covers(output.toString()));
+
+            Set<String> classes = ClassScanner.getAnnotatedClasses("indexed", Include.class).stream()
+                    .map(Class::getName)
+                    .collect(Collectors.toSet());
+            assertEquals(1, classes.size());
+            assertTrue(classes.contains("indexed.IndexedModel"));
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void testNoIndex() throws IOException {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], null)) {
+            ClassIndex index = ClassIndex.load(classLoader);
+            assertTrue(index.isEmpty());
+            assertFalse(index.covers("/"));
+        }
+    }
+}
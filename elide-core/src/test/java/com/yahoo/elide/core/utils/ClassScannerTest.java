@@ -18,7 +18,7 @@ public class ClassScannerTest {
     @Test
     public void testGetAllClasses() {
         Set<Class<?>> classes = ClassScanner.getAllClasses("com.yahoo.elide.core.utils");
-        assertEquals(31, classes.size());
+        assertEquals(33, classes.size());
         assertTrue(classes.contains(ClassScannerTest.class));
     }
 
@@ -32,14 +32,14 @@ public class ClassScannerTest {
     @Test
     public void testGetAllAnnotatedClasses() {
         Set<Class<?>> classes = ClassScanner.getAnnotatedClasses(ReadPermission.class);
-        assertEquals(12, classes.size(), "Actual: " + classes);
+        assertEquals(13, classes.size(), "Actual: " + classes);
         classes.forEach(cls -> assertTrue(cls.isAnnotationPresent(ReadPermission.class)));
     }
 
     @Test
     public void testGetAnyAnnotatedClasses() {
         Set<Class<?>> classes = ClassScanner.getAnnotatedClasses(ReadPermission.class, UpdatePermission.class);
-        assertEquals(17, classes.size());
+        assertEquals(18, classes.size());
         for (Class<?> cls : classes) {
             assertTrue(cls.isAnnotationPresent(ReadPermission.class)
                     || cls.isAnnotationPresent(UpdatePermission.class));
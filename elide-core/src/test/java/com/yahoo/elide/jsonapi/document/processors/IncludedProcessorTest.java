@@ -7,8 +7,12 @@ package com.yahoo.elide.jsonapi.document.processors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.TestRequestScope;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
@@ -28,6 +32,7 @@ import org.mockito.Answers;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -139,6 +144,33 @@ public class IncludedProcessorTest {
                 "Included Processor added requested resource from all records");
     }
 
+    @Test
+    public void testExecuteLoadsRelationForAllRecordsTogether() throws Exception {
+        JsonApiDocument jsonApiDocument = new JsonApiDocument();
+
+        Set<PersistentResource> parents = new LinkedHashSet<>();
+        parents.add(parentRecord1);
+        parents.add(parentRecord3);
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.put(INCLUDE, Collections.singletonList("children.friends"));
+        testScope.setQueryParams(queryParams);
+        includedProcessor.execute(jsonApiDocument, parents, Optional.of(queryParams));
+
+        Set<Resource> expectedIncluded = Sets.newHashSet(childRecord1.toResource(), childRecord2.toResource(),
+                childRecord3.toResource(), childRecord4.toResource());
+
+        assertEquals(expectedIncluded, new HashSet<>(jsonApiDocument.getIncluded()),
+                "Included Processor added requested resources from all records");
+
+        //One batch for the children of both parents.  The friends of all three children are loaded in one batch
+        //for their relationship linkage and in one batch for the next level of the include path.
+        verify(mockTransaction, times(1)).getRelations(any(), argThat(owners -> owners.size() == 2),
+                argThat(relationship -> relationship.getName().equals("children")), any());
+        verify(mockTransaction, times(2)).getRelations(any(), argThat(owners -> owners.size() == 3),
+                argThat(relationship -> relationship.getName().equals("friends")), any());
+    }
+
     @Test
     public void testExecuteSingleNestedRelation() throws Exception {
 
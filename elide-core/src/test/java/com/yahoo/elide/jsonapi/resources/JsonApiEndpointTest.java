@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.jsonapi.resources;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.CompletionCallback;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.UriInfo;
+
+/**
+ * JsonApiEndpoint Test.
+ */
+public class JsonApiEndpointTest {
+
+    private JsonApiEndpoint endpoint;
+    private ElideResponse.BodyWriter bodyWriter;
+    private AsyncResponse asyncResponse;
+    private UriInfo uriInfo;
+    private HttpHeaders headers;
+
+    @BeforeEach
+    public void setup() {
+        Elide elide = mock(Elide.class);
+        ElideSettings settings = mock(ElideSettings.class);
+        when(settings.isJsonApiStreaming()).thenReturn(true);
+        when(settings.getBaseUrl()).thenReturn("http://localhost");
+        when(elide.getElideSettings()).thenReturn(settings);
+
+        bodyWriter = mock(ElideResponse.BodyWriter.class);
+        when(elide.getStreaming(any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(new ElideResponse(200, null, bodyWriter));
+
+        uriInfo = mock(UriInfo.class);
+        when(uriInfo.getQueryParameters()).thenReturn(new MultivaluedHashMap<>());
+        headers = mock(HttpHeaders.class);
+        when(headers.getRequestHeaders()).thenReturn(new MultivaluedHashMap<>());
+        asyncResponse = mock(AsyncResponse.class);
+
+        endpoint = new JsonApiEndpoint(elide);
+    }
+
+    @Test
+    public void testStreamedBodyIsClosedOnceWritten() throws IOException {
+        endpoint.get("book", uriInfo, headers, mock(SecurityContext.class), asyncResponse);
+
+        ArgumentCaptor<Response> response = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse).resume(response.capture());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getValue().getEntity()).write(outputStream);
+
+        verify(bodyWriter).writeTo(outputStream);
+        verify(bodyWriter).close();
+    }
+
+    @Test
+    public void testDiscardedStreamedBodyIsReleased() throws IOException {
+        endpoint.get("book", uriInfo, headers, mock(SecurityContext.class), asyncResponse);
+
+        ArgumentCaptor<CompletionCallback> callback = ArgumentCaptor.forClass(CompletionCallback.class);
+        verify(asyncResponse).register(callback.capture());
+
+        // The response completes without its body being written
+        callback.getValue().onComplete(new IllegalStateException("Response filter failed"));
+
+        verify(bodyWriter, never()).writeTo(any());
+        verify(bodyWriter).close();
+    }
+}
@@ -6,8 +6,18 @@
 package com.yahoo.elide.parsers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.yahoo.elide.generated.parsers.CoreLexer;
+import com.yahoo.elide.generated.parsers.CoreParser;
 import com.yahoo.elide.jsonapi.parser.JsonApiParser;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 public class JsonApiParserTest {
 
@@ -31,4 +41,45 @@ public class JsonApiParserTest {
         normalizedPath = JsonApiParser.normalizePath("//books//1//author//");
         assertEquals("books/1/author", normalizedPath,  "it deduplicates path separators");
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/books",
+            "/books/1",
+            "/books/1/authors",
+            "/books/1/relationships/authors",
+            "/books/1/authors/2",
+            "/books/1/authors/2/books",
+            "/books/1/authors/2/relationships/books",
+            "/book-s/a%20b/auth.ors/(2)"
+    })
+    public void testParseTrees(String path) {
+        assertSameTree(antlrParse(JsonApiParser.normalizePath(path)), JsonApiParser.parse(path));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "/relationships", "/books/relationships", "/books/1/relationships",
+            "/books/1/relationships/relationships", "/books/1#"})
+    public void testInvalidPaths(String path) {
+        assertThrows(ParseCancellationException.class, () -> JsonApiParser.parse(path));
+    }
+
+    private static ParseTree antlrParse(String path) {
+        CoreParser parser = new CoreParser(new CommonTokenStream(new CoreLexer(CharStreams.fromString(path))));
+        return parser.start();
+    }
+
+    private static void assertSameTree(ParseTree expected, ParseTree actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected.getText(), actual.getText());
+        assertEquals(expected.getChildCount(), actual.getChildCount());
+        if (expected instanceof TerminalNode) {
+            assertEquals(((TerminalNode) expected).getSymbol().getType(),
+                    ((TerminalNode) actual).getSymbol().getType());
+        }
+        for (int idx = 0; idx < expected.getChildCount(); idx++) {
+            assertEquals(actual, actual.getChild(idx).getParent());
+            assertSameTree(expected.getChild(idx), actual.getChild(idx));
+        }
+    }
 }
@@ -6,6 +6,8 @@
 package com.yahoo.elide.parsers.expression;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import com.yahoo.elide.annotation.CreatePermission;
 import com.yahoo.elide.annotation.DeletePermission;
 import com.yahoo.elide.annotation.Include;
@@ -19,9 +21,10 @@ import com.yahoo.elide.core.security.checks.Check;
 import com.yahoo.elide.core.security.checks.OperationCheck;
 import com.yahoo.elide.core.security.checks.UserCheck;
 import com.yahoo.elide.core.security.checks.prefab.Role;
+import com.yahoo.elide.core.security.permissions.CompiledPermission;
 import com.yahoo.elide.core.security.permissions.ExpressionResult;
 import com.yahoo.elide.core.security.permissions.expressions.Expression;
-import com.yahoo.elide.core.security.visitors.PermissionExpressionVisitor;
+import com.yahoo.elide.core.security.visitors.PermissionExpressionCompiler;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.type.Type;
 import org.antlr.v4.runtime.tree.ParseTree;
@@ -30,7 +33,9 @@ import org.junit.jupiter.api.Test;
 import lombok.AllArgsConstructor;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import javax.persistence.Entity;
@@ -38,7 +43,7 @@ import javax.persistence.Entity;
 /**
  * Test the expression language.
  */
-public class PermissionExpressionVisitorTest {
+public class PermissionExpressionCompilerTest {
     private EntityDictionary dictionary;
 
     @BeforeEach
@@ -92,15 +97,34 @@ public class PermissionExpressionVisitorTest {
         assertEquals(ExpressionResult.PASS, expression2.evaluate(Expression.EvaluationMode.ALL_CHECKS));
     }
 
+    @Test
+    public void testOnlyStatelessChecksAreShared() {
+        CompiledPermission compiled = new PermissionExpressionCompiler().visit(
+                dictionary.getPermissionsForClass(ClassType.of(Model.class), ReadPermission.class));
+
+        List<Check> checks = new ArrayList<>();
+        for (int evaluation = 0; evaluation < 2; evaluation++) {
+            compiled.instantiate(dictionary, check -> {
+                checks.add(check);
+                return new DummyExpression(check);
+            });
+        }
+
+        // "user has all access AND Allow"
+        assertEquals(4, checks.size());
+        assertSame(checks.get(0), checks.get(2));
+        assertNotSame(checks.get(1), checks.get(3));
+        assertEquals(Permissions.Succeeds.class, checks.get(3).getClass());
+    }
+
     private Expression getExpressionForPermission(Class<? extends Annotation> permission) {
         return getExpressionForPermission(permission, ClassType.of(Model.class));
     }
 
     private Expression getExpressionForPermission(Class<? extends Annotation> permission, Type model) {
-        PermissionExpressionVisitor v = new PermissionExpressionVisitor(dictionary, DummyExpression::new);
         ParseTree permissions = dictionary.getPermissionsForClass(model, permission);
 
-        return v.visit(permissions);
+        return new PermissionExpressionCompiler().visit(permissions).instantiate(dictionary, DummyExpression::new);
     }
 
     @Entity
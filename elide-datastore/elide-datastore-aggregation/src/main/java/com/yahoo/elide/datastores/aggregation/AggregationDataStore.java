@@ -14,6 +14,7 @@ import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.core.utils.ClassScanner;
 import com.yahoo.elide.datastores.aggregation.annotation.Join;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
+import com.yahoo.elide.datastores.aggregation.cache.TableVersionTracker;
 import com.yahoo.elide.datastores.aggregation.core.QueryLogger;
 import com.yahoo.elide.datastores.aggregation.metadata.enums.ValueType;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Argument;
@@ -26,6 +27,7 @@ import lombok.Builder;
 import lombok.NonNull;
 import lombok.ToString;
 
+import java.io.Closeable;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
 import java.util.Collections;
@@ -37,12 +39,18 @@ import java.util.Set;
  */
 @Builder
 @ToString
-public class AggregationDataStore implements DataStore {
+public class AggregationDataStore implements DataStore, Closeable {
     @NonNull private final QueryEngine queryEngine;
     private final Cache cache;
     private final Set<Type<?>> dynamicCompiledClasses;
     private final QueryLogger queryLogger;
 
+    /**
+     * Optional background tracker of table versions for cache lookups.
+     * When absent, table versions are queried on every cached request.
+     */
+    private final TableVersionTracker tableVersionTracker;
+
     /**
      * These are the classes the Aggregation Store manages.
      */
@@ -95,6 +103,16 @@ public class AggregationDataStore implements DataStore {
 
     @Override
     public DataStoreTransaction beginTransaction() {
-        return new AggregationDataStoreTransaction(queryEngine, cache, queryLogger);
+        return new AggregationDataStoreTransaction(queryEngine, cache, queryLogger, tableVersionTracker);
+    }
+
+    /**
+     * Stops the background refresh of table versions, if any.
+     */
+    @Override
+    public void close() {
+        if (tableVersionTracker != null) {
+            tableVersionTracker.close();
+        }
     }
 }
@@ -13,19 +13,24 @@ import com.yahoo.elide.core.exceptions.HttpStatusException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
+import com.yahoo.elide.datastores.aggregation.cache.QueryKey;
 import com.yahoo.elide.datastores.aggregation.cache.QueryKeyExtractor;
+import com.yahoo.elide.datastores.aggregation.cache.TableVersionTracker;
 import com.yahoo.elide.datastores.aggregation.core.QueryLogger;
 import com.yahoo.elide.datastores.aggregation.core.QueryResponse;
 import com.yahoo.elide.datastores.aggregation.filter.visitor.MatchesTemplateVisitor;
 import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
+import com.yahoo.elide.datastores.aggregation.query.ColumnarData;
+import com.yahoo.elide.datastores.aggregation.query.PreparedQuery;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import lombok.ToString;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.Collection;
 
 /**
  * Transaction handler for {@link AggregationDataStore}.
@@ -37,11 +42,18 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
     private final QueryEngine.Transaction queryEngineTransaction;
     private final QueryLogger queryLogger;
     private final MetaDataStore metaDataStore;
+    private final TableVersionTracker tableVersionTracker;
 
     public AggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache,
                                            QueryLogger queryLogger) {
+        this(queryEngine, cache, queryLogger, null);
+    }
+
+    public AggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache,
+                                           QueryLogger queryLogger, TableVersionTracker tableVersionTracker) {
         this.queryEngine = queryEngine;
         this.cache = cache;
+        this.tableVersionTracker = tableVersionTracker;
         this.queryEngineTransaction = queryEngine.beginTransaction();
         this.queryLogger = queryLogger;
         this.metaDataStore = queryEngine.getMetaDataStore();
@@ -76,27 +88,32 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
     public <T> Iterable<T> loadObjects(EntityProjection entityProjection, RequestScope scope) {
         QueryResult result = null;
         QueryResponse response = null;
-        String cacheKey = null;
+        QueryKey cacheKey = null;
         try {
             queryLogger.acceptQuery(scope.getRequestId(), scope.getUser(), scope.getHeaders(),
                     scope.getApiVersion(), scope.getQueryParams(), scope.getPath());
             Query query = buildQuery(entityProjection, scope);
+            PreparedQuery preparedQuery = queryEngine.prepare(query);
             Table table = (Table) query.getSource();
             if (cache != null && !query.isBypassingCache()) {
-                String tableVersion = queryEngine.getTableVersion(table, queryEngineTransaction);
+                String tableVersion = tableVersionTracker == null
+                        ? queryEngine.getTableVersion(table, queryEngineTransaction)
+                        : tableVersionTracker.getTableVersion(table);
                 tableVersion = tableVersion == null ? "" : tableVersion;
 
-                cacheKey = tableVersion + ';' + QueryKeyExtractor.extractKey(query);
+                cacheKey = QueryKeyExtractor.extractQueryKey(tableVersion, query);
                 result = cache.get(cacheKey);
             }
 
             boolean isCached = result == null ? false : true;
-            List<String> queryText = queryEngine.explain(query);
-            queryLogger.processQuery(scope.getRequestId(), query, queryText, isCached);
+            queryLogger.processQuery(scope.getRequestId(), query, preparedQuery.explain(), isCached);
             if (result == null) {
-                result = queryEngine.executeQuery(query, queryEngineTransaction);
                 if (cacheKey != null) {
-                    cache.put(cacheKey, result);
+                    // Concurrent identical queries share a single execution.
+                    result = cache.computeIfAbsent(cacheKey,
+                            key -> materialize(queryEngine.executeQuery(preparedQuery, queryEngineTransaction)));
+                } else {
+                    result = queryEngine.executeQuery(preparedQuery, queryEngineTransaction);
                 }
             }
             if (entityProjection.getPagination() != null && entityProjection.getPagination().returnPageTotals()) {
@@ -120,6 +137,26 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
         queryEngineTransaction.close();
     }
 
+    /**
+     * Streamed query results can only be iterated once.  Results which are shared through the cache
+     * must be copied into memory first, in columnar form when the data supports it.
+     * @param result The query result.
+     * @return A query result that can be iterated many times.
+     */
+    private static QueryResult materialize(QueryResult result) {
+        Iterable<?> data = result.getData();
+        if (data instanceof Collection || data instanceof ColumnarData) {
+            return result;
+        }
+
+        return QueryResult.builder()
+                .data(data instanceof ColumnarData.Source
+                        ? ((ColumnarData.Source) data).toColumnarData()
+                        : Lists.newArrayList(data))
+                .pageTotals(result.getPageTotals())
+                .build();
+    }
+
     @VisibleForTesting
     Query buildQuery(EntityProjection entityProjection, RequestScope scope) {
         Table table = metaDataStore.getTable(
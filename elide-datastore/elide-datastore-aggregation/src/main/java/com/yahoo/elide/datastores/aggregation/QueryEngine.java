@@ -18,6 +18,7 @@ import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
 import com.yahoo.elide.datastores.aggregation.metadata.models.TimeDimension;
 import com.yahoo.elide.datastores.aggregation.query.ColumnProjection;
 import com.yahoo.elide.datastores.aggregation.query.MetricProjection;
+import com.yahoo.elide.datastores.aggregation.query.PreparedQuery;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
 import com.yahoo.elide.datastores.aggregation.query.TimeDimensionProjection;
@@ -171,6 +172,40 @@ public abstract class QueryEngine {
      */
     public abstract QueryResult executeQuery(Query query, Transaction transaction);
 
+    /**
+     * Translates the {@link Query} into the native query (or queries) this engine will execute.  The
+     * returned object can be explained, used as a cache key source, and executed without translating the
+     * query again.
+     *
+     * @param query The query customized for a particular persistent storage or storage client
+     * @return the prepared query
+     */
+    public PreparedQuery prepare(Query query) {
+        List<String> queryText = explain(query);
+        return new PreparedQuery() {
+            @Override
+            public Query getQuery() {
+                return query;
+            }
+
+            @Override
+            public List<String> explain() {
+                return queryText;
+            }
+        };
+    }
+
+    /**
+     * Executes a query previously prepared by {@link #prepare(Query)}.
+     *
+     * @param preparedQuery The prepared query
+     * @param transaction
+     * @return query results
+     */
+    public QueryResult executeQuery(PreparedQuery preparedQuery, Transaction transaction) {
+        return executeQuery(preparedQuery.getQuery(), transaction);
+    }
+
     /**
      * Get a serial number or other token indicating the version of the data in the table.
      * No particular semantics are required, though it must change if the data changes.
@@ -7,6 +7,8 @@ package com.yahoo.elide.datastores.aggregation.cache;
 
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
 
+import java.util.function.Function;
+
 /**
  * A cache for {@link QueryResult}s.
  */
@@ -26,4 +28,23 @@ public interface Cache {
      * @param result the result to cache with the key
      */
     void put(Object key, QueryResult result);
+
+    /**
+     * Load QueryResult from cache, computing and inserting it if not found. Implementations should
+     * run the computation at most once for concurrent callers of the same key, with the other callers
+     * waiting for its result, and should not hold locks shared with other keys while it runs. Failed
+     * computations must not be cached. Exceptions should be passed through.
+     *
+     * @param key    a key to look up in the cache.
+     * @param mappingFunction computes the result to cache with the key.
+     * @return query results from cache, or the newly computed results.
+     */
+    default QueryResult computeIfAbsent(Object key, Function<Object, QueryResult> mappingFunction) {
+        QueryResult result = get(key);
+        if (result == null) {
+            result = mappingFunction.apply(key);
+            put(key, result);
+        }
+        return result;
+    }
 }
@@ -6,10 +6,19 @@
 
 package com.yahoo.elide.datastores.aggregation.cache;
 
+import com.yahoo.elide.datastores.aggregation.query.ColumnarData;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * A basic local-only cache.
@@ -17,8 +26,18 @@ import java.util.concurrent.TimeUnit;
 public class CaffeineCache implements Cache {
     public static final int DEFAULT_MAXIMUM_ENTRIES = 1024;
 
+    /**
+     * Estimated size of a hydrated result row, used when the data is not stored in columnar form.
+     */
+    public static final int ESTIMATED_ROW_SIZE = 512;
+
     private final com.github.benmanes.caffeine.cache.Cache<Object, QueryResult> cache;
 
+    /**
+     * Results being computed, so that concurrent callers of the same key wait for a single computation.
+     */
+    private final Map<Object, CompletableFuture<QueryResult>> inFlight = new ConcurrentHashMap<>();
+
     public CaffeineCache(int maximumSize, long defaultExprirationMinutes) {
         cache = Caffeine.newBuilder()
                 .maximumSize(maximumSize)
@@ -27,6 +46,39 @@ public class CaffeineCache implements Cache {
                 .build();
     }
 
+    private CaffeineCache(long maximumBytes, long defaultExprirationMinutes, Weigher<Object, QueryResult> weigher) {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher(weigher)
+                .expireAfterWrite(defaultExprirationMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Creates a cache bounded by the estimated size of the cached results rather than their count.
+     * Results held as {@link ColumnarData} are weighed by their column storage.
+     * @param maximumBytes The maximum estimated size of all cached results.
+     * @param defaultExprirationMinutes Expiration of cached results.
+     * @return a cache bounded by size.
+     */
+    public static CaffeineCache weighedBySize(long maximumBytes, long defaultExprirationMinutes) {
+        return new CaffeineCache(maximumBytes, defaultExprirationMinutes, (key, result) -> estimateSize(result));
+    }
+
+    private static int estimateSize(QueryResult result) {
+        Iterable<?> data = result.getData();
+        long size;
+        if (data instanceof ColumnarData) {
+            size = ((ColumnarData) data).getEstimatedSize();
+        } else if (data instanceof Collection) {
+            size = (long) ((Collection<?>) data).size() * ESTIMATED_ROW_SIZE;
+        } else {
+            size = ESTIMATED_ROW_SIZE;
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
     @Override
     public QueryResult get(Object key) {
         return cache.getIfPresent(key);
@@ -37,6 +89,55 @@ public class CaffeineCache implements Cache {
         cache.put(key, result);
     }
 
+    /**
+     * The computation runs in the calling thread outside of any lock, so other keys are never blocked by it.
+     * Callers of the same key wait for its result.  A failed computation is not cached, and the callers
+     * waiting for it compute the result again themselves, since the failure may be specific to the request
+     * that ran it, such as a cancellation.
+     */
+    @Override
+    public QueryResult computeIfAbsent(Object key, Function<Object, QueryResult> mappingFunction) {
+        while (true) {
+            QueryResult result = cache.getIfPresent(key);
+            if (result != null) {
+                return result;
+            }
+
+            CompletableFuture<QueryResult> future = new CompletableFuture<>();
+            CompletableFuture<QueryResult> running = inFlight.putIfAbsent(key, future);
+            if (running == null) {
+                return compute(key, mappingFunction, future);
+            }
+
+            try {
+                return running.join();
+            } catch (CompletionException | CancellationException e) {
+                // Retry, computing the result in this request if no other caller has started to.
+            }
+        }
+    }
+
+    private QueryResult compute(Object key, Function<Object, QueryResult> mappingFunction,
+                                CompletableFuture<QueryResult> future) {
+        try {
+            // The previous computation may have completed since the cache was checked.
+            QueryResult result = cache.getIfPresent(key);
+            if (result == null) {
+                result = mappingFunction.apply(key);
+                if (result != null) {
+                    cache.put(key, result);
+                }
+            }
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
     public com.github.benmanes.caffeine.cache.Cache<Object, QueryResult> getImplementation() {
         return cache;
     }
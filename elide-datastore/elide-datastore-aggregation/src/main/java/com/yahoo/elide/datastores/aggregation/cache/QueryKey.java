@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A compact cache key for a {@link com.yahoo.elide.datastores.aggregation.query.Query}.
+ * <p>
+ * The key holds the serialized query structure produced by {@link QueryKeyExtractor} as UTF-8 bytes, along with
+ * its 128 bit murmur3 hash.  Keys are compared by hash first and then by their bytes, so distinct queries never
+ * share a key even if their hashes collide.
+ */
+public final class QueryKey {
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+    private final byte[] key;
+
+    private QueryKey(long mostSignificantBits, long leastSignificantBits, byte[] key) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+        this.key = key;
+    }
+
+    /**
+     * Creates a key from a serialized query structure.
+     * @param key The serialized query structure.
+     * @return The key.
+     */
+    static QueryKey of(CharSequence key) {
+        HashCode hash = HASH_FUNCTION.hashUnencodedChars(key);
+        ByteBuffer hashBytes = ByteBuffer.wrap(hash.asBytes());
+
+        ByteBuffer encoded = StandardCharsets.UTF_8.encode(CharBuffer.wrap(key));
+        byte[] keyBytes = new byte[encoded.remaining()];
+        encoded.get(keyBytes);
+
+        return new QueryKey(hashBytes.getLong(), hashBytes.getLong(), keyBytes);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof QueryKey)) {
+            return false;
+        }
+
+        QueryKey that = (QueryKey) other;
+        return mostSignificantBits == that.mostSignificantBits
+                && leastSignificantBits == that.leastSignificantBits
+                && Arrays.equals(key, that.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (leastSignificantBits ^ (leastSignificantBits >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", mostSignificantBits, leastSignificantBits);
+    }
+}
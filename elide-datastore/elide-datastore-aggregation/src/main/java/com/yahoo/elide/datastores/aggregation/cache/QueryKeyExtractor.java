@@ -17,10 +17,13 @@ import com.yahoo.elide.core.request.Argument;
 import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.datastores.aggregation.metadata.models.Versioned;
 import com.yahoo.elide.datastores.aggregation.query.ColumnProjection;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.Queryable;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Map;
 
@@ -37,16 +40,61 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
 
     private static final int ESTIMATED_KEY_SIZE = 128;
 
-    private final StringBuilder keyBuilder;
+    private static final Comparator<ColumnProjection> BY_ALIAS = Comparator.comparing(ColumnProjection::getAlias);
 
-    private QueryKeyExtractor() {
-        keyBuilder = new StringBuilder(ESTIMATED_KEY_SIZE);
+    // Buffers are reused across requests on the same thread unless they grew unusually large.
+    private static final int MAXIMUM_RETAINED_KEY_SIZE = 16 * 1024;
+    private static final ThreadLocal<KeyBuffer> KEY_BUFFERS =
+            ThreadLocal.withInitial(() -> new KeyBuffer(ESTIMATED_KEY_SIZE));
+
+    private final KeyBuffer keyBuffer;
+    private final boolean includeFilterValues;
+
+    private QueryKeyExtractor(KeyBuffer keyBuffer, boolean includeFilterValues) {
+        this.keyBuffer = keyBuffer;
+        this.includeFilterValues = includeFilterValues;
     }
 
     public static String extractKey(Query query) {
-        QueryKeyExtractor extractor = new QueryKeyExtractor();
+        QueryKeyExtractor extractor = new QueryKeyExtractor(new KeyBuffer(ESTIMATED_KEY_SIZE), true);
+        extractor.visit(query);
+        return extractor.keyBuffer.toString();
+    }
+
+    /**
+     * Generates a compact key for a query, suitable for the query result {@link Cache}.
+     * @param prefix Leading key content, such as the table version.
+     * @param query The query.
+     * @return the key.
+     */
+    public static QueryKey extractQueryKey(String prefix, Query query) {
+        return extractQueryKey(prefix, query, true);
+    }
+
+    /**
+     * Generates a compact key for the structure of a query.  Filter values are replaced by their count,
+     * so queries which differ only by filter literal values share the same key.
+     * @param prefix Leading key content, such as the SQL dialect.
+     * @param query The query.
+     * @return the structural key.
+     */
+    public static QueryKey extractTemplateKey(String prefix, Query query) {
+        return extractQueryKey(prefix, query, false);
+    }
+
+    private static QueryKey extractQueryKey(String prefix, Query query, boolean includeFilterValues) {
+        KeyBuffer keyBuffer = KEY_BUFFERS.get();
+        keyBuffer.clear();
+
+        QueryKeyExtractor extractor = new QueryKeyExtractor(keyBuffer, includeFilterValues);
+        extractor.visit(prefix);
         extractor.visit(query);
-        return extractor.keyBuilder.toString();
+        QueryKey key = QueryKey.of(keyBuffer);
+
+        if (keyBuffer.capacity() > MAXIMUM_RETAINED_KEY_SIZE) {
+            KEY_BUFFERS.remove();
+        }
+        return key;
     }
 
     private void visit(Query query) {
@@ -58,13 +106,11 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
         endGroup();
         beginGroup();
         // `groupByDimensions` is an unordered set - sort
-        query.getDimensionProjections().stream().sorted(Comparator.comparing(ColumnProjection::getAlias))
-                .forEachOrdered(this::visit);
+        visitSorted(query.getDimensionProjections());
         endGroup();
         beginGroup();
         // `timeDimensions` is an unordered set - sort
-        query.getTimeDimensionProjections().stream().sorted(Comparator.comparing(ColumnProjection::getAlias))
-                .forEachOrdered(this::visit);
+        visitSorted(query.getTimeDimensionProjections());
         endGroup();
 
         visitExpression(query.getWhereFilter());
@@ -74,9 +120,28 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
         // eliding `scope` and `bypassingCache` fields
     }
 
+    private void visitSorted(Collection<? extends ColumnProjection> projections) {
+        if (projections.size() <= 1) {
+            projections.forEach(this::visit);
+            return;
+        }
+
+        ColumnProjection[] sorted = projections.toArray(new ColumnProjection[0]);
+        Arrays.sort(sorted, BY_ALIAS);
+        for (ColumnProjection projection : sorted) {
+            visit(projection);
+        }
+    }
+
     // Query Components
     private void visit(Queryable source) {
         visit(source.getAlias().toString());
+
+        // Each API version of a table can define the same alias differently
+        Queryable root = source.getRoot();
+        if (root instanceof Versioned && !((Versioned) root).getVersion().isEmpty()) {
+            visit(((Versioned) root).getVersion());
+        }
     }
 
     private void visit(ColumnProjection columnProjection) {
@@ -97,7 +162,7 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
 
     private void visit(Sorting sorting) {
         if (sorting == null) {
-            keyBuilder.append(DELIMITER);
+            keyBuffer.append(DELIMITER);
             return;
         }
         beginGroup();
@@ -127,7 +192,7 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
 
     private void visit(Pagination pagination) {
         if (pagination == null) {
-            keyBuilder.append(DELIMITER);
+            keyBuffer.append(DELIMITER);
             return;
         }
         beginGroup();
@@ -143,7 +208,7 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
         if (expr != null) {
             expr.accept(this);
         } else {
-            keyBuilder.append(DELIMITER);
+            keyBuffer.append(DELIMITER);
         }
     }
 
@@ -153,8 +218,12 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
         visit("P");
         visit(filterPredicate.getPath());
         visit(filterPredicate.getOperator().toString());
-        // `values` is list - don't sort
-        filterPredicate.getValues().forEach(this::visitObject);
+        if (includeFilterValues) {
+            // `values` is list - don't sort
+            filterPredicate.getValues().forEach(this::visitObject);
+        } else {
+            visit(filterPredicate.getValues().size());
+        }
         endGroup();
         // `field` and `fieldPath` are derived from path
         return null;
@@ -192,28 +261,111 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
     // Basic types
     //
     private void visit(Type<?> type) {
-        keyBuilder.append(type.getCanonicalName()).append(DELIMITER);
+        keyBuffer.append(type.getCanonicalName()).append(DELIMITER);
     }
 
     private void visit(String string) {
-        keyBuilder.append(string).append(DELIMITER);
+        keyBuffer.append(string).append(DELIMITER);
     }
 
     private void visit(int value) {
-        keyBuilder.append(value).append(DELIMITER);
+        keyBuffer.append(value).append(DELIMITER);
     }
 
     private void visitObject(Object object) {
         String string = object.toString();
-        keyBuilder.append(string.length()).append(DELIMITER);
-        keyBuilder.append(string).append(DELIMITER);
+        keyBuffer.append(string.length()).append(DELIMITER);
+        keyBuffer.append(string).append(DELIMITER);
     }
 
     private void beginGroup() {
-        keyBuilder.append(BEGIN_GROUP);
+        keyBuffer.append(BEGIN_GROUP);
     }
 
     private void endGroup() {
-        keyBuilder.append(END_GROUP);
+        keyBuffer.append(END_GROUP);
+    }
+
+    /**
+     * Growable character buffer the key is serialized into.  Unlike a StringBuilder, it is read in place by
+     * {@link QueryKey#of(CharSequence)}, so building a key never materializes the serialized form as a String.
+     */
+    private static final class KeyBuffer implements CharSequence {
+        private char[] chars;
+        private int length = 0;
+
+        KeyBuffer(int capacity) {
+            chars = new char[capacity];
+        }
+
+        void clear() {
+            length = 0;
+        }
+
+        int capacity() {
+            return chars.length;
+        }
+
+        KeyBuffer append(char value) {
+            ensureCapacity(length + 1);
+            chars[length++] = value;
+            return this;
+        }
+
+        KeyBuffer append(String value) {
+            ensureCapacity(length + value.length());
+            value.getChars(0, value.length(), chars, length);
+            length += value.length();
+            return this;
+        }
+
+        KeyBuffer append(int value) {
+            if (value < 0) {
+                append('-');
+            }
+
+            // Count the digits, then write them backwards.  Negating through a long handles Integer.MIN_VALUE.
+            long remaining = Math.abs((long) value);
+            int digits = 1;
+            for (long scale = 10; scale <= remaining; scale *= 10) {
+                digits++;
+            }
+            ensureCapacity(length + digits);
+            for (int idx = length + digits - 1; idx >= length; idx--) {
+                chars[idx] = (char) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+            length += digits;
+            return this;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+            }
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index >= length) {
+                throw new IndexOutOfBoundsException("Index " + index + " of " + length);
+            }
+            return chars[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, 0, length);
+        }
     }
 }
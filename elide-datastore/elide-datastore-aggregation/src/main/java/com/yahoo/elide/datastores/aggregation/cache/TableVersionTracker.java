@@ -0,0 +1,184 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import com.yahoo.elide.datastores.aggregation.QueryEngine;
+import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the versions of aggregation tables so that cache lookups do not need a database round trip.
+ * <p>
+ * Versions are refreshed in the background every refresh interval. Concurrent lookups of a table whose
+ * version is missing or older than the maximum staleness share a single synchronous version query.
+ * <p>
+ * Closing the tracker stops the background refresh.  A scheduler created by the tracker is shut down with it,
+ * while a scheduler passed to the tracker is left to its owner.
+ */
+@Slf4j
+public class TableVersionTracker implements Closeable {
+    private final QueryEngine queryEngine;
+    private final long maximumStalenessNanos;
+    private final Map<String, TrackedVersion> versions = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ownedScheduler;
+    private final ScheduledFuture<?> refreshTask;
+
+    /**
+     * Constructor.
+     * @param queryEngine The engine used to run the version queries.
+     * @param refreshIntervalSeconds How often tracked table versions are refreshed in the background.
+     *                               Non-positive values disable background refresh.
+     * @param maximumStalenessSeconds How old a version may be before a lookup waits for a fresh one.
+     */
+    public TableVersionTracker(QueryEngine queryEngine, long refreshIntervalSeconds, long maximumStalenessSeconds) {
+        this(queryEngine, refreshIntervalSeconds, maximumStalenessSeconds,
+                refreshIntervalSeconds > 0
+                        ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+                            Thread thread = new Thread(runnable, "elide-table-version-tracker");
+                            thread.setDaemon(true);
+                            return thread;
+                        })
+                        : null,
+                true);
+    }
+
+    /**
+     * Constructor.
+     * @param queryEngine The engine used to run the version queries.
+     * @param refreshIntervalSeconds How often tracked table versions are refreshed in the background.
+     *                               Non-positive values disable background refresh.
+     * @param maximumStalenessSeconds How old a version may be before a lookup waits for a fresh one.
+     * @param scheduler The executor which runs the background refreshes.  It is not shut down by the tracker.
+     */
+    public TableVersionTracker(QueryEngine queryEngine, long refreshIntervalSeconds, long maximumStalenessSeconds,
+                               ScheduledExecutorService scheduler) {
+        this(queryEngine, refreshIntervalSeconds, maximumStalenessSeconds, scheduler, false);
+    }
+
+    private TableVersionTracker(QueryEngine queryEngine, long refreshIntervalSeconds, long maximumStalenessSeconds,
+                                ScheduledExecutorService scheduler, boolean ownsScheduler) {
+        this.queryEngine = queryEngine;
+        this.maximumStalenessNanos = TimeUnit.SECONDS.toNanos(maximumStalenessSeconds);
+        this.ownedScheduler = ownsScheduler ? scheduler : null;
+        this.refreshTask = refreshIntervalSeconds > 0
+                ? scheduler.scheduleWithFixedDelay(this::refreshAll, refreshIntervalSeconds, refreshIntervalSeconds,
+                        TimeUnit.SECONDS)
+                : null;
+    }
+
+    /**
+     * Returns the most recently observed version of the table.
+     * @param table The table.
+     * @return a version token, or null if the table is not versioned.
+     */
+    public String getTableVersion(Table table) {
+        return versions.computeIfAbsent(table.getVersion() + ';' + table.getName(), key -> new TrackedVersion(table))
+                .get();
+    }
+
+    /**
+     * Stops the background refresh.  Lookups still work, querying versions once they become stale.
+     */
+    @Override
+    public void close() {
+        if (refreshTask != null) {
+            refreshTask.cancel(false);
+        }
+        if (ownedScheduler != null) {
+            ownedScheduler.shutdownNow();
+        }
+    }
+
+    private void refreshAll() {
+        versions.values().forEach(tracked -> {
+            try {
+                tracked.refresh().join();
+            } catch (CompletionException e) {
+                log.warn("Unable to refresh version of table {}", tracked.table.getName(), e.getCause());
+            }
+        });
+    }
+
+    private String loadTableVersion(Table table) {
+        QueryEngine.Transaction transaction = queryEngine.beginTransaction();
+        try {
+            return queryEngine.getTableVersion(table, transaction);
+        } finally {
+            transaction.close();
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Snapshot {
+        private final String version;
+        private final long loadedAt;
+    }
+
+    private class TrackedVersion {
+        private final Table table;
+        private volatile Snapshot snapshot;
+        private CompletableFuture<String> inFlight;
+
+        private TrackedVersion(Table table) {
+            this.table = table;
+        }
+
+        private String get() {
+            Snapshot current = snapshot;
+            if (current != null && System.nanoTime() - current.loadedAt <= maximumStalenessNanos) {
+                return current.version;
+            }
+
+            try {
+                return refresh().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        /**
+         * Runs the version query unless one is already running, in which case the caller shares its result.
+         */
+        private CompletableFuture<String> refresh() {
+            CompletableFuture<String> future;
+            synchronized (this) {
+                if (inFlight != null) {
+                    return inFlight;
+                }
+                future = new CompletableFuture<>();
+                inFlight = future;
+            }
+
+            try {
+                long start = System.nanoTime();
+                String version = loadTableVersion(table);
+                snapshot = new Snapshot(version, start);
+                future.complete(version);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            } finally {
+                synchronized (this) {
+                    inFlight = null;
+                }
+            }
+            return future;
+        }
+    }
+}
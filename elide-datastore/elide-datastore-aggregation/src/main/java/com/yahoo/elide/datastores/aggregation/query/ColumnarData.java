@@ -0,0 +1,310 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.query;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.LongFunction;
+
+/**
+ * Query result rows stored column by column instead of as hydrated entities.
+ * <p>
+ * Integral and floating point columns are held in primitive arrays.  All other columns are dictionary
+ * encoded so repeated dimension values are stored once.  Entities are rehydrated from the raw column
+ * values every time the data is iterated.
+ */
+public class ColumnarData implements Iterable<Object> {
+
+    /**
+     * Rough per-object overhead used when estimating the size of dictionary values.
+     */
+    private static final long ESTIMATED_OBJECT_SIZE = 64;
+
+    /**
+     * Rough overhead of a String and its backing array, excluding the characters themselves.
+     */
+    private static final long ESTIMATED_STRING_SIZE = 40;
+
+    /**
+     * Turns the raw column values of a row back into an entity.
+     */
+    @FunctionalInterface
+    public interface RowHydrator {
+
+        /**
+         * Hydrates a row.
+         * @param values The raw column values of the row.
+         * @param rowIndex The position of the row in the result.
+         * @return The hydrated entity.
+         */
+        Object hydrate(Object[] values, int rowIndex);
+    }
+
+    /**
+     * Query result data that can be read into columnar form, for example rows that have not been hydrated yet.
+     */
+    public interface Source {
+
+        /**
+         * Reads the remaining rows into columnar form.
+         * @return The columnar data.
+         */
+        ColumnarData toColumnarData();
+    }
+
+    private final int rowCount;
+    private final Column[] columns;
+    private final RowHydrator hydrator;
+
+    private ColumnarData(int rowCount, Column[] columns, RowHydrator hydrator) {
+        this.rowCount = rowCount;
+        this.columns = columns;
+        this.hydrator = hydrator;
+    }
+
+    public static Builder builder(int columnCount, RowHydrator hydrator) {
+        return new Builder(columnCount, hydrator);
+    }
+
+    /**
+     * @return The number of rows.
+     */
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * @return An estimate of the number of bytes held by the columns.
+     */
+    public long getEstimatedSize() {
+        long size = 0;
+        for (Column column : columns) {
+            size += column.getEstimatedSize();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the raw column values of a row.
+     * @param row The position of the row.
+     * @return A new array holding the column values.
+     */
+    public Object[] getRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + rowCount);
+        }
+
+        Object[] values = new Object[columns.length];
+        for (int idx = 0; idx < columns.length; idx++) {
+            values[idx] = columns[idx].get(row);
+        }
+        return values;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<Object>() {
+            private int row = 0;
+
+            @Override
+            public boolean hasNext() {
+                return row < rowCount;
+            }
+
+            @Override
+            public Object next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                Object[] values = getRow(row);
+                return hydrator.hydrate(values, row++);
+            }
+        };
+    }
+
+    /**
+     * Collects rows and encodes them into columns.
+     */
+    public static class Builder {
+        private final int columnCount;
+        private final RowHydrator hydrator;
+        private final List<Object[]> rows = new ArrayList<>();
+
+        private Builder(int columnCount, RowHydrator hydrator) {
+            this.columnCount = columnCount;
+            this.hydrator = hydrator;
+        }
+
+        public Builder row(Object[] values) {
+            if (values.length != columnCount) {
+                throw new IllegalArgumentException("Expected " + columnCount + " values, found " + values.length);
+            }
+            rows.add(values);
+            return this;
+        }
+
+        public ColumnarData build() {
+            Column[] columns = new Column[columnCount];
+            for (int idx = 0; idx < columnCount; idx++) {
+                columns[idx] = encode(idx);
+            }
+            return new ColumnarData(rows.size(), columns, hydrator);
+        }
+
+        private Column encode(int columnIndex) {
+            Class<?> valueClass = null;
+            for (Object[] row : rows) {
+                Object value = row[columnIndex];
+                if (value == null) {
+                    continue;
+                }
+                if (valueClass == null) {
+                    valueClass = value.getClass();
+                } else if (valueClass != value.getClass()) {
+                    return new DictionaryColumn(rows, columnIndex);
+                }
+            }
+
+            if (valueClass == Long.class) {
+                return new LongColumn(rows, columnIndex, value -> value);
+            }
+            if (valueClass == Integer.class) {
+                return new LongColumn(rows, columnIndex, value -> (int) value);
+            }
+            if (valueClass == Short.class) {
+                return new LongColumn(rows, columnIndex, value -> (short) value);
+            }
+            if (valueClass == Byte.class) {
+                return new LongColumn(rows, columnIndex, value -> (byte) value);
+            }
+            if (valueClass == Double.class) {
+                return new DoubleColumn(rows, columnIndex, false);
+            }
+            if (valueClass == Float.class) {
+                return new DoubleColumn(rows, columnIndex, true);
+            }
+            return new DictionaryColumn(rows, columnIndex);
+        }
+    }
+
+    private interface Column {
+        Object get(int row);
+
+        long getEstimatedSize();
+    }
+
+    private static class LongColumn implements Column {
+        private final long[] values;
+        private final BitSet nulls = new BitSet();
+        private final LongFunction<Object> boxer;
+
+        LongColumn(List<Object[]> rows, int columnIndex, LongFunction<Object> boxer) {
+            this.values = new long[rows.size()];
+            this.boxer = boxer;
+            for (int row = 0; row < values.length; row++) {
+                Object value = rows.get(row)[columnIndex];
+                if (value == null) {
+                    nulls.set(row);
+                } else {
+                    values[row] = ((Number) value).longValue();
+                }
+            }
+        }
+
+        @Override
+        public Object get(int row) {
+            return nulls.get(row) ? null : boxer.apply(values[row]);
+        }
+
+        @Override
+        public long getEstimatedSize() {
+            return Long.BYTES * (long) values.length + nulls.size() / Byte.SIZE;
+        }
+    }
+
+    private static class DoubleColumn implements Column {
+        private final double[] values;
+        private final BitSet nulls = new BitSet();
+        private final boolean isFloat;
+
+        DoubleColumn(List<Object[]> rows, int columnIndex, boolean isFloat) {
+            this.values = new double[rows.size()];
+            this.isFloat = isFloat;
+            for (int row = 0; row < values.length; row++) {
+                Object value = rows.get(row)[columnIndex];
+                if (value == null) {
+                    nulls.set(row);
+                } else {
+                    values[row] = ((Number) value).doubleValue();
+                }
+            }
+        }
+
+        @Override
+        public Object get(int row) {
+            if (nulls.get(row)) {
+                return null;
+            }
+            return isFloat ? (Object) (float) values[row] : (Object) values[row];
+        }
+
+        @Override
+        public long getEstimatedSize() {
+            return Double.BYTES * (long) values.length + nulls.size() / Byte.SIZE;
+        }
+    }
+
+    private static class DictionaryColumn implements Column {
+        private static final int NULL_CODE = -1;
+
+        private final int[] codes;
+        private final Object[] dictionary;
+        private final long dictionarySize;
+
+        DictionaryColumn(List<Object[]> rows, int columnIndex) {
+            this.codes = new int[rows.size()];
+            Map<Object, Integer> encodings = new HashMap<>();
+            List<Object> values = new ArrayList<>();
+            for (int row = 0; row < codes.length; row++) {
+                Object value = rows.get(row)[columnIndex];
+                if (value == null) {
+                    codes[row] = NULL_CODE;
+                    continue;
+                }
+                codes[row] = encodings.computeIfAbsent(value, key -> {
+                    values.add(key);
+                    return values.size() - 1;
+                });
+            }
+            this.dictionary = values.toArray();
+
+            long size = 0;
+            for (Object value : dictionary) {
+                size += value instanceof String
+                        ? ESTIMATED_STRING_SIZE + Character.BYTES * (long) ((String) value).length()
+                        : ESTIMATED_OBJECT_SIZE;
+            }
+            this.dictionarySize = size;
+        }
+
+        @Override
+        public Object get(int row) {
+            int code = codes[row];
+            return code == NULL_CODE ? null : dictionary[code];
+        }
+
+        @Override
+        public long getEstimatedSize() {
+            return Integer.BYTES * (long) codes.length + dictionarySize;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.query;
+
+import com.yahoo.elide.datastores.aggregation.QueryEngine;
+
+import java.util.List;
+
+/**
+ * A {@link Query} together with the native query (or queries) a {@link QueryEngine} generated for it.
+ * It is produced once per {@link Query} by {@link QueryEngine#prepare(Query)} and then shared by
+ * logging, caching, and execution so the translation is never repeated.
+ */
+public interface PreparedQuery {
+
+    /**
+     * The client query which was prepared.
+     * @return the client query.
+     */
+    Query getQuery();
+
+    /**
+     * Returns the actual query string(s) that will be executed.
+     * @return List of query string(s) corresponding to the prepared query.
+     */
+    List<String> explain();
+}
@@ -17,4 +17,23 @@ import javax.sql.DataSource;
 public class ConnectionDetails {
     private DataSource dataSource;
     private SQLDialect dialect;
+
+    /**
+     * JDBC settings for statements on this connection.  Defaults to the settings of the dialect.
+     */
+    private StatementOptions statementOptions;
+
+    public ConnectionDetails(DataSource dataSource, SQLDialect dialect) {
+        this(dataSource, dialect, null);
+    }
+
+    public ConnectionDetails(DataSource dataSource, SQLDialect dialect, StatementOptions statementOptions) {
+        this.dataSource = dataSource;
+        this.dialect = dialect;
+        StatementOptions options = statementOptions;
+        if (options == null && dialect != null) {
+            options = dialect.getStatementOptions();
+        }
+        this.statementOptions = options == null ? StatementOptions.DEFAULT : options;
+    }
 }
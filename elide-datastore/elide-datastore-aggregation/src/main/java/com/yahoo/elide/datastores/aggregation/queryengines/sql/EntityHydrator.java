@@ -15,7 +15,7 @@ import com.yahoo.elide.datastores.aggregation.QueryEngine;
 import com.yahoo.elide.datastores.aggregation.metadata.enums.ValueType;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
 import com.yahoo.elide.datastores.aggregation.query.ColumnProjection;
-import com.yahoo.elide.datastores.aggregation.query.MetricProjection;
+import com.yahoo.elide.datastores.aggregation.query.ColumnarData;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.Queryable;
 import com.yahoo.elide.datastores.aggregation.query.TimeDimensionProjection;
@@ -39,9 +39,10 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
 
 /**
  * {@link EntityHydrator} hydrates the entity loaded by
@@ -52,53 +53,112 @@ public class EntityHydrator {
     @Getter(AccessLevel.PROTECTED)
     private final EntityDictionary entityDictionary;
 
-    @Getter(AccessLevel.PROTECTED)
-    private final List<Map<String, Object>> results = new ArrayList<>();
+    /**
+     * The rows read eagerly from the result set, or null when the results are streamed.
+     */
+    private final ColumnarData rows;
 
     @Getter(AccessLevel.PRIVATE)
     private final Query query;
 
+    private final ResultSet resultSet;
+
+    private final boolean streaming;
+
+    /**
+     * How to hydrate each projected column of a row.  Built once per query and reused for every row.
+     */
+    private final RowPlan rowPlan;
+
+    private final MutableInt counter = new MutableInt(0);
+
     public EntityHydrator(ResultSet rs, Query query, EntityDictionary entityDictionary) {
+        this(rs, query, entityDictionary, false);
+    }
+
+    /**
+     * Constructor.
+     * @param rs The result set to hydrate.
+     * @param query The client query.
+     * @param entityDictionary The metadata dictionary.
+     * @param streaming When true, rows are read from the result set lazily while the hydrated results are
+     *                  iterated.  The result set must stay open until the iteration completes.  Otherwise all
+     *                  rows are read eagerly.
+     */
+    public EntityHydrator(ResultSet rs, Query query, EntityDictionary entityDictionary, boolean streaming) {
         this.query = query;
         this.entityDictionary = entityDictionary;
+        this.resultSet = rs;
+        this.streaming = streaming;
+
+        Table table = getBaseTable(query);
+        Type<?> entityClass = entityDictionary.getEntityClass(table.getName(), table.getVersion());
 
         //Get all the projections from the client query.
-        Map<String, String> projections = this.query.getMetricProjections().stream()
+        List<ColumnProjection> projections = new ArrayList<>();
+        this.query.getMetricProjections().stream()
                 .map(SQLMetricProjection.class::cast)
                 .filter(SQLColumnProjection::isProjected)
-                .collect(Collectors.toMap(MetricProjection::getAlias, MetricProjection::getSafeAlias));
+                .forEach(projections::add);
 
-        projections.putAll(this.query.getAllDimensionProjections().stream()
+        this.query.getAllDimensionProjections().stream()
                 .map(SQLColumnProjection.class::cast)
                 .filter(SQLColumnProjection::isProjected)
-                .collect(Collectors.toMap(ColumnProjection::getAlias, ColumnProjection::getSafeAlias)));
+                .forEach(projections::add);
 
         try {
             Preconditions.checkArgument(projections.size() == rs.getMetaData().getColumnCount());
-            while (rs.next()) {
-                Map<String, Object> row = new HashMap<>();
 
-                for (Map.Entry<String, String> entry : projections.entrySet()) {
-                    Object value = rs.getObject(entry.getValue());
-                    row.put(entry.getKey(), value);
-                }
+            ColumnHydrator[] columns = new ColumnHydrator[projections.size()];
+            for (int idx = 0; idx < columns.length; idx++) {
+                ColumnProjection projection = projections.get(idx);
+                Type<?> fieldType = getType(entityClass, projection);
+                columns[idx] = new ColumnHydrator(projection, rs.findColumn(projection.getSafeAlias()), fieldType,
+                        projectionToAttribute(projection, fieldType));
+            }
+            rowPlan = new RowPlan(entityDictionary, entityClass, columns);
 
-                this.results.add(row);
+            if (streaming) {
+                rows = null;
+            } else {
+                ColumnarData.Builder builder = ColumnarData.builder(rowPlan.size(), rowPlan.toRowHydrator(0));
+                while (rs.next()) {
+                    builder.row(rowPlan.read(rs));
+                }
+                rows = builder.build();
             }
         } catch (SQLException e) {
             throw new IllegalStateException(e);
         }
     }
 
+    /**
+     * Hydrates the query results.
+     *
+     * @return The entities.  Rows read eagerly are returned as {@link ColumnarData}, which hydrates the entities
+     *         every time it is iterated.
+     */
     public Iterable<Object> hydrate() {
-        //Coerce the results into entity objects.
-        MutableInt counter = new MutableInt(0);
+        return streaming ? new StreamingIterable() : rows;
+    }
 
-        List<Object> queryResults = getResults().stream()
-                .map((result) -> coerceObjectToEntity(result, counter))
-                .collect(Collectors.toList());
+    /**
+     * Returns the rows read from the result set as fieldName-value maps.
+     *
+     * @return The rows, or an empty list when the results are streamed.
+     * @deprecated Rows are no longer held as maps, so every call copies them.
+     */
+    @Deprecated
+    protected List<Map<String, Object>> getResults() {
+        if (streaming) {
+            return new ArrayList<>();
+        }
 
-        return queryResults;
+        List<Map<String, Object>> results = new ArrayList<>(rows.size());
+        for (int row = 0; row < rows.size(); row++) {
+            results.add(rowPlan.toMap(rows.getRow(row)));
+        }
+        return results;
     }
 
     /**
@@ -107,45 +167,21 @@ public class EntityHydrator {
      * @param result a fieldName-value map
      * @param counter Monotonically increasing number to generate IDs.
      * @return A hydrated entity object.
+     * @deprecated {@link #hydrate()} no longer calls this method, so overriding it has no effect.
      */
+    @Deprecated
     protected Object coerceObjectToEntity(Map<String, Object> result, MutableInt counter) {
-        Table table = getBaseTable(query);
-        Type<?> entityClass = entityDictionary.getEntityClass(table.getName(), table.getVersion());
-
-        //Construct the object.
-        Object entityInstance;
-        try {
-            entityInstance = entityClass.newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
-            throw new IllegalStateException(e);
-        }
-
-        result.forEach((fieldName, value) -> {
-            ColumnProjection dim = query.getColumnProjection(fieldName);
-            Type<?> fieldType = getType(entityClass, dim);
-            Attribute attribute = projectionToAttribute(dim, fieldType);
-
-            if (dim != null && dim.getValueType().equals(ValueType.RELATIONSHIP)) {
-                // We don't hydrate relationships here.
-            } else {
-                if (entityInstance instanceof ParameterizedModel) {
-                    ((ParameterizedModel) entityInstance).addAttributeValue(
-                            attribute,
-                            CoerceUtil.coerce(value, fieldType));
-                } else {
-                    getEntityDictionary().setValue(entityInstance, fieldName, value);
-                }
-            }
-        });
-
-        //Set the ID (it must be coerced from an integer)
-        getEntityDictionary().setValue(
-                entityInstance,
-                getEntityDictionary().getIdFieldName(entityClass),
-                counter.getAndIncrement()
-        );
+        return rowPlan.hydrate(rowPlan.fromMap(result), counter.getAndIncrement());
+    }
 
-        return entityInstance;
+    /**
+     * Coerces the current row of the result set into an entity object.
+     *
+     * @return A hydrated entity object.
+     * @throws SQLException if a column cannot be read.
+     */
+    protected Object hydrateRow() throws SQLException {
+        return rowPlan.hydrate(rowPlan.read(resultSet), counter.getAndIncrement());
     }
 
     private Table getBaseTable(Query query) {
@@ -194,4 +230,209 @@ public class EntityHydrator {
                 throw new IllegalStateException("Invalid grain type");
         }
     }
+
+    /**
+     * Turns raw column values into entities.  It only holds the projection metadata of the query, never the
+     * result set or the query itself, so it can outlive both inside {@link ColumnarData}.
+     */
+    private static class RowPlan {
+        private final EntityDictionary entityDictionary;
+        private final Type<?> entityClass;
+        private final String idFieldName;
+        private final ColumnHydrator[] columns;
+
+        RowPlan(EntityDictionary entityDictionary, Type<?> entityClass, ColumnHydrator[] columns) {
+            this.entityDictionary = entityDictionary;
+            this.entityClass = entityClass;
+            this.idFieldName = entityDictionary.getIdFieldName(entityClass);
+            this.columns = columns;
+        }
+
+        int size() {
+            return columns.length;
+        }
+
+        Map<String, Object> toMap(Object[] values) {
+            Map<String, Object> result = new HashMap<>();
+            for (int idx = 0; idx < values.length; idx++) {
+                result.put(columns[idx].fieldName, values[idx]);
+            }
+            return result;
+        }
+
+        Object[] fromMap(Map<String, Object> result) {
+            Object[] values = new Object[columns.length];
+            for (int idx = 0; idx < values.length; idx++) {
+                values[idx] = result.get(columns[idx].fieldName);
+            }
+            return values;
+        }
+
+        /**
+         * Reads the raw column values of the current row of the result set.
+         *
+         * @param rs The result set positioned on the row.
+         * @return The column values in row plan order.
+         * @throws SQLException if a column cannot be read.
+         */
+        Object[] read(ResultSet rs) throws SQLException {
+            Object[] values = new Object[columns.length];
+            for (int idx = 0; idx < values.length; idx++) {
+                values[idx] = columns[idx].read(rs);
+            }
+            return values;
+        }
+
+        /**
+         * Coerces raw column values into an entity object.
+         *
+         * @param values The column values in row plan order.
+         * @param id The entity id.
+         * @return A hydrated entity object.
+         */
+        Object hydrate(Object[] values, int id) {
+
+            //Construct the object.
+            Object entityInstance;
+            try {
+                entityInstance = entityClass.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+
+            for (int idx = 0; idx < values.length; idx++) {
+                columns[idx].hydrate(entityDictionary, entityInstance, values[idx]);
+            }
+
+            //Set the ID (it must be coerced from an integer)
+            entityDictionary.setValue(
+                    entityInstance,
+                    idFieldName,
+                    id
+            );
+
+            return entityInstance;
+        }
+
+        /**
+         * Builds a hydrator for rows stored in {@link ColumnarData}.
+         * @param firstId The id of the first row.
+         * @return The row hydrator.
+         */
+        ColumnarData.RowHydrator toRowHydrator(int firstId) {
+            return (values, rowIndex) -> hydrate(values, firstId + rowIndex);
+        }
+    }
+
+    /**
+     * Hydrates a single projected column of a result row into an entity.
+     */
+    private static class ColumnHydrator {
+        private final String fieldName;
+        private final int columnIndex;
+        private final Type<?> fieldType;
+
+        /**
+         * The field class when the attribute is a plain Java type, which lets coercion skip the type lookup.
+         */
+        private final Class<?> fieldClass;
+        private final Attribute attribute;
+        private final boolean relationship;
+
+        ColumnHydrator(ColumnProjection projection, int columnIndex, Type<?> fieldType, Attribute attribute) {
+            this.fieldName = projection.getAlias();
+            this.columnIndex = columnIndex;
+            this.relationship = projection.getValueType().equals(ValueType.RELATIONSHIP);
+            this.fieldType = fieldType;
+            this.fieldClass = !relationship && fieldType instanceof ClassType
+                    ? ((ClassType<?>) fieldType).getCls()
+                    : null;
+            this.attribute = attribute;
+        }
+
+        Object read(ResultSet rs) throws SQLException {
+            // We don't hydrate relationships here.
+            return relationship ? null : rs.getObject(columnIndex);
+        }
+
+        void hydrate(EntityDictionary entityDictionary, Object entityInstance, Object value) {
+            if (relationship) {
+                return;
+            }
+
+            if (entityInstance instanceof ParameterizedModel) {
+                Object coerced = fieldClass == null
+                        ? CoerceUtil.coerce(value, fieldType)
+                        : CoerceUtil.coerce(value, fieldClass);
+                ((ParameterizedModel) entityInstance).addAttributeValue(attribute, coerced);
+            } else {
+                entityDictionary.setValue(entityInstance, fieldName, value);
+            }
+        }
+    }
+
+    /**
+     * Single pass {@link Iterable} which hydrates each row as it is read from the open result set.
+     * The unread rows can instead be copied into {@link ColumnarData}, which can be iterated many times.
+     */
+    private class StreamingIterable implements Iterable<Object>, ColumnarData.Source {
+        private boolean consumed = false;
+
+        private void consume() {
+            if (consumed) {
+                throw new IllegalStateException("Streaming query results can only be iterated once.");
+            }
+            consumed = true;
+        }
+
+        @Override
+        public ColumnarData toColumnarData() {
+            consume();
+
+            ColumnarData.Builder builder = ColumnarData.builder(rowPlan.size(),
+                    rowPlan.toRowHydrator(counter.intValue()));
+            try {
+                while (resultSet.next()) {
+                    builder.row(rowPlan.read(resultSet));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return builder.build();
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            consume();
+
+            return new Iterator<Object>() {
+                private Boolean hasNext = null;
+
+                @Override
+                public boolean hasNext() {
+                    if (hasNext == null) {
+                        try {
+                            hasNext = resultSet.next();
+                        } catch (SQLException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }
+                    return hasNext;
+                }
+
+                @Override
+                public Object next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    hasNext = null;
+                    try {
+                        return hydrateRow();
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            };
+        }
+    }
 }
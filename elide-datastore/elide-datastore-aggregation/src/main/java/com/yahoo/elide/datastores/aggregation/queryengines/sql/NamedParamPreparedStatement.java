@@ -40,13 +40,18 @@ public class NamedParamPreparedStatement {
         while (matcher.find()) {
             fields.add(matcher.group().substring(1));
         }
-        preparedStatement = conn.prepareStatement(namedParamQuery.replaceAll(PARAMETER_PATTERN.pattern(), "?"));
+        preparedStatement = conn.prepareStatement(namedParamQuery.replaceAll(PARAMETER_PATTERN.pattern(), "?"),
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
     }
 
     public ResultSet executeQuery() throws SQLException {
         return preparedStatement.executeQuery();
     }
 
+    public void setFetchSize(int fetchSize) throws SQLException {
+        preparedStatement.setFetchSize(fetchSize);
+    }
+
     public void close() throws SQLException {
         preparedStatement.close();
     }
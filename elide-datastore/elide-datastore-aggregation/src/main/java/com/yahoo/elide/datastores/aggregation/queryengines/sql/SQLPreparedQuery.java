@@ -0,0 +1,66 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.queryengines.sql;
+
+import com.yahoo.elide.datastores.aggregation.query.PreparedQuery;
+import com.yahoo.elide.datastores.aggregation.query.Query;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialect;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The SQL generated by {@link SQLQueryEngine} for a client {@link Query}.
+ */
+@Value
+@Builder(toBuilder = true)
+public class SQLPreparedQuery implements PreparedQuery {
+
+    /**
+     * The client query.
+     */
+    @NonNull
+    private Query query;
+
+    @NonNull
+    private SQLDialect dialect;
+
+    /**
+     * The SQL which returns the query data.
+     */
+    @NonNull
+    private String sql;
+
+    /**
+     * Whether the client requested page totals.
+     */
+    private boolean returnPageTotals;
+
+    /**
+     * The SQL which returns the page totals.  Null if page totals were not requested or if the query
+     * has no dimensions (and so always returns a single record).
+     */
+    private String pageTotalsSql;
+
+    /**
+     * The named parameters in the SQL, in filter expression traversal order (where filter, then having filter).
+     */
+    @NonNull
+    private List<String> parameterNames;
+
+    @Override
+    public List<String> explain() {
+        List<String> queries = new ArrayList<>();
+        if (pageTotalsSql != null) {
+            queries.add(pageTotalsSql);
+        }
+        queries.add(sql);
+        return queries;
+    }
+}
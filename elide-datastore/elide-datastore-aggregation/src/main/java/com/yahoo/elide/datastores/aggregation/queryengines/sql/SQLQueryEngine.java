@@ -15,6 +15,8 @@ import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.core.utils.TimedFunction;
 import com.yahoo.elide.core.utils.coerce.CoerceUtil;
 import com.yahoo.elide.datastores.aggregation.QueryEngine;
+import com.yahoo.elide.datastores.aggregation.cache.QueryKey;
+import com.yahoo.elide.datastores.aggregation.cache.QueryKeyExtractor;
 import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Dimension;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Metric;
@@ -23,6 +25,7 @@ import com.yahoo.elide.datastores.aggregation.metadata.models.TimeDimension;
 import com.yahoo.elide.datastores.aggregation.query.ColumnProjection;
 import com.yahoo.elide.datastores.aggregation.query.MetricProjection;
 import com.yahoo.elide.datastores.aggregation.query.Optimizer;
+import com.yahoo.elide.datastores.aggregation.query.PreparedQuery;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryPlan;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
@@ -42,6 +45,7 @@ import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.SQLDimensio
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.SQLMetricProjection;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.SQLTimeDimensionProjection;
 import com.yahoo.elide.datastores.aggregation.timegrains.Time;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
 import org.apache.commons.lang3.StringUtils;
 import lombok.Getter;
@@ -53,13 +57,18 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
@@ -75,6 +84,9 @@ public class SQLQueryEngine extends QueryEngine {
     private final ConnectionDetails defaultConnectionDetails;
     private final Map<String, ConnectionDetails> connectionDetailsMap;
     private final Set<Optimizer> optimizers;
+    private final boolean streamResults;
+    private final ExecutorService pageTotalsExecutor;
+    private final com.github.benmanes.caffeine.cache.Cache<QueryKey, SQLPreparedQuery> templateCache;
 
     public SQLQueryEngine(MetaDataStore metaDataStore, ConnectionDetails defaultConnectionDetails) {
         this(metaDataStore, defaultConnectionDetails, Collections.emptyMap(),
@@ -86,12 +98,28 @@ public class SQLQueryEngine extends QueryEngine {
      * @param metaDataStore : MetaDataStore.
      * @param defaultConnectionDetails : default DataSource Object and SQLDialect Object.
      * @param connectionDetailsMap : Connection Name to DataSource Object and SQL Dialect Object mapping.
+     * @param optimizers The optimizers to apply to every query.
      */
     public SQLQueryEngine(MetaDataStore metaDataStore, ConnectionDetails defaultConnectionDetails,
                     Map<String, ConnectionDetails> connectionDetailsMap, Set<Optimizer> optimizers) {
+        this(metaDataStore, defaultConnectionDetails, connectionDetailsMap, optimizers, SQLQueryEngineOptions.DEFAULT);
+    }
+
+    /**
+     * Constructor.
+     * @param metaDataStore : MetaDataStore.
+     * @param defaultConnectionDetails : default DataSource Object and SQLDialect Object.
+     * @param connectionDetailsMap : Connection Name to DataSource Object and SQL Dialect Object mapping.
+     * @param optimizers The optimizers to apply to every query.
+     * @param options : Streaming, SQL template caching and concurrent page totals settings.
+     */
+    public SQLQueryEngine(MetaDataStore metaDataStore, ConnectionDetails defaultConnectionDetails,
+                    Map<String, ConnectionDetails> connectionDetailsMap, Set<Optimizer> optimizers,
+                    SQLQueryEngineOptions options) {
 
         Preconditions.checkNotNull(defaultConnectionDetails);
         Preconditions.checkNotNull(connectionDetailsMap);
+        Preconditions.checkNotNull(options);
 
         this.defaultConnectionDetails = defaultConnectionDetails;
         this.connectionDetailsMap = connectionDetailsMap;
@@ -100,6 +128,11 @@ public class SQLQueryEngine extends QueryEngine {
         populateMetaData(metaDataStore);
         this.referenceTable = new SQLReferenceTable(metaDataStore);
         this.optimizers = optimizers;
+        this.streamResults = options.isStreamResults();
+        this.pageTotalsExecutor = options.getPageTotalsExecutor();
+        this.templateCache = options.getMaximumTemplateCacheSize() > 0
+                ? Caffeine.newBuilder().maximumSize(options.getMaximumTemplateCacheSize()).build()
+                : null;
     }
 
     private static final Function<ResultSet, Object> SINGLE_RESULT_MAPPER = rs -> {
@@ -164,23 +197,23 @@ public class SQLQueryEngine extends QueryEngine {
     static class SqlTransaction implements QueryEngine.Transaction {
 
         private Connection conn;
-        private final List<NamedParamPreparedStatement> stmts = new ArrayList<>();
+        private StatementOptions connOptions;
+        private final List<NamedParamPreparedStatement> stmts = new CopyOnWriteArrayList<>();
+        private final Map<Connection, StatementOptions> extraConnections = new ConcurrentHashMap<>();
 
-        private void initializeConnection(DataSource dataSource) {
-            try {
-                this.conn = dataSource.getConnection();
-            } catch (SQLException e) {
-                throw new IllegalStateException(e);
-            }
+        private void initializeConnection(ConnectionDetails connectionDetails) {
+            this.connOptions = connectionDetails.getStatementOptions();
+            this.conn = openConnection(connectionDetails.getDataSource(), connOptions);
         }
 
-        public NamedParamPreparedStatement initializeStatement(String namedParamQuery, DataSource dataSource) {
+        public NamedParamPreparedStatement initializeStatement(String namedParamQuery,
+                                                               ConnectionDetails connectionDetails) {
             NamedParamPreparedStatement stmt;
             try {
                 if (conn == null || !conn.isValid(10)) {
-                    initializeConnection(dataSource);
+                    initializeConnection(connectionDetails);
                 }
-                stmt = new NamedParamPreparedStatement(conn, namedParamQuery);
+                stmt = prepareStatement(conn, namedParamQuery, connectionDetails);
                 stmts.add(stmt);
             } catch (SQLException e) {
                 throw new IllegalStateException(e);
@@ -188,10 +221,32 @@ public class SQLQueryEngine extends QueryEngine {
             return stmt;
         }
 
+        /**
+         * Creates a statement on a connection of its own so that it can run at the same time as the
+         * statements on the transaction connection.  The connection is released when the transaction closes.
+         * @param namedParamQuery The SQL.
+         * @param connectionDetails The source of the connection.
+         * @return The statement.
+         */
+        public NamedParamPreparedStatement initializeConcurrentStatement(String namedParamQuery,
+                                                                         ConnectionDetails connectionDetails) {
+            StatementOptions options = connectionDetails.getStatementOptions();
+            Connection connection = openConnection(connectionDetails.getDataSource(), options);
+            extraConnections.put(connection, options);
+            try {
+                NamedParamPreparedStatement stmt = prepareStatement(connection, namedParamQuery, connectionDetails);
+                stmts.add(stmt);
+                return stmt;
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
         @Override
         public void close() {
             stmts.forEach(stmt -> cancelAndCloseSoftly(stmt));
-            closeSoftly(conn);
+            releaseSoftly(conn, connOptions);
+            extraConnections.forEach((connection, options) -> releaseSoftly(connection, options));
         }
 
         @Override
@@ -200,6 +255,45 @@ public class SQLQueryEngine extends QueryEngine {
         }
     }
 
+    /**
+     * Opens a connection configured for the statement options.
+     */
+    private static Connection openConnection(DataSource dataSource, StatementOptions options) {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            if (options.isReadOnly()) {
+                connection.setReadOnly(true);
+            }
+            if (options.isStreaming()) {
+                connection.setAutoCommit(false);
+            }
+            return connection;
+        } catch (SQLException e) {
+            closeSoftly(connection);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates a forward only, read only statement with the fetch size of the statement options.
+     */
+    private static NamedParamPreparedStatement prepareStatement(Connection connection, String namedParamQuery,
+                                                                ConnectionDetails connectionDetails)
+            throws SQLException {
+        NamedParamPreparedStatement stmt = new NamedParamPreparedStatement(connection, namedParamQuery);
+        StatementOptions options = connectionDetails.getStatementOptions();
+        if (options.isStreaming()) {
+            int fetchSize = options.getFetchSize() == null
+                    ? StatementOptions.DEFAULT_STREAMING_FETCH_SIZE
+                    : options.getFetchSize();
+            stmt.setFetchSize(connectionDetails.getDialect().getStreamingFetchSize(fetchSize));
+        } else if (options.getFetchSize() != null) {
+            stmt.setFetchSize(options.getFetchSize());
+        }
+        return stmt;
+    }
+
     @Override
     public QueryEngine.Transaction beginTransaction() {
         return new SqlTransaction();
@@ -207,43 +301,90 @@ public class SQLQueryEngine extends QueryEngine {
 
     @Override
     public QueryResult executeQuery(Query query, Transaction transaction) {
-        SqlTransaction sqlTransaction = (SqlTransaction) transaction;
-        ConnectionDetails details = query.getConnectionDetails();
-        DataSource dataSource = details.getDataSource();
-        SQLDialect dialect = details.getDialect();
-
-        Query expandedQuery = expandMetricQueryPlans(query);
+        return executeQuery(prepare(query), transaction);
+    }
 
-        // Translate the query into SQL.
-        NativeQuery sql = toSQL(expandedQuery, dialect);
-        String queryString = sql.toString();
+    @Override
+    public QueryResult executeQuery(PreparedQuery preparedQuery, Transaction transaction) {
+        SqlTransaction sqlTransaction = (SqlTransaction) transaction;
+        SQLPreparedQuery sqlQuery = (SQLPreparedQuery) preparedQuery;
+        Query query = sqlQuery.getQuery();
+        ConnectionDetails connectionDetails = query.getConnectionDetails();
+        String queryString = sqlQuery.getSql();
 
         QueryResult.QueryResultBuilder resultBuilder = QueryResult.builder();
         NamedParamPreparedStatement stmt;
 
-        Pagination pagination = query.getPagination();
-        if (returnPageTotals(pagination)) {
-            resultBuilder.pageTotals(getPageTotal(expandedQuery, sql, sqlTransaction));
+        Future<Long> pageTotals = null;
+        if (sqlQuery.isReturnPageTotals()) {
+            if (pageTotalsExecutor != null && sqlQuery.getPageTotalsSql() != null) {
+                pageTotals = submitPageTotal(sqlQuery, sqlTransaction);
+            } else {
+                resultBuilder.pageTotals(getPageTotal(sqlQuery, sqlTransaction));
+            }
         }
 
-        log.debug("SQL Query: " + queryString);
-        stmt = sqlTransaction.initializeStatement(queryString, dataSource);
+        try {
+            log.debug("SQL Query: " + queryString);
+            if (streamResults && connectionDetails.getStatementOptions().isStreaming()) {
+                // Drivers like MySQL Connector/J reject other statements on a connection while a streamed
+                // result set is open.  The rows are read after this method returns, so use a separate connection.
+                stmt = sqlTransaction.initializeConcurrentStatement(queryString, connectionDetails);
+            } else {
+                stmt = sqlTransaction.initializeStatement(queryString, connectionDetails);
+            }
 
-        // Supply the query parameters to the query
-        supplyFilterQueryParameters(query, stmt, dialect);
+            // Supply the query parameters to the query
+            supplyFilterQueryParameters(sqlQuery, stmt);
 
-        // Run the primary query and log the time spent.
-        ResultSet resultSet = runQuery(stmt, queryString, Function.identity());
+            // Run the primary query and log the time spent.
+            ResultSet resultSet = runQuery(stmt, queryString, Function.identity());
 
-        resultBuilder.data(new EntityHydrator(resultSet, query, metadataDictionary).hydrate());
+            resultBuilder.data(new EntityHydrator(resultSet, query, metadataDictionary, streamResults).hydrate());
+            if (pageTotals != null) {
+                resultBuilder.pageTotals(awaitPageTotal(pageTotals));
+            }
+        } finally {
+            if (pageTotals != null) {
+                pageTotals.cancel(true);
+            }
+        }
         return resultBuilder.build();
     }
 
-    private long getPageTotal(Query query, NativeQuery sql, SqlTransaction sqlTransaction) {
-        ConnectionDetails details = query.getConnectionDetails();
-        DataSource dataSource = details.getDataSource();
-        SQLDialect dialect = details.getDialect();
-        NativeQuery paginationSQL = toPageTotalSQL(query, sql, dialect);
+    /**
+     * Starts the page totals query on its own connection.
+     */
+    private Future<Long> submitPageTotal(SQLPreparedQuery sqlQuery, SqlTransaction sqlTransaction) {
+        String paginationSQL = sqlQuery.getPageTotalsSql();
+        NamedParamPreparedStatement stmt = sqlTransaction.initializeConcurrentStatement(paginationSQL,
+                sqlQuery.getQuery().getConnectionDetails());
+
+        // Supply the query parameters to the query
+        supplyFilterQueryParameters(sqlQuery, stmt);
+
+        return pageTotalsExecutor.submit(() -> {
+            Long result = CoerceUtil.coerce(runQuery(stmt, paginationSQL, SINGLE_RESULT_MAPPER), Long.class);
+            return (result != null) ? result : 0;
+        });
+    }
+
+    private static long awaitPageTotal(Future<Long> pageTotals) {
+        try {
+            return pageTotals.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private long getPageTotal(SQLPreparedQuery sqlQuery, SqlTransaction sqlTransaction) {
+        String paginationSQL = sqlQuery.getPageTotalsSql();
 
         if (paginationSQL == null) {
             // The query returns the aggregated metric without any dimension.
@@ -251,13 +392,14 @@ public class SQLQueryEngine extends QueryEngine {
             return 1;
         }
 
-        NamedParamPreparedStatement stmt = sqlTransaction.initializeStatement(paginationSQL.toString(), dataSource);
+        NamedParamPreparedStatement stmt = sqlTransaction.initializeStatement(paginationSQL,
+                sqlQuery.getQuery().getConnectionDetails());
 
         // Supply the query parameters to the query
-        supplyFilterQueryParameters(query, stmt, dialect);
+        supplyFilterQueryParameters(sqlQuery, stmt);
 
         // Run the Pagination query and log the time spent.
-        Long result = CoerceUtil.coerce(runQuery(stmt, paginationSQL.toString(), SINGLE_RESULT_MAPPER), Long.class);
+        Long result = CoerceUtil.coerce(runQuery(stmt, paginationSQL, SINGLE_RESULT_MAPPER), Long.class);
 
         return (result != null) ? result : 0;
     }
@@ -273,8 +415,7 @@ public class SQLQueryEngine extends QueryEngine {
             String versionQueryString = versionAnnotation.sql();
             SqlTransaction sqlTransaction = (SqlTransaction) transaction;
             ConnectionDetails details = sqlTable.getConnectionDetails();
-            DataSource dataSource = details.getDataSource();
-            NamedParamPreparedStatement stmt = sqlTransaction.initializeStatement(versionQueryString, dataSource);
+            NamedParamPreparedStatement stmt = sqlTransaction.initializeStatement(versionQueryString, details);
             tableVersion = CoerceUtil.coerce(runQuery(stmt, versionQueryString, SINGLE_RESULT_MAPPER), String.class);
         }
         return tableVersion;
@@ -302,24 +443,74 @@ public class SQLQueryEngine extends QueryEngine {
      * @return List of SQL string(s) corresponding to the given query.
      */
     public List<String> explain(Query query, SQLDialect dialect) {
-        List<String> queries = new ArrayList<>();
+        return prepare(query, dialect).explain();
+    }
+
+    @Override
+    public List<String> explain(Query query) {
+        return prepare(query).explain();
+    }
+
+    @Override
+    public SQLPreparedQuery prepare(Query query) {
+        return prepare(query, query.getConnectionDetails().getDialect());
+    }
+
+    /**
+     * Translates the client query (and, if requested, its page totals query) into SQL exactly once.
+     * If the template cache is enabled, the SQL generated for an earlier query with the same structure
+     * is reused and only the filter parameters are rebound.
+     *
+     * @param query The query customized for a particular persistent storage or storage client.
+     * @param dialect SQL dialect to use for this storage.
+     * @return The prepared SQL.
+     */
+    public SQLPreparedQuery prepare(Query query, SQLDialect dialect) {
+        List<FilterPredicate> predicates = extractPredicates(query);
+
+        if (templateCache == null) {
+            return translate(query, dialect, predicates);
+        }
+
+        QueryKey templateKey = QueryKeyExtractor.extractTemplateKey(dialect.getDialectType(), query);
+        SQLPreparedQuery template = templateCache.getIfPresent(templateKey);
+        if (template != null) {
+            return template.toBuilder().query(query).build();
+        }
+
+        SQLPreparedQuery preparedQuery = translate(query, dialect, predicates);
+
+        // Parameters are bound by position.  This only works if every parameter name in the SQL is distinct.
+        List<String> parameterNames = preparedQuery.getParameterNames();
+        if (new HashSet<>(parameterNames).size() == parameterNames.size()) {
+            templateCache.put(templateKey, preparedQuery);
+        }
+
+        return preparedQuery;
+    }
+
+    private SQLPreparedQuery translate(Query query, SQLDialect dialect, List<FilterPredicate> predicates) {
         Query expandedQuery = expandMetricQueryPlans(query);
         NativeQuery sql = toSQL(expandedQuery, dialect);
 
+        SQLPreparedQuery.SQLPreparedQueryBuilder builder = SQLPreparedQuery.builder()
+                .query(query)
+                .dialect(dialect)
+                .sql(sql.toString())
+                .parameterNames(predicates.stream()
+                        .filter(predicate -> predicate.getOperator().isParameterized())
+                        .flatMap(predicate -> predicate.getParameters().stream())
+                        .map(FilterPredicate.FilterParameter::getName)
+                        .collect(Collectors.toList()));
+
         Pagination pagination = query.getPagination();
         if (returnPageTotals(pagination)) {
             NativeQuery paginationSql = toPageTotalSQL(expandedQuery, sql, dialect);
-            if (paginationSql != null) {
-                queries.add(paginationSql.toString());
-            }
+            builder.returnPageTotals(true)
+                    .pageTotalsSql(paginationSql == null ? null : paginationSql.toString());
         }
-        queries.add(sql.toString());
-        return queries;
-    }
 
-    @Override
-    public List<String> explain(Query query) {
-        return explain(query, query.getConnectionDetails().getDialect());
+        return builder.build();
     }
 
     /**
@@ -372,24 +563,35 @@ public class SQLQueryEngine extends QueryEngine {
     }
 
     /**
-     * Given a Prepared Statement, replaces any parameters with their values from client query.
+     * Extracts the filter predicates of a query in a stable order: where filter first, then having filter.
      *
      * @param query The client query
-     * @param stmt Customized Prepared Statement
-     * @param dialect the SQL dialect
+     * @return the filter predicates
      */
-    private void supplyFilterQueryParameters(Query query, NamedParamPreparedStatement stmt, SQLDialect dialect) {
-
-        Collection<FilterPredicate> predicates = new ArrayList<>();
+    private static List<FilterPredicate> extractPredicates(Query query) {
+        List<FilterPredicate> predicates = new ArrayList<>();
         if (query.getWhereFilter() != null) {
-            predicates.addAll(query.getWhereFilter().accept(new PredicateExtractionVisitor()));
+            query.getWhereFilter().accept(new PredicateExtractionVisitor(predicates));
         }
 
         if (query.getHavingFilter() != null) {
-            predicates.addAll(query.getHavingFilter().accept(new PredicateExtractionVisitor()));
+            query.getHavingFilter().accept(new PredicateExtractionVisitor(predicates));
         }
+        return predicates;
+    }
+
+    /**
+     * Given a Prepared Statement, replaces any parameters with their values from client query.
+     * Values are bound by position to the parameter names recorded when the SQL was generated.
+     *
+     * @param sqlQuery The prepared query
+     * @param stmt Customized Prepared Statement
+     */
+    private void supplyFilterQueryParameters(SQLPreparedQuery sqlQuery, NamedParamPreparedStatement stmt) {
+        SQLDialect dialect = sqlQuery.getDialect();
+        Iterator<String> parameterNames = sqlQuery.getParameterNames().iterator();
 
-        for (FilterPredicate filterPredicate : predicates) {
+        for (FilterPredicate filterPredicate : extractPredicates(sqlQuery.getQuery())) {
             boolean isTimeFilter = filterPredicate.getFieldType().equals(ClassType.of(Time.class));
             if (filterPredicate.getOperator().isParameterized()) {
                 boolean shouldEscape = filterPredicate.isMatchingOperator();
@@ -399,7 +601,7 @@ public class SQLQueryEngine extends QueryEngine {
                         if (isTimeFilter) {
                             value = dialect.translateTimeToJDBC((Time) value);
                         }
-                        stmt.setObject(param.getName(), shouldEscape ? param.escapeMatching() : value);
+                        stmt.setObject(parameterNames.next(), shouldEscape ? param.escapeMatching() : value);
                     } catch (SQLException e) {
                         throw new IllegalStateException(e);
                     }
@@ -484,6 +686,29 @@ public class SQLQueryEngine extends QueryEngine {
         }
     }
 
+    /**
+     * Undoes the statement options applied to a connection and closes it, hides and logs any SQLException.
+     * @param conn Connection to close.
+     * @param options The options the connection was opened with.
+     */
+    private static void releaseSoftly(Connection conn, StatementOptions options) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            if (options.isStreaming()) {
+                conn.rollback();
+                conn.setAutoCommit(true);
+            }
+            if (options.isReadOnly()) {
+                conn.setReadOnly(false);
+            }
+        } catch (SQLException e) {
+            log.error("Exception encountered during reset connection.", e);
+        }
+        closeSoftly(conn);
+    }
+
     /**
      * Closes Connection, hides and logs any SQLException.
      * @param conn Connection to close.
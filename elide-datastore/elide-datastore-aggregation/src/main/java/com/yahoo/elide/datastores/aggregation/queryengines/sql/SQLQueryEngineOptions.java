@@ -0,0 +1,43 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.queryengines.sql;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Optional behavior of {@link SQLQueryEngine}.  Everything is disabled by default.
+ */
+@Value
+@Builder
+public class SQLQueryEngineOptions {
+
+    /**
+     * All options disabled.
+     */
+    public static final SQLQueryEngineOptions DEFAULT = SQLQueryEngineOptions.builder().build();
+
+    /**
+     * When true, query results are hydrated lazily from the open JDBC result set instead of being read into
+     * memory first.  The result set is released when the transaction is closed.
+     */
+    private boolean streamResults;
+
+    /**
+     * Maximum number of generated SQL templates to keep.  Queries with the same structure that differ only by
+     * filter values reuse the same SQL.  Non-positive values disable the template cache.
+     */
+    private int maximumTemplateCacheSize;
+
+    /**
+     * When not null, page totals queries run on this executor using a second connection, at the same time as
+     * the data query.  Otherwise they run first on the transaction connection.  The engine does not shut the
+     * executor down.
+     */
+    private ExecutorService pageTotalsExecutor;
+}
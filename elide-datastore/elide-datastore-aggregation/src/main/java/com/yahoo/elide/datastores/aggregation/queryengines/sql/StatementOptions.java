@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.queryengines.sql;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * JDBC settings applied to the connections and statements {@link SQLQueryEngine} uses to read results.
+ */
+@Value
+@Builder
+public class StatementOptions {
+
+    /**
+     * Driver defaults.
+     */
+    public static final StatementOptions DEFAULT = StatementOptions.builder().build();
+
+    /**
+     * Fetch size used by streaming statements when no fetch size is set.
+     */
+    public static final int DEFAULT_STREAMING_FETCH_SIZE = 1000;
+
+    /**
+     * Number of rows the driver should fetch per round trip, or null for the driver default.
+     */
+    private Integer fetchSize;
+
+    /**
+     * Whether result sets should be streamed from the database rather than buffered by the driver.
+     * Some drivers, like Postgres, only honor the fetch size inside a transaction, so streaming connections
+     * have auto commit disabled.
+     */
+    private boolean streaming;
+
+    /**
+     * Whether connections are marked read only.
+     */
+    private boolean readOnly;
+}
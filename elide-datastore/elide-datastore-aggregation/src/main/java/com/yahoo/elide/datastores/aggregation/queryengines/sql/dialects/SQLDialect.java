@@ -6,6 +6,7 @@
 package com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects;
 
 import com.yahoo.elide.datastores.aggregation.annotation.JoinType;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.StatementOptions;
 import com.yahoo.elide.datastores.aggregation.timegrains.Time;
 
 /**
@@ -65,4 +66,21 @@ public interface SQLDialect {
         }
         return new java.sql.Date(time.getTime());
     }
+
+    /**
+     * Returns the JDBC settings used to read query results from this database.
+     * @return the statement options.  Driver defaults unless overridden.
+     */
+    default StatementOptions getStatementOptions() {
+        return StatementOptions.DEFAULT;
+    }
+
+    /**
+     * Returns the fetch size to request from the driver when streaming results.
+     * @param fetchSize The configured fetch size.
+     * @return the fetch size the driver needs to stream rows.
+     */
+    default int getStreamingFetchSize(int fetchSize) {
+        return fetchSize;
+    }
 }
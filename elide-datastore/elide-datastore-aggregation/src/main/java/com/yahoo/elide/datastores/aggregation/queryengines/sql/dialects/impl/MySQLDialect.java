@@ -22,6 +22,15 @@ public class MySQLDialect extends AbstractSqlDialect {
         return LIMIT + offset + COMMA + limit;
     }
 
+    /**
+     * MySQL Connector/J only streams rows one at a time when the fetch size is {@link Integer#MIN_VALUE},
+     * unless cursor fetches are enabled on the connection.
+     */
+    @Override
+    public int getStreamingFetchSize(int fetchSize) {
+        return Integer.MIN_VALUE;
+    }
+
     @Override
     public String getFullJoinKeyword() {
         throw new IllegalArgumentException("Full Join is not supported for: " + getDialectType());
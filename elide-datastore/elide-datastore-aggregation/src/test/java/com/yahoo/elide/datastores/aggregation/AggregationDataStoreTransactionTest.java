@@ -10,7 +10,6 @@ import static com.yahoo.elide.core.request.Pagination.DEFAULT_PAGE_LIMIT;
 import static com.yahoo.elide.core.request.Pagination.MAX_PAGE_LIMIT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -21,24 +20,29 @@ import com.yahoo.elide.core.pagination.PaginationImpl;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
+import com.yahoo.elide.datastores.aggregation.cache.QueryKey;
 import com.yahoo.elide.datastores.aggregation.cache.QueryKeyExtractor;
+import com.yahoo.elide.datastores.aggregation.cache.TableVersionTracker;
 import com.yahoo.elide.datastores.aggregation.core.QueryLogger;
 import com.yahoo.elide.datastores.aggregation.core.QueryResponse;
 import com.yahoo.elide.datastores.aggregation.example.PlayerStats;
 import com.yahoo.elide.datastores.aggregation.framework.SQLUnitTest;
+import com.yahoo.elide.datastores.aggregation.query.PreparedQuery;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLPreparedQuery;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngine;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialectFactory;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.NativeQuery;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Arrays;
 import java.util.Collections;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,11 +51,11 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
     @Mock private SQLQueryEngine queryEngine;
     @Mock private QueryEngine.Transaction qeTransaction;
     @Mock private RequestScope scope;
-    @Mock private Cache cache;
+    @Mock(answer = Answers.CALLS_REAL_METHODS) private Cache cache;
     @Mock private QueryLogger queryLogger;
+    @Mock private TableVersionTracker tableVersionTracker;
 
     private Query query = Query.builder().source(playerStatsTable).build();
-    private final String queryKey = QueryKeyExtractor.extractKey(query);
     private static final Iterable<Object> DATA = Collections.singletonList("xyzzy");
 
     // inject our own query instead of using buildQuery impl
@@ -61,12 +65,26 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
             super(queryEngine, cache, queryLogger);
         }
 
+        public MyAggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache, QueryLogger queryLogger,
+                                                 TableVersionTracker tableVersionTracker) {
+            super(queryEngine, cache, queryLogger, tableVersionTracker);
+        }
+
         @Override
         protected Query buildQuery(EntityProjection entityProjection, RequestScope scope) {
             return query;
         }
     }
 
+    private static SQLPreparedQuery prepare(Query query, NativeQuery nativeQuery) {
+        return SQLPreparedQuery.builder()
+                .query(query)
+                .dialect(SQLDialectFactory.getDefaultDialect())
+                .sql(nativeQuery.toString())
+                .parameterNames(Collections.emptyList())
+                .build();
+    }
+
     @BeforeAll
     public static void beforeAllTests() {
         SQLUnitTest.init();
@@ -86,16 +104,18 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
                 .fromClause(playerStatsTable.getName())
                 .projectionClause(" ").build();
         when(queryEngine.getTableVersion(playerStatsTable, qeTransaction)).thenReturn("foo");
-        when(queryEngine.executeQuery(query, qeTransaction)).thenReturn(queryResult);
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
+        SQLPreparedQuery preparedQuery = prepare(query, myQuery);
+        when(queryEngine.prepare(query)).thenReturn(preparedQuery);
+        when(queryEngine.executeQuery(preparedQuery, qeTransaction)).thenReturn(queryResult);
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
 
         assertEquals(DATA, transaction.loadObjects(entityProjection, scope));
 
-        String cacheKey = "foo;" + queryKey;
-        Mockito.verify(cache).get(cacheKey);
+        QueryKey cacheKey = QueryKeyExtractor.extractQueryKey("foo", query);
+        Mockito.verify(cache).computeIfAbsent(Mockito.eq(cacheKey), any());
+        Mockito.verify(cache, times(2)).get(cacheKey);
         Mockito.verify(cache).put(cacheKey, queryResult);
         Mockito.verifyNoMoreInteractions(cache);
         Mockito.verify(queryLogger, times(1)).acceptQuery(
@@ -111,21 +131,22 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
     public void loadObjectsUsesCache() {
         Mockito.reset(queryLogger);
 
-        String cacheKey = "foo;" + queryKey;
+        QueryKey cacheKey = QueryKeyExtractor.extractQueryKey("foo", query);
         QueryResult queryResult = QueryResult.builder().data(DATA).build();
         NativeQuery myQuery = NativeQuery.builder()
                 .fromClause(playerStatsTable.getName())
                 .projectionClause(" ").build();
         when(cache.get(cacheKey)).thenReturn(queryResult);
         when(queryEngine.getTableVersion(playerStatsTable, qeTransaction)).thenReturn("foo");
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
+        SQLPreparedQuery preparedQuery = prepare(query, myQuery);
+        when(queryEngine.prepare(query)).thenReturn(preparedQuery);
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
 
         assertEquals(DATA, transaction.loadObjects(entityProjection, scope));
 
-        Mockito.verify(queryEngine, never()).executeQuery(any(), any());
+        Mockito.verify(queryEngine, never()).executeQuery(any(PreparedQuery.class), any());
         Mockito.verify(cache).get(cacheKey);
         Mockito.verifyNoMoreInteractions(cache);
         Mockito.verify(queryLogger, times(1)).acceptQuery(
@@ -137,6 +158,29 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
                 Mockito.eq(scope.getRequestId()), any());
     }
 
+    @Test
+    public void loadObjectsUsesTableVersionTracker() {
+        QueryKey cacheKey = QueryKeyExtractor.extractQueryKey("foo", query);
+        QueryResult queryResult = QueryResult.builder().data(DATA).build();
+        NativeQuery myQuery = NativeQuery.builder()
+                .fromClause(playerStatsTable.getName())
+                .projectionClause(" ").build();
+        when(cache.get(cacheKey)).thenReturn(queryResult);
+        when(tableVersionTracker.getTableVersion(playerStatsTable)).thenReturn("foo");
+        SQLPreparedQuery preparedQuery = prepare(query, myQuery);
+        when(queryEngine.prepare(query)).thenReturn(preparedQuery);
+        AggregationDataStoreTransaction transaction =
+                new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger, tableVersionTracker);
+        EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
+
+        assertEquals(DATA, transaction.loadObjects(entityProjection, scope));
+
+        Mockito.verify(queryEngine, never()).getTableVersion(any(), any());
+        Mockito.verify(queryEngine, never()).executeQuery(any(PreparedQuery.class), any());
+        Mockito.verify(cache).get(cacheKey);
+        Mockito.verifyNoMoreInteractions(cache);
+    }
+
     @Test
     public void loadObjectsPassesPagination() {
         Mockito.reset(queryLogger);
@@ -145,9 +189,10 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         NativeQuery myQuery = NativeQuery.builder()
                 .fromClause(playerStatsTable.getName())
                 .projectionClause(" ").build();
-        when(cache.get(anyString())).thenReturn(queryResult);
+        when(cache.get(any(QueryKey.class))).thenReturn(queryResult);
         when(queryEngine.getTableVersion(playerStatsTable, qeTransaction)).thenReturn("foo");
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
+        SQLPreparedQuery preparedQuery = prepare(query, myQuery);
+        when(queryEngine.prepare(query)).thenReturn(preparedQuery);
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         Pagination pagination = new PaginationImpl(
@@ -158,8 +203,8 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         assertEquals(DATA, transaction.loadObjects(entityProjection, scope));
         assertEquals(314L, entityProjection.getPagination().getPageTotals());
 
-        String cacheKey = "foo;" + queryKey;
-        Mockito.verify(queryEngine, never()).executeQuery(any(), any());
+        QueryKey cacheKey = QueryKeyExtractor.extractQueryKey("foo", query);
+        Mockito.verify(queryEngine, never()).executeQuery(any(PreparedQuery.class), any());
         Mockito.verify(cache).get(cacheKey);
         Mockito.verifyNoMoreInteractions(cache);
         Mockito.verify(queryLogger, times(1)).acceptQuery(
@@ -181,17 +226,19 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
 
         QueryResult queryResult = QueryResult.builder().data(DATA).build();
 
-        when(queryEngine.executeQuery(query, qeTransaction))
+        SQLPreparedQuery preparedQuery = prepare(query, myQuery);
+        when(queryEngine.prepare(query)).thenReturn(preparedQuery);
+        when(queryEngine.executeQuery(preparedQuery, qeTransaction))
                 .thenReturn(queryResult);
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
 
         transaction.loadObjects(entityProjection, scope);
 
-        String cacheKey = ";" + queryKey;
-        Mockito.verify(cache).get(cacheKey);
+        QueryKey cacheKey = QueryKeyExtractor.extractQueryKey("", query);
+        Mockito.verify(cache).computeIfAbsent(Mockito.eq(cacheKey), any());
+        Mockito.verify(cache, times(2)).get(cacheKey);
         Mockito.verify(cache).put(cacheKey, queryResult);
         Mockito.verify(queryLogger, times(1)).acceptQuery(
                 Mockito.eq(scope.getRequestId()),
@@ -212,8 +259,9 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
                 .projectionClause(" ").build();
 
         QueryResult queryResult = QueryResult.builder().data(DATA).build();
-        when(queryEngine.executeQuery(query, qeTransaction)).thenReturn(queryResult);
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
+        SQLPreparedQuery preparedQuery = prepare(query, myQuery);
+        when(queryEngine.prepare(query)).thenReturn(preparedQuery);
+        when(queryEngine.executeQuery(preparedQuery, qeTransaction)).thenReturn(queryResult);
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
@@ -237,8 +285,12 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         String nullPointerExceptionMessage = "Cannot dereference an object with value Null";
         try {
             query = Query.builder().source(playerStatsTable).bypassingCache(true).build();
+            SQLPreparedQuery preparedQuery = prepare(query, NativeQuery.builder()
+                    .fromClause(playerStatsTable.getName())
+                    .projectionClause(" ").build());
+            when(queryEngine.prepare(query)).thenReturn(preparedQuery);
             doThrow(new NullPointerException(nullPointerExceptionMessage))
-                    .when(queryEngine).executeQuery(query, qeTransaction);
+                    .when(queryEngine).executeQuery(preparedQuery, qeTransaction);
             AggregationDataStoreTransaction transaction =
                     new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
             EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.yahoo.elide.datastores.aggregation.query.ColumnarData;
+import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CaffeineCacheTest {
+
+    @Test
+    public void testComputeIfAbsentRunsOnce() throws Exception {
+        CaffeineCache cache = new CaffeineCache(10, 10);
+        QueryResult queryResult = QueryResult.builder().data(Collections.singletonList("xyzzy")).build();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch executing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<QueryResult>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.computeIfAbsent("key", key -> {
+                executions.incrementAndGet();
+                executing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return queryResult;
+            })));
+            executing.await();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> cache.computeIfAbsent("key", key -> {
+                    executions.incrementAndGet();
+                    return QueryResult.builder().data(Collections.emptyList()).build();
+                })));
+            }
+            release.countDown();
+
+            for (Future<QueryResult> result : results) {
+                assertSame(queryResult, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, executions.get());
+        assertSame(queryResult, cache.get("key"));
+    }
+
+    @Test
+    public void testComputeIfAbsentRetriesAfterFailure() throws Exception {
+        CaffeineCache cache = new CaffeineCache(10, 10);
+        QueryResult queryResult = QueryResult.builder().data(Collections.singletonList("xyzzy")).build();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch executing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<QueryResult> failed = executor.submit(() -> cache.computeIfAbsent("key", key -> {
+                executions.incrementAndGet();
+                executing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                throw new IllegalStateException("cancelled");
+            }));
+            executing.await();
+            Future<QueryResult> retried = executor.submit(() -> cache.computeIfAbsent("key", key -> {
+                executions.incrementAndGet();
+                return queryResult;
+            }));
+
+            // The other caller waits for the running computation rather than starting its own.
+            Thread.sleep(100);
+            assertEquals(1, executions.get());
+            release.countDown();
+
+            ExecutionException error = assertThrows(ExecutionException.class,
+                    () -> failed.get(10, TimeUnit.SECONDS));
+            assertEquals("cancelled", error.getCause().getMessage());
+            assertSame(queryResult, retried.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2, executions.get());
+        assertSame(queryResult, cache.get("key"));
+    }
+
+    @Test
+    public void testFailedComputationIsNotCached() {
+        CaffeineCache cache = new CaffeineCache(10, 10);
+
+        assertThrows(IllegalStateException.class, () -> cache.computeIfAbsent("key", key -> {
+            throw new IllegalStateException();
+        }));
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    public void testWeighedBySize() {
+        CaffeineCache cache = CaffeineCache.weighedBySize(10 * CaffeineCache.ESTIMATED_ROW_SIZE, 10);
+        ColumnarData.Builder builder = ColumnarData.builder(1, (values, rowIndex) -> values[0]);
+        for (long idx = 0; idx < 100; idx++) {
+            builder.row(new Object[]{idx});
+        }
+        ColumnarData columnarData = builder.build();
+
+        cache.put("columnar", QueryResult.builder().data(columnarData).build());
+        cache.put("small", QueryResult.builder().data(Collections.nCopies(2, "xyzzy")).build());
+        cache.put("large", QueryResult.builder().data(Collections.nCopies(100, "xyzzy")).build());
+        cache.getImplementation().cleanUp();
+
+        assertSame(columnarData, cache.get("columnar").getData());
+        assertNotNull(cache.get("small"));
+        assertNull(cache.get("large"));
+    }
+}
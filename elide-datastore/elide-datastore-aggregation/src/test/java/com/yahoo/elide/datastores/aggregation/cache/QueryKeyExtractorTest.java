@@ -9,6 +9,8 @@ package com.yahoo.elide.datastores.aggregation.cache;
 import static com.yahoo.elide.core.utils.TypeHelper.getClassType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
 import com.yahoo.elide.core.request.Sorting;
@@ -126,4 +128,91 @@ public class QueryKeyExtractorTest {
                         .timeDimensionProjection(playerStatsTable.getTimeDimensionProjection("updatedDate"))
                         .build()));
     }
+
+    @Test
+    public void testTemplateKeyIgnoresFilterValues() throws Exception {
+        RSQLFilterDialect filterParser = new RSQLFilterDialect(dictionary);
+        Query good = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .whereFilter(filterParser.parseFilterExpression("overallRating==Good",
+                        getClassType(PlayerStats.class), false))
+                .build();
+        Query great = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .whereFilter(filterParser.parseFilterExpression("overallRating==Great",
+                        getClassType(PlayerStats.class), false))
+                .build();
+        Query both = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .whereFilter(filterParser.parseFilterExpression("overallRating=in=(Good,Great)",
+                        getClassType(PlayerStats.class), false))
+                .build();
+
+        assertNotEquals(QueryKeyExtractor.extractKey(good), QueryKeyExtractor.extractKey(great));
+        assertEquals(QueryKeyExtractor.extractTemplateKey("", good), QueryKeyExtractor.extractTemplateKey("", great));
+        assertNotEquals(QueryKeyExtractor.extractTemplateKey("", good), QueryKeyExtractor.extractTemplateKey("", both));
+    }
+
+    @Test
+    public void testTemplateKeyIncludesVersion() {
+        SQLTable versionedTable = spy(playerStatsTable);
+        when(versionedTable.getVersion()).thenReturn("2.0");
+
+        Query unversioned = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .build();
+        Query versioned = Query.builder()
+                .source(versionedTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .build();
+
+        assertNotEquals(QueryKeyExtractor.extractKey(unversioned), QueryKeyExtractor.extractKey(versioned));
+        assertNotEquals(QueryKeyExtractor.extractTemplateKey("", unversioned),
+                QueryKeyExtractor.extractTemplateKey("", versioned));
+    }
+
+    @Test
+    public void testQueryKey() throws Exception {
+        RSQLFilterDialect filterParser = new RSQLFilterDialect(dictionary);
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"))
+                .dimensionProjection(playerStatsTable.getDimensionProjection("countryNickName"))
+                .whereFilter(filterParser.parseFilterExpression("countryNickName=='Uncle Sam'",
+                        getClassType(PlayerStats.class), false))
+                .build();
+
+        QueryKey key = QueryKeyExtractor.extractQueryKey("foo", query);
+        assertEquals(QueryKey.of("foo;" + QueryKeyExtractor.extractKey(query)), key);
+        assertEquals(32, key.toString().length());
+        assertEquals(key, QueryKeyExtractor.extractQueryKey("foo", query));
+        assertEquals(key.hashCode(), QueryKeyExtractor.extractQueryKey("foo", query).hashCode());
+        assertNotEquals(key, QueryKeyExtractor.extractQueryKey("bar", query));
+        assertNotEquals(key, QueryKeyExtractor.extractTemplateKey("foo", query));
+    }
+
+    @Test
+    public void testQueryKeyComparesSerializedForm() {
+        assertEquals(QueryKey.of("foo;{1;-2;}"), QueryKey.of(new StringBuilder("foo;{1;-2;}")));
+        assertEquals(QueryKey.of("\u00dcn\u00efc\u00f8d\u00e9;"), QueryKey.of("\u00dcn\u00efc\u00f8d\u00e9;"));
+        assertNotEquals(QueryKey.of("\u00dcn\u00efc\u00f8d\u00e9;"), QueryKey.of("Unicode;"));
+        assertNotEquals(QueryKey.of("foo;"), QueryKey.of("foo;;"));
+    }
+
+    @Test
+    public void testPaginationKey() {
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .pagination(new ImmutablePagination(1234567890, 10, false, true))
+                .build();
+
+        assertEquals("com_yahoo_elide_datastores_aggregation_example_PlayerStats;{highScore;{}}{}{};;;"
+                + "{1234567890;10;1;}", QueryKeyExtractor.extractKey(query));
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import com.yahoo.elide.datastores.aggregation.QueryEngine;
+import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public class TableVersionTrackerTest {
+
+    private QueryEngine queryEngine;
+    private QueryEngine.Transaction transaction;
+    private ScheduledExecutorService scheduler;
+    private Table table;
+
+    @BeforeEach
+    public void setUp() {
+        queryEngine = mock(QueryEngine.class);
+        transaction = mock(QueryEngine.Transaction.class);
+        scheduler = mock(ScheduledExecutorService.class);
+        table = mock(Table.class);
+        when(table.getName()).thenReturn("playerStats");
+        when(table.getVersion()).thenReturn("");
+        when(queryEngine.beginTransaction()).thenReturn(transaction);
+    }
+
+    @Test
+    public void testVersionIsReusedUntilStale() {
+        when(queryEngine.getTableVersion(table, transaction)).thenReturn("1");
+        TableVersionTracker tracker = new TableVersionTracker(queryEngine, 60, 300, scheduler);
+
+        assertEquals("1", tracker.getTableVersion(table));
+        assertEquals("1", tracker.getTableVersion(table));
+
+        verify(queryEngine, times(1)).getTableVersion(table, transaction);
+        verify(transaction, times(1)).close();
+    }
+
+    @Test
+    public void testStaleVersionIsReloaded() {
+        when(queryEngine.getTableVersion(table, transaction)).thenReturn("1", "2");
+        TableVersionTracker tracker = new TableVersionTracker(queryEngine, 60, -1, scheduler);
+
+        assertEquals("1", tracker.getTableVersion(table));
+        assertEquals("2", tracker.getTableVersion(table));
+    }
+
+    @Test
+    public void testBackgroundRefresh() {
+        when(queryEngine.getTableVersion(table, transaction)).thenReturn("1", "2");
+        TableVersionTracker tracker = new TableVersionTracker(queryEngine, 60, 300, scheduler);
+
+        ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).scheduleWithFixedDelay(refresh.capture(), eq(60L), eq(60L), eq(TimeUnit.SECONDS));
+
+        assertEquals("1", tracker.getTableVersion(table));
+        refresh.getValue().run();
+        assertEquals("2", tracker.getTableVersion(table));
+        verify(queryEngine, times(2)).getTableVersion(table, transaction);
+    }
+
+    @Test
+    public void testBackgroundRefreshDisabled() {
+        new TableVersionTracker(queryEngine, 0, 300, scheduler);
+
+        verify(scheduler, times(0)).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    public void testCloseStopsBackgroundRefresh() {
+        ScheduledFuture refreshTask = mock(ScheduledFuture.class);
+        when(scheduler.scheduleWithFixedDelay(any(), anyLong(), anyLong(), any())).thenReturn(refreshTask);
+        TableVersionTracker tracker = new TableVersionTracker(queryEngine, 60, 300, scheduler);
+
+        tracker.close();
+
+        verify(refreshTask).cancel(false);
+        verify(scheduler, never()).shutdownNow();
+    }
+
+    @Test
+    public void testFailedLoadIsRethrown() {
+        when(queryEngine.getTableVersion(table, transaction)).thenThrow(new IllegalStateException("boom"));
+        TableVersionTracker tracker = new TableVersionTracker(queryEngine, 60, 300, scheduler);
+
+        assertThrows(IllegalStateException.class, () -> tracker.getTableVersion(table));
+        verify(transaction, times(1)).close();
+    }
+
+    @Test
+    public void testConcurrentLoadsAreCoalesced() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(queryEngine.getTableVersion(table, transaction)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return "1";
+        });
+        TableVersionTracker tracker = new TableVersionTracker(queryEngine, 60, 300, scheduler);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> tracker.getTableVersion(table)));
+            loading.await();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> tracker.getTableVersion(table)));
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("1", result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(queryEngine, times(1)).getTableVersion(table, transaction);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.query;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ColumnarDataTest {
+
+    private static final ColumnarData.RowHydrator ROWS = (values, rowIndex) -> Arrays.asList(values);
+
+    @Test
+    public void testRoundTrip() {
+        Object[][] rows = {
+                {1L, 2, 1.5d, 2.5f, "Good", new BigDecimal("1.10"), (short) 3, (byte) 4},
+                {null, null, null, null, null, null, null, null},
+                {7L, 8, -1.0d, 0.0f, "Good", new BigDecimal("2.20"), (short) -3, (byte) -4},
+        };
+
+        ColumnarData.Builder builder = ColumnarData.builder(8, ROWS);
+        for (Object[] row : rows) {
+            builder.row(row);
+        }
+        ColumnarData data = builder.build();
+
+        assertEquals(3, data.size());
+        List<Object> results = new ArrayList<>();
+        data.forEach(results::add);
+        for (int idx = 0; idx < rows.length; idx++) {
+            assertArrayEquals(rows[idx], ((List<?>) results.get(idx)).toArray());
+        }
+    }
+
+    @Test
+    public void testMixedTypesFallBackToDictionary() {
+        ColumnarData data = ColumnarData.builder(1, ROWS)
+                .row(new Object[]{1L})
+                .row(new Object[]{"one"})
+                .build();
+
+        List<Object> results = new ArrayList<>();
+        data.forEach(results::add);
+        assertEquals(Arrays.asList(Arrays.asList(1L), Arrays.asList("one")), results);
+    }
+
+    @Test
+    public void testDictionaryEncodingIsCompact() {
+        ColumnarData.Builder repeated = ColumnarData.builder(1, ROWS);
+        ColumnarData.Builder distinct = ColumnarData.builder(1, ROWS);
+        for (int idx = 0; idx < 100; idx++) {
+            repeated.row(new Object[]{"Good"});
+            distinct.row(new Object[]{"Good" + idx});
+        }
+
+        // Strings are weighed by their length: 40 bytes of overhead plus 2 bytes per character.
+        assertEquals(100 * Integer.BYTES + 40 + 2 * 4, repeated.build().getEstimatedSize());
+        assertEquals(100 * Integer.BYTES + 100 * 40 + 2 * (10 * 5 + 90 * 6), distinct.build().getEstimatedSize());
+    }
+
+    @Test
+    public void testGetRow() {
+        ColumnarData data = ColumnarData.builder(2, ROWS)
+                .row(new Object[]{1L, "one"})
+                .row(new Object[]{null, "two"})
+                .build();
+
+        assertArrayEquals(new Object[]{null, "two"}, data.getRow(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> data.getRow(2));
+    }
+
+    @Test
+    public void testWrongColumnCount() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ColumnarData.builder(2, ROWS).row(new Object[]{1L}));
+    }
+}
@@ -8,15 +8,22 @@ package com.yahoo.elide.datastores.aggregation.queryengines.sql;
 
 import static com.yahoo.elide.datastores.aggregation.query.ColumnProjection.createSafeAlias;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import com.yahoo.elide.core.request.Argument;
 import com.yahoo.elide.datastores.aggregation.example.PlayerStats;
 import com.yahoo.elide.datastores.aggregation.framework.SQLUnitTest;
 import com.yahoo.elide.datastores.aggregation.metadata.enums.TimeGrain;
+import com.yahoo.elide.datastores.aggregation.query.ColumnarData;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.timegrains.Day;
 import com.yahoo.elide.datastores.aggregation.timegrains.Month;
+import org.apache.commons.lang3.mutable.MutableInt;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.invocation.InvocationOnMock;
@@ -26,6 +33,8 @@ import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 public class EntityHyrdatorTest extends SQLUnitTest {
@@ -53,28 +62,142 @@ public class EntityHyrdatorTest extends SQLUnitTest {
         ResultSet resultSet = mock(ResultSet.class);
         ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
         when(resultSet.next()).thenAnswer(RESULTSET_NEXT);
-        when(resultSet.getObject("highScore")).thenReturn(1234);
-        when(resultSet.getObject(createSafeAlias("recordedDate", "byDay"))).thenReturn(new Date(1612390856));
-        when(resultSet.getObject(createSafeAlias("recordedDate", "byMonth"))).thenReturn(new Date(1612390856));
+        mockColumns(resultSet, resultSetMetaData);
+
+        EntityHydrator hydrator = new EntityHydrator(resultSet, buildQuery(), dictionary);
+        PlayerStats stats = (PlayerStats) hydrator.hydrate().iterator().next();
+
+        assertEquals(Month.class, stats.fetch("byMonth", null).getClass());
+        assertEquals(Day.class, stats.fetch("byDay", null).getClass());
+    }
+
+    @Test
+    void testBufferedHydrationIsColumnar() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        mockColumns(resultSet, resultSetMetaData);
+
+        EntityHydrator hydrator = new EntityHydrator(resultSet, buildQuery(), dictionary);
+        verify(resultSet, times(3)).next();
+
+        ColumnarData results = (ColumnarData) hydrator.hydrate();
+        assertEquals(2, results.size());
+
+        //The rows can be iterated many times with stable ids.
+        for (int pass = 0; pass < 2; pass++) {
+            Iterator<Object> iterator = results.iterator();
+            assertEquals("0", ((PlayerStats) iterator.next()).getId());
+            PlayerStats stats = (PlayerStats) iterator.next();
+            assertEquals("1", stats.getId());
+            assertEquals(1234L, stats.getHighScore());
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test
+    void testStreamingHydration() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        mockColumns(resultSet, resultSetMetaData);
+
+        EntityHydrator hydrator = new EntityHydrator(resultSet, buildQuery(), dictionary, true);
+
+        //Nothing is read until the results are iterated.
+        verify(resultSet, never()).next();
+
+        Iterable<Object> results = hydrator.hydrate();
+        Iterator<Object> iterator = results.iterator();
+
+        PlayerStats stats = (PlayerStats) iterator.next();
+        assertEquals("0", stats.getId());
+        assertEquals(1234L, stats.getHighScore());
+        assertEquals(Month.class, stats.fetch("byMonth", null).getClass());
+
+        stats = (PlayerStats) iterator.next();
+        assertEquals("1", stats.getId());
+        assertFalse(iterator.hasNext());
+        verify(resultSet, times(3)).next();
+
+        //Columns are resolved once per query - not once per row.
+        verify(resultSet, times(1)).findColumn("highScore");
+        verify(resultSet, times(2)).getObject(1);
+
+        assertThrows(IllegalStateException.class, results::iterator);
+    }
+
+    @Test
+    void testColumnarHydration() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        mockColumns(resultSet, resultSetMetaData);
+
+        EntityHydrator hydrator = new EntityHydrator(resultSet, buildQuery(), dictionary, true);
+        ColumnarData results = ((ColumnarData.Source) hydrator.hydrate()).toColumnarData();
+
+        assertEquals(2, results.size());
+        verify(resultSet, times(2)).getObject(1);
+
+        //Columnar results can be iterated many times without reading the result set again.
+        for (int pass = 0; pass < 2; pass++) {
+            Iterator<Object> iterator = results.iterator();
+            PlayerStats stats = (PlayerStats) iterator.next();
+            assertEquals("0", stats.getId());
+            assertEquals(1234L, stats.getHighScore());
+            assertEquals(Month.class, stats.fetch("byMonth", null).getClass());
+
+            stats = (PlayerStats) iterator.next();
+            assertEquals("1", stats.getId());
+            assertFalse(iterator.hasNext());
+        }
+        verify(resultSet, times(3)).next();
+        verify(resultSet, times(2)).getObject(1);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testDeprecatedRowAccess() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSet.next()).thenReturn(true, false);
+        mockColumns(resultSet, resultSetMetaData);
+
+        EntityHydrator hydrator = new EntityHydrator(resultSet, buildQuery(), dictionary);
+        List<Map<String, Object>> results = hydrator.getResults();
+
+        assertEquals(1, results.size());
+        assertEquals(1234, results.get(0).get("highScore"));
+
+        PlayerStats stats = (PlayerStats) hydrator.coerceObjectToEntity(results.get(0), new MutableInt(5));
+        assertEquals("5", stats.getId());
+        assertEquals(1234L, stats.getHighScore());
+        assertEquals(Month.class, stats.fetch("byMonth", null).getClass());
+    }
+
+    private static void mockColumns(ResultSet resultSet, ResultSetMetaData resultSetMetaData) throws Exception {
+        when(resultSet.findColumn("highScore")).thenReturn(1);
+        when(resultSet.findColumn(createSafeAlias("recordedDate", "byDay"))).thenReturn(2);
+        when(resultSet.findColumn(createSafeAlias("recordedDate", "byMonth"))).thenReturn(3);
+        when(resultSet.getObject(1)).thenReturn(1234);
+        when(resultSet.getObject(2)).thenReturn(new Date(1612390856));
+        when(resultSet.getObject(3)).thenReturn(new Date(1612390856));
         when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
         when(resultSetMetaData.getColumnCount()).thenReturn(3);
+    }
 
+    private static Query buildQuery() {
         Map<String, Argument> monthArguments = new HashMap<>();
         monthArguments.put("grain", Argument.builder().name("grain").value(TimeGrain.MONTH).build());
 
         Map<String, Argument> dayArguments = new HashMap<>();
         dayArguments.put("grain", Argument.builder().name("grain").value(TimeGrain.DAY).build());
 
-        Query query = Query.builder()
+        return Query.builder()
                 .source(playerStatsTable) .metricProjection(playerStatsTable.getMetricProjection("highScore"))
                 .timeDimensionProjection(playerStatsTable.getTimeDimensionProjection("recordedDate", "byMonth", monthArguments))
                 .timeDimensionProjection(playerStatsTable.getTimeDimensionProjection("recordedDate", "byDay", dayArguments))
                 .build();
-
-        EntityHydrator hydrator = new EntityHydrator(resultSet, query, dictionary);
-        PlayerStats stats = (PlayerStats) hydrator.hydrate().iterator().next();
-
-        assertEquals(Month.class, stats.fetch("byMonth", null).getClass());
-        assertEquals(Day.class, stats.fetch("byDay", null).getClass());
     }
 }
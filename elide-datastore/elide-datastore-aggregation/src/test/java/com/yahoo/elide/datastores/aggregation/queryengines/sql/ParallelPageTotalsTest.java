@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.queryengines.sql;
+
+import static com.yahoo.elide.core.utils.TypeHelper.getClassType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import com.yahoo.elide.core.utils.ClassScanner;
+import com.yahoo.elide.datastores.aggregation.example.PlayerStats;
+import com.yahoo.elide.datastores.aggregation.framework.SQLUnitTest;
+import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
+import com.yahoo.elide.datastores.aggregation.query.ImmutablePagination;
+import com.yahoo.elide.datastores.aggregation.query.Query;
+import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialectFactory;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class ParallelPageTotalsTest extends SQLUnitTest {
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    public static void beforeAllTests() {
+        executor = Executors.newFixedThreadPool(2);
+        MetaDataStore metaDataStore = new MetaDataStore(
+                getClassType(ClassScanner.getAllClasses("com.yahoo.elide.datastores.aggregation.example")),
+                false);
+        init(SQLDialectFactory.getDefaultDialect(), new HashSet<>(), metaDataStore,
+                SQLQueryEngineOptions.builder().pageTotalsExecutor(executor).build());
+    }
+
+    @AfterAll
+    public static void afterAllTests() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPageTotalsRunConcurrently() throws Exception {
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"))
+                .pagination(new ImmutablePagination(0, 1, false, true))
+                .build();
+
+        QueryResult result = engine.executeQuery(query, transaction);
+        List<Object> results = toList(result.getData());
+
+        PlayerStats stats = new PlayerStats();
+        stats.setId("0");
+        stats.setOverallRating("Good");
+        stats.setHighScore(1234);
+
+        assertEquals(ImmutableList.of(stats), results);
+        assertEquals(2, result.getPageTotals(), "Page totals does not match");
+    }
+
+    @Test
+    public void testPageTotalsWithFilter() throws Exception {
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"))
+                .whereFilter(filterParser.parseFilterExpression("overallRating==Great", playerStatsType, false))
+                .pagination(new ImmutablePagination(0, 1, false, true))
+                .build();
+
+        QueryResult result = engine.executeQuery(query, transaction);
+
+        assertEquals(1, toList(result.getData()).size());
+        assertEquals(1, result.getPageTotals(), "Page totals does not match");
+    }
+}
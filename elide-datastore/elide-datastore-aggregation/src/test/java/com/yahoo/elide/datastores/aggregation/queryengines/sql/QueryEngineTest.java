@@ -277,6 +277,31 @@ public class QueryEngineTest extends SQLUnitTest {
         assertEquals(3, result.getPageTotals(), "Page totals does not match");
     }
 
+    /**
+     * Test a prepared query can be explained and executed without translating it again.
+     */
+    @Test
+    public void testPreparedQuery() throws Exception {
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("lowScore"))
+                .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"))
+                .timeDimensionProjection(playerStatsTable.getTimeDimensionProjection("recordedDate"))
+                .pagination(new ImmutablePagination(0, 1, false, true))
+                .build();
+
+        SQLPreparedQuery preparedQuery = engine.prepare(query);
+
+        assertEquals(engine.explain(query), preparedQuery.explain());
+        assertEquals(2, preparedQuery.explain().size());
+        assertEquals(preparedQuery.getSql(), preparedQuery.explain().get(1));
+
+        QueryResult result = engine.executeQuery(preparedQuery, transaction);
+
+        assertEquals(1, toList(result.getData()).size());
+        assertEquals(3, result.getPageTotals(), "Page totals does not match");
+    }
+
     /**
      * Test having clause integrates with group by clause.
      *
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.queryengines.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialect;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.impl.H2Dialect;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.impl.MySQLDialect;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.impl.PostgresDialect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import javax.sql.DataSource;
+
+public class StatementOptionsTest {
+
+    private static final String QUERY = "SELECT 1";
+
+    private DataSource dataSource;
+    private Connection connection;
+    private PreparedStatement statement;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY))
+                .thenReturn(statement);
+    }
+
+    @Test
+    public void testDefaultOptions() throws Exception {
+        SQLQueryEngine.SqlTransaction transaction = new SQLQueryEngine.SqlTransaction();
+        transaction.initializeStatement(QUERY, new ConnectionDetails(dataSource, new H2Dialect()));
+        transaction.close();
+
+        verify(statement, never()).setFetchSize(anyInt());
+        verify(connection, never()).setAutoCommit(anyBoolean());
+        verify(connection, never()).setReadOnly(anyBoolean());
+        verify(connection).close();
+    }
+
+    @Test
+    public void testFetchSize() throws Exception {
+        StatementOptions options = StatementOptions.builder().fetchSize(250).build();
+
+        SQLQueryEngine.SqlTransaction transaction = new SQLQueryEngine.SqlTransaction();
+        transaction.initializeStatement(QUERY, new ConnectionDetails(dataSource, new PostgresDialect(), options));
+
+        verify(statement).setFetchSize(250);
+        verify(connection, never()).setAutoCommit(anyBoolean());
+    }
+
+    @Test
+    public void testStreamingReadOnly() throws Exception {
+        StatementOptions options = StatementOptions.builder().streaming(true).readOnly(true).build();
+
+        SQLQueryEngine.SqlTransaction transaction = new SQLQueryEngine.SqlTransaction();
+        transaction.initializeStatement(QUERY, new ConnectionDetails(dataSource, new PostgresDialect(), options));
+        transaction.close();
+
+        verify(statement).setFetchSize(StatementOptions.DEFAULT_STREAMING_FETCH_SIZE);
+        InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection).setReadOnly(true);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(connection).rollback();
+        inOrder.verify(connection).setAutoCommit(true);
+        inOrder.verify(connection).setReadOnly(false);
+        inOrder.verify(connection).close();
+    }
+
+    @Test
+    public void testMySQLStreaming() throws Exception {
+        StatementOptions options = StatementOptions.builder().streaming(true).fetchSize(100).build();
+
+        SQLQueryEngine.SqlTransaction transaction = new SQLQueryEngine.SqlTransaction();
+        transaction.initializeStatement(QUERY, new ConnectionDetails(dataSource, new MySQLDialect(), options));
+
+        verify(statement).setFetchSize(Integer.MIN_VALUE);
+    }
+
+    @Test
+    public void testDialectOptions() {
+        StatementOptions options = StatementOptions.builder().fetchSize(10).build();
+        SQLDialect dialect = new H2Dialect() {
+            @Override
+            public StatementOptions getStatementOptions() {
+                return options;
+            }
+        };
+
+        assertEquals(options, new ConnectionDetails(dataSource, dialect).getStatementOptions());
+        assertEquals(StatementOptions.DEFAULT, new ConnectionDetails(dataSource, null).getStatementOptions());
+    }
+}
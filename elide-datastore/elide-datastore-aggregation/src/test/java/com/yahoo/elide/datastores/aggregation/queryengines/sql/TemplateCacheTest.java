@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.queryengines.sql;
+
+import static com.yahoo.elide.core.utils.TypeHelper.getClassType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import com.yahoo.elide.core.utils.ClassScanner;
+import com.yahoo.elide.datastores.aggregation.example.PlayerStats;
+import com.yahoo.elide.datastores.aggregation.framework.SQLUnitTest;
+import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
+import com.yahoo.elide.datastores.aggregation.query.Query;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialectFactory;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+
+public class TemplateCacheTest extends SQLUnitTest {
+
+    @BeforeAll
+    public static void beforeAllTests() {
+        MetaDataStore metaDataStore = new MetaDataStore(
+                getClassType(ClassScanner.getAllClasses("com.yahoo.elide.datastores.aggregation.example")),
+                false);
+        init(SQLDialectFactory.getDefaultDialect(), new HashSet<>(), metaDataStore,
+                SQLQueryEngineOptions.builder().maximumTemplateCacheSize(10).build());
+    }
+
+    @Test
+    public void testQueriesWithDifferentFilterValuesShareSQL() throws Exception {
+        Query good = buildQuery("overallRating==Good");
+        Query great = buildQuery("overallRating==Great");
+
+        SQLPreparedQuery goodPrepared = engine.prepare(good);
+        SQLPreparedQuery greatPrepared = engine.prepare(great);
+
+        assertEquals(goodPrepared.getSql(), greatPrepared.getSql());
+        assertEquals(goodPrepared.getParameterNames(), greatPrepared.getParameterNames());
+        assertEquals(great, greatPrepared.getQuery());
+
+        List<Object> results = toList(engine.executeQuery(greatPrepared, transaction).getData());
+        PlayerStats stats = new PlayerStats();
+        stats.setId("0");
+        stats.setHighScore(2412);
+        assertEquals(ImmutableList.of(stats), results);
+
+        results = toList(engine.executeQuery(goodPrepared, transaction).getData());
+        stats.setHighScore(1234);
+        assertEquals(ImmutableList.of(stats), results);
+    }
+
+    @Test
+    public void testQueriesWithDifferentFilterShapesDoNotShareSQL() throws Exception {
+        SQLPreparedQuery single = engine.prepare(buildQuery("overallRating=in=(Good)"));
+        SQLPreparedQuery multiple = engine.prepare(buildQuery("overallRating=in=(Good,Great)"));
+
+        assertNotEquals(single.getSql(), multiple.getSql());
+        assertEquals(1, single.getParameterNames().size());
+        assertEquals(2, multiple.getParameterNames().size());
+
+        List<Object> results = toList(engine.executeQuery(multiple, transaction).getData());
+        PlayerStats stats = new PlayerStats();
+        stats.setId("0");
+        stats.setHighScore(2412);
+        assertEquals(ImmutableList.of(stats), results);
+    }
+
+    private static Query buildQuery(String filter) throws Exception {
+        return Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .whereFilter(filterParser.parseFilterExpression(filter, playerStatsType, false))
+                .build();
+    }
+}
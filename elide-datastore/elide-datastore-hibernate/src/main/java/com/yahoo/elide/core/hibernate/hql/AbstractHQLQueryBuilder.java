@@ -10,11 +10,13 @@ import static com.yahoo.elide.core.utils.TypeHelper.getTypeAlias;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.dictionary.RelationshipType;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.filter.predicates.FilterPredicate;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.pagination.KeysetCursor;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.core.request.Sorting;
@@ -150,6 +152,42 @@ public abstract class AbstractHQLQueryBuilder {
     }
 
 
+    /**
+     * Returns the filter expression of the fetch query.  Pages requested by cursor add the seek predicate for
+     * the cursor to the client filter.
+     * @return The filter expression or null if none is required.
+     */
+    protected FilterExpression getFetchFilterExpression() {
+        FilterExpression filterExpression = entityProjection.getFilterExpression();
+        Pagination pagination = entityProjection.getPagination();
+        if (pagination == null || !pagination.isCursorPagination()) {
+            return filterExpression;
+        }
+
+        FilterExpression seek = getKeysetCursor().getSeekExpression(pagination);
+        if (seek == null) {
+            return filterExpression;
+        }
+        return filterExpression == null ? seek : new AndFilterExpression(filterExpression, seek);
+    }
+
+    /**
+     * Returns the sorting of the fetch query.  Pages requested by cursor are read in keyset order, which ends with
+     * the id.  Pages before a cursor are read in reverse so the limit keeps the records nearest the cursor.
+     * @return The sorting or null if none was requested.
+     */
+    protected Sorting getFetchSorting() {
+        Pagination pagination = entityProjection.getPagination();
+        if (pagination == null || !pagination.isCursorPagination()) {
+            return entityProjection.getSorting();
+        }
+        return getKeysetCursor().getSorting(pagination);
+    }
+
+    private KeysetCursor getKeysetCursor() {
+        return new KeysetCursor(entityProjection.getType(), entityProjection.getSorting(), dictionary);
+    }
+
     /**
      * Modifies the HQL query to add OFFSET and LIMIT.
      * @param query The HQL query object
@@ -15,6 +15,7 @@ import com.yahoo.elide.core.filter.predicates.FilterPredicate;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
 import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.type.Type;
 
 import java.util.Collection;
@@ -42,7 +43,8 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
         String entityAlias = getTypeAlias(entityClass);
 
         Query query;
-        FilterExpression filterExpression = entityProjection.getFilterExpression();
+        FilterExpression filterExpression = getFetchFilterExpression();
+        Sorting sorting = getFetchSorting();
         if (filterExpression != null) {
             PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
             Collection<FilterPredicate> predicates = filterExpression.accept(extractor);
@@ -52,14 +54,14 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
 
             //Build the JOIN clause
             String joinClause =  getJoinClauseFromFilters(filterExpression)
-                    + getJoinClauseFromSort(entityProjection.getSorting())
+                    + getJoinClauseFromSort(sorting)
                     + extractToOneMergeJoins(entityClass, entityAlias);
 
             boolean requiresDistinct = entityProjection.getPagination() != null
                     && containsOneToMany(filterExpression);
 
-            Boolean sortOverRelationship = entityProjection.getSorting() != null
-                    && entityProjection.getSorting().getSortingPaths().keySet()
+            Boolean sortOverRelationship = sorting != null
+                    && sorting.getSortingPaths().keySet()
                     .stream().anyMatch(path -> path.getPathElements().size() > 1);
             if (requiresDistinct && sortOverRelationship) {
                 //SQL does not support distinct and order by on columns which are not selected
@@ -79,7 +81,7 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
                             + SPACE
                             + filterClause
                             + SPACE
-                            + getSortClause(entityProjection.getSorting())
+                            + getSortClause(sorting)
             );
 
             //Fill in the query parameters
@@ -92,10 +94,10 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
                     + AS
                     + entityAlias
                     + SPACE
-                    + getJoinClauseFromSort(entityProjection.getSorting())
+                    + getJoinClauseFromSort(sorting)
                     + extractToOneMergeJoins(entityClass, entityAlias)
                     + SPACE
-                    + getSortClause(entityProjection.getSorting()));
+                    + getSortClause(sorting));
         }
 
         addPaginationToQuery(query);
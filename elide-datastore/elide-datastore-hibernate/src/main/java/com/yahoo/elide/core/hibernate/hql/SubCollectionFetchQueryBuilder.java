@@ -13,6 +13,7 @@ import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.filter.predicates.FilterPredicate;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.type.Type;
 
 import java.util.Collection;
@@ -69,7 +70,8 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
         String parentName = relationship.getParentType().getCanonicalName();
         String relationshipName = relationship.getRelationshipName();
 
-        FilterExpression filterExpression = entityProjection.getFilterExpression();
+        FilterExpression filterExpression = getFetchFilterExpression();
+        Sorting sorting = getFetchSorting();
         Query query;
         if (filterExpression != null) {
             PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
@@ -77,7 +79,7 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
             String filterClause = new FilterTranslator(dictionary).apply(filterExpression, USE_ALIAS);
 
             String joinClause =  getJoinClauseFromFilters(filterExpression)
-                    + getJoinClauseFromSort(entityProjection.getSorting())
+                    + getJoinClauseFromSort(sorting)
                     + extractToOneMergeJoins(relationship.getChildType(), childAlias);
 
             //SELECT parent_children from Parent parent JOIN parent.children parent_children
@@ -92,7 +94,7 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
                     + filterClause
                     + " AND " + parentAlias + "=:" + parentAlias
                     + SPACE
-                    + getSortClause(entityProjection.getSorting())
+                    + getSortClause(sorting)
             );
 
             supplyFilterQueryParameters(query, predicates);
@@ -103,10 +105,10 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
                     + parentName + SPACE + parentAlias
                     + JOIN
                     + parentAlias + PERIOD + relationshipName + SPACE + childAlias
-                    + getJoinClauseFromSort(entityProjection.getSorting())
+                    + getJoinClauseFromSort(sorting)
                     + extractToOneMergeJoins(relationship.getChildType(), childAlias)
                     + " WHERE " + parentAlias + "=:" + parentAlias
-                    + getSortClause(entityProjection.getSorting())
+                    + getSortClause(sorting)
             );
         }
 
@@ -32,6 +32,8 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -104,6 +106,79 @@ public class RootCollectionFetchQueryBuilderTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testRootFetchWithCursor() {
+        Map<String, Sorting.SortOrder> sorting = new HashMap<>();
+        sorting.put(TITLE, Sorting.SortOrder.desc);
+
+        String cursor = Base64.getUrlEncoder().encodeToString("[\"ABC\",3]".getBytes(StandardCharsets.UTF_8));
+
+        EntityProjection entityProjection = EntityProjection
+                .builder()
+                .type(Book.class)
+                .sorting(new SortingImpl(sorting, Book.class, dictionary))
+                .pagination(PaginationImpl.builder()
+                        .entityClass(getClassType(Book.class))
+                        .clientLimit(10)
+                        .systemDefaultLimit(10)
+                        .systemMaxLimit(10)
+                        .after(cursor)
+                        .build())
+                .build();
+
+        RootCollectionFetchQueryBuilder builder = new RootCollectionFetchQueryBuilder(
+                entityProjection,
+                dictionary,
+                new TestSessionWrapper()
+        );
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT example_Book FROM example.Book AS example_Book "
+                + "WHERE (example_Book.title < :title_XXX "
+                + "OR (example_Book.title IN (:title_XXX) AND example_Book.id > :id_XXX)) "
+                + "order by example_Book.title desc,example_Book.id asc";
+        String actual = query.getQueryText();
+        actual = actual.trim().replaceAll(" +", " ");
+        actual = actual.replaceAll(":(title|id)_\\w+", ":$1_XXX");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testRootFetchBeforeCursor() {
+        String cursor = Base64.getUrlEncoder().encodeToString("[3]".getBytes(StandardCharsets.UTF_8));
+
+        EntityProjection entityProjection = EntityProjection
+                .builder()
+                .type(Book.class)
+                .pagination(PaginationImpl.builder()
+                        .entityClass(getClassType(Book.class))
+                        .clientLimit(10)
+                        .systemDefaultLimit(10)
+                        .systemMaxLimit(10)
+                        .before(cursor)
+                        .build())
+                .build();
+
+        RootCollectionFetchQueryBuilder builder = new RootCollectionFetchQueryBuilder(
+                entityProjection,
+                dictionary,
+                new TestSessionWrapper()
+        );
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT example_Book FROM example.Book AS example_Book "
+                + "WHERE example_Book.id < :id_XXX "
+                + "order by example_Book.id desc";
+        String actual = query.getQueryText();
+        actual = actual.trim().replaceAll(" +", " ");
+        actual = actual.replaceAll(":id_\\w+", ":id_XXX");
+
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void testRootFetchWithJoinFilter() throws ParseException {
 
@@ -40,6 +40,7 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.Optional;
 
 
 /**
@@ -293,6 +294,12 @@ public class HibernateTransaction implements DataStoreTransaction {
         return null;
     }
 
+    @Override
+    public <T> boolean supportsCursorPagination(RequestScope scope, Optional<T> parent,
+                                                EntityProjection projection) {
+        return true;
+    }
+
     @Override
     public void cancel(RequestScope scope) {
         session.cancelQuery();
@@ -39,6 +39,7 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.Optional;
 import javax.persistence.PersistenceException;
 
 /**
@@ -282,6 +283,12 @@ public class HibernateTransaction implements DataStoreTransaction {
         }
     }
 
+    @Override
+    public <T> boolean supportsCursorPagination(RequestScope scope, Optional<T> parent,
+                                                EntityProjection projection) {
+        return true;
+    }
+
     @Override
     public void cancel(RequestScope scope) {
         session.cancelQuery();
@@ -25,22 +25,27 @@ import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.core.request.Relationship;
 import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.TypeHelper;
 import com.yahoo.elide.datastores.jpa.porting.EntityManagerWrapper;
 import com.yahoo.elide.datastores.jpa.porting.QueryLogger;
 import com.yahoo.elide.datastores.jpa.porting.QueryWrapper;
 import com.yahoo.elide.datastores.jpa.transaction.checker.PersistentCollectionChecker;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -48,6 +53,7 @@ import java.util.function.Predicate;
 import javax.persistence.EntityManager;
 import javax.persistence.FlushModeType;
 import javax.persistence.NoResultException;
+import javax.persistence.PersistenceUnitUtil;
 import javax.validation.ConstraintViolationException;
 
 /**
@@ -58,6 +64,11 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
     private static final Predicate<Collection<?>> IS_PERSISTENT_COLLECTION =
             new PersistentCollectionChecker();
 
+    /**
+     * Maximum number of owners whose relation is initialized by a single fetch join query.
+     */
+    private static final int MAX_RELATION_BATCH_SIZE = 500;
+
     protected final EntityManager em;
     private final EntityManagerWrapper emWrapper;
     private final LinkedHashSet<Runnable> deferredTasks = new LinkedHashSet<>();
@@ -297,6 +308,64 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
         return (R) val;
     }
 
+    @Override
+    public <T, R> Map<T, R> getRelations(
+            DataStoreTransaction relationTx,
+            Collection<T> entities,
+            Relationship relation,
+            RequestScope scope) {
+
+        Pagination pagination = relation.getProjection().getPagination();
+
+        /*
+         * Relations the ORM would load lazily one owner at a time are initialized for all owners together
+         * with a fetch join.  Filtered, sorted or paginated relations are queried per owner.
+         */
+        if (relation.getProjection().getFilterExpression() == null
+                && relation.getProjection().getSorting() == null
+                && (pagination == null || pagination.isDefaultInstance())) {
+            initializeRelations(entities, relation.getName(), scope);
+        }
+
+        Map<T, R> relations = new IdentityHashMap<>();
+        for (T entity : entities) {
+            relations.put(entity, getRelation(relationTx, entity, relation, scope));
+        }
+        return relations;
+    }
+
+    private <T> void initializeRelations(Collection<T> entities, String relationName, RequestScope scope) {
+        EntityDictionary dictionary = scope.getDictionary();
+        PersistenceUnitUtil persistenceUnitUtil = em.getEntityManagerFactory().getPersistenceUnitUtil();
+
+        Map<Type<?>, List<Object>> idsByType = new LinkedHashMap<>();
+        for (T entity : entities) {
+            if (!em.contains(entity) || persistenceUnitUtil.isLoaded(entity, relationName)) {
+                continue;
+            }
+            Type<?> entityClass = dictionary.lookupEntityClass(EntityDictionary.getType(entity));
+            Object id = com.yahoo.elide.core.PersistentResource.getValue(
+                    entity, dictionary.getIdFieldName(entityClass), scope);
+            idsByType.computeIfAbsent(entityClass, key -> new ArrayList<>()).add(id);
+        }
+
+        idsByType.forEach((entityClass, ids) -> {
+            if (ids.size() < 2 || dictionary.isComputed(entityClass, relationName)) {
+                return;
+            }
+
+            String alias = TypeHelper.getTypeAlias(entityClass);
+            String queryText = "SELECT DISTINCT " + alias + " FROM " + entityClass.getCanonicalName() + " " + alias
+                    + " LEFT JOIN FETCH " + alias + "." + relationName
+                    + " WHERE " + alias + "." + dictionary.getIdFieldName(entityClass) + " IN (:ids)";
+
+            for (List<Object> batch : ListUtils.partition(ids, MAX_RELATION_BATCH_SIZE)) {
+                QueryWrapper query = (QueryWrapper) emWrapper.createQuery(queryText).setParameterList("ids", batch);
+                query.getQuery().getResultList();
+            }
+        });
+    }
+
     /**
      * Returns the total record count for a root entity and an optional filter expression.
      *
@@ -353,6 +422,12 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
         return doInDatabase(parent);
     }
 
+    @Override
+    public <T> boolean supportsCursorPagination(RequestScope scope, Optional<T> parent,
+                                                EntityProjection projection) {
+        return doInDatabase(parent);
+    }
+
     private <T> boolean doInDatabase(Optional<T> parent) {
         //In-Memory delegation is disabled.
         return !delegateToInMemoryStore
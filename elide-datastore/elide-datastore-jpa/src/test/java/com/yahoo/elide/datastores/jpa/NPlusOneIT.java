@@ -85,7 +85,8 @@ public class NPlusOneIT extends JPQLIntegrationTest {
                 .statusCode(HttpStatus.SC_OK);
 
         verifyLoggingStatements(
-                "SELECT example_Book FROM example.Book AS example_Book LEFT JOIN FETCH example_Book.publisher"
+                "SELECT example_Book FROM example.Book AS example_Book LEFT JOIN FETCH example_Book.publisher",
+                "SELECT DISTINCT example_Book FROM example.Book example_Book LEFT JOIN FETCH example_Book.authors WHERE example_Book.id IN (:XXX)"
         );
     }
 
@@ -97,7 +98,9 @@ public class NPlusOneIT extends JPQLIntegrationTest {
                 .statusCode(HttpStatus.SC_OK);
 
         verifyLoggingStatements(
-                "SELECT example_Book FROM example.Book AS example_Book LEFT JOIN FETCH example_Book.publisher"
+                "SELECT example_Book FROM example.Book AS example_Book LEFT JOIN FETCH example_Book.publisher",
+                "SELECT DISTINCT example_Book FROM example.Book example_Book LEFT JOIN FETCH example_Book.authors WHERE example_Book.id IN (:XXX)",
+                "SELECT DISTINCT example_Author FROM example.Author example_Author LEFT JOIN FETCH example_Author.books WHERE example_Author.id IN (:XXX)"
         );
     }
 
@@ -109,7 +112,8 @@ public class NPlusOneIT extends JPQLIntegrationTest {
                 .statusCode(HttpStatus.SC_OK);
 
         verifyLoggingStatements(
-                "SELECT example_Book FROM example.Book AS example_Book LEFT JOIN FETCH example_Book.publisher WHERE example_Book.title IN (:XXX)"
+                "SELECT example_Book FROM example.Book AS example_Book LEFT JOIN FETCH example_Book.publisher WHERE example_Book.title IN (:XXX)",
+                "SELECT DISTINCT example_Author FROM example.Author example_Author LEFT JOIN FETCH example_Author.books WHERE example_Author.id IN (:XXX)"
         );
     }
 
@@ -138,7 +142,8 @@ public class NPlusOneIT extends JPQLIntegrationTest {
         verifyLoggingStatements(
                 "SELECT example_Book FROM example.Book AS example_Book LEFT JOIN FETCH example_Book.publisher WHERE example_Book.title IN (:XXX)",
                 "SELECT example_Author FROM example.Book example_Book__fetch JOIN example_Book__fetch.authors example_Author WHERE example_Author.name LIKE CONCAT(:XXX, '%') AND example_Book__fetch=:XXX",
-                "SELECT example_Author FROM example.Book example_Book__fetch JOIN example_Book__fetch.authors example_Author WHERE example_Author.name LIKE CONCAT(:XXX, '%') AND example_Book__fetch=:XXX"
+                "SELECT example_Author FROM example.Book example_Book__fetch JOIN example_Book__fetch.authors example_Author WHERE example_Author.name LIKE CONCAT(:XXX, '%') AND example_Book__fetch=:XXX",
+                "SELECT DISTINCT example_Author FROM example.Author example_Author LEFT JOIN FETCH example_Author.books WHERE example_Author.id IN (:XXX)"
         );
     }
 
@@ -150,7 +155,8 @@ public class NPlusOneIT extends JPQLIntegrationTest {
                 .statusCode(HttpStatus.SC_OK);
 
         verifyLoggingStatements(
-                "SELECT example_Book FROM example.Book AS example_Book LEFT JOIN FETCH example_Book.publisher"
+                "SELECT example_Book FROM example.Book AS example_Book LEFT JOIN FETCH example_Book.publisher",
+                "SELECT DISTINCT example_Book FROM example.Book example_Book LEFT JOIN FETCH example_Book.authors WHERE example_Book.id IN (:XXX)"
         );
     }
 
@@ -164,7 +170,8 @@ public class NPlusOneIT extends JPQLIntegrationTest {
         verifyLoggingStatements(
                 "SELECT example_Book FROM example.Book AS example_Book WHERE example_Book.id IN (:XXX)",
                 "SELECT example_Author FROM example.Book example_Book__fetch JOIN example_Book__fetch.authors example_Author WHERE example_Author.id IN (:XXX) AND example_Book__fetch=:XXX",
-                "SELECT example_Book FROM example.Author example_Author__fetch JOIN example_Author__fetch.books example_Book LEFT JOIN FETCH example_Book.publisher WHERE example_Book.title LIKE CONCAT(:XXX, '%') AND example_Author__fetch=:XXX"
+                "SELECT example_Book FROM example.Author example_Author__fetch JOIN example_Author__fetch.books example_Book LEFT JOIN FETCH example_Book.publisher WHERE example_Book.title LIKE CONCAT(:XXX, '%') AND example_Author__fetch=:XXX",
+                "SELECT DISTINCT example_Book FROM example.Book example_Book LEFT JOIN FETCH example_Book.authors WHERE example_Book.id IN (:XXX)"
         );
     }
 
@@ -189,7 +196,8 @@ public class NPlusOneIT extends JPQLIntegrationTest {
                 .statusCode(HttpStatus.SC_OK);
 
         verifyLoggingStatements(
-                "SELECT example_Book FROM example.Book AS example_Book LEFT JOIN FETCH example_Book.publisher WHERE example_Book.id IN (:XXX)"
+                "SELECT example_Book FROM example.Book AS example_Book LEFT JOIN FETCH example_Book.publisher WHERE example_Book.id IN (:XXX)",
+                "SELECT DISTINCT example_Book FROM example.Book example_Book LEFT JOIN FETCH example_Book.authors WHERE example_Book.id IN (:XXX)"
         );
     }
 
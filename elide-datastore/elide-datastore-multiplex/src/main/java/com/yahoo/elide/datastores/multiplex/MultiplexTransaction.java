@@ -24,8 +24,12 @@ import com.yahoo.elide.core.type.Type;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -186,6 +190,32 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         return entityTransaction.getRelation(relationTx, entity, relation, scope);
     }
 
+    @Override
+    public <T, R> Map<T, R> getRelations(DataStoreTransaction relationTx,
+                                         Collection<T> entities,
+                                         Relationship relation,
+                                         RequestScope scope) {
+
+        Map<Type<?>, List<T>> entitiesByType = new LinkedHashMap<>();
+        entities.forEach(entity ->
+                entitiesByType.computeIfAbsent(EntityDictionary.getType(entity), key -> new ArrayList<>()).add(entity));
+
+        Map<T, R> relations = new IdentityHashMap<>();
+        entitiesByType.forEach((entityType, owners) -> {
+            DataStoreTransaction ownersRelationTx = getRelationTransaction(owners.get(0), relation.getName());
+            DataStoreTransaction entityTransaction = getTransaction(entityType);
+
+            // Bridged relationships are loaded one owner at a time by the bridgeable store.
+            if (entityTransaction != ownersRelationTx && ownersRelationTx instanceof BridgeableTransaction) {
+                owners.forEach(owner -> relations.put(owner, getRelation(ownersRelationTx, owner, relation, scope)));
+                return;
+            }
+
+            relations.putAll(entityTransaction.getRelations(ownersRelationTx, owners, relation, scope));
+        });
+        return relations;
+    }
+
     @Override
     public <T, R> void updateToManyRelation(DataStoreTransaction relationTx,
                                      T entity, String relationName,
@@ -236,6 +266,13 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         return getTransaction(entityClass).supportsPagination(scope, parent, projection);
     }
 
+    @Override
+    public <T> boolean supportsCursorPagination(RequestScope scope, Optional<T> parent,
+                                                EntityProjection projection) {
+        Type<?> entityClass = projection.getType();
+        return getTransaction(entityClass).supportsCursorPagination(scope, parent, projection);
+    }
+
     private Serializable extractId(FilterExpression filterExpression,
                                    String idFieldName,
                                    Type<?> relationClass) {
@@ -192,8 +192,11 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
             return PersistentResource.loadRecords(projection, idList, requestScope);
         }).orElseGet(() -> PersistentResource.loadRecords(projection, new ArrayList<>(), requestScope));
 
-        return new ConnectionContainer(records.toList(LinkedHashSet::new).blockingGet(),
-                Optional.ofNullable(projection.getPagination()), typeName);
+        Set<PersistentResource> resources = records.toList(LinkedHashSet::new).blockingGet();
+        scheduleRelationships(resources, projection);
+
+        return new ConnectionContainer(resources,
+                Optional.ofNullable(projection.getPagination()), typeName, Optional.of(projection));
     }
 
     /**
@@ -221,11 +224,29 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
             relationResources =
                     parentResource.getRelationCheckedFiltered(relationship).toList(LinkedHashSet::new).blockingGet();
         }
+        scheduleRelationships(relationResources, relationship.getProjection());
 
         return new ConnectionContainer(
                 relationResources,
                 Optional.ofNullable(relationship.getProjection().getPagination()),
-                relationshipType);
+                relationshipType,
+                Optional.of(relationship.getProjection()));
+    }
+
+    /**
+     * Schedules the relationships selected beneath a set of resources so that each is loaded for all of them
+     * at once, rather than once per resource as the nested fields are resolved.
+     * @param resources The resources whose relationships are selected.
+     * @param projection The projection of the resources.
+     */
+    private void scheduleRelationships(Set<PersistentResource> resources, EntityProjection projection) {
+        if (resources.size() < 2) {
+            return;
+        }
+
+        RequestScope requestScope = resources.iterator().next().getRequestScope();
+        projection.getRelationships().forEach(relationship ->
+                requestScope.getRelationshipBatcher().schedule(resources, relationship));
     }
 
     private ConnectionContainer upsertObjects(Environment context) {
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.language.Document;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed and validated GraphQL documents keyed by query text.
+ * <p>
+ * graphql-java consults the cache before parsing and validating a query, and Elide reuses the cached document
+ * when building the entity projections of a request.  The cache also stores the text of persisted queries under
+ * their SHA-256 hash so clients can send the hash instead of the query.
+ */
+public class PreparsedDocumentCache implements PreparsedDocumentProvider {
+    private final Cache<String, PreparsedDocumentEntry> documents;
+    private final Cache<String, String> persistedQueries;
+
+    /**
+     * Constructor.
+     * @param maximumSize The maximum number of documents (and of persisted queries) held by the cache.
+     */
+    public PreparsedDocumentCache(long maximumSize) {
+        this.documents = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+        this.persistedQueries = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    @Override
+    public PreparsedDocumentEntry get(String query, Function<String, PreparsedDocumentEntry> compute) {
+        PreparsedDocumentEntry entry = documents.getIfPresent(query);
+        if (entry == null) {
+            entry = compute.apply(query);
+            documents.put(query, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Returns the cached document of a query.
+     * @param query The query text.
+     * @return The parsed document, or null if the query has not been executed yet or is invalid.
+     */
+    public Document getDocument(String query) {
+        PreparsedDocumentEntry entry = documents.getIfPresent(query);
+        return entry == null || entry.hasErrors() ? null : entry.getDocument();
+    }
+
+    /**
+     * Returns the text of a persisted query.
+     * @param id The SHA-256 hash of the query text.
+     * @return The query text, or null if no query was persisted under the id.
+     */
+    public String getPersistedQuery(String id) {
+        return persistedQueries.getIfPresent(id);
+    }
+
+    /**
+     * Persists a query under its id.
+     * @param id The SHA-256 hash of the query text, as computed by the client.
+     * @param query The query text.
+     * @return false if the id is not the hash of the query.
+     */
+    public boolean persistQuery(String id, String query) {
+        if (!computePersistedQueryId(query).equalsIgnoreCase(id)) {
+            return false;
+        }
+        persistedQueries.put(id, query);
+        return true;
+    }
+
+    /**
+     * Computes the id a query is persisted under.
+     * @param query The query text.
+     * @return The hex encoded SHA-256 hash of the query text.
+     */
+    public static String computePersistedQueryId(String query) {
+        return Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString();
+    }
+}
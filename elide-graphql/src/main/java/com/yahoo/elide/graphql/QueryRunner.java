@@ -24,25 +24,28 @@ import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.apache.commons.lang3.tuple.Pair;
 import org.owasp.encoder.Encode;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Function;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
+import java.util.stream.Collectors;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Response;
 
@@ -54,11 +57,16 @@ public class QueryRunner {
     private final Elide elide;
     private GraphQL api;
     private String apiVersion;
+    private final PreparsedDocumentCache documentCache;
 
     private static final String QUERY = "query";
     private static final String OPERATION_NAME = "operationName";
     private static final String VARIABLES = "variables";
     private static final String MUTATION = "mutation";
+    private static final String EXTENSIONS = "extensions";
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String SHA256_HASH = "sha256Hash";
+    private static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
 
     /**
      * Builds a new query runner.
@@ -73,7 +81,14 @@ public class QueryRunner {
         ModelBuilder builder = new ModelBuilder(elide.getElideSettings().getDictionary(),
                 nonEntityDictionary, fetcher, apiVersion);
 
-        this.api = new GraphQL(builder.build());
+        int documentCacheSize = elide.getElideSettings().getGraphQLDocumentCacheSize();
+        this.documentCache = documentCacheSize > 0 ? new PreparsedDocumentCache(documentCacheSize) : null;
+
+        GraphQL.Builder graphQL = GraphQL.newGraphQL(builder.build());
+        if (documentCache != null) {
+            graphQL.preparsedDocumentProvider(documentCache);
+        }
+        this.api = graphQL.build();
 
         // TODO - add serializers to allow for custom handling of ExecutionResult and GraphQLError objects
         GraphQLErrorSerializer errorSerializer = new GraphQLErrorSerializer();
@@ -152,41 +167,117 @@ public class QueryRunner {
                                                 requestHeaders);
 
         if (topLevel.isArray()) {
-            Iterator<JsonNode> nodeIterator = topLevel.iterator();
-            Iterable<JsonNode> nodeIterable = () -> nodeIterator;
-            // NOTE: Create a non-parallel stream
-            // It's unclear whether or not the expectations of the caller would be that requests are intended
-            // to run serially even outside of a single transaction. We should revisit this.
-            Stream<JsonNode> nodeStream = StreamSupport.stream(nodeIterable.spliterator(), false);
-            ArrayNode result = nodeStream
-                    .map(executeRequest)
-                    .map(response -> {
-                        try {
-                            return mapper.readTree(response.getBody());
-                        } catch (IOException e) {
-                            log.debug("Caught an IO exception while trying to read response body");
-                            return JsonNodeFactory.instance.objectNode();
-                        }
-                    })
-                    .reduce(JsonNodeFactory.instance.arrayNode(),
-                            (arrayNode, node) -> arrayNode.add(node),
-                            (left, right) -> left.addAll(right));
-            try {
-                return ElideResponse.builder()
-                        .responseCode(HttpStatus.SC_OK)
-                        .body(mapper.writeValueAsString(result))
-                        .build();
-            } catch (IOException e) {
-                log.error("An unexpected error occurred trying to serialize array response.", e);
-                return ElideResponse.builder()
-                        .responseCode(HttpStatus.SC_INTERNAL_SERVER_ERROR)
-                        .build();
+            List<JsonNode> nodes = new ArrayList<>();
+            topLevel.forEach(nodes::add);
+
+            // Documents which only read data run concurrently when a batch executor is configured.  Otherwise
+            // they run serially, as callers may expect mutations in a batch to be applied in order.
+            ExecutorService batchExecutor = elide.getElideSettings().getGraphQLBatchExecutor();
+            if (batchExecutor != null && nodes.size() > 1 && nodes.stream().allMatch(this::isQueryOnly)) {
+                return runConcurrently(nodes, executeRequest, batchExecutor);
             }
+
+            StringBuilder result = new StringBuilder("[");
+            nodes.forEach(node -> appendBatchResponse(result, executeRequest.apply(node)));
+            return ElideResponse.builder()
+                    .responseCode(HttpStatus.SC_OK)
+                    .body(result.append(']').toString())
+                    .build();
         }
 
         return executeRequest.apply(topLevel);
     }
 
+    private ElideResponse runConcurrently(List<JsonNode> nodes, Function<JsonNode, ElideResponse> executeRequest,
+                                          ExecutorService batchExecutor) {
+        List<Future<ElideResponse>> responses = nodes.stream()
+                .map(node -> batchExecutor.submit(() -> executeRequest.apply(node)))
+                .collect(Collectors.toList());
+
+        StringBuilder result = new StringBuilder("[");
+        try {
+            for (Future<ElideResponse> response : responses) {
+                appendBatchResponse(result, response.get());
+            }
+        } catch (InterruptedException e) {
+            log.debug("Request Thread interrupted.", e);
+            responses.forEach(response -> response.cancel(true));
+            Thread.currentThread().interrupt();
+            return buildErrorResponse(elide, new TimeoutException(e), false);
+        } catch (ExecutionException e) {
+            responses.forEach(response -> response.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return ElideResponse.builder()
+                .responseCode(HttpStatus.SC_OK)
+                .body(result.append(']').toString())
+                .build();
+    }
+
+    /**
+     * Appends the body of a document's response to the array response of a batch.  Bodies which are not JSON
+     * objects or arrays are replaced with an empty object.
+     */
+    private static void appendBatchResponse(StringBuilder result, ElideResponse response) {
+        if (result.length() > 1) {
+            result.append(',');
+        }
+        String body = response.getBody();
+        result.append(body != null && (body.startsWith("{") || body.startsWith("[")) ? body : "{}");
+    }
+
+    /**
+     * Checks whether the operation a document executes is a query.  The operation is looked up in the parsed
+     * document, which is taken from the document cache when the query has already been executed.
+     */
+    private boolean isQueryOnly(JsonNode jsonDocument) {
+        String query = extractQuery(jsonDocument);
+        if (query == null && documentCache != null) {
+            String persistedQueryId = extractPersistedQueryId(jsonDocument);
+            query = persistedQueryId == null ? null : documentCache.getPersistedQuery(persistedQueryId);
+        }
+        if (query == null) {
+            return false;
+        }
+
+        Document document = documentCache == null ? null : documentCache.getDocument(query);
+        if (document == null) {
+            try {
+                document = new Parser().parseDocument(query);
+            } catch (Exception e) {
+                // Invalid documents run serially and report their errors there
+                return false;
+            }
+        }
+
+        OperationDefinition operation = selectOperation(document, extractOperation(jsonDocument));
+        return operation != null && operation.getOperation() == OperationDefinition.Operation.QUERY;
+    }
+
+    /**
+     * Selects the operation of a document which is executed for the requested operation name.
+     * @return The operation, or null if the document does not identify exactly one operation.
+     */
+    private static OperationDefinition selectOperation(Document document, String operationName) {
+        List<OperationDefinition> operations = document.getDefinitions().stream()
+                .filter(OperationDefinition.class::isInstance)
+                .map(OperationDefinition.class::cast)
+                .collect(Collectors.toList());
+        if (operationName == null) {
+            return operations.size() == 1 ? operations.get(0) : null;
+        }
+        return operations.stream()
+                .filter(operation -> operationName.equals(operation.getName()))
+                .findFirst()
+                .orElse(null);
+    }
+
     /**
      * Extracts the executable query from Json Node.
      * @param jsonDocument The JsonNode object.
@@ -225,24 +316,59 @@ public class QueryRunner {
         return null;
     }
 
+    /**
+     * Extracts the persisted query id (the SHA-256 hash of the query) from Json Node.
+     * @param jsonDocument The JsonNode object.
+     * @return the persisted query id or null if the request does not reference a persisted query.
+     */
+    public static String extractPersistedQueryId(JsonNode jsonDocument) {
+        JsonNode id = jsonDocument.path(EXTENSIONS).path(PERSISTED_QUERY).path(SHA256_HASH);
+        return id.isTextual() ? id.asText() : null;
+    }
+
     private ElideResponse executeGraphQLRequest(String baseUrlEndPoint, ObjectMapper mapper, User principal,
                                                 String graphQLDocument, JsonNode jsonDocument, UUID requestId,
                                                 Map<String, List<String>> requestHeaders) {
         boolean isVerbose = false;
+        DataStoreTransaction runningTransaction = null;
         try (DataStoreTransaction tx = elide.getDataStore().beginTransaction()) {
+            //Documents of a concurrent batch share the request ID, so each removes only its own transaction
+            runningTransaction = tx;
             elide.getTransactionRegistry().addRunningTransaction(requestId, tx);
-            if (!jsonDocument.has(QUERY)) {
+            String persistedQueryId = documentCache == null ? null : extractPersistedQueryId(jsonDocument);
+            if (!jsonDocument.has(QUERY) && persistedQueryId == null) {
                 return ElideResponse.builder().responseCode(HttpStatus.SC_BAD_REQUEST)
                         .body("A `query` key is required.").build();
             }
-            String query = extractQuery(jsonDocument);
+
+            String query;
+            if (jsonDocument.has(QUERY)) {
+                query = extractQuery(jsonDocument);
+                if (persistedQueryId != null && !documentCache.persistQuery(persistedQueryId, query)) {
+                    return ElideResponse.builder().responseCode(HttpStatus.SC_BAD_REQUEST)
+                            .body("The persisted query hash does not match the query.").build();
+                }
+            } else {
+                // Ask the client to send the full query so that it can be persisted
+                query = documentCache.getPersistedQuery(persistedQueryId);
+                if (query == null) {
+                    ErrorObjects errors = ErrorObjects.builder().addError()
+                            .with("message", PERSISTED_QUERY_NOT_FOUND).build();
+                    return ElideResponse.builder().responseCode(HttpStatus.SC_OK)
+                            .body(mapper.writeValueAsString(errors)).build();
+                }
+            }
 
             // get variables from request for constructing entityProjections
             Map<String, Object> variables = extractVariables(mapper, jsonDocument);
 
             //TODO - get API version.
-            GraphQLProjectionInfo projectionInfo = new GraphQLEntityProjectionMaker(elide.getElideSettings(), variables,
-                    apiVersion).make(query);
+            GraphQLEntityProjectionMaker projectionMaker = new GraphQLEntityProjectionMaker(elide.getElideSettings(),
+                    variables, apiVersion);
+            Document document = documentCache == null ? null : documentCache.getDocument(query);
+            GraphQLProjectionInfo projectionInfo = document == null
+                    ? projectionMaker.make(query)
+                    : projectionMaker.make(document);
             GraphQLRequestScope requestScope = new GraphQLRequestScope(baseUrlEndPoint, tx, principal, apiVersion,
                     elide.getElideSettings(), projectionInfo, requestId, requestHeaders);
 
@@ -346,7 +472,9 @@ public class QueryRunner {
             log.error("Unhandled error or exception.", e);
             throw e;
         } finally {
-            elide.getTransactionRegistry().removeRunningTransaction(requestId);
+            if (runningTransaction != null) {
+                elide.getTransactionRegistry().removeRunningTransaction(requestId, runningTransaction);
+            }
             elide.getAuditLogger().clear();
         }
     }
@@ -7,6 +7,7 @@ package com.yahoo.elide.graphql.containers;
 
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.exceptions.BadRequestException;
+import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.graphql.Environment;
 import com.yahoo.elide.graphql.KeyWord;
@@ -27,6 +28,13 @@ public class ConnectionContainer implements GraphQLContainer {
     @Getter private final Optional<Pagination> pagination;
     // Refers to the type of persistentResources
     @Getter private final String typeName;
+    // The projection the resources were fetched with, used to issue cursors
+    @Getter private final Optional<EntityProjection> projection;
+
+    public ConnectionContainer(Set<PersistentResource> persistentResources, Optional<Pagination> pagination,
+                               String typeName) {
+        this(persistentResources, pagination, typeName, Optional.empty());
+    }
 
     @Override
     public Object processFetch(Environment context, PersistentResourceFetcher fetcher) {
@@ -7,12 +7,14 @@ package com.yahoo.elide.graphql.containers;
 
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.exceptions.BadRequestException;
+import com.yahoo.elide.core.pagination.KeysetCursor;
 import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.graphql.Environment;
 import com.yahoo.elide.graphql.KeyWord;
 import com.yahoo.elide.graphql.PersistentResourceFetcher;
 import lombok.Getter;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -38,17 +40,35 @@ public class PageInfoContainer implements GraphQLContainer {
                 .sorted()
                 .collect(Collectors.toList());
 
+        // Pages requested by cursor return the cursors of their first and last records, other pages their offsets
+        List<PersistentResource> resources = new ArrayList<>(connectionContainer.getPersistentResources());
+        Optional<KeysetCursor> cursor = connectionContainer.getProjection()
+                .filter(projection -> !resources.isEmpty()
+                        && pagination.filter(Pagination::isCursorPagination).isPresent()
+                        && KeysetCursor.supports(projection.getSorting()))
+                .map(projection -> new KeysetCursor(projection.getType(), projection.getSorting(),
+                        resources.get(0).getRequestScope().getDictionary()));
+
         return pagination.map(pageValue -> {
             switch (KeyWord.byName(fieldName)) {
                 case PAGE_INFO_HAS_NEXT_PAGE: {
                     int numResults = ids.size();
+                    if (pageValue.isCursorPagination()) {
+                        // The position of a cursor page is unknown, a full page may be followed by more records
+                        return numResults >= pageValue.getLimit();
+                    }
                     int nextOffset = numResults + pageValue.getOffset();
                     return nextOffset < pageValue.getPageTotals();
                 }
+                // Records with a null sort value have no cursor
                 case PAGE_INFO_START_CURSOR:
-                    return pageValue.getOffset();
+                    return cursor.isPresent()
+                            ? cursor.get().encode(resources.get(0))
+                            : pageValue.getOffset();
                 case PAGE_INFO_END_CURSOR:
-                    return pageValue.getOffset() + ids.size();
+                    return cursor.isPresent()
+                            ? cursor.get().encode(resources.get(resources.size() - 1))
+                            : pageValue.getOffset() + ids.size();
                 case PAGE_INFO_TOTAL_RECORDS:
                     return pageValue.getPageTotals();
                 default:
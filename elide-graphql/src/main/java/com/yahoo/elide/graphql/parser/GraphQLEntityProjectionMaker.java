@@ -118,6 +118,16 @@ public class GraphQLEntityProjectionMaker {
             throw new InvalidEntityBodyException("Can't parse query: " + query);
         }
 
+        return make(parsedDocument);
+    }
+
+    /**
+     * Convert a parsed GraphQL document into a collection of Elide {@link EntityProjection}s.
+     *
+     * @param parsedDocument GraphQL document
+     * @return all projections in the document
+     */
+    public GraphQLProjectionInfo make(Document parsedDocument) {
         // resolve fragment definitions
         fragmentResolver.addFragments(parsedDocument);
 
@@ -412,27 +422,29 @@ public class GraphQLEntityProjectionMaker {
                 : projectionBuilder.getPagination();
 
         Object argumentValue = variableResolver.resolveValue(argument.getValue());
-        int value = argumentValue instanceof BigInteger
-                ? ((BigInteger) argumentValue).intValue()
-                : Integer.parseInt((String) argumentValue);
         if (ModelBuilder.ARGUMENT_FIRST.equals(argument.getName())) {
-            pagination = new PaginationImpl(
-                    projectionBuilder.getType(),
-                    pagination.getOffset(),
-                    value,
-                    elideSettings.getDefaultPageSize(),
-                    elideSettings.getDefaultPageSize(),
-                    pagination.returnPageTotals(),
-                    false);
+            pagination = PaginationImpl.builder()
+                    .entityClass(projectionBuilder.getType())
+                    .clientOffset(pagination.isCursorPagination() ? null : pagination.getOffset())
+                    .clientLimit(toInteger(argumentValue))
+                    .systemDefaultLimit(elideSettings.getDefaultPageSize())
+                    .systemMaxLimit(elideSettings.getDefaultPageSize())
+                    .generateTotals(pagination.returnPageTotals())
+                    .after(pagination.getAfter())
+                    .build();
         } else if (ModelBuilder.ARGUMENT_AFTER.equals(argument.getName())) {
-            pagination = new PaginationImpl(
-                    projectionBuilder.getType(),
-                    value,
-                    pagination.getLimit(),
-                    elideSettings.getDefaultPageSize(),
-                    elideSettings.getDefaultPageSize(),
-                    pagination.returnPageTotals(),
-                    false);
+            // Numeric values are record offsets, anything else is a cursor issued in pageInfo
+            boolean isOffset = argumentValue instanceof BigInteger
+                    || ((String) argumentValue).matches("-?\\d+");
+            pagination = PaginationImpl.builder()
+                    .entityClass(projectionBuilder.getType())
+                    .clientOffset(isOffset ? toInteger(argumentValue) : null)
+                    .clientLimit(pagination.getLimit())
+                    .systemDefaultLimit(elideSettings.getDefaultPageSize())
+                    .systemMaxLimit(elideSettings.getDefaultPageSize())
+                    .generateTotals(pagination.returnPageTotals())
+                    .after(isOffset ? null : (String) argumentValue)
+                    .build();
         }
 
         projectionBuilder.pagination(pagination);
@@ -458,18 +470,26 @@ public class GraphQLEntityProjectionMaker {
                     false);
 
         } else {
-            pagination = new PaginationImpl(
-                    projectionBuilder.getType(),
-                    projectionBuilder.getPagination().getOffset(),
-                    projectionBuilder.getPagination().getLimit(),
-                    elideSettings.getDefaultPageSize(),
-                    elideSettings.getDefaultMaxPageSize(),
-                    true,
-                    false);
+            Pagination existing = projectionBuilder.getPagination();
+            pagination = PaginationImpl.builder()
+                    .entityClass(projectionBuilder.getType())
+                    .clientOffset(existing.isCursorPagination() ? null : existing.getOffset())
+                    .clientLimit(existing.getLimit())
+                    .systemDefaultLimit(elideSettings.getDefaultPageSize())
+                    .systemMaxLimit(elideSettings.getDefaultMaxPageSize())
+                    .generateTotals(true)
+                    .after(existing.getAfter())
+                    .build();
         }
         projectionBuilder.pagination(pagination);
     }
 
+    private static int toInteger(Object argumentValue) {
+        return argumentValue instanceof BigInteger
+                ? ((BigInteger) argumentValue).intValue()
+                : Integer.parseInt((String) argumentValue);
+    }
+
     /**
      * Returns whether or not a GraphQL argument name corresponding to a sorting argument.
      *
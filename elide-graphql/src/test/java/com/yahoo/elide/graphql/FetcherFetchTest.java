@@ -161,6 +161,16 @@ public class FetcherFetchTest extends PersistentResourceFetcherTest {
         runComparisonTest("pageTotalsRootWithPagination");
     }
 
+    @Test
+    public void testPageTotalsRootWithCursor() throws Exception {
+        runComparisonTest("pageTotalsRootWithCursor");
+    }
+
+    @Test
+    public void testPageTotalsRootWithEmptyCursor() throws Exception {
+        runComparisonTest("pageTotalsRootWithEmptyCursor");
+    }
+
     @Test
     public void testPageTotalsRootWithIds() throws Exception {
         runComparisonTest("pageTotalsRootWithIds");
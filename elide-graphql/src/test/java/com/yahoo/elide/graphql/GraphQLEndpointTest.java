@@ -54,6 +54,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -70,6 +72,7 @@ import javax.ws.rs.core.UriInfo;
 public class GraphQLEndpointTest {
 
     private GraphQLEndpoint endpoint;
+    private ElideSettingsBuilder settingsBuilder;
     private final SecurityContext user1 = Mockito.mock(SecurityContext.class);
     private final SecurityContext user2 = Mockito.mock(SecurityContext.class);
     private final SecurityContext user3 = Mockito.mock(SecurityContext.class);
@@ -123,12 +126,10 @@ public class GraphQLEndpointTest {
         checkMappings.put(UserChecks.IS_USER_2, UserChecks.IsUserId.Two.class);
         checkMappings.put(CommitChecks.IS_NOT_USER_3, CommitChecks.IsNotUser3.class);
 
-        Elide elide = new Elide(
-                new ElideSettingsBuilder(inMemoryStore)
-                        .withEntityDictionary(new EntityDictionary(checkMappings))
-                        .withAuditLogger(audit)
-                        .build());
-        endpoint = new GraphQLEndpoint(elide);
+        settingsBuilder = new ElideSettingsBuilder(inMemoryStore)
+                .withEntityDictionary(new EntityDictionary(checkMappings))
+                .withAuditLogger(audit);
+        endpoint = new GraphQLEndpoint(new Elide(settingsBuilder.build()));
 
         DataStoreTransaction tx = inMemoryStore.beginTransaction();
 
@@ -270,6 +271,155 @@ public class GraphQLEndpointTest {
         assert200EqualBody(response, graphQLResponse);
     }
 
+    @Test
+    void testPersistedQuery() throws IOException, JSONException {
+        String graphQLRequest = document(
+                query(
+                        "myQuery",
+                        variableDefinitions(
+                                variableDefinition("bookId", "[String]")
+                        ),
+                        selections(
+                                field(
+                                        "book",
+                                        arguments(
+                                                argument("ids", "$bookId")
+                                        ),
+                                        selections(
+                                                field("id"),
+                                                field("title")
+                                        )
+                                )
+                        )
+                )
+        ).toQuery();
+
+        String graphQLResponse = document(
+                selection(
+                        field(
+                                "book",
+                                selections(
+                                        field("id", "1"),
+                                        field("title", "My first book")
+                                )
+                        )
+                )
+        ).toResponse();
+
+        Map<String, String> variables = new HashMap<>();
+        variables.put("bookId", "1");
+        String queryId = PreparsedDocumentCache.computePersistedQueryId(graphQLRequest);
+
+        // Unknown ids ask the client to send the full query
+        Response response = endpoint.post(uriInfo, requestHeaders, user1,
+                persistedQueryToJSON(null, queryId, variables));
+        assertEquals("PersistedQueryNotFound", extract200Response(response).get("errors").get(0).get("message").asText());
+
+        response = endpoint.post(uriInfo, requestHeaders, user1,
+                persistedQueryToJSON(graphQLRequest, queryId, variables));
+        assert200EqualBody(response, graphQLResponse);
+
+        response = endpoint.post(uriInfo, requestHeaders, user1, persistedQueryToJSON(null, queryId, variables));
+        assert200EqualBody(response, graphQLResponse);
+
+        String otherQueryId = PreparsedDocumentCache.computePersistedQueryId("{ book { edges { node { id } } } }");
+        response = endpoint.post(uriInfo, requestHeaders, user1,
+                persistedQueryToJSON(graphQLRequest, otherQueryId, variables));
+        assertEquals(400, response.getStatus());
+    }
+
+    @Test
+    void testConcurrentBatch() throws IOException, JSONException {
+        String bookRequest = document(
+                selection(
+                        field(
+                                "book",
+                                selections(
+                                        field("id"),
+                                        field("title")
+                                )
+                        )
+                )
+        ).toQuery();
+        String authorRequest = document(
+                selection(
+                        field(
+                                "author",
+                                selections(
+                                        field("id"),
+                                        field("name")
+                                )
+                        )
+                )
+        ).toQuery();
+
+        String expected = "[" + document(
+                selection(
+                        field(
+                                "book",
+                                selections(
+                                        field("id", "1"),
+                                        field("title", "My first book")
+                                )
+                        )
+                )
+        ).toResponse() + "," + document(
+                selection(
+                        field(
+                                "author",
+                                selections(
+                                        field("id", "1"),
+                                        field("name", "Ricky Carmichael")
+                                ),
+                                selections(
+                                        field("id", "2"),
+                                        field("name", "The Silent Author")
+                                )
+                        )
+                )
+        ).toResponse() + "]";
+
+        String batch = "[" + graphQLRequestToJSON(bookRequest) + "," + graphQLRequestToJSON(authorRequest) + "]";
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            GraphQLEndpoint concurrentEndpoint = new GraphQLEndpoint(
+                    new Elide(settingsBuilder.withGraphQLBatchExecutor(executor).build()));
+
+            assert200EqualBody(endpoint.post(uriInfo, requestHeaders, user1, batch), expected);
+            assert200EqualBody(concurrentEndpoint.post(uriInfo, requestHeaders, user1, batch), expected);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testBatchWithMutationRunsSerially() {
+        String bookRequest = document(
+                selection(
+                        field(
+                                "book",
+                                selections(
+                                        field("id")
+                                )
+                        )
+                )
+        ).toQuery();
+        // The operation type is taken from the parsed document rather than the start of the query text
+        String mutationRequest = "# Deletes a book which does not exist\n"
+                + "mutation { book(op: DELETE, ids: [\"999\"]) { edges { node { id } } } }";
+
+        String batch = "[" + graphQLRequestToJSON(bookRequest) + "," + graphQLRequestToJSON(mutationRequest) + "]";
+
+        ExecutorService executor = Mockito.mock(ExecutorService.class);
+        GraphQLEndpoint concurrentEndpoint = new GraphQLEndpoint(
+                new Elide(settingsBuilder.withGraphQLBatchExecutor(executor).build()));
+
+        Response response = concurrentEndpoint.post(uriInfo, requestHeaders, user1, batch);
+        assertEquals(200, response.getStatus());
+        Mockito.verifyNoInteractions(executor);
+    }
+
     @Test
     void testCanReadRestrictedFieldWithAppropriateAccess() throws JSONException {
         String graphQLRequest = document(
@@ -1043,6 +1193,16 @@ public class GraphQLEndpointTest {
         return node.toString();
     }
 
+    private static String persistedQueryToJSON(String request, String queryId, Map<String, String> variables) {
+        ObjectNode node = JsonNodeFactory.instance.objectNode();
+        if (request != null) {
+            node.put("query", request);
+        }
+        node.set("variables", new ObjectMapper().valueToTree(variables));
+        node.putObject("extensions").putObject("persistedQuery").put("version", 1).put("sha256Hash", queryId);
+        return node.toString();
+    }
+
     private static JsonNode extract200Response(Response response) throws IOException {
         return new ObjectMapper().readTree(extract200ResponseString(response));
     }
@@ -16,6 +16,7 @@ import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.async.export.formatter.CSVExportFormatter;
 import com.yahoo.elide.async.export.formatter.JSONExportFormatter;
 import com.yahoo.elide.async.export.formatter.TableExportFormatter;
+import com.yahoo.elide.async.hooks.AsyncAPICancelHook;
 import com.yahoo.elide.async.hooks.AsyncQueryHook;
 import com.yahoo.elide.async.hooks.TableExportHook;
 import com.yahoo.elide.async.integration.tests.AsyncIT;
@@ -26,6 +27,7 @@ import com.yahoo.elide.async.models.security.AsyncAPIInlineChecks;
 import com.yahoo.elide.async.resources.ExportApiEndpoint.ExportApiProperties;
 import com.yahoo.elide.async.service.AsyncCleanerService;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.cancellation.AsyncAPICancellationBus;
 import com.yahoo.elide.async.service.dao.AsyncAPIDAO;
 import com.yahoo.elide.async.service.dao.DefaultAsyncAPIDAO;
 import com.yahoo.elide.async.service.storageengine.FileResultStorageEngine;
@@ -144,6 +146,12 @@ public class AsyncIntegrationTestApplicationResourceConfig extends ResourceConfi
                 // Binding AsyncQuery LifeCycleHook
                 AsyncQueryHook asyncQueryHook = new AsyncQueryHook(asyncExecutorService, 10);
 
+                // Binding AsyncAPI cancellation LifeCycleHook
+                AsyncAPICancelHook cancelHook = new AsyncAPICancelHook(
+                        new AsyncAPICancellationBus(elide, asyncAPIDao));
+                dictionary.bindTrigger(AsyncQuery.class, "status", UPDATE, POSTCOMMIT, cancelHook);
+                dictionary.bindTrigger(TableExport.class, "status", UPDATE, POSTCOMMIT, cancelHook);
+
                 InvoiceCompletionHook invoiceCompletionHook = new InvoiceCompletionHook(billingService);
 
                 dictionary.bindTrigger(AsyncQuery.class, READ, PRESECURITY, asyncQueryHook, false);
@@ -152,7 +160,7 @@ public class AsyncIntegrationTestApplicationResourceConfig extends ResourceConfi
                 dictionary.bindTrigger(Invoice.class, "complete", CREATE, PRECOMMIT, invoiceCompletionHook);
                 dictionary.bindTrigger(Invoice.class, "complete", UPDATE, PRECOMMIT, invoiceCompletionHook);
 
-                AsyncCleanerService.init(elide, 30, 5, 150, asyncAPIDao);
+                AsyncCleanerService.init(elide, 30, 5, 150, asyncAPIDao, asyncExecutorService);
                 bind(AsyncCleanerService.getInstance()).to(AsyncCleanerService.class);
             }
         });
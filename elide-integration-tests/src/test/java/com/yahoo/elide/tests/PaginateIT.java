@@ -38,6 +38,7 @@ import org.junit.jupiter.api.Test;
 import io.restassured.response.Response;
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.IntStream;
@@ -366,6 +367,70 @@ class PaginateIT extends IntegrationTest {
             .body("data.attributes.title", contains("Life with Null Ned", "Foundation", "For Whom the Bell Tolls"));
     }
 
+    @Test
+    void testNoFilterSortDescCursorPagination() {
+        // Offset pages do not return cursors, an empty cursor requests the first page by cursor
+        when()
+            .get("/book?sort=-title&page[size]=3")
+        .then()
+            .body("meta.page.endCursor", nullValue());
+
+        String endCursor = when()
+            .get("/book?sort=-title&page[size]=3&page[after]=")
+        .then()
+            .body("meta.page.number", nullValue())
+            .extract().path("meta.page.endCursor");
+
+        String startCursor = when()
+            .get("/book?sort=-title&page[size]=3&page[after]=" + endCursor)
+        .then()
+            .body("data.attributes.title", contains("Life with Null Ned", "Foundation", "For Whom the Bell Tolls"),
+                "meta.page.number", nullValue(),
+                "meta.page.limit", equalTo(3))
+            .extract().path("meta.page.startCursor");
+
+        when()
+            .get("/book?sort=-title&page[size]=2&page[before]=" + startCursor)
+        .then()
+            .body("data.attributes.title", contains("The Old Man and the Sea", "Life with Null Ned 2"));
+    }
+
+    @Test
+    void testPaginationOnSubRecordsWithCursor() {
+        String endCursor = when()
+            .get("/author/" + orsonCardId + "/books?sort=-title&page[size]=1&page[after]=")
+        .then()
+            .extract().path("meta.page.endCursor");
+
+        when()
+            .get("/author/" + orsonCardId + "/books?sort=-title&page[size]=1&page[after]=" + endCursor)
+        .then()
+            .body("data.attributes.title", contains("Enders Game"));
+    }
+
+    @Test
+    void testNullSortValueHasNoCursor() {
+        Response response = when()
+            .get("/book?sort=genre&page[size]=10&page[after]=")
+        .then()
+            .statusCode(OK_200)
+            .extract().response();
+
+        // Books without a genre sort first or last depending on the store
+        List<String> genres = response.path("data.attributes.genre");
+        Map<String, Object> page = response.path("meta.page");
+        assertEquals(genres.get(0) == null, !page.containsKey("startCursor"));
+        assertEquals(genres.get(genres.size() - 1) == null, !page.containsKey("endCursor"));
+    }
+
+    @Test
+    void testInvalidCursor() {
+        when()
+            .get("/book?sort=-title&page[size]=3&page[after]=notACursor")
+        .then()
+            .statusCode(BAD_REQUEST_400);
+    }
+
     @Test
     void testNoFilterMultiSortPagination() {
         //select * from book order by title desc, genre asc;
@@ -35,8 +35,41 @@ public class AggregationStoreProperties {
      */
     private int queryCacheMaximumEntries = DEFAULT_MAXIMUM_ENTRIES;
 
+    /**
+     * Limit on the estimated size in bytes of query cache entries. When positive, it replaces the entry limit.
+     */
+    private long queryCacheMaximumBytes = 0;
+
     /**
      * Default Cache Expiration.
      */
     private long defaultCacheExpirationMinutes = 10;
+
+    /**
+     * Interval at which table versions are refreshed in the background for the query cache.
+     * Non-positive values query table versions on every cached request.
+     */
+    private long tableVersionRefreshIntervalSeconds = 0;
+
+    /**
+     * Maximum age of a table version before a cached request waits for a fresh one.
+     */
+    private long tableVersionMaximumStalenessSeconds = 300;
+
+    /**
+     * Whether query results are hydrated lazily from the open JDBC result set instead of being read into memory.
+     */
+    private boolean streamResults = false;
+
+    /**
+     * Limit on number of generated SQL templates reused across queries that differ only by filter values.
+     * Non-positive values disable the template cache.
+     */
+    private int templateCacheMaximumEntries = 0;
+
+    /**
+     * Number of threads running page totals queries at the same time as data queries.
+     * Non-positive values run page totals queries first on the transaction connection.
+     */
+    private int pageTotalsThreadPoolSize = 0;
 }
@@ -7,6 +7,7 @@ package com.yahoo.elide.spring.config;
 
 import static com.yahoo.elide.annotation.LifeCycleHookBinding.Operation.CREATE;
 import static com.yahoo.elide.annotation.LifeCycleHookBinding.Operation.READ;
+import static com.yahoo.elide.annotation.LifeCycleHookBinding.Operation.UPDATE;
 import static com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase.POSTCOMMIT;
 import static com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase.PRESECURITY;
 
@@ -14,6 +15,7 @@ import com.yahoo.elide.Elide;
 import com.yahoo.elide.async.export.formatter.CSVExportFormatter;
 import com.yahoo.elide.async.export.formatter.JSONExportFormatter;
 import com.yahoo.elide.async.export.formatter.TableExportFormatter;
+import com.yahoo.elide.async.hooks.AsyncAPICancelHook;
 import com.yahoo.elide.async.hooks.AsyncQueryHook;
 import com.yahoo.elide.async.hooks.TableExportHook;
 import com.yahoo.elide.async.models.AsyncAPI;
@@ -22,6 +24,8 @@ import com.yahoo.elide.async.models.ResultType;
 import com.yahoo.elide.async.models.TableExport;
 import com.yahoo.elide.async.service.AsyncCleanerService;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.cancellation.AsyncAPICancellationBus;
+import com.yahoo.elide.async.service.cancellation.AsyncAPICancellationTransport;
 import com.yahoo.elide.async.service.dao.AsyncAPIDAO;
 import com.yahoo.elide.async.service.dao.DefaultAsyncAPIDAO;
 import com.yahoo.elide.async.service.storageengine.FileResultStorageEngine;
@@ -66,21 +70,29 @@ public class ElideAsyncConfiguration {
     @ConditionalOnMissingBean
     public AsyncExecutorService buildAsyncExecutorService(Elide elide, ElideConfigProperties settings,
             AsyncAPIDAO asyncQueryDao, EntityDictionary dictionary,
-            @Autowired(required = false) ResultStorageEngine resultStorageEngine) {
+            @Autowired(required = false) ResultStorageEngine resultStorageEngine,
+            @Autowired(required = false) AsyncAPICancellationTransport cancellationTransport) {
         AsyncProperties asyncProperties = settings.getAsync();
 
         ExecutorService executor = Executors.newFixedThreadPool(asyncProperties.getThreadPoolSize());
         ExecutorService updater = Executors.newFixedThreadPool(asyncProperties.getThreadPoolSize());
         AsyncExecutorService asyncExecutorService = new AsyncExecutorService(elide, executor, updater, asyncQueryDao);
 
+        boolean exportEnabled = ElideAutoConfiguration.isExportEnabled(asyncProperties);
+
         // Binding AsyncQuery LifeCycleHook
-        AsyncQueryHook asyncQueryHook = new AsyncQueryHook(asyncExecutorService,
-                asyncProperties.getMaxAsyncAfterSeconds());
+        AsyncQueryHook asyncQueryHook = exportEnabled
+                ? new AsyncQueryHook(asyncExecutorService, asyncProperties.getMaxAsyncAfterSeconds(),
+                        resultStorageEngine, asyncProperties.getExport().getAsyncQueryStorageThreshold())
+                : new AsyncQueryHook(asyncExecutorService, asyncProperties.getMaxAsyncAfterSeconds());
         dictionary.bindTrigger(AsyncQuery.class, READ, PRESECURITY, asyncQueryHook, false);
         dictionary.bindTrigger(AsyncQuery.class, CREATE, POSTCOMMIT, asyncQueryHook, false);
         dictionary.bindTrigger(AsyncQuery.class, CREATE, PRESECURITY, asyncQueryHook, false);
 
-        boolean exportEnabled = ElideAutoConfiguration.isExportEnabled(asyncProperties);
+        // Binding AsyncAPI cancellation LifeCycleHook
+        AsyncAPICancelHook cancelHook = new AsyncAPICancelHook(
+                new AsyncAPICancellationBus(elide, asyncQueryDao, cancellationTransport));
+        dictionary.bindTrigger(AsyncQuery.class, "status", UPDATE, POSTCOMMIT, cancelHook);
 
         if (exportEnabled) {
             // Initialize the Formatters.
@@ -96,6 +108,7 @@ public class ElideAsyncConfiguration {
             dictionary.bindTrigger(TableExport.class, READ, PRESECURITY, tableExportHook, false);
             dictionary.bindTrigger(TableExport.class, CREATE, POSTCOMMIT, tableExportHook, false);
             dictionary.bindTrigger(TableExport.class, CREATE, PRESECURITY, tableExportHook, false);
+            dictionary.bindTrigger(TableExport.class, "status", UPDATE, POSTCOMMIT, cancelHook);
         }
 
         return asyncExecutorService;
@@ -131,16 +144,17 @@ public class ElideAsyncConfiguration {
      * @param elide elideObject.
      * @param settings Elide settings.
      * @param asyncQueryDao AsyncDao object.
+     * @param asyncExecutorService AsyncExecutorService which tracks the running async requests.
      * @return a AsyncCleanerService.
      */
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnProperty(prefix = "elide.async", name = "cleanupEnabled", matchIfMissing = false)
     public AsyncCleanerService buildAsyncCleanerService(Elide elide, ElideConfigProperties settings,
-            AsyncAPIDAO asyncQueryDao) {
+            AsyncAPIDAO asyncQueryDao, AsyncExecutorService asyncExecutorService) {
         AsyncCleanerService.init(elide, settings.getAsync().getMaxRunTimeSeconds(),
                 settings.getAsync().getQueryCleanupDays(),
-                settings.getAsync().getQueryCancellationIntervalSeconds(), asyncQueryDao);
+                settings.getAsync().getQueryCancellationIntervalSeconds(), asyncQueryDao, asyncExecutorService);
         return AsyncCleanerService.getInstance();
     }
 
@@ -166,8 +180,9 @@ public class ElideAsyncConfiguration {
     @ConditionalOnProperty(prefix = "elide.async.export", name = "enabled", matchIfMissing = false)
     public ResultStorageEngine buildResultStorageEngine(Elide elide, ElideConfigProperties settings,
             AsyncAPIDAO asyncQueryDAO) {
-        FileResultStorageEngine resultStorageEngine = new FileResultStorageEngine(settings.getAsync().getExport()
-                .getStorageDestination());
+        ExportControllerProperties export = settings.getAsync().getExport();
+        FileResultStorageEngine resultStorageEngine = new FileResultStorageEngine(export.getStorageDestination(),
+                export.getStorageBufferSize(), export.getStorageFlushInterval(), export.isStorageCompression());
         return resultStorageEngine;
     }
 }
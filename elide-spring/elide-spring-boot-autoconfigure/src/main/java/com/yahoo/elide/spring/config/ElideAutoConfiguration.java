@@ -22,12 +22,14 @@ import com.yahoo.elide.datastores.aggregation.AggregationDataStore;
 import com.yahoo.elide.datastores.aggregation.QueryEngine;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
 import com.yahoo.elide.datastores.aggregation.cache.CaffeineCache;
+import com.yahoo.elide.datastores.aggregation.cache.TableVersionTracker;
 import com.yahoo.elide.datastores.aggregation.core.QueryLogger;
 import com.yahoo.elide.datastores.aggregation.core.Slf4jQueryLogger;
 import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.ConnectionDetails;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.DataSourceConfiguration;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngine;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngineOptions;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialectFactory;
 import com.yahoo.elide.datastores.jpa.JpaDataStore;
 import com.yahoo.elide.datastores.jpa.transaction.NonJtaTransaction;
@@ -57,11 +59,17 @@ import io.swagger.models.Swagger;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import javax.persistence.EntityManager;
@@ -131,12 +139,14 @@ public class ElideAutoConfiguration {
      * @param dictionary Stores the static metadata about Elide models.
      * @param dataStore The persistence store.
      * @param settings Elide settings.
+     * @param graphQLBatchExecutor Executor for the documents of batched GraphQL requests, if enabled.
      * @return A new elide instance.
      */
     @Bean
     @ConditionalOnMissingBean
     public Elide initializeElide(EntityDictionary dictionary,
-            DataStore dataStore, ElideConfigProperties settings) {
+            DataStore dataStore, ElideConfigProperties settings,
+            @Autowired(required = false) @Qualifier("graphQLBatchExecutor") ExecutorService graphQLBatchExecutor) {
 
         ElideSettingsBuilder builder = new ElideSettingsBuilder(dataStore)
                 .withEntityDictionary(dictionary)
@@ -148,7 +158,13 @@ public class ElideAutoConfiguration {
                 .withBaseUrl(settings.getBaseUrl())
                 .withISO8601Dates("yyyy-MM-dd'T'HH:mm'Z'", TimeZone.getTimeZone("UTC"))
                 .withJsonApiPath(settings.getJsonApi().getPath())
-                .withGraphQLApiPath(settings.getGraphql().getPath());
+                .withJsonApiStreaming(settings.getJsonApi().isStreaming())
+                .withGraphQLApiPath(settings.getGraphql().getPath())
+                .withGraphQLDocumentCacheSize(settings.getGraphql().getDocumentCacheSize());
+
+        if (graphQLBatchExecutor != null) {
+            builder.withGraphQLBatchExecutor(graphQLBatchExecutor);
+        }
 
         if (settings.getAsync() != null
                 && settings.getAsync().getExport() != null
@@ -172,6 +188,27 @@ public class ElideAutoConfiguration {
         return new Elide(builder.build());
     }
 
+    /**
+     * Creates the executor which runs the query documents of a batched GraphQL request concurrently.  At most as
+     * many documents wait for a thread as the pool has threads; further documents run on the request thread.
+     * @param settings Elide configuration settings.
+     * @return An executor, shut down with the application context.
+     */
+    @Bean(name = "graphQLBatchExecutor", destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = "graphQLBatchExecutor")
+    @ConditionalOnExpression("${elide.graphql.batch-parallelism:0} > 0")
+    public ExecutorService buildGraphQLBatchExecutor(ElideConfigProperties settings) {
+        int parallelism = settings.getGraphql().getBatchParallelism();
+        return new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "elide-graphql-batch");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
     /**
      * A Set containing Types to be excluded from EntityDictionary's EntityBinding.
      * @param settings Elide configuration settings.
@@ -245,6 +282,7 @@ public class ElideAutoConfiguration {
      * @param settings Elide configuration settings.
      * @param dataSourceConfiguration DataSource Configuration
      * @param dbPasswordExtractor Password Extractor Implementation
+     * @param pageTotalsExecutor Executor for page totals queries, if enabled.
      * @return An instance of a QueryEngine
      * @throws ClassNotFoundException Exception thrown.
      */
@@ -255,7 +293,17 @@ public class ElideAutoConfiguration {
                                         @Autowired(required = false) DynamicConfiguration dynamicConfig,
                                         ElideConfigProperties settings,
                                         DataSourceConfiguration dataSourceConfiguration,
-                                        DBPasswordExtractor dbPasswordExtractor) throws ClassNotFoundException {
+                                        DBPasswordExtractor dbPasswordExtractor,
+                                        @Autowired(required = false) @Qualifier("pageTotalsExecutor")
+                                                ExecutorService pageTotalsExecutor)
+            throws ClassNotFoundException {
+
+        AggregationStoreProperties aggregationStoreProperties = settings.getAggregationStore();
+        SQLQueryEngineOptions options = SQLQueryEngineOptions.builder()
+                .streamResults(aggregationStoreProperties.isStreamResults())
+                .maximumTemplateCacheSize(aggregationStoreProperties.getTemplateCacheMaximumEntries())
+                .pageTotalsExecutor(pageTotalsExecutor)
+                .build();
 
         boolean enableMetaDataStore = settings.getAggregationStore().isEnableMetaDataStore();
         ConnectionDetails defaultConnectionDetails = new ConnectionDetails(defaultDataSource,
@@ -272,18 +320,36 @@ public class ElideAutoConfiguration {
                                                 SQLDialectFactory.getDialect(dbConfig.getDialect())));
             });
 
-            return new SQLQueryEngine(metaDataStore, defaultConnectionDetails, connectionDetailsMap, new HashSet<>());
+            return new SQLQueryEngine(metaDataStore, defaultConnectionDetails, connectionDetailsMap, new HashSet<>(),
+                    options);
         } else {
             MetaDataStore metaDataStore = new MetaDataStore(enableMetaDataStore);
-            return new SQLQueryEngine(metaDataStore, defaultConnectionDetails);
+            return new SQLQueryEngine(metaDataStore, defaultConnectionDetails, Collections.emptyMap(),
+                    new HashSet<>(), options);
         }
     }
 
+    /**
+     * Creates the executor which runs page totals queries at the same time as data queries.
+     * @param settings Elide configuration settings.
+     * @return An executor, shut down with the application context.
+     */
+    @Bean(name = "pageTotalsExecutor", destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = "pageTotalsExecutor")
+    @ConditionalOnExpression("${elide.aggregation-store.enabled:false} "
+            + "and ${elide.aggregation-store.page-totals-thread-pool-size:0} > 0")
+    public ExecutorService buildPageTotalsExecutor(ElideConfigProperties settings) {
+        return Executors.newFixedThreadPool(settings.getAggregationStore().getPageTotalsThreadPoolSize());
+    }
+
     /**
      * Creates the DataStore Elide.  Override to use a different store.
      * @param entityManagerFactory The JPA factory which creates entity managers.
      * @param queryEngine QueryEngine instance for aggregation data store.
      * @param settings Elide configuration settings.
+     * @param cache Query result cache, if enabled.
+     * @param querylogger Query logger for aggregation data store.
+     * @param tableVersionTracker Background table version refresh for the query cache, if enabled.
      * @return An instance of a JPA DataStore.
      * @throws ClassNotFoundException Exception thrown.
      */
@@ -293,7 +359,8 @@ public class ElideAutoConfiguration {
                                     @Autowired(required = false) QueryEngine queryEngine,
                                     ElideConfigProperties settings,
                                     @Autowired(required = false) Cache cache,
-                                    @Autowired(required = false) QueryLogger querylogger)
+                                    @Autowired(required = false) QueryLogger querylogger,
+                                    @Autowired(required = false) TableVersionTracker tableVersionTracker)
             throws ClassNotFoundException {
 
         JpaDataStore jpaDataStore = new JpaDataStore(
@@ -309,6 +376,9 @@ public class ElideAutoConfiguration {
                 aggregationDataStoreBuilder.dynamicCompiledClasses(queryEngine.getMetaDataStore().getDynamicTypes());
             }
             aggregationDataStoreBuilder.cache(cache);
+            if (cache != null) {
+                aggregationDataStoreBuilder.tableVersionTracker(tableVersionTracker);
+            }
             aggregationDataStoreBuilder.queryLogger(querylogger);
             AggregationDataStore aggregationDataStore = aggregationDataStoreBuilder.build();
 
@@ -319,6 +389,22 @@ public class ElideAutoConfiguration {
         return jpaDataStore;
     }
 
+    /**
+     * Creates the background refresh of table versions used by {@link #buildDataStore} for cache lookups.
+     * @param queryEngine QueryEngine instance for aggregation data store.
+     * @param settings Elide configuration settings.
+     * @return A table version tracker, closed with the application context.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    @ConditionalOnExpression("${elide.aggregation-store.enabled:false} "
+            + "and ${elide.aggregation-store.table-version-refresh-interval-seconds:0} > 0")
+    public TableVersionTracker buildTableVersionTracker(QueryEngine queryEngine, ElideConfigProperties settings) {
+        AggregationStoreProperties aggregationStoreProperties = settings.getAggregationStore();
+        return new TableVersionTracker(queryEngine, aggregationStoreProperties.getTableVersionRefreshIntervalSeconds(),
+                aggregationStoreProperties.getTableVersionMaximumStalenessSeconds());
+    }
+
     /**
      * Creates a query result cache to be used by {@link #buildDataStore}, or null if cache is to be disabled.
      * @param settings Elide configuration settings.
@@ -331,8 +417,14 @@ public class ElideAutoConfiguration {
         CaffeineCache cache = null;
 
         int maxCacheItems = settings.getAggregationStore().getQueryCacheMaximumEntries();
-        if (maxCacheItems > 0) {
+        long maxCacheBytes = settings.getAggregationStore().getQueryCacheMaximumBytes();
+        if (maxCacheBytes > 0) {
+            cache = CaffeineCache.weighedBySize(maxCacheBytes,
+                    settings.getAggregationStore().getDefaultCacheExpirationMinutes());
+        } else if (maxCacheItems > 0) {
             cache = new CaffeineCache(maxCacheItems, settings.getAggregationStore().getDefaultCacheExpirationMinutes());
+        }
+        if (cache != null) {
             if (meterRegistry != null) {
                 CaffeineCacheMetrics.monitor(meterRegistry, cache.getImplementation(), "elideQueryCache");
             }
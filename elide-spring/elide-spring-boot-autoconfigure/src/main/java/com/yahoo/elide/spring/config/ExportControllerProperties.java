@@ -5,6 +5,8 @@
  */
 package com.yahoo.elide.spring.config;
 
+import com.yahoo.elide.async.service.storageengine.FileResultStorageEngine;
+
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
@@ -29,4 +31,25 @@ public class ExportControllerProperties extends ControllerProperties {
      * Storage engine destination .
      */
     private String storageDestination = "/tmp";
+
+    /**
+     * Size in bytes of the storage engine write buffer.
+     */
+    private int storageBufferSize = FileResultStorageEngine.DEFAULT_BUFFER_SIZE;
+
+    /**
+     * Number of records written between flushes of the storage engine. 0 flushes only when the buffer is full.
+     */
+    private int storageFlushInterval = 0;
+
+    /**
+     * Gzip compress stored results.
+     */
+    private boolean storageCompression = false;
+
+    /**
+     * AsyncQuery response bodies longer than this many characters are stored by the storage engine and downloaded
+     * from the export path instead of being kept in the database. 0 keeps all of them in the database.
+     */
+    private int asyncQueryStorageThreshold = 0;
 }
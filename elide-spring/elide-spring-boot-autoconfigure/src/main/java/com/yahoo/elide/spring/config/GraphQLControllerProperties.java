@@ -0,0 +1,28 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.spring.config;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Extra controller properties for the GraphQL endpoint.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class GraphQLControllerProperties extends ControllerProperties {
+
+    /**
+     * The maximum number of parsed query documents (and persisted queries) to cache. Zero disables the cache.
+     */
+    int documentCacheSize = 1024;
+
+    /**
+     * The number of threads which run the query documents of a batched request concurrently. Zero runs them
+     * one after another.
+     */
+    int batchParallelism = 0;
+}
@@ -19,4 +19,9 @@ public class JsonApiControllerProperties extends ControllerProperties {
      * Turns on/off JSON-API links in the API.
      */
     boolean enableLinks = false;
+
+    /**
+     * Turns on/off streaming of collection responses as their records are read.
+     */
+    boolean streaming = false;
 }
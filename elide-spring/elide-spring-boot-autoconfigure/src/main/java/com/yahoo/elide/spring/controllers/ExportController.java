@@ -19,7 +19,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import io.reactivex.Observable;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
@@ -58,44 +57,35 @@ public class ExportController {
     public ResponseEntity<StreamingResponseBody> export(@PathVariable String asyncQueryId,
             HttpServletResponse response) {
 
-        Observable<String> observableResults = resultStorageEngine.getResultsByID(asyncQueryId);
         StreamingResponseBody streamingOutput = outputStream -> {
-            observableResults
-            .subscribe(
-                    resultString -> {
-                        outputStream.write(resultString.concat(System.lineSeparator()).getBytes());
-                    },
-                    error -> {
-                        String message = error.getMessage();
-                        try {
-                            log.debug(message);
-                            if (message != null && message.equals(ResultStorageEngine.RETRIEVE_ERROR)) {
-                                response.sendError(HttpStatus.SC_NOT_FOUND, asyncQueryId + "not found");
-                            } else {
-                                response.sendError(HttpStatus.SC_INTERNAL_SERVER_ERROR);
-                            }
-                        } catch (IOException | IllegalStateException e) {
-                            // If stream was flushed, Attachment download has already started.
-                            // response.sendError causes java.lang.IllegalStateException:
-                            // Cannot call sendError() after the response has been committed.
-                            // This will return 200 status.
-                            // Add error message in the attachment as a way to signal errors.
-                            outputStream.write(
-                                    "Error Occured...."
-                                    .concat(System.lineSeparator())
-                                    .getBytes()
-                            );
-                            log.debug(e.getMessage());
-                        } finally {
-                            outputStream.flush();
-                            outputStream.close();
-                        }
-                    },
-                    () -> {
-                        outputStream.flush();
-                        outputStream.close();
+            try {
+                resultStorageEngine.writeResultsByID(asyncQueryId, outputStream);
+            } catch (RuntimeException error) {
+                String message = error.getMessage();
+                try {
+                    log.debug(message);
+                    if (message != null && message.equals(ResultStorageEngine.RETRIEVE_ERROR)) {
+                        response.sendError(HttpStatus.SC_NOT_FOUND, asyncQueryId + "not found");
+                    } else {
+                        response.sendError(HttpStatus.SC_INTERNAL_SERVER_ERROR);
                     }
-            );
+                } catch (IOException | IllegalStateException e) {
+                    // If stream was flushed, Attachment download has already started.
+                    // response.sendError causes java.lang.IllegalStateException:
+                    // Cannot call sendError() after the response has been committed.
+                    // This will return 200 status.
+                    // Add error message in the attachment as a way to signal errors.
+                    outputStream.write(
+                            "Error Occured...."
+                            .concat(System.lineSeparator())
+                            .getBytes()
+                    );
+                    log.debug(e.getMessage());
+                }
+            } finally {
+                outputStream.flush();
+                outputStream.close();
+            }
         };
 
         return ResponseEntity
@@ -39,6 +39,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.core.MultivaluedHashMap;
 
 /**
@@ -67,7 +68,8 @@ public class JsonApiController {
     @GetMapping(value = "/**", produces = JSON_API_CONTENT_TYPE)
     public Callable<ResponseEntity<String>> elideGet(@RequestHeader HttpHeaders requestHeaders,
                                                      @RequestParam Map<String, String> allRequestParams,
-                                                     HttpServletRequest request, Authentication authentication) {
+                                                     HttpServletRequest request, HttpServletResponse httpResponse,
+                                                     Authentication authentication) {
         final String apiVersion = HeaderUtils.resolveApiVersion(requestHeaders);
         final Map<String, List<String>> requestHeadersCleaned = HeaderUtils.removeAuthHeaders(requestHeaders);
         final String pathname = getJsonApiPath(request, settings.getJsonApi().getPath());
@@ -77,6 +79,23 @@ public class JsonApiController {
         return new Callable<ResponseEntity<String>>() {
             @Override
             public ResponseEntity<String> call() throws Exception {
+                if (elide.getElideSettings().isJsonApiStreaming()) {
+                    ElideResponse response = elide.getStreaming(baseUrl, pathname,
+                            new MultivaluedHashMap<>(allRequestParams), requestHeadersCleaned,
+                            user, apiVersion, UUID.randomUUID());
+                    if (response.isStreamed()) {
+                        // The body is written straight to the servlet response, so there is no entity to return.
+                        // Closing the writer releases the transaction if the body could not be written.
+                        try (ElideResponse.BodyWriter bodyWriter = response.getBodyWriter()) {
+                            httpResponse.setStatus(response.getResponseCode());
+                            httpResponse.setContentType(JSON_API_CONTENT_TYPE);
+                            bodyWriter.writeTo(httpResponse.getOutputStream());
+                        }
+                        return null;
+                    }
+                    return ResponseEntity.status(response.getResponseCode()).body(response.getBody());
+                }
+
                 ElideResponse response = elide.get(baseUrl, pathname,
                         new MultivaluedHashMap<>(allRequestParams), requestHeadersCleaned,
                         user, apiVersion, UUID.randomUUID());
@@ -7,6 +7,7 @@ package com.yahoo.elide.standalone.config;
 
 import static com.yahoo.elide.annotation.LifeCycleHookBinding.Operation.CREATE;
 import static com.yahoo.elide.annotation.LifeCycleHookBinding.Operation.READ;
+import static com.yahoo.elide.annotation.LifeCycleHookBinding.Operation.UPDATE;
 import static com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase.POSTCOMMIT;
 import static com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase.PRESECURITY;
 import com.yahoo.elide.Elide;
@@ -14,6 +15,7 @@ import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.async.export.formatter.CSVExportFormatter;
 import com.yahoo.elide.async.export.formatter.JSONExportFormatter;
 import com.yahoo.elide.async.export.formatter.TableExportFormatter;
+import com.yahoo.elide.async.hooks.AsyncAPICancelHook;
 import com.yahoo.elide.async.hooks.AsyncQueryHook;
 import com.yahoo.elide.async.hooks.TableExportHook;
 import com.yahoo.elide.async.models.AsyncAPI;
@@ -23,6 +25,7 @@ import com.yahoo.elide.async.models.TableExport;
 import com.yahoo.elide.async.resources.ExportApiEndpoint.ExportApiProperties;
 import com.yahoo.elide.async.service.AsyncCleanerService;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.cancellation.AsyncAPICancellationBus;
 import com.yahoo.elide.async.service.dao.AsyncAPIDAO;
 import com.yahoo.elide.async.service.dao.DefaultAsyncAPIDAO;
 import com.yahoo.elide.async.service.storageengine.FileResultStorageEngine;
@@ -45,6 +48,8 @@ import org.glassfish.hk2.api.ServiceLocator;
 import org.glassfish.hk2.api.TypeLiteral;
 import org.glassfish.jersey.internal.inject.AbstractBinder;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.spi.Container;
+import org.glassfish.jersey.server.spi.ContainerLifecycleListener;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
@@ -68,6 +73,7 @@ import javax.ws.rs.core.Context;
 public class ElideResourceConfig extends ResourceConfig {
     private final ElideStandaloneSettings settings;
     private final ServiceLocator injector;
+    private volatile AggregationDataStore aggregationDataStore;
 
     public static final String ELIDE_STANDALONE_SETTINGS_ATTR = "elideStandaloneSettings";
     public static final String ASYNC_EXECUTOR_ATTR = "asyncExecutor";
@@ -116,30 +122,7 @@ public class ElideResourceConfig extends ResourceConfig {
                 EntityDictionary dictionary = settings.getEntityDictionary(injector, dynamicConfiguration,
                         settings.getEntitiesToExclude());
 
-                DataStore dataStore;
-
-                if (settings.getAnalyticProperties().enableAggregationDataStore()) {
-                    MetaDataStore metaDataStore = settings.getMetaDataStore(dynamicConfiguration);
-                    if (metaDataStore == null) {
-                        throw new IllegalStateException("Aggregation Datastore is enabled but metaDataStore is null");
-                    }
-
-                    DataSource defaultDataSource = Util.getDataSource(settings.getDatabaseProperties());
-                    ConnectionDetails defaultConnectionDetails = new ConnectionDetails(defaultDataSource,
-                                    SQLDialectFactory.getDialect(settings.getAnalyticProperties().getDefaultDialect()));
-
-                    QueryEngine queryEngine = settings.getQueryEngine(metaDataStore, defaultConnectionDetails,
-                                    dynamicConfiguration, settings.getDataSourceConfiguration(),
-                                    settings.getAnalyticProperties().getDBPasswordExtractor());
-                    AggregationDataStore aggregationDataStore = settings.getAggregationDataStore(queryEngine);
-                    if (aggregationDataStore == null) {
-                        throw new IllegalStateException(
-                                        "Aggregation Datastore is enabled but aggregationDataStore is null");
-                    }
-                    dataStore = settings.getDataStore(metaDataStore, aggregationDataStore, entityManagerFactory);
-                } else {
-                    dataStore = settings.getDataStore(entityManagerFactory);
-                }
+                DataStore dataStore = getDataStore(dynamicConfiguration, entityManagerFactory);
 
                 ElideSettings elideSettings = settings.getElideSettings(dictionary, dataStore);
 
@@ -167,15 +150,16 @@ public class ElideResourceConfig extends ResourceConfig {
                                     new AsyncExecutorService(elide, executor, updater, asyncAPIDao);
                     bind(asyncExecutorService).to(AsyncExecutorService.class);
 
+                    ResultStorageEngine resultStorageEngine = null;
                     if (asyncProperties.enableExport()) {
                         ExportApiProperties exportApiProperties = new ExportApiProperties(
                                 asyncProperties.getExportAsyncResponseExecutor(),
                                 asyncProperties.getExportAsyncResponseTimeoutSeconds());
                         bind(exportApiProperties).to(ExportApiProperties.class).named("exportApiProperties");
 
-                        ResultStorageEngine resultStorageEngine = asyncProperties.getResultStorageEngine();
+                        resultStorageEngine = asyncProperties.getResultStorageEngine();
                         if (resultStorageEngine == null) {
-                            resultStorageEngine = new FileResultStorageEngine(asyncProperties.getStorageDestination());
+                            resultStorageEngine = getFileResultStorageEngine(asyncProperties);
                         }
                         bind(resultStorageEngine).to(ResultStorageEngine.class).named("resultStorageEngine");
 
@@ -195,18 +179,19 @@ public class ElideResourceConfig extends ResourceConfig {
                     }
 
                     // Binding AsyncQuery LifeCycleHook
-                    AsyncQueryHook asyncQueryHook = new AsyncQueryHook(asyncExecutorService,
-                            asyncProperties.getMaxAsyncAfterSeconds());
-
+                    AsyncQueryHook asyncQueryHook = getAsyncQueryHook(asyncExecutorService, asyncProperties,
+                            resultStorageEngine);
                     dictionary.bindTrigger(AsyncQuery.class, READ, PRESECURITY, asyncQueryHook, false);
                     dictionary.bindTrigger(AsyncQuery.class, CREATE, POSTCOMMIT, asyncQueryHook, false);
                     dictionary.bindTrigger(AsyncQuery.class, CREATE, PRESECURITY, asyncQueryHook, false);
+                    bindAsyncAPICancelHook(dictionary, elide, asyncProperties, asyncAPIDao);
 
                     // Binding async cleanup service
                     if (asyncProperties.enableCleanup()) {
                         AsyncCleanerService.init(elide, asyncProperties.getMaxRunTimeSeconds(),
                                 asyncProperties.getQueryCleanupDays(),
-                                asyncProperties.getQueryCancelCheckIntervalSeconds(), asyncAPIDao);
+                                asyncProperties.getQueryCancelCheckIntervalSeconds(), asyncAPIDao,
+                                asyncExecutorService);
                         bind(AsyncCleanerService.getInstance()).to(AsyncCleanerService.class);
                     }
                 }
@@ -230,9 +215,56 @@ public class ElideResourceConfig extends ResourceConfig {
 
         registerFilters(settings.getFilters());
 
+        // Stop background work of the data stores with the application
+        register(new ContainerLifecycleListener() {
+            @Override
+            public void onStartup(Container container) {
+            }
+
+            @Override
+            public void onReload(Container container) {
+            }
+
+            @Override
+            public void onShutdown(Container container) {
+                if (aggregationDataStore != null) {
+                    aggregationDataStore.close();
+                }
+            }
+        });
+
         additionalConfiguration(settings.getApplicationConfigurator());
     }
 
+    /**
+     * Creates the data store, combined with the aggregation data store when it is enabled.
+     */
+    private DataStore getDataStore(Optional<DynamicConfiguration> dynamicConfiguration,
+            EntityManagerFactory entityManagerFactory) {
+        if (!settings.getAnalyticProperties().enableAggregationDataStore()) {
+            return settings.getDataStore(entityManagerFactory);
+        }
+
+        MetaDataStore metaDataStore = settings.getMetaDataStore(dynamicConfiguration);
+        if (metaDataStore == null) {
+            throw new IllegalStateException("Aggregation Datastore is enabled but metaDataStore is null");
+        }
+
+        DataSource defaultDataSource = Util.getDataSource(settings.getDatabaseProperties());
+        ConnectionDetails defaultConnectionDetails = new ConnectionDetails(defaultDataSource,
+                        SQLDialectFactory.getDialect(settings.getAnalyticProperties().getDefaultDialect()));
+
+        QueryEngine queryEngine = settings.getQueryEngine(metaDataStore, defaultConnectionDetails,
+                        dynamicConfiguration, settings.getDataSourceConfiguration(),
+                        settings.getAnalyticProperties().getDBPasswordExtractor());
+        aggregationDataStore = settings.getAggregationDataStore(queryEngine);
+        if (aggregationDataStore == null) {
+            throw new IllegalStateException(
+                            "Aggregation Datastore is enabled but aggregationDataStore is null");
+        }
+        return settings.getDataStore(metaDataStore, aggregationDataStore, entityManagerFactory);
+    }
+
     /**
      * Init the supplemental resource config.
      */
@@ -265,6 +297,28 @@ public class ElideResourceConfig extends ResourceConfig {
         return healthCheckRegistry;
     }
 
+    private void bindAsyncAPICancelHook(EntityDictionary dictionary, Elide elide,
+            ElideStandaloneAsyncSettings asyncProperties, AsyncAPIDAO asyncAPIDao) {
+        AsyncAPICancelHook cancelHook = new AsyncAPICancelHook(
+                new AsyncAPICancellationBus(elide, asyncAPIDao, asyncProperties.getCancellationTransport()));
+        dictionary.bindTrigger(AsyncQuery.class, "status", UPDATE, POSTCOMMIT, cancelHook);
+        if (asyncProperties.enableExport()) {
+            dictionary.bindTrigger(TableExport.class, "status", UPDATE, POSTCOMMIT, cancelHook);
+        }
+    }
+
+    private AsyncQueryHook getAsyncQueryHook(AsyncExecutorService asyncExecutorService,
+            ElideStandaloneAsyncSettings asyncProperties, ResultStorageEngine engine) {
+        return new AsyncQueryHook(asyncExecutorService, asyncProperties.getMaxAsyncAfterSeconds(), engine,
+                asyncProperties.getAsyncQueryStorageThreshold());
+    }
+
+    private FileResultStorageEngine getFileResultStorageEngine(ElideStandaloneAsyncSettings asyncProperties) {
+        return new FileResultStorageEngine(asyncProperties.getStorageDestination(),
+                asyncProperties.getStorageBufferSize(), asyncProperties.getStorageFlushInterval(),
+                asyncProperties.enableStorageCompression());
+    }
+
     // TODO Remove this method when ElideSettings has all the settings.
     // Then the check can be done in TableExportHook.
     // Trying to avoid adding too many individual properties to ElideSettings for now.
@@ -12,6 +12,7 @@ import com.yahoo.elide.modelconfig.model.DBConfig;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Interface for configuring the Analytic configuration of Standalone Application.
@@ -87,6 +88,15 @@ public interface ElideStandaloneAnalyticSettings {
         return CaffeineCache.DEFAULT_MAXIMUM_ENTRIES;
     }
 
+    /**
+     * Limit on the estimated size in bytes of query cache entries. When positive, it replaces the entry limit.
+     *
+     * @return Default: 0
+     */
+    default Long getQueryCacheMaximumBytes() {
+        return 0L;
+    }
+
     /**
      * Returns the default expiration in minutes of items in the AggregationDataStore query cache.
      *
@@ -95,4 +105,52 @@ public interface ElideStandaloneAnalyticSettings {
     default Long getDefaultCacheExpirationMinutes() {
         return 10L;
     }
+
+    /**
+     * Returns the interval in seconds at which table versions are refreshed in the background for the query cache.
+     * Non-positive values query table versions on every cached request.
+     *
+     * @return Default: 0
+     */
+    default Long getTableVersionRefreshIntervalSeconds() {
+        return 0L;
+    }
+
+    /**
+     * Returns the maximum age in seconds of a table version before a cached request waits for a fresh one.
+     *
+     * @return Default: 300
+     */
+    default Long getTableVersionMaximumStalenessSeconds() {
+        return 300L;
+    }
+
+    /**
+     * Enable hydrating query results lazily from the open JDBC result set instead of reading them into memory.
+     *
+     * @return Default: False
+     */
+    default boolean enableStreamResults() {
+        return false;
+    }
+
+    /**
+     * Limit on number of generated SQL templates reused across queries that differ only by filter values.
+     * Non-positive values disable the template cache.
+     *
+     * @return Default: 0
+     */
+    default Integer getTemplateCacheMaximumEntries() {
+        return 0;
+    }
+
+    /**
+     * Executor which runs page totals queries at the same time as data queries.  The application owns the
+     * executor and shuts it down.
+     *
+     * @return Default: null, which runs page totals queries first on the transaction connection.
+     */
+    default ExecutorService getPageTotalsExecutor() {
+        return null;
+    }
 }
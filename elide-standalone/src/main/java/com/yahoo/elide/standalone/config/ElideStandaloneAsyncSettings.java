@@ -5,7 +5,9 @@
  */
 package com.yahoo.elide.standalone.config;
 
+import com.yahoo.elide.async.service.cancellation.AsyncAPICancellationTransport;
 import com.yahoo.elide.async.service.dao.AsyncAPIDAO;
+import com.yahoo.elide.async.service.storageengine.FileResultStorageEngine;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 
 import java.util.concurrent.ExecutorService;
@@ -90,6 +92,16 @@ public interface ElideStandaloneAsyncSettings {
         return null;
     }
 
+    /**
+     * Transport which sends cancellations to the other hosts. If null, only the requests running on the host
+     * which commits the cancellation are cancelled right away.
+     *
+     * @return Default: null
+     */
+    default AsyncAPICancellationTransport getCancellationTransport() {
+        return null;
+    }
+
     /**
      * Implementation of ResultStorageEngine to use.
      *
@@ -135,6 +147,44 @@ public interface ElideStandaloneAsyncSettings {
         return "/tmp";
     }
 
+    /**
+     * Size in bytes of the storage engine write buffer.
+     *
+     * @return Default: 65536
+     */
+    default Integer getStorageBufferSize() {
+        return FileResultStorageEngine.DEFAULT_BUFFER_SIZE;
+    }
+
+    /**
+     * Number of records written between flushes of the storage engine. 0 flushes only when the buffer is full.
+     *
+     * @return Default: 0
+     */
+    default Integer getStorageFlushInterval() {
+        return 0;
+    }
+
+    /**
+     * Gzip compress stored results.
+     *
+     * @return Default: False
+     */
+    default boolean enableStorageCompression() {
+        return false;
+    }
+
+    /**
+     * AsyncQuery response bodies longer than this many characters are stored by the storage engine and downloaded
+     * from the export path instead of being kept in the database. 0 keeps all of them in the database.
+     * Requires export to be enabled.
+     *
+     * @return Default: 0
+     */
+    default Integer getAsyncQueryStorageThreshold() {
+        return 0;
+    }
+
     /**
      * Storage engine destination.
      *
@@ -25,11 +25,13 @@ import com.yahoo.elide.datastores.aggregation.AggregationDataStore;
 import com.yahoo.elide.datastores.aggregation.QueryEngine;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
 import com.yahoo.elide.datastores.aggregation.cache.CaffeineCache;
+import com.yahoo.elide.datastores.aggregation.cache.TableVersionTracker;
 import com.yahoo.elide.datastores.aggregation.core.Slf4jQueryLogger;
 import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.ConnectionDetails;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.DataSourceConfiguration;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngine;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngineOptions;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialectFactory;
 import com.yahoo.elide.datastores.jpa.JpaDataStore;
 import com.yahoo.elide.datastores.jpa.transaction.NonJtaTransaction;
@@ -121,6 +123,7 @@ public interface ElideStandaloneSettings {
                 .withBaseUrl(getBaseUrl())
                 .withJsonApiPath(getJsonApiPathSpec().replaceAll("/\\*", ""))
                 .withGraphQLApiPath(getGraphQLApiPathSpec().replaceAll("/\\*", ""))
+                .withJsonApiStreaming(enableJsonApiStreaming())
                 .withAuditLogger(getAuditLogger());
 
         if (getAsyncProperties().enableExport()) {
@@ -197,6 +200,16 @@ public interface ElideStandaloneSettings {
         return true;
     }
 
+    /**
+     * Stream JSON-API collection responses to the client as their records are read, rather than building the
+     * whole response body in memory first.
+     *
+     * @return Default: False
+     */
+    default boolean enableJsonApiStreaming() {
+        return false;
+    }
+
     /**
      * Enable the GraphQL endpoint. If false, the endpoint will be disabled.
      *
@@ -353,6 +366,10 @@ public interface ElideStandaloneSettings {
      * @return Default: {@code new CaffeineCache(getQueryCacheSize())}
      */
     default Cache getQueryCache() {
+        if (getAnalyticProperties().getQueryCacheMaximumBytes() > 0) {
+            return CaffeineCache.weighedBySize(getAnalyticProperties().getQueryCacheMaximumBytes(),
+                    getAnalyticProperties().getDefaultCacheExpirationMinutes());
+        }
         return getAnalyticProperties().getQueryCacheMaximumEntries() > 0
                 ? new CaffeineCache(getAnalyticProperties().getQueryCacheMaximumEntries(),
                                     getAnalyticProperties().getDefaultCacheExpirationMinutes())
@@ -428,7 +445,13 @@ public interface ElideStandaloneSettings {
         if (getAnalyticProperties().enableDynamicModelConfig()) {
             aggregationDataStoreBuilder.dynamicCompiledClasses(queryEngine.getMetaDataStore().getDynamicTypes());
         }
-        aggregationDataStoreBuilder.cache(getQueryCache());
+        Cache cache = getQueryCache();
+        aggregationDataStoreBuilder.cache(cache);
+        if (cache != null && getAnalyticProperties().getTableVersionRefreshIntervalSeconds() > 0) {
+            aggregationDataStoreBuilder.tableVersionTracker(new TableVersionTracker(queryEngine,
+                    getAnalyticProperties().getTableVersionRefreshIntervalSeconds(),
+                    getAnalyticProperties().getTableVersionMaximumStalenessSeconds()));
+        }
         return aggregationDataStoreBuilder.build();
     }
 
@@ -496,8 +519,23 @@ public interface ElideStandaloneSettings {
                                                 dataSourceConfiguration.getDataSource(dbConfig, dbPasswordExtractor),
                                                 SQLDialectFactory.getDialect(dbConfig.getDialect())));
             });
-            return new SQLQueryEngine(metaDataStore, defaultConnectionDetails, connectionDetailsMap, new HashSet<>());
+            return new SQLQueryEngine(metaDataStore, defaultConnectionDetails, connectionDetailsMap, new HashSet<>(),
+                    getSQLQueryEngineOptions());
         }
-        return new SQLQueryEngine(metaDataStore, defaultConnectionDetails);
+        return new SQLQueryEngine(metaDataStore, defaultConnectionDetails, Collections.emptyMap(), new HashSet<>(),
+                getSQLQueryEngineOptions());
+    }
+
+    /**
+     * Gets the streaming, SQL template cache and page totals settings of the QueryEngine.
+     * @return SQLQueryEngineOptions object initialized.
+     */
+    default SQLQueryEngineOptions getSQLQueryEngineOptions() {
+        ElideStandaloneAnalyticSettings analyticProperties = getAnalyticProperties();
+        return SQLQueryEngineOptions.builder()
+                .streamResults(analyticProperties.enableStreamResults())
+                .maximumTemplateCacheSize(analyticProperties.getTemplateCacheMaximumEntries())
+                .pageTotalsExecutor(analyticProperties.getPageTotalsExecutor())
+                .build();
     }
 }